@@ -0,0 +1,87 @@
+-- V002: notifications 를 created_at 기준 월별 범위 파티션 테이블로 전환
+-- 실행 시점: 파티션 관리(NotificationPartitionManager)가 포함된 버전 배포 이후, 알림이 적은 시간대
+-- 1단계에서 테이블을 바꿔 끼우므로 새 알림은 바로 파티션 테이블에 쌓이고, 기존 알림은 2단계에서 배치로 옮김
+-- 파티션 키가 기본 키에 포함되어야 하므로 기본 키는 (id, created_at)
+-- 되돌리기: 3단계 전까지는 notifications_legacy 가 그대로 남아 있음
+
+-- 1. 테이블 교체 (하나의 트랜잭션, 짧은 잠금)
+BEGIN;
+
+DO $$
+DECLARE
+    oldest DATE;
+    m DATE;
+BEGIN
+    IF (SELECT c.relkind FROM pg_class c WHERE c.oid = to_regclass('notifications')) = 'p' THEN
+        RAISE NOTICE 'notifications 는 이미 파티션 테이블입니다.';
+        RETURN;
+    END IF;
+
+    ALTER TABLE notifications RENAME TO notifications_legacy;
+    ALTER TABLE notifications_legacy RENAME CONSTRAINT notifications_pkey TO notifications_legacy_pkey;
+    DROP INDEX IF EXISTS idx_notification_recipient;
+    DROP INDEX IF EXISTS idx_notification_type;
+    DROP INDEX IF EXISTS idx_notification_read;
+    DROP INDEX IF EXISTS idx_notification_created_at;
+    DROP INDEX IF EXISTS idx_notification_recipient_created;
+    DROP INDEX IF EXISTS idx_notification_recipient_created_id;
+
+    CREATE TABLE notifications (LIKE notifications_legacy INCLUDING DEFAULTS INCLUDING IDENTITY INCLUDING CONSTRAINTS)
+        PARTITION BY RANGE (created_at);
+    ALTER TABLE notifications ADD PRIMARY KEY (id, created_at);
+    ALTER TABLE notifications ADD FOREIGN KEY (recipient_id) REFERENCES users (id);
+    ALTER TABLE notifications ADD FOREIGN KEY (sender_id) REFERENCES users (id);
+    CREATE TABLE notifications_default PARTITION OF notifications DEFAULT;
+
+    SELECT date_trunc('month', MIN(created_at))::date INTO oldest FROM notifications_legacy;
+    m := COALESCE(oldest, date_trunc('month', NOW())::date);
+    WHILE m <= (date_trunc('month', NOW()) + INTERVAL '2 months')::date LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF notifications FOR VALUES FROM (%L) TO (%L)',
+                       'notifications_p' || to_char(m, 'YYYYMM'), m, (m + INTERVAL '1 month')::date);
+        m := (m + INTERVAL '1 month')::date;
+    END LOOP;
+
+    -- 새 알림 ID가 기존 ID와 겹치지 않도록 시퀀스 이동
+    PERFORM setval(pg_get_serial_sequence('notifications', 'id'),
+                   (SELECT COALESCE(MAX(id), 0) + 1 FROM notifications_legacy), false);
+
+    -- 엔티티(Notification)에 선언된 인덱스
+    CREATE INDEX idx_notification_recipient ON notifications (recipient_id);
+    CREATE INDEX idx_notification_type ON notifications (type);
+    CREATE INDEX idx_notification_read ON notifications (is_read);
+    CREATE INDEX idx_notification_created_at ON notifications (created_at);
+    -- /my 키셋 조회(created_at DESC, id DESC)는 이 인덱스를 역방향으로 사용
+    CREATE INDEX idx_notification_recipient_created_id ON notifications (recipient_id, created_at, id);
+END $$;
+
+COMMIT;
+
+-- 2. 기존 알림 배치 복사 (배치마다 커밋, 트랜잭션 블록 밖에서 실행)
+DO $$
+DECLARE
+    last_id BIGINT := 0;
+    batch_last BIGINT;
+BEGIN
+    IF to_regclass('notifications_legacy') IS NULL THEN
+        RETURN;
+    END IF;
+
+    LOOP
+        SELECT MAX(id) INTO batch_last
+        FROM (SELECT id FROM notifications_legacy WHERE id > last_id ORDER BY id LIMIT 5000) b;
+        EXIT WHEN batch_last IS NULL;
+
+        INSERT INTO notifications
+        SELECT * FROM notifications_legacy
+        WHERE id > last_id AND id <= batch_last
+        ON CONFLICT DO NOTHING;
+
+        last_id := batch_last;
+        COMMIT;
+    END LOOP;
+END $$;
+
+-- 3. 건수 확인 후 이전 테이블 삭제 (두 값이 같을 때만 실행)
+-- SELECT (SELECT COUNT(*) FROM notifications_legacy) AS legacy,
+--        (SELECT COUNT(*) FROM notifications WHERE id <= (SELECT MAX(id) FROM notifications_legacy)) AS copied;
+-- DROP TABLE notifications_legacy;
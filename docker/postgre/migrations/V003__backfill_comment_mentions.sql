@@ -0,0 +1,36 @@
+-- V003: 기존 댓글의 멘션으로 comment_mentions 백필
+-- 실행 시점: comment_mentions 를 사용하는 버전 배포 이후 한 번 (이후 멘션은 댓글 작성/수정 시 애플리케이션이 기록)
+-- 애플리케이션과 같은 규칙: 이메일 등 단어 중간의 @ 제외, 사용자명 완전 일치, 작성자 제외,
+-- 페이지 워크스페이스의 소유자 또는 활성 멤버만
+-- 되돌리기: TRUNCATE comment_mentions; (다시 실행하면 같은 결과, 이미 있는 행은 건너뜀)
+
+DO $$
+DECLARE
+    last_id BIGINT := 0;
+    batch_last BIGINT;
+BEGIN
+    LOOP
+        SELECT MAX(id) INTO batch_last
+        FROM (SELECT id FROM comments WHERE id > last_id ORDER BY id LIMIT 5000) b;
+        EXIT WHEN batch_last IS NULL;
+
+        INSERT INTO comment_mentions (comment_id, user_id, comment_created_at)
+        SELECT DISTINCT c.id, u.id, c.created_at
+        FROM comments c
+        JOIN pages p ON p.id = c.page_id
+        JOIN workspaces w ON w.id = p.workspace_id
+        CROSS JOIN LATERAL regexp_matches(COALESCE(c.mentions, '') || ' ' || c.content,
+                                          '(?<![[:alnum:]_.])@([[:alnum:]_.-]+)', 'g') AS m(token)
+        JOIN users u ON u.username IN (m.token[1], rtrim(m.token[1], '.-')) AND u.deleted_at IS NULL
+        WHERE c.id > last_id AND c.id <= batch_last
+        AND c.deleted_at IS NULL
+        AND c.author_id <> u.id
+        AND (w.owner_id = u.id
+             OR EXISTS (SELECT 1 FROM workspace_members wm
+                        WHERE wm.workspace_id = w.id AND wm.user_id = u.id AND wm.is_active = true))
+        ON CONFLICT (comment_id, user_id) DO NOTHING;
+
+        last_id := batch_last;
+        COMMIT;
+    END LOOP;
+END $$;
@@ -0,0 +1,46 @@
+-- V004: pages.content 컬럼 삭제 및 page_contents 외래 키 추가
+-- 실행 시점: page_contents 를 사용하는 버전 배포 이후 (본문 분리는 단방향 전환)
+-- page_contents 사용 버전은 pages.content 를 갱신하지 않으므로 컬럼은 배포 시점의 오래된 본문일 뿐 되돌리기 용도가 아님
+-- 애플리케이션(PageContentMigrator)이 시작 시 복사하지만, 삭제 직전에 남은 본문을 한 번 더 복사 (이미 있는 본문은 건너뜀)
+-- 되돌리기: 지원하지 않음 (이전 버전으로 돌아가려면 page_contents 에서 pages.content 를 다시 채워야 함, 삭제 전 백업 권장)
+
+-- 1. 남은 본문 배치 복사 (배치마다 커밋, 트랜잭션 블록 밖에서 실행)
+DO $$
+DECLARE
+    last_id BIGINT := 0;
+    batch_last BIGINT;
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_name = 'pages' AND column_name = 'content') THEN
+        RETURN;
+    END IF;
+
+    LOOP
+        SELECT MAX(id) INTO batch_last
+        FROM (SELECT id FROM pages WHERE id > last_id ORDER BY id LIMIT 5000) b;
+        EXIT WHEN batch_last IS NULL;
+
+        EXECUTE 'INSERT INTO page_contents (page_id, content, updated_at)
+                 SELECT id, content, COALESCE(updated_at, NOW()) FROM pages
+                 WHERE id > $1 AND id <= $2 AND content IS NOT NULL
+                 ON CONFLICT (page_id) DO NOTHING'
+            USING last_id, batch_last;
+
+        last_id := batch_last;
+        COMMIT;
+    END LOOP;
+END $$;
+
+-- 2. 외래 키 (애플리케이션 스키마 갱신으로 이미 있으면 건너뜀)
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk_page_content_page') THEN
+        DELETE FROM page_contents c WHERE NOT EXISTS (SELECT 1 FROM pages p WHERE p.id = c.page_id);
+        ALTER TABLE page_contents ADD CONSTRAINT fk_page_content_page
+            FOREIGN KEY (page_id) REFERENCES pages (id) NOT VALID;
+        ALTER TABLE page_contents VALIDATE CONSTRAINT fk_page_content_page;
+    END IF;
+END $$;
+
+-- 3. 컬럼 삭제
+ALTER TABLE pages DROP COLUMN IF EXISTS content;
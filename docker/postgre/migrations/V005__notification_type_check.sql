@@ -0,0 +1,30 @@
+-- V005: notifications.type CHECK 제약에 NOTIFICATION_DIGEST 추가
+-- 실행 시점: 알림 요약(NOTIFICATION_DIGEST)이 포함된 버전 배포 전 또는 직후, V002 이후
+-- ddl-auto: update 는 기존 CHECK 제약을 갱신하지 않으므로 enum 값이 늘면 제약을 다시 만들어야 함
+-- V002 의 LIKE ... INCLUDING CONSTRAINTS 로 파티션 테이블과 notifications_legacy 모두 같은 이름의 제약을 가짐
+-- 파티션 테이블의 제약을 바꾸면 각 파티션(notifications_default 포함)에도 함께 적용됨
+-- 되돌리기: 같은 방식으로 NOTIFICATION_DIGEST 를 뺀 목록으로 다시 생성 (요약 알림 행이 남아 있으면 실패)
+
+BEGIN;
+
+DO $$
+DECLARE
+    t TEXT;
+BEGIN
+    FOREACH t IN ARRAY ARRAY['notifications', 'notifications_legacy'] LOOP
+        IF to_regclass(t) IS NULL THEN
+            CONTINUE;
+        END IF;
+
+        EXECUTE format('ALTER TABLE %I DROP CONSTRAINT IF EXISTS notifications_type_check', t);
+        EXECUTE format($f$ALTER TABLE %I ADD CONSTRAINT notifications_type_check CHECK (type IN (
+            'WORKSPACE_INVITATION', 'WORKSPACE_MEMBER_JOINED', 'WORKSPACE_ROLE_CHANGED',
+            'PAGE_SHARED', 'PAGE_COMMENTED', 'PAGE_MENTIONED', 'PAGE_UPDATED',
+            'COMMENT_REPLY', 'COMMENT_LIKED', 'COMMENT_MENTIONED',
+            'SYSTEM_ANNOUNCEMENT', 'SECURITY_ALERT', 'MAINTENANCE_NOTICE',
+            'PASSWORD_CHANGED', 'EMAIL_VERIFIED', 'LOGIN_ALERT',
+            'NOTIFICATION_DIGEST'))$f$, t);
+    END LOOP;
+END $$;
+
+COMMIT;
@@ -0,0 +1,26 @@
+-- V006: workspaces.member_count / page_count 채우기
+-- 실행 시점: 워크스페이스 카운터(WorkspaceCounter)가 포함된 버전 배포 직후 한 번
+-- 애플리케이션은 시작 시 전체 보정을 하지 않고, 이후 오차는 야간 보정 작업(WorkspaceCounterReconcileScheduler)이 바로잡음
+-- 되돌리기: 불필요 (다시 실행하면 실제 COUNT로 다시 맞춤)
+
+DO $$
+DECLARE
+    last_id BIGINT := 0;
+    batch_last BIGINT;
+BEGIN
+    LOOP
+        SELECT MAX(id) INTO batch_last
+        FROM (SELECT id FROM workspaces WHERE id > last_id ORDER BY id LIMIT 1000) b;
+        EXIT WHEN batch_last IS NULL;
+
+        UPDATE workspaces w
+        SET member_count = (SELECT COUNT(*) FROM workspace_members m
+                            WHERE m.workspace_id = w.id AND m.is_active = true),
+            page_count = (SELECT COUNT(*) FROM pages p
+                          WHERE p.workspace_id = w.id AND p.deleted_at IS NULL)
+        WHERE w.id > last_id AND w.id <= batch_last;
+
+        last_id := batch_last;
+        COMMIT;
+    END LOOP;
+END $$;
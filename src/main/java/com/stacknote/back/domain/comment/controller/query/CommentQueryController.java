@@ -8,6 +8,7 @@ import com.stacknote.back.domain.page.repository.PageRepository;
 import com.stacknote.back.domain.user.entity.User;
 import com.stacknote.back.domain.user.repository.UserRepository;
 import com.stacknote.back.global.dto.ApiResponse;
+import com.stacknote.back.global.dto.CursorResponse;
 import com.stacknote.back.global.exception.custom.EntityNotFoundException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -71,6 +72,42 @@ public class CommentQueryController {
         return ApiResponse.success("페이지 댓글 목록 조회 성공", comments);
     }
 
+    @Operation(summary = "페이지의 댓글 목록 커서 조회", description = "특정 페이지의 최상위 댓글 목록을 커서 기반으로 조회합니다.")
+    @GetMapping("/page/{pageId}/cursor")
+    public ApiResponse<CursorResponse<CommentResponse>> getCommentsByPageCursor(
+            @Parameter(description = "페이지 ID") @PathVariable Long pageId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+
+        Page targetPage = pageRepository.findById(pageId)
+                .orElseThrow(() -> new EntityNotFoundException("페이지를 찾을 수 없습니다."));
+
+        Long currentUserId = getCurrentUserId(authentication);
+        CursorResponse<CommentResponse> comments =
+                commentQueryService.getRootCommentsByPage(targetPage, cursor, size, currentUserId);
+
+        return ApiResponse.success("페이지 댓글 목록 조회 성공", comments);
+    }
+
+    @Operation(summary = "페이지의 댓글 스레드 조회", description = "최상위 댓글과 모든 답글을 트리 형태로 커서 기반 조회합니다.")
+    @GetMapping("/page/{pageId}/threads")
+    public ApiResponse<CursorResponse<CommentResponse>> getCommentThreads(
+            @Parameter(description = "페이지 ID") @PathVariable Long pageId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "최상위 댓글 수") @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+
+        Page targetPage = pageRepository.findById(pageId)
+                .orElseThrow(() -> new EntityNotFoundException("페이지를 찾을 수 없습니다."));
+
+        Long currentUserId = getCurrentUserId(authentication);
+        CursorResponse<CommentResponse> threads =
+                commentQueryService.getCommentThreads(targetPage, cursor, size, currentUserId);
+
+        return ApiResponse.success("페이지 댓글 스레드 조회 성공", threads);
+    }
+
     @Operation(summary = "대댓글 목록 조회", description = "특정 댓글의 대댓글 목록을 조회합니다.")
     @GetMapping("/{commentId}/replies")
     public ApiResponse<List<CommentResponse>> getReplies(
@@ -177,6 +214,20 @@ public class CommentQueryController {
         return ApiResponse.success("멘션 댓글 조회 성공", comments);
     }
 
+    @Operation(summary = "나를 멘션한 댓글 커서 조회", description = "현재 사용자를 멘션한 댓글을 최신순으로 커서 기반 조회합니다.")
+    @GetMapping("/mentions/my")
+    public ApiResponse<CursorResponse<CommentSummaryResponse>> getMyMentions(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+
+        User currentUser = (User) authentication.getPrincipal();
+        CursorResponse<CommentSummaryResponse> comments =
+                commentQueryService.getMentionsOfUser(currentUser.getId(), cursor, size);
+
+        return ApiResponse.success("나를 멘션한 댓글 조회 성공", comments);
+    }
+
     @Operation(summary = "사용자 멘션 댓글 조회", description = "특정 사용자를 멘션한 댓글을 조회합니다.")
     @GetMapping("/mentions/{username}")
     public ApiResponse<List<CommentSummaryResponse>> getCommentsByMentionedUser(
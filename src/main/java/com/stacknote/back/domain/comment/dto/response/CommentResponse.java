@@ -9,7 +9,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -43,6 +48,13 @@ public class CommentResponse {
      * Comment 엔티티로부터 CommentResponse 생성
      */
     public static CommentResponse from(Comment comment) {
+        return from(comment, comment.getReplies());
+    }
+
+    /**
+     * 미리 조회한 답글 목록으로 CommentResponse 생성 (replies 지연 로딩 없음)
+     */
+    public static CommentResponse from(Comment comment, List<Comment> replies) {
         return CommentResponse.builder()
                 .id(comment.getId())
                 .content(comment.getContent())
@@ -50,7 +62,7 @@ public class CommentResponse {
                 .pageTitle(comment.getPage().getTitle())
                 .author(UserResponse.from(comment.getAuthor()))
                 .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
-                .replies(comment.getReplies().stream()
+                .replies(replies.stream()
                         .filter(reply -> !reply.isDeleted())
                         .map(CommentResponse::fromSummary)
                         .collect(Collectors.toList()))
@@ -69,8 +81,17 @@ public class CommentResponse {
      * 권한 정보와 함께 CommentResponse 생성
      */
     public static CommentResponse fromWithPermissions(Comment comment, Long currentUserId) {
-        CommentResponse response = from(comment);
+        return withPermissions(from(comment), comment, currentUserId);
+    }
 
+    /**
+     * 미리 조회한 답글 목록과 권한 정보로 CommentResponse 생성
+     */
+    public static CommentResponse fromWithPermissions(Comment comment, List<Comment> replies, Long currentUserId) {
+        return withPermissions(from(comment, replies), comment, currentUserId);
+    }
+
+    private static CommentResponse withPermissions(CommentResponse response, Comment comment, Long currentUserId) {
         if (currentUserId != null) {
             response.canEdit = comment.getAuthor().getId().equals(currentUserId);
             response.canDelete = comment.getAuthor().getId().equals(currentUserId);
@@ -103,4 +124,71 @@ public class CommentResponse {
                 .updatedAt(comment.getUpdatedAt())
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 한 번에 조회한 댓글 목록으로 댓글 트리 구성 (O(n))
+     * 지연 로딩 연관관계(replies, parent)를 건드리지 않고 parentId로 연결
+     * 부모가 목록에 없는 댓글(삭제된 댓글의 답글)은 제외
+     * @param comments 작성자를 함께 조회한 댓글 목록 (생성일순)
+     * @return 최상위 댓글 목록 (replies에 하위 댓글이 중첩됨)
+     */
+    public static List<CommentResponse> toThreads(List<Comment> comments, Long currentUserId) {
+        Map<Long, CommentResponse> nodes = new HashMap<>(comments.size() * 2);
+        for (Comment comment : comments) {
+            nodes.put(comment.getId(), threadNode(comment, currentUserId));
+        }
+
+        List<CommentResponse> roots = new ArrayList<>();
+        for (Comment comment : comments) {
+            CommentResponse node = nodes.get(comment.getId());
+            if (node.parentId == null) {
+                roots.add(node);
+            } else {
+                CommentResponse parent = nodes.get(node.parentId);
+                if (parent != null) {
+                    parent.replies.add(node);
+                }
+            }
+        }
+
+        // 깊이와 답글 수 계산 (재귀 없이 스택으로 순회)
+        Deque<CommentResponse> stack = new ArrayDeque<>(roots);
+        while (!stack.isEmpty()) {
+            CommentResponse node = stack.pop();
+            node.replyCount = node.replies.size();
+            for (CommentResponse reply : node.replies) {
+                reply.depth = node.depth + 1;
+                stack.push(reply);
+            }
+        }
+
+        return roots;
+    }
+
+    /**
+     * 트리 구성용 노드 생성 (깊이, 답글 수는 트리 구성 후 계산)
+     */
+    private static CommentResponse threadNode(Comment comment, Long currentUserId) {
+        boolean isAuthor = currentUserId != null && comment.getAuthor().getId().equals(currentUserId);
+
+        return CommentResponse.builder()
+                .id(comment.getId())
+                .content(comment.getContent())
+                .pageId(comment.getPage().getId())
+                .pageTitle(comment.getPage().getTitle())
+                .author(UserResponse.from(comment.getAuthor()))
+                .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
+                .replies(new ArrayList<>())
+                .isEdited(comment.getIsEdited())
+                .likesCount(comment.getLikesCount())
+                .mentions(comment.getMentions())
+                .depth(0)
+                .replyCount(0)
+                .relativeTime(DateUtil.getRelativeTime(comment.getCreatedAt()))
+                .canEdit(isAuthor)
+                .canDelete(isAuthor)
+                .createdAt(comment.getCreatedAt())
+                .updatedAt(comment.getUpdatedAt())
+                .build();
+    }
+}
@@ -18,7 +18,8 @@ import java.util.List;
         @Index(name = "idx_comment_page", columnList = "page_id"),
         @Index(name = "idx_comment_author", columnList = "author_id"),
         @Index(name = "idx_comment_parent", columnList = "parent_id"),
-        @Index(name = "idx_comment_created_at", columnList = "created_at")
+        @Index(name = "idx_comment_created_at", columnList = "created_at"),
+        @Index(name = "idx_comment_page_created", columnList = "page_id, created_at, id")
 })
 @Getter
 @Builder
@@ -49,7 +50,8 @@ public class Comment extends BaseEntity {
     @Builder.Default
     private Boolean isEdited = false; // 수정 여부
 
-    @Column(name = "likes_count", nullable = false)
+    // CommentLikeCounter 가 SQL로만 변경하므로 엔티티 저장 시 덮어쓰지 않음
+    @Column(name = "likes_count", nullable = false, updatable = false)
     @Builder.Default
     private Integer likesCount = 0; // 좋아요 수
 
@@ -91,22 +93,6 @@ public class Comment extends BaseEntity {
         this.parent = parent;
     }
 
-    /**
-     * 좋아요 수 증가
-     */
-    public void incrementLikes() {
-        this.likesCount++;
-    }
-
-    /**
-     * 좋아요 수 감소
-     */
-    public void decrementLikes() {
-        if (this.likesCount > 0) {
-            this.likesCount--;
-        }
-    }
-
     /**
      * 최상위 댓글 여부 확인
      */
@@ -0,0 +1,34 @@
+package com.stacknote.back.domain.comment.entity;
+
+import com.stacknote.back.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 댓글 좋아요 엔티티
+ * 사용자당 댓글 하나에 좋아요 한 번만 허용 (comment_id, user_id 유니크)
+ */
+@Entity
+@Table(name = "comment_likes",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_comment_like_comment_user", columnNames = {"comment_id", "user_id"})
+        },
+        indexes = {
+                @Index(name = "idx_comment_like_user", columnList = "user_id")
+        })
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CommentLike extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "comment_id", nullable = false)
+    private Long commentId; // 좋아요한 댓글 ID
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId; // 좋아요한 사용자 ID
+}
@@ -0,0 +1,39 @@
+package com.stacknote.back.domain.comment.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 멘션 엔티티
+ * 댓글 작성/수정 시 한 번 파싱한 멘션 대상 사용자를 정규화하여 보관
+ * 댓글 작성 시각을 함께 저장하여 "나를 멘션한 댓글" 피드를 인덱스 순서대로 조회
+ */
+@Entity
+@Table(name = "comment_mentions",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_comment_mention_comment_user", columnNames = {"comment_id", "user_id"})
+        },
+        indexes = {
+                @Index(name = "idx_comment_mention_user_created", columnList = "user_id, comment_created_at, comment_id")
+        })
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CommentMention {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "comment_id", nullable = false)
+    private Long commentId; // 멘션이 포함된 댓글 ID
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId; // 멘션된 사용자 ID
+
+    @Column(name = "comment_created_at", nullable = false)
+    private LocalDateTime commentCreatedAt; // 댓글 작성 시각 (피드 정렬 키)
+}
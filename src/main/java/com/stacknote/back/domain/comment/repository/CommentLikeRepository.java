@@ -0,0 +1,49 @@
+package com.stacknote.back.domain.comment.repository;
+
+import com.stacknote.back.domain.comment.entity.CommentLike;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 댓글 좋아요 Repository
+ */
+@Repository
+public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
+
+    /**
+     * 좋아요 기록 (이미 있으면 무시)
+     * @return 새로 기록된 경우 1, 이미 좋아요한 경우 0
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO comment_likes (comment_id, user_id, created_at, updated_at)
+        VALUES (:commentId, :userId, NOW(), NOW())
+        ON CONFLICT (comment_id, user_id) DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("commentId") Long commentId, @Param("userId") Long userId);
+
+    /**
+     * 좋아요 취소
+     * @return 삭제된 경우 1, 좋아요하지 않은 경우 0
+     */
+    @Modifying
+    @Query("DELETE FROM CommentLike l WHERE l.commentId = :commentId AND l.userId = :userId")
+    int deleteByCommentIdAndUserId(@Param("commentId") Long commentId, @Param("userId") Long userId);
+
+    /**
+     * 사용자가 좋아요한 댓글 ID 목록 조회 (목록 화면 표시용)
+     */
+    @Query("SELECT l.commentId FROM CommentLike l WHERE l.userId = :userId AND l.commentId IN :commentIds")
+    List<Long> findLikedCommentIds(@Param("userId") Long userId, @Param("commentIds") Collection<Long> commentIds);
+
+    /**
+     * 좋아요 여부 확인
+     */
+    boolean existsByCommentIdAndUserId(Long commentId, Long userId);
+}
@@ -0,0 +1,63 @@
+package com.stacknote.back.domain.comment.repository;
+
+import com.stacknote.back.domain.comment.entity.Comment;
+import com.stacknote.back.domain.comment.entity.CommentMention;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 댓글 멘션 Repository
+ */
+@Repository
+public interface CommentMentionRepository extends JpaRepository<CommentMention, Long> {
+
+    /**
+     * 댓글에 멘션된 사용자 ID 목록 조회
+     */
+    @Query("SELECT m.userId FROM CommentMention m WHERE m.commentId = :commentId")
+    List<Long> findUserIdsByCommentId(@Param("commentId") Long commentId);
+
+    /**
+     * 댓글에서 제외된 멘션 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM CommentMention m WHERE m.commentId = :commentId AND m.userId IN :userIds")
+    int deleteByCommentIdAndUserIds(@Param("commentId") Long commentId, @Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 사용자를 멘션한 댓글 조회 (최신순)
+     */
+    @Query("""
+        SELECT c FROM CommentMention m, Comment c JOIN FETCH c.author JOIN FETCH c.page
+        WHERE c.id = m.commentId
+        AND m.userId IN :userIds
+        AND c.deletedAt IS NULL
+        ORDER BY m.commentCreatedAt DESC, m.commentId DESC
+        """)
+    List<Comment> findMentioningComments(@Param("userIds") Collection<Long> userIds, Pageable pageable);
+
+    /**
+     * 사용자를 멘션한 댓글 커서 조회 (작성일 최신순, 커서 이후)
+     * (user_id, comment_created_at, comment_id) 인덱스를 역순으로 탐색
+     */
+    @Query("""
+        SELECT c FROM CommentMention m, Comment c JOIN FETCH c.author JOIN FETCH c.page
+        WHERE c.id = m.commentId
+        AND m.userId = :userId
+        AND c.deletedAt IS NULL
+        AND (m.commentCreatedAt < :sortKey OR (m.commentCreatedAt = :sortKey AND m.commentId < :id))
+        ORDER BY m.commentCreatedAt DESC, m.commentId DESC
+        """)
+    List<Comment> findMentioningCommentsAfter(@Param("userId") Long userId,
+                                              @Param("sortKey") LocalDateTime sortKey,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
+}
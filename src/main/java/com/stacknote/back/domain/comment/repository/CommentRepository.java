@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +27,12 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT c FROM Comment c WHERE c.id = :id AND c.deletedAt IS NULL")
     Optional<Comment> findActiveCommentById(@Param("id") Long id);
 
+    /**
+     * 활성 댓글 존재 여부 확인
+     */
+    @Query("SELECT COUNT(c) > 0 FROM Comment c WHERE c.id = :id AND c.deletedAt IS NULL")
+    boolean existsActiveCommentById(@Param("id") Long id);
+
     /**
      * 페이지의 모든 댓글 조회 (최상위 댓글만, 정렬: 생성일순)
      */
@@ -38,6 +45,54 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT c FROM Comment c WHERE c.page = :page AND c.parent IS NULL AND c.deletedAt IS NULL ORDER BY c.createdAt ASC")
     List<Comment> findRootCommentsByPage(@Param("page") Page page, Pageable pageable);
 
+    /**
+     * 페이지의 최상위 댓글 조회 (커서 기반, 생성일순)
+     */
+    @Query("""
+        SELECT c FROM Comment c 
+        JOIN FETCH c.author 
+        WHERE c.page = :page AND c.parent IS NULL AND c.deletedAt IS NULL 
+        AND (c.createdAt > :cursorAt OR (c.createdAt = :cursorAt AND c.id > :cursorId)) 
+        ORDER BY c.createdAt ASC, c.id ASC
+        """)
+    List<Comment> findRootCommentsByPageAfter(@Param("page") Page page,
+                                              @Param("cursorAt") LocalDateTime cursorAt,
+                                              @Param("cursorId") Long cursorId,
+                                              Pageable pageable);
+
+    /**
+     * 페이지의 전체 댓글을 작성자와 함께 조회 (댓글 트리 구성용, 생성일순)
+     */
+    @Query("""
+        SELECT c FROM Comment c 
+        JOIN FETCH c.author 
+        WHERE c.page = :page AND c.deletedAt IS NULL 
+        ORDER BY c.createdAt ASC, c.id ASC
+        """)
+    List<Comment> findThreadCommentsByPage(@Param("page") Page page);
+
+    /**
+     * ID 목록의 댓글을 작성자와 함께 조회 (댓글 트리 구성용, 생성일순)
+     */
+    @Query("""
+        SELECT c FROM Comment c 
+        JOIN FETCH c.author 
+        WHERE c.id IN :ids AND c.deletedAt IS NULL 
+        ORDER BY c.createdAt ASC, c.id ASC
+        """)
+    List<Comment> findThreadCommentsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 여러 댓글의 대댓글을 작성자와 함께 조회 (목록 응답의 답글 일괄 구성용, 생성일순)
+     */
+    @Query("""
+        SELECT c FROM Comment c 
+        JOIN FETCH c.author 
+        WHERE c.parent.id IN :parentIds AND c.deletedAt IS NULL 
+        ORDER BY c.createdAt ASC, c.id ASC
+        """)
+    List<Comment> findRepliesByParentIds(@Param("parentIds") Collection<Long> parentIds);
+
     /**
      * 특정 댓글의 대댓글 조회
      */
@@ -113,12 +168,6 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT c FROM Comment c WHERE c.mentions IS NOT NULL AND c.mentions != '' AND c.deletedAt IS NULL ORDER BY c.createdAt DESC")
     List<Comment> findCommentsWithMentions(Pageable pageable);
 
-    /**
-     * 특정 사용자를 멘션한 댓글 조회
-     */
-    @Query("SELECT c FROM Comment c WHERE c.mentions LIKE %:username% AND c.deletedAt IS NULL ORDER BY c.createdAt DESC")
-    List<Comment> findCommentsByMentionedUser(@Param("username") String username, Pageable pageable);
-
     /**
      * 댓글 내용으로 검색
      */
@@ -138,6 +187,33 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("UPDATE Comment c SET c.deletedAt = CURRENT_TIMESTAMP WHERE c.page = :page AND c.deletedAt IS NULL")
     int softDeleteCommentsByPage(@Param("page") Page page);
 
+    /**
+     * 페이지 하위 트리 삭제 시 여러 페이지의 모든 댓글 소프트 삭제
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.deletedAt = CURRENT_TIMESTAMP, c.updatedAt = CURRENT_TIMESTAMP WHERE c.page.id IN :pageIds AND c.deletedAt IS NULL")
+    int softDeleteCommentsByPageIds(@Param("pageIds") Collection<Long> pageIds);
+
+    /**
+     * 댓글과 모든 하위 댓글을 한 번의 UPDATE로 소프트 삭제 (재귀적)
+     */
+    @Modifying
+    @Query(value = """
+        WITH RECURSIVE comment_tree AS (
+            SELECT id
+            FROM comments 
+            WHERE id = :commentId AND deleted_at IS NULL
+            UNION ALL
+            SELECT c.id
+            FROM comments c
+            INNER JOIN comment_tree ct ON c.parent_id = ct.id
+            WHERE c.deleted_at IS NULL
+        )
+        UPDATE comments SET deleted_at = NOW(), updated_at = NOW() 
+        WHERE id IN (SELECT id FROM comment_tree)
+        """, nativeQuery = true)
+    int softDeleteCommentTree(@Param("commentId") Long commentId);
+
     /**
      * 사용자 계정 삭제 시 작성한 모든 댓글 소프트 삭제
      */
@@ -163,6 +239,24 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
         """, nativeQuery = true)
     List<Long> findAllDescendantIds(@Param("commentId") Long commentId);
 
+    /**
+     * 여러 최상위 댓글의 모든 하위 댓글 ID 조회 (재귀적)
+     */
+    @Query(value = """
+        WITH RECURSIVE comment_tree AS (
+            SELECT id
+            FROM comments 
+            WHERE parent_id IN (:rootIds) AND deleted_at IS NULL
+            UNION ALL
+            SELECT c.id
+            FROM comments c
+            INNER JOIN comment_tree ct ON c.parent_id = ct.id
+            WHERE c.deleted_at IS NULL
+        )
+        SELECT id FROM comment_tree
+        """, nativeQuery = true)
+    List<Long> findDescendantIdsOfRoots(@Param("rootIds") Collection<Long> rootIds);
+
     /**
      * 오래된 댓글 정리 (관리자용)
      */
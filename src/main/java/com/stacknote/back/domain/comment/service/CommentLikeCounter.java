@@ -0,0 +1,139 @@
+package com.stacknote.back.domain.comment.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 댓글 좋아요 수 집계기
+ * 좋아요/취소마다 댓글 행을 갱신하지 않고 메모리(스트라이프 카운터)에 증감을 누적했다가 주기적으로 일괄 반영
+ * 인기 댓글 정렬은 반영 주기만큼의 지연 안에서 정확함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentLikeCounter {
+
+    private static final String FLUSH_SQL =
+            "UPDATE comments SET likes_count = GREATEST(likes_count + ?, 0) WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 좋아요 수 증감 기록
+     * 트랜잭션 안에서 호출되면 커밋 이후에 누적 (좋아요 기록이 롤백되면 반영하지 않음)
+     */
+    public void add(Long commentId, long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accumulate(commentId, delta);
+                }
+            });
+        } else {
+            accumulate(commentId, delta);
+        }
+    }
+
+    private void accumulate(Long commentId, long delta) {
+        // 정리(flush)와 겹쳐도 증감이 유실되지 않도록 맵의 버킷 잠금 안에서 누적
+        counters.compute(commentId, (id, counter) -> {
+            Counter target = counter != null ? counter : new Counter();
+            target.adder.add(delta);
+            return target;
+        });
+    }
+
+    /**
+     * 아직 반영되지 않은 좋아요 수 증감
+     */
+    public long getPending(Long commentId) {
+        Counter counter = counters.get(commentId);
+        return counter == null ? 0L : counter.pending();
+    }
+
+    /**
+     * 누적된 증감을 배치 UPDATE로 반영
+     */
+    @Scheduled(fixedDelayString = "${comment.like-counter.flush-interval-ms:2000}")
+    public synchronized void flush() {
+        List<Long> commentIds = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        List<Object[]> batchArgs = new ArrayList<>();
+
+        counters.forEach((commentId, counter) -> {
+            long delta = counter.pending();
+            if (delta != 0) {
+                commentIds.add(commentId);
+                deltas.add(delta);
+                batchArgs.add(new Object[]{delta, commentId});
+            }
+        });
+
+        if (batchArgs.isEmpty()) {
+            // 좋아요와 취소가 상쇄되어 반영할 것이 없는 카운터 정리
+            prune(List.copyOf(counters.keySet()));
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+
+            // 반영 성공한 만큼만 기준값 이동 (실패 시 다음 주기에 재시도)
+            for (int i = 0; i < commentIds.size(); i++) {
+                counters.get(commentIds.get(i)).flushed += deltas.get(i);
+            }
+            prune(commentIds);
+            log.debug("댓글 좋아요 수 일괄 반영: {}개 댓글", commentIds.size());
+
+        } catch (Exception e) {
+            log.error("댓글 좋아요 수 반영 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 모두 반영된 카운터 제거 (한 번 좋아요된 댓글이 프로세스 수명 동안 남지 않도록)
+     * 맵의 버킷 잠금 안에서 확인하므로 동시에 누적된 증감은 유실되지 않음
+     */
+    private void prune(List<Long> commentIds) {
+        for (Long commentId : commentIds) {
+            counters.computeIfPresent(commentId, (id, counter) -> counter.pending() == 0 ? null : counter);
+        }
+    }
+
+    /**
+     * 종료 시 남은 증감 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 댓글 좋아요 수 반영");
+        flush();
+    }
+
+    /**
+     * 댓글별 카운터
+     * 누적값(adder)은 줄이지 않고 반영된 값(flushed)만 이동시켜 동시 증감분 유실 방지
+     */
+    private static final class Counter {
+        private final LongAdder adder = new LongAdder();
+        private volatile long flushed = 0L;
+
+        long pending() {
+            return adder.sum() - flushed;
+        }
+    }
+}
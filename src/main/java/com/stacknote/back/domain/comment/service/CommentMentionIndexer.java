@@ -0,0 +1,121 @@
+package com.stacknote.back.domain.comment.service;
+
+import com.stacknote.back.domain.comment.entity.Comment;
+import com.stacknote.back.domain.comment.entity.CommentMention;
+import com.stacknote.back.domain.comment.repository.CommentMentionRepository;
+import com.stacknote.back.domain.page.entity.Page;
+import com.stacknote.back.domain.user.entity.User;
+import com.stacknote.back.domain.user.repository.UserRepository;
+import com.stacknote.back.domain.workspace.repository.WorkspaceMemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 댓글 멘션 추출 및 인덱싱
+ * - 댓글 작성/수정 시 멘션 문자열과 본문에서 "@사용자명"을 한 번만 파싱
+ * - 사용자명이 정확히 일치하고 페이지 워크스페이스의 소유자 또는 활성 멤버인 사용자만 comment_mentions에 기록
+ *   (@kim이 @kimchi와 매칭되지 않으며, 워크스페이스 밖 사용자는 멘션되지 않음)
+ * - 새로 추가된 멘션 대상만 반환하여 알림 생성에 재사용
+ * - 기존 댓글 백필은 수동 마이그레이션(docker/postgre/migrations/V003)으로 한 번만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentMentionIndexer {
+
+    // 이메일처럼 단어 중간에 있는 @는 제외
+    private static final Pattern MENTION_PATTERN = Pattern.compile("(?<![\\p{Alnum}_.])@([\\p{Alnum}_.\\-]+)",
+            Pattern.UNICODE_CHARACTER_CLASS);
+    private static final int MAX_MENTIONS = 50;
+
+    private final CommentMentionRepository commentMentionRepository;
+    private final UserRepository userRepository;
+    private final WorkspaceMemberRepository workspaceMemberRepository;
+
+    /**
+     * 댓글 멘션 인덱스 갱신
+     * @return 이번에 새로 멘션된 사용자 목록 (작성자 제외)
+     */
+    @Transactional
+    public List<User> index(Comment comment) {
+        Set<String> usernames = extractUsernames(comment.getMentions(), comment.getContent());
+        List<User> mentioned = usernames.isEmpty()
+                ? List.of()
+                : retainWorkspaceMembers(comment.getPage(), userRepository.findActiveUsersByUsernames(usernames).stream()
+                        .filter(user -> !user.getId().equals(comment.getAuthor().getId()))
+                        .toList());
+
+        Set<Long> existing = new HashSet<>(commentMentionRepository.findUserIdsByCommentId(comment.getId()));
+        Set<Long> current = new HashSet<>();
+        mentioned.forEach(user -> current.add(user.getId()));
+
+        Set<Long> removed = new HashSet<>(existing);
+        removed.removeAll(current);
+        if (!removed.isEmpty()) {
+            commentMentionRepository.deleteByCommentIdAndUserIds(comment.getId(), removed);
+        }
+
+        List<User> added = mentioned.stream()
+                .filter(user -> !existing.contains(user.getId()))
+                .toList();
+        if (!added.isEmpty()) {
+            commentMentionRepository.saveAll(added.stream()
+                    .map(user -> CommentMention.builder()
+                            .commentId(comment.getId())
+                            .userId(user.getId())
+                            .commentCreatedAt(comment.getCreatedAt())
+                            .build())
+                    .toList());
+        }
+
+        return added;
+    }
+
+    /**
+     * 페이지 워크스페이스의 소유자 또는 활성 멤버만 남김 (멘션 인덱스와 멘션 알림 대상 공통 규칙)
+     */
+    @Transactional(readOnly = true)
+    public List<User> retainWorkspaceMembers(Page page, List<User> users) {
+        if (users.isEmpty()) {
+            return users;
+        }
+
+        Set<Long> accessible = new HashSet<>(workspaceMemberRepository.findAccessibleUserIds(
+                page.getWorkspace().getId(), users.stream().map(User::getId).toList()));
+        return users.stream()
+                .filter(user -> accessible.contains(user.getId()))
+                .toList();
+    }
+
+    /**
+     * 멘션 문자열과 본문에서 사용자명 후보 추출
+     * 문장 끝의 마침표 등이 붙은 경우를 위해 끝 구두점을 제거한 후보도 함께 포함
+     */
+    public static Set<String> extractUsernames(String... sources) {
+        Set<String> usernames = new LinkedHashSet<>();
+        for (String source : sources) {
+            if (source == null || source.isEmpty()) {
+                continue;
+            }
+            Matcher matcher = MENTION_PATTERN.matcher(source);
+            while (matcher.find() && usernames.size() < MAX_MENTIONS) {
+                String token = matcher.group(1);
+                usernames.add(token);
+                String trimmed = token.replaceAll("[.\\-]+$", "");
+                if (!trimmed.isEmpty()) {
+                    usernames.add(trimmed);
+                }
+            }
+        }
+        return usernames;
+    }
+}
@@ -7,7 +7,11 @@ import com.stacknote.back.domain.comment.entity.Comment;
 import com.stacknote.back.domain.comment.exception.CommentAccessDeniedException;
 import com.stacknote.back.domain.comment.exception.CommentNotFoundException;
 import com.stacknote.back.domain.comment.exception.InvalidCommentException;
+import com.stacknote.back.domain.comment.repository.CommentLikeRepository;
 import com.stacknote.back.domain.comment.repository.CommentRepository;
+import com.stacknote.back.domain.comment.service.CommentLikeCounter;
+import com.stacknote.back.domain.comment.service.CommentMentionIndexer;
+import com.stacknote.back.domain.notification.service.command.NotificationCommandService;
 import com.stacknote.back.domain.page.entity.Page;
 import com.stacknote.back.domain.page.repository.PageRepository;
 import com.stacknote.back.domain.user.entity.User;
@@ -17,6 +21,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 댓글 명령 서비스
  */
@@ -26,8 +33,14 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class CommentCommandService {
 
+    private static final int MENTION_CONTEXT_LENGTH = 100;
+
     private final CommentRepository commentRepository;
     private final PageRepository pageRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final CommentLikeCounter commentLikeCounter;
+    private final CommentMentionIndexer commentMentionIndexer;
+    private final NotificationCommandService notificationCommandService;
 
     /**
      * 댓글 생성
@@ -63,6 +76,9 @@ public class CommentCommandService {
             parent.addReply(savedComment);
         }
 
+        // 멘션 인덱싱 및 멘션 알림 (한 번의 파싱 결과 사용)
+        notifyMentions(savedComment, commentMentionIndexer.index(savedComment));
+
         log.info("댓글 생성 완료 - ID: {}, 작성자: {}, 페이지: {}",
                 savedComment.getId(), author.getEmail(), page.getId());
 
@@ -84,6 +100,9 @@ public class CommentCommandService {
         comment.updateContent(request.getContent());
         comment.setMentions(request.getMentions());
 
+        // 새로 추가된 멘션 대상에게만 알림
+        notifyMentions(comment, commentMentionIndexer.index(comment));
+
         log.info("댓글 수정 완료 - ID: {}, 수정자: {}", commentId, user.getEmail());
 
         return CommentResponse.fromWithPermissions(comment, user.getId());
@@ -101,49 +120,41 @@ public class CommentCommandService {
             throw new CommentAccessDeniedException("댓글을 삭제할 권한이 없습니다.");
         }
 
-        // 대댓글이 있는 경우 대댓글도 함께 삭제
-        deleteCommentWithReplies(comment);
-
-        log.info("댓글 삭제 완료 - ID: {}, 삭제자: {}", commentId, user.getEmail());
-    }
-
-    /**
-     * 댓글과 모든 대댓글 삭제
-     */
-    private void deleteCommentWithReplies(Comment comment) {
-        // 모든 대댓글 삭제
-        for (Comment reply : comment.getReplies()) {
-            if (!reply.isDeleted()) {
-                deleteCommentWithReplies(reply); // 재귀적으로 삭제
-            }
-        }
+        // 대댓글이 있는 경우 대댓글도 함께 삭제 (하위 트리 전체를 한 번에 갱신)
+        int deletedCount = commentRepository.softDeleteCommentTree(commentId);
 
-        // 댓글 소프트 삭제
-        comment.markAsDeleted();
+        log.info("댓글 삭제 완료 - ID: {}, 삭제자: {}, 삭제된 댓글 수: {}", commentId, user.getEmail(), deletedCount);
     }
 
     /**
-     * 댓글 좋아요 증가
+     * 댓글 좋아요 (이미 좋아요한 경우 변화 없음)
+     * 댓글 행은 잠그지 않고 좋아요 기록만 추가, 좋아요 수는 집계기가 일괄 반영
      */
     public void incrementLikes(Long commentId, User user) {
-        Comment comment = commentRepository.findActiveCommentById(commentId)
-                .orElseThrow(() -> new CommentNotFoundException(commentId));
+        if (!commentRepository.existsActiveCommentById(commentId)) {
+            throw new CommentNotFoundException(commentId);
+        }
 
-        comment.incrementLikes();
+        if (commentLikeRepository.insertIfAbsent(commentId, user.getId()) > 0) {
+            commentLikeCounter.add(commentId, 1);
+        }
 
-        log.debug("댓글 좋아요 증가 - ID: {}, 사용자: {}", commentId, user.getEmail());
+        log.debug("댓글 좋아요 - ID: {}, 사용자: {}", commentId, user.getEmail());
     }
 
     /**
-     * 댓글 좋아요 감소
+     * 댓글 좋아요 취소 (좋아요하지 않은 경우 변화 없음)
      */
     public void decrementLikes(Long commentId, User user) {
-        Comment comment = commentRepository.findActiveCommentById(commentId)
-                .orElseThrow(() -> new CommentNotFoundException(commentId));
+        if (!commentRepository.existsActiveCommentById(commentId)) {
+            throw new CommentNotFoundException(commentId);
+        }
 
-        comment.decrementLikes();
+        if (commentLikeRepository.deleteByCommentIdAndUserId(commentId, user.getId()) > 0) {
+            commentLikeCounter.add(commentId, -1);
+        }
 
-        log.debug("댓글 좋아요 감소 - ID: {}, 사용자: {}", commentId, user.getEmail());
+        log.debug("댓글 좋아요 취소 - ID: {}, 사용자: {}", commentId, user.getEmail());
     }
 
     /**
@@ -154,6 +165,18 @@ public class CommentCommandService {
         log.info("페이지 댓글 삭제 완료 - 페이지 ID: {}, 삭제된 댓글 수: {}", page.getId(), deletedCount);
     }
 
+    /**
+     * 여러 페이지의 모든 댓글 삭제 (페이지 하위 트리 삭제 시)
+     */
+    public void deleteCommentsByPageIds(Collection<Long> pageIds) {
+        if (pageIds.isEmpty()) {
+            return;
+        }
+
+        int deletedCount = commentRepository.softDeleteCommentsByPageIds(pageIds);
+        log.info("페이지 댓글 일괄 삭제 완료 - 페이지 수: {}, 삭제된 댓글 수: {}", pageIds.size(), deletedCount);
+    }
+
     /**
      * 사용자의 모든 댓글 삭제 (계정 삭제 시)
      */
@@ -162,6 +185,31 @@ public class CommentCommandService {
         log.info("사용자 댓글 삭제 완료 - 사용자: {}, 삭제된 댓글 수: {}", author.getEmail(), deletedCount);
     }
 
+    /**
+     * 멘션된 사용자에게 알림 생성 (페이지 워크스페이스의 소유자 또는 활성 멤버에게만)
+     */
+    private void notifyMentions(Comment comment, List<User> mentionedUsers) {
+        Page page = comment.getPage();
+        List<User> recipients = commentMentionIndexer.retainWorkspaceMembers(page, mentionedUsers);
+        if (recipients.isEmpty()) {
+            return;
+        }
+
+        String context = mentionContext(comment.getContent());
+        for (User recipient : recipients) {
+            notificationCommandService.createMentionNotification(
+                    recipient, comment.getAuthor(), page.getTitle(), page.getId(), context);
+        }
+    }
+
+    /**
+     * 알림 메타데이터용 댓글 미리보기 (공백 정리 및 길이 제한, JSON 이스케이프는 알림 생성 시 처리)
+     */
+    private String mentionContext(String content) {
+        String preview = content.replaceAll("\\s+", " ").trim();
+        return preview.length() > MENTION_CONTEXT_LENGTH ? preview.substring(0, MENTION_CONTEXT_LENGTH) + "..." : preview;
+    }
+
     /**
      * 댓글 검증
      */
@@ -4,9 +4,13 @@ import com.stacknote.back.domain.comment.dto.response.CommentResponse;
 import com.stacknote.back.domain.comment.dto.response.CommentSummaryResponse;
 import com.stacknote.back.domain.comment.entity.Comment;
 import com.stacknote.back.domain.comment.exception.CommentNotFoundException;
+import com.stacknote.back.domain.comment.repository.CommentMentionRepository;
 import com.stacknote.back.domain.comment.repository.CommentRepository;
 import com.stacknote.back.domain.page.entity.Page;
 import com.stacknote.back.domain.user.entity.User;
+import com.stacknote.back.domain.user.repository.UserRepository;
+import com.stacknote.back.global.dto.Cursor;
+import com.stacknote.back.global.dto.CursorResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -15,7 +19,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -28,6 +34,8 @@ import java.util.stream.Collectors;
 public class CommentQueryService {
 
     private final CommentRepository commentRepository;
+    private final CommentMentionRepository commentMentionRepository;
+    private final UserRepository userRepository;
 
     /**
      * 댓글 ID로 댓글 조회
@@ -41,13 +49,12 @@ public class CommentQueryService {
 
     /**
      * 페이지의 최상위 댓글 목록 조회
+     * 페이지의 전체 댓글을 작성자와 함께 한 번에 조회하여 답글 트리까지 구성
      */
     public List<CommentResponse> getRootCommentsByPage(Page targetPage, Long currentUserId) {
-        List<Comment> comments = commentRepository.findRootCommentsByPage(targetPage);
+        List<Comment> comments = commentRepository.findThreadCommentsByPage(targetPage);
 
-        return comments.stream()
-                .map(comment -> CommentResponse.fromWithPermissions(comment, currentUserId))
-                .collect(Collectors.toList());
+        return CommentResponse.toThreads(comments, currentUserId);
     }
 
     /**
@@ -57,11 +64,59 @@ public class CommentQueryService {
         Pageable pageable = PageRequest.of(page, size);
         List<Comment> comments = commentRepository.findRootCommentsByPage(targetPage, pageable);
 
+        Map<Long, List<Comment>> replies = findRepliesOf(comments);
         return comments.stream()
-                .map(comment -> CommentResponse.fromWithPermissions(comment, currentUserId))
+                .map(comment -> CommentResponse.fromWithPermissions(
+                        comment, replies.getOrDefault(comment.getId(), List.of()), currentUserId))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 페이지의 최상위 댓글 목록 조회 (커서 기반, 생성일순)
+     */
+    public CursorResponse<CommentResponse> getRootCommentsByPage(Page targetPage, String cursor, int size, Long currentUserId) {
+        int limit = CursorResponse.clampSize(size);
+        Cursor position = Cursor.ascending(cursor);
+        List<Comment> comments = commentRepository.findRootCommentsByPageAfter(
+                targetPage, position.sortKey(), position.id(), PageRequest.of(0, limit + 1));
+
+        Map<Long, List<Comment>> replies = findRepliesOf(comments);
+        return CursorResponse.of(comments, limit,
+                comment -> new Cursor(comment.getCreatedAt(), comment.getId()),
+                comment -> CommentResponse.fromWithPermissions(
+                        comment, replies.getOrDefault(comment.getId(), List.of()), currentUserId));
+    }
+
+    /**
+     * 페이지의 댓글 스레드 조회 (커서 기반)
+     * 최상위 댓글 구간과 그 하위 댓글 전체를 고정된 쿼리 수(3회)로 조회하여 트리 구성
+     */
+    public CursorResponse<CommentResponse> getCommentThreads(Page targetPage, String cursor, int size, Long currentUserId) {
+        int limit = CursorResponse.clampSize(size);
+        Cursor position = Cursor.ascending(cursor);
+        List<Comment> roots = commentRepository.findRootCommentsByPageAfter(
+                targetPage, position.sortKey(), position.id(), PageRequest.of(0, limit + 1));
+
+        boolean hasNext = roots.size() > limit;
+        List<Comment> window = hasNext ? roots.subList(0, limit) : roots;
+        if (window.isEmpty()) {
+            return new CursorResponse<>(List.of(), limit, false, null);
+        }
+
+        List<Long> descendantIds = commentRepository.findDescendantIdsOfRoots(
+                window.stream().map(Comment::getId).toList());
+
+        List<Comment> comments = new ArrayList<>(window);
+        if (!descendantIds.isEmpty()) {
+            comments.addAll(commentRepository.findThreadCommentsByIds(descendantIds));
+        }
+
+        Comment last = window.get(window.size() - 1);
+        String nextCursor = hasNext ? new Cursor(last.getCreatedAt(), last.getId()).encode() : null;
+
+        return new CursorResponse<>(CommentResponse.toThreads(comments, currentUserId), limit, hasNext, nextCursor);
+    }
+
     /**
      * 특정 댓글의 대댓글 조회
      */
@@ -171,16 +226,38 @@ public class CommentQueryService {
 
     /**
      * 특정 사용자를 멘션한 댓글 조회
+     * 사용자명이 정확히 일치하는 사용자의 멘션 인덱스로 조회
      */
     public List<CommentSummaryResponse> getCommentsByMentionedUser(String username, int page, int size) {
+        List<Long> userIds = userRepository.findActiveUsersByUsernames(List.of(username)).stream()
+                .map(User::getId)
+                .toList();
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+
         Pageable pageable = PageRequest.of(page, size);
-        List<Comment> comments = commentRepository.findCommentsByMentionedUser(username, pageable);
+        List<Comment> comments = commentMentionRepository.findMentioningComments(userIds, pageable);
 
         return comments.stream()
                 .map(CommentSummaryResponse::from)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 사용자를 멘션한 댓글 조회 (커서 기반, 최신순)
+     */
+    public CursorResponse<CommentSummaryResponse> getMentionsOfUser(Long userId, String cursor, int size) {
+        int limit = CursorResponse.clampSize(size);
+        Cursor position = Cursor.descending(cursor);
+        List<Comment> comments = commentMentionRepository.findMentioningCommentsAfter(
+                userId, position.sortKey(), position.id(), PageRequest.of(0, limit + 1));
+
+        return CursorResponse.of(comments, limit,
+                comment -> new Cursor(comment.getCreatedAt(), comment.getId()),
+                CommentSummaryResponse::from);
+    }
+
     /**
      * 댓글 내용으로 검색
      */
@@ -208,4 +285,17 @@ public class CommentQueryService {
 
         return comment.isAuthor(user);
     }
+
+    // ===== 내부 헬퍼 메서드 =====
+
+    /**
+     * 댓글 목록의 대댓글을 한 번에 조회하여 부모 ID별로 묶음 (댓글마다 replies 지연 로딩 방지)
+     */
+    private Map<Long, List<Comment>> findRepliesOf(List<Comment> comments) {
+        if (comments.isEmpty()) {
+            return Map.of();
+        }
+        return commentRepository.findRepliesByParentIds(comments.stream().map(Comment::getId).toList()).stream()
+                .collect(Collectors.groupingBy(reply -> reply.getParent().getId()));
+    }
 }
\ No newline at end of file
@@ -3,14 +3,18 @@ package com.stacknote.back.domain.file.controller;
 import com.stacknote.back.domain.file.entity.File;
 import com.stacknote.back.domain.file.exception.FileNotFoundException;
 import com.stacknote.back.domain.file.repository.FileRepository;
+import com.stacknote.back.domain.file.service.FileContentCache;
+import com.stacknote.back.domain.file.service.FileDownloadCounter;
 import com.stacknote.back.domain.file.service.FileStorageService;
 import com.stacknote.back.domain.user.entity.User;
 import com.stacknote.back.domain.workspace.exception.WorkspaceAccessDeniedException;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -19,7 +23,9 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URLEncoder;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Optional;
 
 /**
  * 파일 다운로드 컨트롤러
@@ -34,6 +40,8 @@ public class FileDownloadController {
 
     private final FileRepository fileRepository;
     private final FileStorageService fileStorageService;
+    private final FileContentCache fileContentCache;
+    private final FileDownloadCounter fileDownloadCounter;
 
     /**
      * 파일 다운로드
@@ -55,7 +63,7 @@ public class FileDownloadController {
             Resource resource = fileStorageService.loadFileAsResource(file.getFilePath());
 
             // 다운로드 수 증가
-            fileRepository.incrementDownloadCount(fileId);
+            fileDownloadCounter.increment(fileId);
 
             // Content-Type 결정
             String contentType = determineContentType(file);
@@ -112,12 +120,18 @@ public class FileDownloadController {
         }
 
         try {
-            Resource resource = fileStorageService.loadFileAsResource(file.getThumbnailUrl());
-
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.parseMediaType(file.getMimeType()));
             headers.setCacheControl("public, max-age=86400"); // 24시간 캐시
 
+            // 작은 썸네일은 메모리 캐시에서 응답
+            Optional<ByteBuffer> cached = fileContentCache.getThumbnail(file);
+            if (cached.isPresent()) {
+                return cachedResponse(cached.get(), headers);
+            }
+
+            Resource resource = fileStorageService.loadFileAsResource(file.getThumbnailUrl());
+
             return ResponseEntity.ok()
                     .headers(headers)
                     .body(resource);
@@ -190,8 +204,6 @@ public class FileDownloadController {
         }
 
         try {
-            Resource resource = fileStorageService.loadFileAsResource(file.getFilePath());
-
             String contentType = determineContentType(file);
             String encodedFileName = URLEncoder.encode(file.getOriginalName(), StandardCharsets.UTF_8)
                     .replaceAll("\\+", "%20");
@@ -207,7 +219,15 @@ public class FileDownloadController {
             }
 
             // 다운로드 수 증가
-            fileRepository.incrementDownloadCount(fileId);
+            fileDownloadCounter.increment(fileId);
+
+            // 작은 공개 파일은 메모리 캐시에서 응답
+            Optional<ByteBuffer> cached = fileContentCache.getContent(file);
+            if (cached.isPresent()) {
+                return cachedResponse(cached.get(), headers);
+            }
+
+            Resource resource = fileStorageService.loadFileAsResource(file.getFilePath());
 
             return ResponseEntity.ok()
                     .headers(headers)
@@ -246,6 +266,16 @@ public class FileDownloadController {
         return file;
     }
 
+    /**
+     * 캐시된 본문으로 응답 생성
+     */
+    private ResponseEntity<Resource> cachedResponse(ByteBuffer buffer, HttpHeaders headers) {
+        headers.setContentLength(buffer.remaining());
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(new InputStreamResource(new ByteBufferBackedInputStream(buffer)));
+    }
+
     /**
      * Content-Type 결정
      */
@@ -5,6 +5,7 @@ import com.stacknote.back.domain.file.entity.File;
 import com.stacknote.back.domain.file.service.query.FileQueryService;
 import com.stacknote.back.domain.user.entity.User;
 import com.stacknote.back.global.dto.ApiResponse;
+import com.stacknote.back.global.dto.CursorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -49,6 +50,22 @@ public class FileQueryController {
         return ResponseEntity.ok(ApiResponse.success("파일 목록 조회 완료", files));
     }
 
+    /**
+     * 워크스페이스의 파일 목록 커서 조회
+     */
+    @GetMapping("/cursor")
+    @Operation(summary = "워크스페이스 파일 목록 (커서)", description = "워크스페이스의 파일 목록을 커서 기반으로 조회합니다.")
+    public ResponseEntity<ApiResponse<CursorResponse<FileResponse>>> getWorkspaceFilesByCursor(
+            @Parameter(description = "워크스페이스 ID") @PathVariable Long workspaceId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal User currentUser
+    ) {
+        CursorResponse<FileResponse> files = fileQueryService.getWorkspaceFiles(workspaceId, currentUser, cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success("파일 목록 조회 완료", files));
+    }
+
     /**
      * 특정 페이지의 파일들 조회
      */
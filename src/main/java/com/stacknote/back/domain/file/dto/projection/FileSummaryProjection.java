@@ -0,0 +1,31 @@
+package com.stacknote.back.domain.file.dto.projection;
+
+import com.stacknote.back.domain.file.entity.File;
+import com.stacknote.back.domain.user.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * 파일 목록 조회용 프로젝션
+ * 설명, 이미지 크기 등 목록에 쓰지 않는 컬럼 없이 조회하며 영속성 컨텍스트에 엔티티를 올리지 않음
+ */
+public record FileSummaryProjection(Long id,
+                                    String originalName,
+                                    String fileUrl,
+                                    Long fileSize,
+                                    String mimeType,
+                                    File.FileType fileType,
+                                    Long downloadCount,
+                                    Boolean isPublic,
+                                    String thumbnailUrl,
+                                    LocalDateTime createdAt,
+                                    Long uploaderId,
+                                    String uploaderEmail,
+                                    String uploaderUsername,
+                                    String uploaderProfileImageUrl,
+                                    User.Role uploaderRole,
+                                    Boolean uploaderEmailVerified,
+                                    Boolean uploaderActive,
+                                    LocalDateTime uploaderCreatedAt,
+                                    LocalDateTime uploaderUpdatedAt) {
+}
@@ -1,5 +1,6 @@
 package com.stacknote.back.domain.file.dto.response;
 
+import com.stacknote.back.domain.file.dto.projection.FileSummaryProjection;
 import com.stacknote.back.domain.file.entity.File;
 import com.stacknote.back.domain.user.dto.response.UserResponse;
 import lombok.AllArgsConstructor;
@@ -50,6 +51,13 @@ public class FileResponse {
      * File 엔티티로부터 FileResponse 생성
      */
     public static FileResponse from(File file) {
+        return from(file, file.getDownloadCount());
+    }
+
+    /**
+     * 상세 응답 생성 (집계 중인 다운로드 수 반영)
+     */
+    public static FileResponse from(File file, Long downloadCount) {
         return FileResponse.builder()
                 .id(file.getId())
                 .originalName(file.getOriginalName())
@@ -65,7 +73,7 @@ public class FileResponse {
                 .pageId(file.getPage() != null ? file.getPage().getId() : null)
                 .pageTitle(file.getPage() != null ? file.getPage().getTitle() : null)
                 .uploadedBy(UserResponse.from(file.getUploadedBy()))
-                .downloadCount(file.getDownloadCount())
+                .downloadCount(downloadCount)
                 .isPublic(file.getIsPublic())
                 .description(file.getDescription())
                 .imageWidth(file.getImageWidth())
@@ -82,6 +90,13 @@ public class FileResponse {
      * 파일 메타데이터만 포함한 간단한 응답 생성 (목록용)
      */
     public static FileResponse fromSummary(File file) {
+        return fromSummary(file, file.getDownloadCount());
+    }
+
+    /**
+     * 목록용 응답 생성 (집계 중인 다운로드 수 반영)
+     */
+    public static FileResponse fromSummary(File file, Long downloadCount) {
         return FileResponse.builder()
                 .id(file.getId())
                 .originalName(file.getOriginalName())
@@ -91,7 +106,7 @@ public class FileResponse {
                 .mimeType(file.getMimeType())
                 .fileType(file.getFileType().name())
                 .uploadedBy(UserResponse.from(file.getUploadedBy()))
-                .downloadCount(file.getDownloadCount())
+                .downloadCount(downloadCount)
                 .isPublic(file.getIsPublic())
                 .thumbnailUrl(file.getThumbnailUrl())
                 .hasThumbnail(file.hasThumbnail())
@@ -99,4 +114,45 @@ public class FileResponse {
                 .createdAt(file.getCreatedAt())
                 .build();
     }
+
+    /**
+     * 목록 프로젝션으로부터 응답 생성
+     */
+    public static FileResponse fromSummary(FileSummaryProjection file) {
+        return fromSummary(file, file.downloadCount());
+    }
+
+    /**
+     * 목록 프로젝션으로부터 응답 생성 (집계 중인 다운로드 수 반영)
+     */
+    public static FileResponse fromSummary(FileSummaryProjection file, Long downloadCount) {
+        UserResponse uploadedBy = UserResponse.builder()
+                .id(file.uploaderId())
+                .email(file.uploaderEmail())
+                .username(file.uploaderUsername())
+                .profileImageUrl(file.uploaderProfileImageUrl())
+                .role(file.uploaderRole().name())
+                .isEmailVerified(file.uploaderEmailVerified())
+                .isActive(file.uploaderActive())
+                .createdAt(file.uploaderCreatedAt())
+                .updatedAt(file.uploaderUpdatedAt())
+                .build();
+
+        return FileResponse.builder()
+                .id(file.id())
+                .originalName(file.originalName())
+                .fileUrl(file.fileUrl())
+                .fileSize(file.fileSize())
+                .formattedFileSize(File.formatFileSize(file.fileSize()))
+                .mimeType(file.mimeType())
+                .fileType(file.fileType().name())
+                .uploadedBy(uploadedBy)
+                .downloadCount(downloadCount)
+                .isPublic(file.isPublic())
+                .thumbnailUrl(file.thumbnailUrl())
+                .hasThumbnail(file.thumbnailUrl() != null && !file.thumbnailUrl().trim().isEmpty())
+                .isPreviewable(File.isPreviewable(file.fileType(), file.mimeType()))
+                .createdAt(file.createdAt())
+                .build();
+    }
 }
\ No newline at end of file
@@ -17,7 +17,8 @@ import lombok.*;
         @Index(name = "idx_file_page", columnList = "page_id"),
         @Index(name = "idx_file_uploaded_by", columnList = "uploaded_by"),
         @Index(name = "idx_file_file_type", columnList = "file_type"),
-        @Index(name = "idx_file_created_at", columnList = "created_at")
+        @Index(name = "idx_file_created_at", columnList = "created_at"),
+        @Index(name = "idx_file_workspace_created", columnList = "workspace_id, created_at, id")
 })
 @Getter
 @Builder
@@ -62,7 +63,8 @@ public class File extends BaseEntity {
     @JoinColumn(name = "uploaded_by", nullable = false)
     private User uploadedBy;
 
-    @Column(name = "download_count", nullable = false)
+    // FileDownloadCounter 가 SQL로만 증가시키므로 엔티티 저장 시 덮어쓰지 않음
+    @Column(name = "download_count", nullable = false, updatable = false)
     @Builder.Default
     private Long downloadCount = 0L;
 
@@ -114,13 +116,6 @@ public class File extends BaseEntity {
         this.page = null;
     }
 
-    /**
-     * 다운로드 수 증가
-     */
-    public void incrementDownloadCount() {
-        this.downloadCount++;
-    }
-
     /**
      * 이미지 메타데이터 설정
      */
@@ -136,6 +131,13 @@ public class File extends BaseEntity {
      * 파일 크기를 사람이 읽기 쉬운 형태로 반환
      */
     public String getFormattedFileSize() {
+        return formatFileSize(fileSize);
+    }
+
+    /**
+     * 파일 크기 표시 문자열 (목록 프로젝션에서도 사용)
+     */
+    public static String formatFileSize(Long fileSize) {
         if (fileSize == null) return "0 B";
 
         long bytes = fileSize;
@@ -195,8 +197,15 @@ public class File extends BaseEntity {
      * 웹에서 미리보기 가능한 파일인지 확인
      */
     public boolean isPreviewable() {
-        return isImage() ||
-                (isDocument() && (mimeType != null && mimeType.equals("application/pdf"))) ||
+        return isPreviewable(fileType, mimeType);
+    }
+
+    /**
+     * 파일 타입과 MIME 타입으로 미리보기 가능 여부 확인 (목록 프로젝션에서도 사용)
+     */
+    public static boolean isPreviewable(FileType fileType, String mimeType) {
+        return fileType == FileType.IMAGE ||
+                (fileType == FileType.DOCUMENT && (mimeType != null && mimeType.equals("application/pdf"))) ||
                 (mimeType != null && mimeType.startsWith("text/"));
     }
 
@@ -0,0 +1,34 @@
+package com.stacknote.back.domain.file.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 파일 추출 텍스트 엔티티
+ * 검색용으로 추출한 큰 텍스트를 files 와 분리하여 파일 조회 시 함께 로딩되지 않도록 보관
+ */
+@Entity
+@Table(name = "file_texts")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class FileText {
+
+    @Id
+    @Column(name = "file_id")
+    private Long fileId; // 파일 ID (files.id와 동일)
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "file_id", insertable = false, updatable = false,
+            foreignKey = @ForeignKey(name = "fk_file_text_file"))
+    private File file;
+
+    @Column(name = "text", columnDefinition = "TEXT")
+    private String text; // 검색용 추출 텍스트
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
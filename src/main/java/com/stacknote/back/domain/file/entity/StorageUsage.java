@@ -0,0 +1,48 @@
+package com.stacknote.back.domain.file.entity;
+
+import com.stacknote.back.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 저장 용량 사용량 엔티티
+ * 워크스페이스/사용자별 파일 크기 합계를 증분으로 유지 (SUM 집계 대체)
+ */
+@Entity
+@Table(name = "storage_usages",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_storage_usage_owner", columnNames = {"owner_type", "owner_id"})
+        })
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class StorageUsage extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "owner_type", nullable = false, length = 20)
+    private OwnerType ownerType;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId; // 워크스페이스 ID 또는 사용자 ID
+
+    @Column(name = "used_bytes", nullable = false)
+    @Builder.Default
+    private Long usedBytes = 0L;
+
+    @Column(name = "file_count", nullable = false)
+    @Builder.Default
+    private Long fileCount = 0L;
+
+    /**
+     * 사용량 소유자 타입
+     */
+    public enum OwnerType {
+        WORKSPACE,
+        USER
+    }
+}
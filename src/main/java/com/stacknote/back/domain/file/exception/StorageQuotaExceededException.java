@@ -0,0 +1,18 @@
+package com.stacknote.back.domain.file.exception;
+
+import com.stacknote.back.global.exception.ErrorCode;
+import com.stacknote.back.global.exception.custom.BusinessException;
+
+/**
+ * 저장 용량 한도를 초과했을 때 발생하는 예외
+ */
+public class StorageQuotaExceededException extends BusinessException {
+
+    public StorageQuotaExceededException(String message) {
+        super(ErrorCode.STORAGE_QUOTA_EXCEEDED, message);
+    }
+
+    public StorageQuotaExceededException() {
+        super(ErrorCode.STORAGE_QUOTA_EXCEEDED, "저장 용량 한도를 초과했습니다.");
+    }
+}
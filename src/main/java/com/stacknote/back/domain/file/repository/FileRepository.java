@@ -1,5 +1,6 @@
 package com.stacknote.back.domain.file.repository;
 
+import com.stacknote.back.domain.file.dto.projection.FileSummaryProjection;
 import com.stacknote.back.domain.file.entity.File;
 import com.stacknote.back.domain.page.entity.Page;
 import com.stacknote.back.domain.user.entity.User;
@@ -12,6 +13,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +23,19 @@ import java.util.Optional;
 @Repository
 public interface FileRepository extends JpaRepository<File, Long> {
 
+    /**
+     * 목록 조회용 프로젝션 SELECT 절 (설명 등 목록에 쓰지 않는 컬럼 제외)
+     */
+    String SUMMARY_SELECT = """
+        SELECT new com.stacknote.back.domain.file.dto.projection.FileSummaryProjection(
+            f.id, f.originalName, f.fileUrl, f.fileSize, f.mimeType, f.fileType,
+            f.downloadCount, f.isPublic, f.thumbnailUrl, f.createdAt,
+            u.id, u.email, u.username, u.profileImageUrl, u.role,
+            u.isEmailVerified, u.isActive, u.createdAt, u.updatedAt)
+        FROM File f
+        JOIN f.uploadedBy u
+        """;
+
     /**
      * 파일 ID로 활성 파일 조회
      */
@@ -30,38 +45,51 @@ public interface FileRepository extends JpaRepository<File, Long> {
     /**
      * 워크스페이스의 모든 파일 조회
      */
-    @Query("SELECT f FROM File f WHERE f.workspace = :workspace AND f.deletedAt IS NULL ORDER BY f.createdAt DESC")
-    List<File> findByWorkspace(@Param("workspace") Workspace workspace);
+    @Query(SUMMARY_SELECT + "WHERE f.workspace = :workspace AND f.deletedAt IS NULL ORDER BY f.createdAt DESC")
+    List<FileSummaryProjection> findByWorkspace(@Param("workspace") Workspace workspace);
 
     /**
      * 워크스페이스의 파일 조회 (페이징)
      */
-    @Query("SELECT f FROM File f WHERE f.workspace = :workspace AND f.deletedAt IS NULL ORDER BY f.createdAt DESC")
-    List<File> findByWorkspace(@Param("workspace") Workspace workspace, Pageable pageable);
+    @Query(SUMMARY_SELECT + "WHERE f.workspace = :workspace AND f.deletedAt IS NULL ORDER BY f.createdAt DESC")
+    List<FileSummaryProjection> findByWorkspace(@Param("workspace") Workspace workspace, Pageable pageable);
+
+    /**
+     * 워크스페이스의 파일 조회 (커서 기반, 최신순)
+     */
+    @Query(SUMMARY_SELECT + """
+        WHERE f.workspace = :workspace AND f.deletedAt IS NULL 
+        AND (f.createdAt < :cursorAt OR (f.createdAt = :cursorAt AND f.id < :cursorId)) 
+        ORDER BY f.createdAt DESC, f.id DESC
+        """)
+    List<FileSummaryProjection> findByWorkspaceAfter(@Param("workspace") Workspace workspace,
+                                                     @Param("cursorAt") LocalDateTime cursorAt,
+                                                     @Param("cursorId") Long cursorId,
+                                                     Pageable pageable);
 
     /**
      * 특정 페이지에 연결된 파일들 조회
      */
-    @Query("SELECT f FROM File f WHERE f.page = :page AND f.deletedAt IS NULL ORDER BY f.createdAt DESC")
-    List<File> findByPage(@Param("page") Page page);
+    @Query(SUMMARY_SELECT + "WHERE f.page = :page AND f.deletedAt IS NULL ORDER BY f.createdAt DESC")
+    List<FileSummaryProjection> findByPage(@Param("page") Page page);
 
     /**
      * 워크스페이스의 연결되지 않은 파일들 조회 (page가 null인 파일)
      */
-    @Query("SELECT f FROM File f WHERE f.workspace = :workspace AND f.page IS NULL AND f.deletedAt IS NULL ORDER BY f.createdAt DESC")
-    List<File> findUnattachedFilesByWorkspace(@Param("workspace") Workspace workspace);
+    @Query(SUMMARY_SELECT + "WHERE f.workspace = :workspace AND f.page IS NULL AND f.deletedAt IS NULL ORDER BY f.createdAt DESC")
+    List<FileSummaryProjection> findUnattachedFilesByWorkspace(@Param("workspace") Workspace workspace);
 
     /**
      * 사용자가 업로드한 파일들 조회
      */
-    @Query("SELECT f FROM File f WHERE f.uploadedBy = :user AND f.deletedAt IS NULL ORDER BY f.createdAt DESC")
-    List<File> findByUploadedBy(@Param("user") User user, Pageable pageable);
+    @Query(SUMMARY_SELECT + "WHERE f.uploadedBy = :user AND f.deletedAt IS NULL ORDER BY f.createdAt DESC")
+    List<FileSummaryProjection> findByUploadedBy(@Param("user") User user, Pageable pageable);
 
     /**
      * 파일 타입별 조회
      */
-    @Query("SELECT f FROM File f WHERE f.workspace = :workspace AND f.fileType = :fileType AND f.deletedAt IS NULL ORDER BY f.createdAt DESC")
-    List<File> findByWorkspaceAndFileType(@Param("workspace") Workspace workspace, @Param("fileType") File.FileType fileType);
+    @Query(SUMMARY_SELECT + "WHERE f.workspace = :workspace AND f.fileType = :fileType AND f.deletedAt IS NULL ORDER BY f.createdAt DESC")
+    List<FileSummaryProjection> findByWorkspaceAndFileType(@Param("workspace") Workspace workspace, @Param("fileType") File.FileType fileType);
 
     /**
      * 공개 파일들 조회
@@ -72,14 +100,29 @@ public interface FileRepository extends JpaRepository<File, Long> {
     /**
      * 파일명으로 검색
      */
+    @Query(SUMMARY_SELECT + """
+        WHERE f.workspace = :workspace 
+        AND f.deletedAt IS NULL 
+        AND LOWER(f.originalName) LIKE LOWER(CONCAT('%', :keyword, '%'))
+        ORDER BY f.createdAt DESC
+        """)
+    List<FileSummaryProjection> searchByOriginalName(@Param("workspace") Workspace workspace, @Param("keyword") String keyword);
+
+    /**
+     * 추출 텍스트로 파일 검색 (텍스트는 file_texts 에서 확인)
+     */
     @Query("""
         SELECT f FROM File f 
         WHERE f.workspace = :workspace 
         AND f.deletedAt IS NULL 
-        AND LOWER(f.originalName) LIKE LOWER(CONCAT('%', :keyword, '%'))
+        AND EXISTS (
+            SELECT 1 FROM FileText t 
+            WHERE t.fileId = f.id 
+            AND LOWER(t.text) LIKE LOWER(CONCAT('%', :keyword, '%'))
+        )
         ORDER BY f.createdAt DESC
         """)
-    List<File> searchByOriginalName(@Param("workspace") Workspace workspace, @Param("keyword") String keyword);
+    List<File> searchByExtractedText(@Param("workspace") Workspace workspace, @Param("keyword") String keyword);
 
     /**
      * 체크섬으로 중복 파일 조회
@@ -102,20 +145,26 @@ public interface FileRepository extends JpaRepository<File, Long> {
     /**
      * 최근 업로드된 파일들 조회
      */
-    @Query("""
-        SELECT f FROM File f 
+    @Query(SUMMARY_SELECT + """
         WHERE f.workspace = :workspace 
         AND f.deletedAt IS NULL 
         AND f.createdAt >= :since
         ORDER BY f.createdAt DESC
         """)
-    List<File> findRecentFilesByWorkspace(@Param("workspace") Workspace workspace, @Param("since") LocalDateTime since, Pageable pageable);
+    List<FileSummaryProjection> findRecentFilesByWorkspace(@Param("workspace") Workspace workspace, @Param("since") LocalDateTime since, Pageable pageable);
 
     /**
      * 인기 파일들 조회 (다운로드 수 기준)
      */
-    @Query("SELECT f FROM File f WHERE f.workspace = :workspace AND f.deletedAt IS NULL ORDER BY f.downloadCount DESC, f.createdAt DESC")
-    List<File> findPopularFilesByWorkspace(@Param("workspace") Workspace workspace, Pageable pageable);
+    @Query(SUMMARY_SELECT + "WHERE f.workspace = :workspace AND f.deletedAt IS NULL ORDER BY f.downloadCount DESC, f.createdAt DESC")
+    List<FileSummaryProjection> findPopularFilesByWorkspace(@Param("workspace") Workspace workspace, Pageable pageable);
+
+    /**
+     * 워크스페이스의 활성 파일 일괄 조회 (목록용)
+     */
+    @Query(SUMMARY_SELECT + "WHERE f.id IN :fileIds AND f.workspace.id = :workspaceId AND f.deletedAt IS NULL")
+    List<FileSummaryProjection> findSummariesByIds(@Param("workspaceId") Long workspaceId,
+                                                   @Param("fileIds") Collection<Long> fileIds);
 
     /**
      * 큰 파일들 조회 (크기 기준)
@@ -126,8 +175,8 @@ public interface FileRepository extends JpaRepository<File, Long> {
     /**
      * 이미지 파일들만 조회
      */
-    @Query("SELECT f FROM File f WHERE f.workspace = :workspace AND f.fileType = 'IMAGE' AND f.deletedAt IS NULL ORDER BY f.createdAt DESC")
-    List<File> findImagesByWorkspace(@Param("workspace") Workspace workspace);
+    @Query(SUMMARY_SELECT + "WHERE f.workspace = :workspace AND f.fileType = 'IMAGE' AND f.deletedAt IS NULL ORDER BY f.createdAt DESC")
+    List<FileSummaryProjection> findImagesByWorkspace(@Param("workspace") Workspace workspace);
 
     /**
      * 다운로드 수 증가
@@ -154,6 +203,64 @@ public interface FileRepository extends JpaRepository<File, Long> {
     @Query("SELECT COALESCE(SUM(f.fileSize), 0) FROM File f WHERE f.workspace = :workspace AND f.deletedAt IS NULL")
     long getTotalFileSizeByWorkspace(@Param("workspace") Workspace workspace);
 
+    /**
+     * 워크스페이스의 파일 타입별 개수/크기 집계 (단일 쿼리)
+     * [fileType, count, totalSize]
+     */
+    @Query("""
+        SELECT f.fileType, COUNT(f), COALESCE(SUM(f.fileSize), 0) 
+        FROM File f 
+        WHERE f.workspace = :workspace AND f.deletedAt IS NULL 
+        GROUP BY f.fileType
+        """)
+    List<Object[]> getFileStatisticsByType(@Param("workspace") Workspace workspace);
+
+    /**
+     * 활성 파일이 있는 워크스페이스 ID 목록 (사용량 보정용)
+     */
+    @Query("SELECT DISTINCT f.workspace.id FROM File f WHERE f.deletedAt IS NULL")
+    List<Long> findWorkspaceIdsWithFiles();
+
+    /**
+     * 활성 파일이 있는 업로더 ID 목록 (사용량 보정용)
+     */
+    @Query("SELECT DISTINCT f.uploadedBy.id FROM File f WHERE f.deletedAt IS NULL")
+    List<Long> findUploaderIdsWithFiles();
+
+    /**
+     * 주어진 경로 중 활성 파일이 참조하는 원본 경로 조회 (고아 파일 정리용)
+     */
+    @Query("SELECT f.filePath FROM File f WHERE f.deletedAt IS NULL AND f.filePath IN :paths")
+    List<String> findReferencedFilePaths(@Param("paths") Collection<String> paths);
+
+    /**
+     * 주어진 경로 중 활성 파일이 참조하는 썸네일 경로 조회 (고아 파일 정리용)
+     */
+    @Query("SELECT f.thumbnailUrl FROM File f WHERE f.deletedAt IS NULL AND f.thumbnailUrl IN :paths")
+    List<String> findReferencedThumbnailPaths(@Param("paths") Collection<String> paths);
+
+    /**
+     * 삭제된 워크스페이스/페이지에 속한 활성 파일 삭제 처리 (고아 파일 정리용)
+     * 휴지통 보관 기간이 지나 더 이상 복원할 수 없는 소유자만 대상으로 함 (보관 기간 안에 복원하면 첨부파일 유지)
+     */
+    @Modifying
+    @Query("""
+        UPDATE File f SET f.deletedAt = CURRENT_TIMESTAMP 
+        WHERE f.deletedAt IS NULL 
+        AND (
+            EXISTS (SELECT 1 FROM Workspace w WHERE w = f.workspace AND w.deletedAt < :cutoff)
+            OR EXISTS (SELECT 1 FROM Page p WHERE p = f.page AND p.deletedAt < :cutoff)
+        )
+        """)
+    int markFilesOfDeletedOwnersAsDeleted(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * ID 기준 키셋 페이징으로 활성 파일 경로 조회 (엔티티를 로딩하지 않음)
+     * @return [파일 ID, 파일 경로] 목록
+     */
+    @Query("SELECT f.id, f.filePath FROM File f WHERE f.id > :lastId AND f.deletedAt IS NULL ORDER BY f.id")
+    List<Object[]> findActiveFilePathsAfterId(@Param("lastId") Long lastId, Pageable pageable);
+
     /**
      * 사용자별 파일 크기 합계 조회
      */
@@ -203,8 +310,9 @@ public interface FileRepository extends JpaRepository<File, Long> {
         AND f.deletedAt IS NULL 
         AND f.createdAt < :cutoffDate
         AND NOT EXISTS (
-            SELECT 1 FROM Page p 
-            WHERE p.content LIKE CONCAT('%', f.fileUrl, '%') 
+            SELECT 1 FROM PageContent pc, Page p 
+            WHERE p.id = pc.pageId 
+            AND pc.content LIKE CONCAT('%', f.fileUrl, '%') 
             AND p.deletedAt IS NULL
         )
         """)
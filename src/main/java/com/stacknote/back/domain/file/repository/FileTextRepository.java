@@ -0,0 +1,36 @@
+package com.stacknote.back.domain.file.repository;
+
+import com.stacknote.back.domain.file.entity.FileText;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 파일 추출 텍스트 Repository
+ */
+@Repository
+public interface FileTextRepository extends JpaRepository<FileText, Long> {
+
+    /**
+     * 여러 파일의 추출 텍스트 일괄 조회
+     * @return [파일 ID, 텍스트] 목록
+     */
+    @Query("SELECT t.fileId, t.text FROM FileText t WHERE t.fileId IN :fileIds")
+    List<Object[]> findTextsByFileIds(@Param("fileIds") Collection<Long> fileIds);
+
+    /**
+     * 추출 텍스트 저장 (없으면 생성, 있으면 교체)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO file_texts (file_id, text, updated_at)
+        VALUES (:fileId, :text, NOW())
+        ON CONFLICT (file_id) DO UPDATE SET text = EXCLUDED.text, updated_at = NOW()
+        """, nativeQuery = true)
+    int upsert(@Param("fileId") Long fileId, @Param("text") String text);
+}
@@ -0,0 +1,93 @@
+package com.stacknote.back.domain.file.repository;
+
+import com.stacknote.back.domain.file.entity.StorageUsage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 저장 용량 사용량 Repository
+ */
+@Repository
+public interface StorageUsageRepository extends JpaRepository<StorageUsage, Long> {
+
+    /**
+     * 소유자별 사용량 조회
+     */
+    @Query("SELECT u FROM StorageUsage u WHERE u.ownerType = :ownerType AND u.ownerId = :ownerId")
+    Optional<StorageUsage> findByOwner(@Param("ownerType") StorageUsage.OwnerType ownerType,
+                                       @Param("ownerId") Long ownerId);
+
+    /**
+     * 사용량 행이 없으면 생성
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO storage_usages (owner_type, owner_id, used_bytes, file_count, created_at, updated_at)
+        VALUES (:ownerType, :ownerId, 0, 0, NOW(), NOW())
+        ON CONFLICT (owner_type, owner_id) DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("ownerType") String ownerType, @Param("ownerId") Long ownerId);
+
+    /**
+     * 한도 내에서만 사용량 증가 (조건부 원자적 갱신, 0이면 한도 초과)
+     */
+    @Modifying
+    @Query("""
+        UPDATE StorageUsage u 
+        SET u.usedBytes = u.usedBytes + :bytes, u.fileCount = u.fileCount + 1 
+        WHERE u.ownerType = :ownerType AND u.ownerId = :ownerId 
+        AND u.usedBytes + :bytes <= :limit
+        """)
+    int reserve(@Param("ownerType") StorageUsage.OwnerType ownerType, @Param("ownerId") Long ownerId,
+                @Param("bytes") long bytes, @Param("limit") long limit);
+
+    /**
+     * 사용량 감소 (삭제 시)
+     */
+    @Modifying
+    @Query("""
+        UPDATE StorageUsage u 
+        SET u.usedBytes = GREATEST(u.usedBytes - :bytes, 0), u.fileCount = GREATEST(u.fileCount - 1, 0) 
+        WHERE u.ownerType = :ownerType AND u.ownerId = :ownerId
+        """)
+    int release(@Param("ownerType") StorageUsage.OwnerType ownerType, @Param("ownerId") Long ownerId,
+                @Param("bytes") long bytes);
+
+    /**
+     * 소유자 타입의 사용량 행 소유자 ID 목록 (보정 작업용)
+     */
+    @Query("SELECT u.ownerId FROM StorageUsage u WHERE u.ownerType = :ownerType")
+    List<Long> findOwnerIds(@Param("ownerType") StorageUsage.OwnerType ownerType);
+
+    /**
+     * 워크스페이스 사용량을 실제 파일 합계로 재계산 (한 행만 잠금)
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE storage_usages u
+        SET used_bytes = s.total_bytes, file_count = s.file_count, updated_at = NOW()
+        FROM (SELECT COALESCE(SUM(file_size), 0) AS total_bytes, COUNT(*) AS file_count
+              FROM files WHERE workspace_id = :workspaceId AND deleted_at IS NULL) s
+        WHERE u.owner_type = 'WORKSPACE' AND u.owner_id = :workspaceId
+        """, nativeQuery = true)
+    int recalculateWorkspace(@Param("workspaceId") Long workspaceId);
+
+    /**
+     * 사용자 사용량을 실제 파일 합계로 재계산 (한 행만 잠금)
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE storage_usages u
+        SET used_bytes = s.total_bytes, file_count = s.file_count, updated_at = NOW()
+        FROM (SELECT COALESCE(SUM(file_size), 0) AS total_bytes, COUNT(*) AS file_count
+              FROM files WHERE uploaded_by = :userId AND deleted_at IS NULL) s
+        WHERE u.owner_type = 'USER' AND u.owner_id = :userId
+        """, nativeQuery = true)
+    int recalculateUser(@Param("userId") Long userId);
+}
@@ -0,0 +1,270 @@
+package com.stacknote.back.domain.file.service;
+
+import com.stacknote.back.domain.file.entity.File;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 작은 공개 파일/썸네일 본문 캐시
+ * - 파일 ID + 체크섬 키로 off-heap ByteBuffer에 보관
+ * - TinyLFU 방식 빈도 스케치로 입장 여부 결정, LRU 희생자와 빈도를 비교해 교체
+ * - 전체 메모리 상한과 항목 크기 상한 적용
+ */
+@Slf4j
+@Component
+public class FileContentCache {
+
+    private final FileStorageService fileStorageService;
+    private final FrequencySketch sketch;
+
+    private final boolean enabled;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+
+    // 접근 순서 기준 LRU, 모든 접근은 this 모니터로 동기화
+    private final LinkedHashMap<CacheKey, ByteBuffer> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long currentBytes = 0L;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong rejections = new AtomicLong();
+
+    public FileContentCache(FileStorageService fileStorageService,
+                            MeterRegistry meterRegistry,
+                            @Value("${file.cache.enabled:true}") boolean enabled,
+                            @Value("${file.cache.max-bytes:67108864}") long maxBytes,
+                            @Value("${file.cache.max-entry-bytes:262144}") long maxEntryBytes) {
+        this.fileStorageService = fileStorageService;
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxEntryBytes;
+        this.sketch = new FrequencySketch(Math.max(1024, (int) (maxBytes / Math.max(1, maxEntryBytes / 8))));
+        registerMetrics(meterRegistry);
+    }
+
+    /**
+     * 파일 원본 본문 조회 (없으면 디스크에서 읽어 입장 시도)
+     * 캐시 대상이 아니면 빈 Optional 반환
+     */
+    public Optional<ByteBuffer> getContent(File file) {
+        return get(new CacheKey(file.getId(), file.getChecksum(), false), file.getFilePath());
+    }
+
+    /**
+     * 썸네일 본문 조회
+     */
+    public Optional<ByteBuffer> getThumbnail(File file) {
+        return get(new CacheKey(file.getId(), file.getChecksum(), true), file.getThumbnailUrl());
+    }
+
+    /**
+     * 파일 관련 항목 무효화 (삭제, 공개 상태 변경 시)
+     */
+    public synchronized void invalidate(Long fileId) {
+        Iterator<Map.Entry<CacheKey, ByteBuffer>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<CacheKey, ByteBuffer> entry = iterator.next();
+            if (entry.getKey().fileId().equals(fileId)) {
+                currentBytes -= entry.getValue().capacity();
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * 캐시 적중률
+     */
+    public double getHitRate() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0.0 : (double) hits.get() / total;
+    }
+
+    // ===== 내부 헬퍼 메서드 =====
+
+    private Optional<ByteBuffer> get(CacheKey key, String relativePath) {
+        if (!enabled || relativePath == null) {
+            return Optional.empty();
+        }
+
+        sketch.increment(key);
+
+        ByteBuffer cached;
+        synchronized (this) {
+            cached = entries.get(key);
+        }
+        if (cached != null) {
+            hits.incrementAndGet();
+            return Optional.of(cached.asReadOnlyBuffer());
+        }
+        misses.incrementAndGet();
+
+        byte[] loaded = load(relativePath);
+        if (loaded == null) {
+            return Optional.empty();
+        }
+
+        // 입장하지 못한 항목은 off-heap 메모리를 쓰지 않고 힙 버퍼로 응답
+        ByteBuffer admitted = admit(key, loaded);
+        return Optional.of((admitted != null ? admitted : ByteBuffer.wrap(loaded)).asReadOnlyBuffer());
+    }
+
+    private byte[] load(String relativePath) {
+        try {
+            Path path = fileStorageService.resolvePath(relativePath);
+            if (!Files.isRegularFile(path) || Files.size(path) > maxEntryBytes) {
+                return null;
+            }
+
+            return Files.readAllBytes(path);
+        } catch (IOException e) {
+            log.debug("캐시 로드 실패: {}, {}", relativePath, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 용량이 부족하면 필요한 LRU 희생자 모두보다 자주 쓰인 항목만 입장 (거절 시 기존 항목은 그대로 유지)
+     * 입장이 결정된 뒤에만 off-heap 버퍼를 할당하여 거절된 후보가 direct 메모리를 소모하지 않도록 함
+     * @return 캐시에 보관된 버퍼 (거절 시 null)
+     */
+    private synchronized ByteBuffer admit(CacheKey key, byte[] bytes) {
+        ByteBuffer existing = entries.get(key);
+        if (existing != null) {
+            return existing;
+        }
+
+        if (bytes.length > maxBytes) {
+            rejections.incrementAndGet();
+            return null;
+        }
+
+        // 공간 확보에 필요한 희생자를 먼저 모두 고른 뒤, 후보가 모두보다 자주 쓰인 경우에만 제거
+        int candidateFrequency = sketch.frequency(key);
+        List<Map.Entry<CacheKey, ByteBuffer>> victims = new ArrayList<>();
+        long freed = 0;
+        for (Map.Entry<CacheKey, ByteBuffer> victim : entries.entrySet()) {
+            if (currentBytes - freed + bytes.length <= maxBytes) {
+                break;
+            }
+            if (sketch.frequency(victim.getKey()) > candidateFrequency) {
+                rejections.incrementAndGet();
+                return null;
+            }
+            victims.add(victim);
+            freed += victim.getValue().capacity();
+        }
+
+        for (Map.Entry<CacheKey, ByteBuffer> victim : victims) {
+            entries.remove(victim.getKey());
+            evictions.incrementAndGet();
+        }
+        currentBytes -= freed;
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        entries.put(key, buffer);
+        currentBytes += buffer.capacity();
+        return buffer;
+    }
+
+    private void registerMetrics(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("stacknote.file.cache.hits", hits, AtomicLong::get).register(meterRegistry);
+        FunctionCounter.builder("stacknote.file.cache.misses", misses, AtomicLong::get).register(meterRegistry);
+        FunctionCounter.builder("stacknote.file.cache.evictions", evictions, AtomicLong::get).register(meterRegistry);
+        FunctionCounter.builder("stacknote.file.cache.rejections", rejections, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("stacknote.file.cache.bytes", this, cache -> cache.currentBytesSnapshot()).register(meterRegistry);
+        Gauge.builder("stacknote.file.cache.hit-rate", this, FileContentCache::getHitRate).register(meterRegistry);
+    }
+
+    private synchronized long currentBytesSnapshot() {
+        return currentBytes;
+    }
+
+    /**
+     * 캐시 키 (체크섬이 바뀌면 다른 항목으로 취급)
+     */
+    private record CacheKey(Long fileId, String checksum, boolean thumbnail) {
+    }
+
+    /**
+     * 4행 Count-Min 스케치 (카운터 상한 15, 표본 수 도달 시 절반으로 감쇠)
+     */
+    private static final class FrequencySketch {
+
+        private static final int DEPTH = 4;
+        private static final int MAX_COUNT = 15;
+        private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+        private final int[][] table;
+        private final int mask;
+        private final int sampleSize;
+        private int additions = 0;
+
+        FrequencySketch(int expectedEntries) {
+            int width = Integer.highestOneBit(Math.max(16, expectedEntries - 1)) << 1;
+            this.table = new int[DEPTH][width];
+            this.mask = width - 1;
+            this.sampleSize = width * 10;
+        }
+
+        synchronized void increment(Object key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int i = 0; i < DEPTH; i++) {
+                int index = indexOf(hash, i);
+                if (table[i][index] < MAX_COUNT) {
+                    table[i][index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        synchronized int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int min = MAX_COUNT;
+            for (int i = 0; i < DEPTH; i++) {
+                min = Math.min(min, table[i][indexOf(hash, i)]);
+            }
+            return min;
+        }
+
+        private void reset() {
+            for (int[] row : table) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] >>>= 1;
+                }
+            }
+            additions /= 2;
+        }
+
+        private int indexOf(int hash, int row) {
+            int h = (hash ^ SEEDS[row]) * SEEDS[(row + 1) % DEPTH];
+            return (h ^ (h >>> 16)) & mask;
+        }
+
+        private static int spread(int hash) {
+            int h = hash * 0x45D9F3B;
+            return h ^ (h >>> 16);
+        }
+    }
+}
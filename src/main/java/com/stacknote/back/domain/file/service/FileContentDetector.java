@@ -0,0 +1,65 @@
+package com.stacknote.back.domain.file.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.tika.Tika;
+import org.apache.tika.mime.MediaType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
+
+/**
+ * 파일 MIME 타입 감지기
+ * 클라이언트가 보낸 Content-Type 대신 업로드 스트림 앞부분의 매직 바이트로 실제 타입을 판별
+ */
+@Slf4j
+@Component
+public class FileContentDetector {
+
+    private static final Set<String> BLOCKED_MIME_TYPES = Set.of(
+            "application/x-msdownload",
+            "application/x-dosexec",
+            "application/x-executable",
+            "application/x-sharedlib",
+            "application/x-sh",
+            "application/x-bat",
+            "application/x-msi"
+    );
+
+    private final Tika tika = new Tika();
+    private final int prefixSize;
+
+    public FileContentDetector(@Value("${file.detect.prefix-size:8192}") int prefixSize) {
+        this.prefixSize = prefixSize;
+    }
+
+    /**
+     * 업로드 스트림의 앞부분만 읽어 MIME 타입 감지
+     * 매직 바이트로 판별되지 않으면 파일명 힌트를 사용
+     */
+    public String detect(MultipartFile multipartFile) throws IOException {
+        byte[] prefix;
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            prefix = inputStream.readNBytes(prefixSize);
+        }
+
+        String detected = tika.detect(prefix, multipartFile.getOriginalFilename());
+        log.debug("MIME 타입 감지: {}, 클라이언트: {}, 감지: {}",
+                multipartFile.getOriginalFilename(), multipartFile.getContentType(), detected);
+        return detected;
+    }
+
+    /**
+     * 업로드가 차단된 실행 파일 타입인지 확인
+     */
+    public boolean isBlocked(String mimeType) {
+        if (mimeType == null) {
+            return false;
+        }
+        MediaType mediaType = MediaType.parse(mimeType);
+        return mediaType != null && BLOCKED_MIME_TYPES.contains(mediaType.getBaseType().toString());
+    }
+}
@@ -0,0 +1,139 @@
+package com.stacknote.back.domain.file.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 파일 다운로드 수 집계기
+ * 요청마다 UPDATE를 실행하지 않고 메모리(스트라이프 카운터)에 누적했다가 주기적으로 일괄 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileDownloadCounter {
+
+    private static final String FLUSH_SQL =
+            "UPDATE files SET download_count = download_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 다운로드 1회 기록
+     * 반영 후 카운터 제거와 같은 키 잠금 안에서 증가시켜, 제거되는 카운터에 증가분이 쌓여 유실되지 않도록 함
+     */
+    public void increment(Long fileId) {
+        counters.compute(fileId, (id, counter) -> {
+            Counter target = counter != null ? counter : new Counter();
+            target.adder.increment();
+            return target;
+        });
+    }
+
+    /**
+     * 아직 반영되지 않은 다운로드 수
+     */
+    public long getPending(Long fileId) {
+        Counter counter = counters.get(fileId);
+        return counter == null ? 0L : counter.pending();
+    }
+
+    /**
+     * 반영 대기 중인 파일별 다운로드 수
+     */
+    public Map<Long, Long> getPendingCounts() {
+        Map<Long, Long> pending = new HashMap<>();
+        counters.forEach((fileId, counter) -> {
+            long delta = counter.pending();
+            if (delta > 0) {
+                pending.put(fileId, delta);
+            }
+        });
+        return pending;
+    }
+
+    /**
+     * 누적된 다운로드 수를 배치 UPDATE로 반영
+     * 한 트랜잭션으로 실행하여 일부만 반영된 채 실패한 뒤 재시도에서 중복 집계되지 않도록 함
+     */
+    @Scheduled(fixedDelayString = "${file.download-counter.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        List<Long> fileIds = new ArrayList<>();
+        List<Object[]> batchArgs = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+
+        counters.forEach((fileId, counter) -> {
+            long delta = counter.pending();
+            if (delta > 0) {
+                fileIds.add(fileId);
+                deltas.add(delta);
+                batchArgs.add(new Object[]{delta, fileId});
+            }
+        });
+
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        try {
+            new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+
+            // 반영 성공한 만큼만 기준값 이동 (실패 시 다음 주기에 재시도)
+            for (int i = 0; i < fileIds.size(); i++) {
+                counters.get(fileIds.get(i)).flushed += deltas.get(i);
+            }
+            prune(fileIds);
+            log.debug("다운로드 수 일괄 반영: {}개 파일", fileIds.size());
+
+        } catch (Exception e) {
+            log.error("다운로드 수 반영 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 모두 반영된 카운터 제거 (한 번 다운로드된 파일이 프로세스 수명 동안 남지 않도록)
+     */
+    private void prune(List<Long> fileIds) {
+        for (Long fileId : fileIds) {
+            counters.computeIfPresent(fileId, (id, counter) -> counter.pending() == 0 ? null : counter);
+        }
+    }
+
+    /**
+     * 종료 시 남은 다운로드 수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 다운로드 수 반영");
+        flush();
+    }
+
+    /**
+     * 파일별 카운터
+     * 누적값(adder)은 줄이지 않고 반영된 값(flushed)만 이동시켜 동시 증가분 유실 방지
+     */
+    private static final class Counter {
+        private final LongAdder adder = new LongAdder();
+        private volatile long flushed = 0L;
+
+        long pending() {
+            return adder.sum() - flushed;
+        }
+    }
+}
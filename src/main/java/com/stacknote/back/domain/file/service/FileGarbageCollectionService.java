@@ -0,0 +1,257 @@
+package com.stacknote.back.domain.file.service;
+
+import com.stacknote.back.domain.file.repository.FileRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 고아 파일 정리 서비스
+ * - 삭제된 워크스페이스/페이지에 속한 파일 행을 먼저 삭제 처리하여 고아로 취급
+ * - 저장소 트리를 스트리밍으로 순회하며 배치 단위로 DB 참조 여부 확인
+ * - 참조되지 않는 파일은 격리 디렉토리로 옮긴 뒤 보존 기간이 지나면 삭제
+ * - 원본 파일이 사라진 활성 파일 행은 키셋 페이징으로 찾아 보고
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileGarbageCollectionService {
+
+    private static final String FILES_DIRECTORY = "files";
+    private static final String QUARANTINE_DIRECTORY = ".quarantine";
+    private static final DateTimeFormatter QUARANTINE_DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final FileRepository fileRepository;
+    private final FileStorageService fileStorageService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${file.gc.batch-size:500}")
+    private int batchSize;
+
+    @Value("${file.gc.grace-hours:24}") // 업로드 중인 파일 보호
+    private long graceHours;
+
+    @Value("${file.gc.quarantine-days:7}")
+    private long quarantineDays;
+
+    @Value("${file.gc.deleted-owner-retention-days:30}") // 휴지통 보관 기간 (이 기간 안의 페이지/워크스페이스는 복원 가능)
+    private long deletedOwnerRetentionDays;
+
+    /**
+     * 고아 파일 정리 실행
+     */
+    public GarbageCollectionResult collect() {
+        Path root = fileStorageService.getRootLocation();
+        Instant cutoff = Instant.now().minus(graceHours, ChronoUnit.HOURS);
+        Path quarantineRoot = root.resolve(QUARANTINE_DIRECTORY)
+                .resolve(LocalDate.now().format(QUARANTINE_DATE_FORMAT));
+
+        // 영구 삭제된 소유자의 파일 행 정리 (휴지통 보관 기간이 지난 경우만, 사용량은 보정 작업에서 반영)
+        Integer deletedOwnerRows = new TransactionTemplate(transactionManager).execute(status ->
+                fileRepository.markFilesOfDeletedOwnersAsDeleted(LocalDateTime.now().minusDays(deletedOwnerRetentionDays)));
+
+        long[] scanned = {0};
+        long[] quarantined = {0};
+        long[] quarantinedBytes = {0};
+
+        Path filesRoot = root.resolve(FILES_DIRECTORY);
+        if (Files.isDirectory(filesRoot)) {
+            try (Stream<Path> paths = Files.walk(filesRoot)) {
+                Iterator<Path> iterator = paths.filter(Files::isRegularFile).iterator();
+                List<Path> batch = new ArrayList<>(batchSize);
+
+                while (iterator.hasNext()) {
+                    batch.add(iterator.next());
+                    if (batch.size() >= batchSize || !iterator.hasNext()) {
+                        scanned[0] += batch.size();
+                        for (Path orphan : findOrphans(root, batch, cutoff)) {
+                            long size = quarantine(root, quarantineRoot, orphan);
+                            if (size >= 0) {
+                                quarantined[0]++;
+                                quarantinedBytes[0] += size;
+                            }
+                        }
+                        batch.clear();
+                    }
+                }
+            } catch (IOException | UncheckedIOException e) {
+                // Files.walk 는 순회 중 오류를 UncheckedIOException 으로 던짐
+                log.error("저장소 순회 중 오류: {}", e.getMessage(), e);
+            }
+        }
+
+        long reclaimedBytes = purgeQuarantine(root.resolve(QUARANTINE_DIRECTORY));
+        long danglingRows = countDanglingRows();
+
+        return new GarbageCollectionResult(deletedOwnerRows != null ? deletedOwnerRows : 0,
+                scanned[0], quarantined[0], quarantinedBytes[0], reclaimedBytes, danglingRows);
+    }
+
+    // ===== 내부 헬퍼 메서드 =====
+
+    /**
+     * 배치 내에서 DB가 참조하지 않고 유예 기간이 지난 파일 선별
+     */
+    private List<Path> findOrphans(Path root, List<Path> batch, Instant cutoff) {
+        Set<String> relativePaths = new HashSet<>();
+        for (Path path : batch) {
+            relativePaths.add(toRelativePath(root, path));
+        }
+
+        Set<String> referenced = new HashSet<>(fileRepository.findReferencedFilePaths(relativePaths));
+        referenced.addAll(fileRepository.findReferencedThumbnailPaths(relativePaths));
+
+        List<Path> orphans = new ArrayList<>();
+        for (Path path : batch) {
+            if (!referenced.contains(toRelativePath(root, path)) && isOlderThan(path, cutoff)) {
+                orphans.add(path);
+            }
+        }
+        return orphans;
+    }
+
+    /**
+     * 격리 디렉토리로 이동 (원래 상대 경로 유지)
+     * @return 이동한 파일 크기, 실패 시 -1
+     */
+    private long quarantine(Path root, Path quarantineRoot, Path orphan) {
+        try {
+            long size = Files.size(orphan);
+            Path target = quarantineRoot.resolve(root.relativize(orphan));
+            Files.createDirectories(target.getParent());
+            Files.move(orphan, target, StandardCopyOption.REPLACE_EXISTING);
+            log.debug("고아 파일 격리: {}", orphan);
+            return size;
+        } catch (IOException e) {
+            log.warn("고아 파일 격리 실패: {}, {}", orphan, e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * 보존 기간이 지난 격리 디렉토리 삭제
+     * @return 회수한 바이트 수
+     */
+    private long purgeQuarantine(Path quarantineBase) {
+        if (!Files.isDirectory(quarantineBase)) {
+            return 0L;
+        }
+
+        LocalDate expiry = LocalDate.now().minusDays(quarantineDays);
+        long reclaimed = 0L;
+
+        try (Stream<Path> days = Files.list(quarantineBase)) {
+            for (Path day : (Iterable<Path>) days::iterator) {
+                if (isExpiredQuarantine(day, expiry)) {
+                    try {
+                        reclaimed += deleteRecursively(day);
+                    } catch (IOException | UncheckedIOException e) {
+                        log.warn("격리 디렉토리 삭제 실패 (다음 주기에 재시도): {}, {}", day, e.getMessage());
+                    }
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.error("격리 디렉토리 정리 중 오류: {}", e.getMessage(), e);
+        }
+        return reclaimed;
+    }
+
+    private boolean isExpiredQuarantine(Path day, LocalDate expiry) {
+        try {
+            return LocalDate.parse(day.getFileName().toString(), QUARANTINE_DATE_FORMAT).isBefore(expiry);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private long deleteRecursively(Path directory) throws IOException {
+        long deletedBytes = 0L;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            List<Path> ordered = paths.sorted(Comparator.reverseOrder()).toList();
+            for (Path path : ordered) {
+                if (Files.isRegularFile(path)) {
+                    deletedBytes += Files.size(path);
+                }
+                Files.deleteIfExists(path);
+            }
+        }
+        return deletedBytes;
+    }
+
+    /**
+     * 원본 파일이 없는 활성 파일 행 수 (키셋 페이징, ID와 경로만 조회)
+     */
+    private long countDanglingRows() {
+        long dangling = 0L;
+        Long lastId = 0L;
+
+        while (true) {
+            List<Object[]> rows = fileRepository.findActiveFilePathsAfterId(lastId, PageRequest.of(0, batchSize));
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            for (Object[] row : rows) {
+                String filePath = (String) row[1];
+                if (!fileStorageService.fileExists(filePath)) {
+                    dangling++;
+                    log.warn("원본 파일이 없는 파일 행: {}, 경로: {}", row[0], filePath);
+                }
+            }
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+        }
+        return dangling;
+    }
+
+    private String toRelativePath(Path root, Path path) {
+        return "/" + root.relativize(path).toString().replace('\\', '/');
+    }
+
+    private boolean isOlderThan(Path path, Instant cutoff) {
+        try {
+            FileTime modified = Files.getLastModifiedTime(path);
+            return modified.toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 고아 파일 정리 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class GarbageCollectionResult {
+        private final long deletedOwnerRows;    // 삭제된 워크스페이스/페이지에 속해 삭제 처리한 파일 행 수
+        private final long scannedFiles;        // 검사한 파일 수
+        private final long quarantinedFiles;    // 격리한 파일 수
+        private final long quarantinedBytes;    // 격리한 바이트 수
+        private final long reclaimedBytes;      // 삭제로 회수한 바이트 수
+        private final long danglingRows;        // 원본이 없는 활성 파일 행 수
+    }
+}
@@ -217,6 +217,14 @@ public class FileStorageService {
         }
     }
 
+    /**
+     * 상대 경로를 저장소 내 절대 경로로 변환
+     */
+    public Path resolvePath(String relativePath) {
+        return rootLocation.resolve(relativePath.startsWith("/") ?
+                relativePath.substring(1) : relativePath).normalize();
+    }
+
     /**
      * 저장소 루트 경로 반환
      */
@@ -0,0 +1,126 @@
+package com.stacknote.back.domain.file.service;
+
+import com.stacknote.back.domain.file.repository.FileTextRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 첨부파일 텍스트 추출 백그라운드 서비스
+ * 업로드 트랜잭션 커밋 이후 제한된 작업 큐에서 추출하고, 제한 시간을 넘기면 작업을 중단
+ */
+@Slf4j
+@Service
+public class FileTextExtractionService {
+
+    private final FileTextRepository fileTextRepository;
+    private final FileStorageService fileStorageService;
+    private final FileTextExtractor fileTextExtractor;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final long timeoutMillis;
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService watchdog;
+
+    public FileTextExtractionService(FileTextRepository fileTextRepository,
+                                     FileStorageService fileStorageService,
+                                     FileTextExtractor fileTextExtractor,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${file.extraction.enabled:true}") boolean enabled,
+                                     @Value("${file.extraction.workers:2}") int workers,
+                                     @Value("${file.extraction.queue-capacity:100}") int queueCapacity,
+                                     @Value("${file.extraction.timeout-ms:10000}") long timeoutMillis) {
+        this.fileTextRepository = fileTextRepository;
+        this.fileStorageService = fileStorageService;
+        this.fileTextExtractor = fileTextExtractor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "file-extract-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> log.warn("텍스트 추출 대기열이 가득 차 작업을 건너뜁니다.")
+        );
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "file-extract-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 텍스트 추출 예약
+     * 트랜잭션 안에서 호출되면 커밋 이후에 실행
+     */
+    public void scheduleExtraction(Long fileId, String filePath, String mimeType) {
+        if (!enabled || !fileTextExtractor.supports(mimeType)) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(fileId, filePath, mimeType);
+                }
+            });
+        } else {
+            submit(fileId, filePath, mimeType);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        watchdog.shutdownNow();
+    }
+
+    // ===== 내부 헬퍼 메서드 =====
+
+    private void submit(Long fileId, String filePath, String mimeType) {
+        Future<?> future = executor.submit(() -> extract(fileId, filePath, mimeType));
+        watchdog.schedule(() -> {
+            if (!future.isDone()) {
+                log.warn("텍스트 추출 시간 초과로 중단: {}", fileId);
+                future.cancel(true);
+            }
+        }, timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void extract(Long fileId, String filePath, String mimeType) {
+        try {
+            String text = fileTextExtractor.extract(fileStorageService.resolvePath(filePath), mimeType);
+            if (text == null || Thread.currentThread().isInterrupted()) {
+                return;
+            }
+
+            transactionTemplate.executeWithoutResult(status ->
+                    fileTextRepository.upsert(fileId, text));
+            log.debug("텍스트 추출 완료: {}, {}자", fileId, text.length());
+
+        } catch (Exception e) {
+            log.warn("텍스트 추출 실패: {}, {}", fileId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.stacknote.back.domain.file.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 첨부파일 텍스트 추출기
+ * 검색 색인용 텍스트를 크기 제한 내에서 추출
+ * - 일반 텍스트/JSON/XML: 직접 디코딩
+ * - OOXML(docx, xlsx, pptx): 압축 내부 XML에서 태그 제거
+ * PDF, 구형 Office 등은 파서 모듈(tika-parsers) 없이 추출할 수 없으므로 대상에서 제외
+ */
+@Slf4j
+@Component
+public class FileTextExtractor {
+
+    private static final String OOXML_PREFIX = "application/vnd.openxmlformats-officedocument.";
+    private static final int BUFFER_SIZE = 8192;
+
+    @Value("${file.extraction.max-input-bytes:10485760}") // 기본 10MB
+    private long maxInputBytes;
+
+    @Value("${file.extraction.max-chars:100000}")
+    private int maxChars;
+
+    /**
+     * 추출 대상 MIME 타입인지 확인
+     */
+    public boolean supports(String mimeType) {
+        if (mimeType == null) {
+            return false;
+        }
+        return isPlainText(mimeType) || mimeType.startsWith(OOXML_PREFIX);
+    }
+
+    /**
+     * 파일에서 텍스트 추출
+     * 입력 바이트와 결과 문자 수 모두 제한하며, 인터럽트 시 즉시 중단
+     */
+    public String extract(Path path, String mimeType) throws IOException {
+        if (Files.size(path) > maxInputBytes) {
+            log.debug("텍스트 추출 생략 (크기 초과): {}", path);
+            return null;
+        }
+
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            String text;
+            if (isPlainText(mimeType)) {
+                text = readText(inputStream);
+            } else {
+                text = readOoxml(inputStream);
+            }
+            return normalize(text);
+        }
+    }
+
+    // ===== 내부 헬퍼 메서드 =====
+
+    private boolean isPlainText(String mimeType) {
+        return mimeType.startsWith("text/") ||
+                mimeType.equals("application/json") ||
+                mimeType.equals("application/xml");
+    }
+
+    private String readText(InputStream inputStream) throws IOException {
+        byte[] bytes = inputStream.readNBytes((int) Math.min(maxInputBytes, (long) maxChars * 4));
+        return decodeUtf8(bytes, bytes.length);
+    }
+
+    /**
+     * OOXML 본문 XML 엔트리만 읽어 태그 제거
+     */
+    private String readOoxml(InputStream inputStream) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        long budget = maxInputBytes;
+        byte[] buffer = new byte[BUFFER_SIZE];
+
+        try (ZipInputStream zip = new ZipInputStream(inputStream)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null && sb.length() < maxChars && budget > 0) {
+                if (!isOoxmlTextEntry(entry.getName())) {
+                    continue;
+                }
+
+                ByteArrayOutputStream xml = new ByteArrayOutputStream();
+                int read;
+                while (budget > 0 && (read = zip.read(buffer, 0, (int) Math.min(buffer.length, budget))) != -1) {
+                    checkInterrupted();
+                    xml.write(buffer, 0, read);
+                    budget -= read;
+                }
+                // 버퍼 경계에서 문자가 나뉘지 않도록 엔트리 전체를 모은 뒤 디코딩
+                sb.append(stripXmlTags(decodeUtf8(xml.toByteArray(), xml.size()))).append(' ');
+            }
+        }
+        return sb.toString();
+    }
+
+    private boolean isOoxmlTextEntry(String name) {
+        return name.equals("word/document.xml") ||
+                name.equals("xl/sharedStrings.xml") ||
+                (name.startsWith("ppt/slides/slide") && name.endsWith(".xml"));
+    }
+
+    /**
+     * UTF-8 디코딩 (크기 제한으로 끝에서 잘린 멀티바이트 문자는 U+FFFD 대신 버림)
+     */
+    private String decodeUtf8(byte[] bytes, int length) {
+        int end = length;
+        for (int i = length - 1; i >= Math.max(0, length - 3); i--) {
+            int b = bytes[i] & 0xFF;
+            if ((b & 0xC0) != 0x80) { // 연속 바이트가 아닌 첫 바이트
+                int expected = b >= 0xF0 ? 4 : b >= 0xE0 ? 3 : b >= 0xC0 ? 2 : 1;
+                if (length - i < expected) {
+                    end = i;
+                }
+                break;
+            }
+        }
+        return new String(bytes, 0, end, StandardCharsets.UTF_8);
+    }
+
+    private String stripXmlTags(CharSequence xml) {
+        return xml.toString()
+                .replaceAll("<[^>]+>", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&apos;", "'")
+                .replace("&amp;", "&");
+    }
+
+    private String normalize(String text) {
+        if (text == null) {
+            return null;
+        }
+        String normalized = text.replace('\u0000', ' ').replaceAll("\\s+", " ").trim();
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        if (normalized.length() <= maxChars) {
+            return normalized;
+        }
+        // 서로게이트 쌍 가운데에서 자르지 않음
+        int end = Character.isHighSurrogate(normalized.charAt(maxChars - 1)) ? maxChars - 1 : maxChars;
+        return normalized.substring(0, end);
+    }
+
+    private void checkInterrupted() throws InterruptedIOException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedIOException("텍스트 추출 시간이 초과되었습니다.");
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.stacknote.back.domain.file.service;
+
+import com.stacknote.back.domain.file.entity.StorageUsage;
+import com.stacknote.back.domain.file.exception.StorageQuotaExceededException;
+import com.stacknote.back.domain.file.repository.FileRepository;
+import com.stacknote.back.domain.file.repository.StorageUsageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+/**
+ * 저장 용량 사용량 서비스
+ * 업로드/삭제 시 워크스페이스·사용자 사용량을 증분 갱신하고 한도를 검사
+ * 예약은 별도의 짧은 트랜잭션으로 바로 커밋하여 디스크 기록 동안 사용량 행을 잠그지 않고,
+ * 업로드 트랜잭션이 롤백되면 예약한 사용량을 되돌림
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class StorageUsageService {
+
+    private final StorageUsageRepository storageUsageRepository;
+    private final FileRepository fileRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${file.quota.workspace-bytes:0}") // 0이면 무제한
+    private long workspaceQuota;
+
+    @Value("${file.quota.user-bytes:0}") // 0이면 무제한
+    private long userQuota;
+
+    /**
+     * 업로드 용량 예약 (파일 저장 전에 호출)
+     * 한도 초과 시 두 소유자 모두 예약되지 않으며, 호출한 트랜잭션이 커밋되지 않으면 예약분을 반환
+     */
+    public void reserve(Long workspaceId, Long userId, long bytes) {
+        inNewTransaction(() -> {
+            storageUsageRepository.insertIfAbsent(StorageUsage.OwnerType.WORKSPACE.name(), workspaceId);
+            storageUsageRepository.insertIfAbsent(StorageUsage.OwnerType.USER.name(), userId);
+
+            if (storageUsageRepository.reserve(StorageUsage.OwnerType.WORKSPACE, workspaceId, bytes,
+                    limitOf(workspaceQuota)) == 0) {
+                throw new StorageQuotaExceededException("워크스페이스 저장 용량 한도를 초과했습니다.");
+            }
+            if (storageUsageRepository.reserve(StorageUsage.OwnerType.USER, userId, bytes,
+                    limitOf(userQuota)) == 0) {
+                throw new StorageQuotaExceededException("사용자 저장 용량 한도를 초과했습니다.");
+            }
+        });
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        cancelReservation(workspaceId, userId, bytes);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * 파일 삭제 시 사용량 반환
+     */
+    public void release(Long workspaceId, Long userId, long bytes) {
+        storageUsageRepository.release(StorageUsage.OwnerType.WORKSPACE, workspaceId, bytes);
+        storageUsageRepository.release(StorageUsage.OwnerType.USER, userId, bytes);
+    }
+
+    /**
+     * 워크스페이스 사용량 조회 (바이트)
+     */
+    @Transactional(readOnly = true)
+    public long getWorkspaceUsage(Long workspaceId) {
+        return storageUsageRepository.findByOwner(StorageUsage.OwnerType.WORKSPACE, workspaceId)
+                .map(StorageUsage::getUsedBytes)
+                .orElse(0L);
+    }
+
+    /**
+     * 실제 파일 합계로 사용량 보정
+     * 소유자마다 별도 트랜잭션으로 한 행씩 재계산하여 전체 사용량 행을 한 번에 잠그지 않음
+     * @return 보정된 소유자 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int reconcile() {
+        int reconciled = 0;
+
+        reconciled += reconcileOwners(StorageUsage.OwnerType.WORKSPACE,
+                fileRepository.findWorkspaceIdsWithFiles(),
+                storageUsageRepository::recalculateWorkspace);
+        reconciled += reconcileOwners(StorageUsage.OwnerType.USER,
+                fileRepository.findUploaderIdsWithFiles(),
+                storageUsageRepository::recalculateUser);
+
+        return reconciled;
+    }
+
+    // ===== 내부 헬퍼 메서드 =====
+
+    /**
+     * 사용량 행이 있거나 활성 파일이 있는 소유자를 하나씩 재계산
+     */
+    private int reconcileOwners(StorageUsage.OwnerType ownerType, Iterable<Long> ownersWithFiles,
+                                ToIntFunction<Long> recalculate) {
+        Set<Long> ownerIds = new LinkedHashSet<>(storageUsageRepository.findOwnerIds(ownerType));
+        ownersWithFiles.forEach(ownerIds::add);
+
+        int reconciled = 0;
+        for (Long ownerId : ownerIds) {
+            try {
+                int[] updated = new int[1];
+                inNewTransaction(() -> {
+                    storageUsageRepository.insertIfAbsent(ownerType.name(), ownerId);
+                    updated[0] = recalculate.applyAsInt(ownerId);
+                });
+                reconciled += updated[0];
+            } catch (Exception e) {
+                log.warn("사용량 보정 실패: {} {}, {}", ownerType, ownerId, e.getMessage());
+            }
+        }
+        return reconciled;
+    }
+
+    /**
+     * 커밋되지 않은 업로드의 예약분 반환 (보상 트랜잭션)
+     */
+    private void cancelReservation(Long workspaceId, Long userId, long bytes) {
+        try {
+            inNewTransaction(() -> release(workspaceId, userId, bytes));
+            log.debug("업로드 실패로 용량 예약 반환: 워크스페이스 {}, 사용자 {}, {} bytes", workspaceId, userId, bytes);
+        } catch (Exception e) {
+            log.error("용량 예약 반환 실패 (다음 보정 작업에서 복구): 워크스페이스 {}, 사용자 {}, {}",
+                    workspaceId, userId, e.getMessage());
+        }
+    }
+
+    private void inNewTransaction(Runnable action) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.executeWithoutResult(status -> action.run());
+    }
+
+    private long limitOf(long quota) {
+        return quota > 0 ? quota : Long.MAX_VALUE;
+    }
+}
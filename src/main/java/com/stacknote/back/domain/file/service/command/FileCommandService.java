@@ -11,7 +11,11 @@ import com.stacknote.back.domain.file.exception.FileUploadException;
 import com.stacknote.back.domain.file.exception.FileSizeExceededException;
 import com.stacknote.back.domain.file.exception.InvalidFileTypeException;
 import com.stacknote.back.domain.file.repository.FileRepository;
+import com.stacknote.back.domain.file.service.FileContentCache;
+import com.stacknote.back.domain.file.service.FileContentDetector;
 import com.stacknote.back.domain.file.service.FileStorageService;
+import com.stacknote.back.domain.file.service.FileTextExtractionService;
+import com.stacknote.back.domain.file.service.StorageUsageService;
 import com.stacknote.back.domain.page.entity.Page;
 import com.stacknote.back.domain.page.exception.PageNotFoundException;
 import com.stacknote.back.domain.page.repository.PageRepository;
@@ -20,6 +24,7 @@ import com.stacknote.back.domain.workspace.entity.Workspace;
 import com.stacknote.back.domain.workspace.exception.WorkspaceAccessDeniedException;
 import com.stacknote.back.domain.workspace.exception.WorkspaceNotFoundException;
 import com.stacknote.back.domain.workspace.repository.WorkspaceRepository;
+import com.stacknote.back.global.exception.custom.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -48,6 +53,10 @@ public class FileCommandService {
     private final WorkspaceRepository workspaceRepository;
     private final PageRepository pageRepository;
     private final FileStorageService fileStorageService;
+    private final FileContentDetector fileContentDetector;
+    private final FileTextExtractionService fileTextExtractionService;
+    private final FileContentCache fileContentCache;
+    private final StorageUsageService storageUsageService;
 
     @Value("${file.max-size:52428800}") // 기본 50MB
     private long maxFileSize;
@@ -69,14 +78,16 @@ public class FileCommandService {
         // 3. 페이지 확인 (선택사항)
         Page page = validateAndGetPage(request.getPageId(), workspaceId);
 
+        // 4. 실제 내용 기반 MIME 타입 감지
+        String mimeType = detectMimeType(multipartFile);
+
         try {
-            // 4. 파일 메타데이터 추출
+            // 5. 파일 메타데이터 추출
             String originalName = multipartFile.getOriginalFilename();
-            String mimeType = multipartFile.getContentType();
             long fileSize = multipartFile.getSize();
             File.FileType fileType = determineFileType(mimeType, originalName);
 
-            // 5. 중복 파일 체크
+            // 6. 중복 파일 체크
             String checksum = calculateChecksum(multipartFile.getBytes());
             File existingFile = findDuplicateFile(workspace, checksum);
             if (existingFile != null) {
@@ -84,15 +95,18 @@ public class FileCommandService {
                 return FileUploadResponse.from(existingFile);
             }
 
-            // 6. 파일 저장 경로 생성
+            // 7. 파일 저장 경로 생성
             String storedName = generateStoredFileName(originalName);
             String filePath = generateFilePath(storedName);
             String fileUrl = "/api" + filePath;
 
-            // 7. 실제 파일 저장
+            // 8. 저장 용량 한도 확인 및 예약 (디스크 기록 전, 짧은 별도 트랜잭션으로 커밋하고 업로드 실패 시 반환)
+            storageUsageService.reserve(workspace.getId(), currentUser.getId(), fileSize);
+
+            // 9. 실제 파일 저장
             fileStorageService.storeFile(multipartFile, filePath);
 
-            // 8. 파일 엔티티 생성 및 저장
+            // 10. 파일 엔티티 생성 및 저장
             File file = createFileEntity(
                     originalName, storedName, filePath, fileUrl, fileSize,
                     mimeType, fileType, checksum, workspace, page, currentUser, request
@@ -100,12 +114,17 @@ public class FileCommandService {
 
             File savedFile = fileRepository.save(file);
 
+            // 11. 검색용 텍스트 추출 예약 (커밋 이후 백그라운드)
+            fileTextExtractionService.scheduleExtraction(savedFile.getId(), filePath, mimeType);
+
             log.info("파일 업로드 완료: {}", savedFile.getId());
             return FileUploadResponse.from(savedFile);
 
         } catch (IOException e) {
             log.error("파일 저장 중 오류: {}", e.getMessage(), e);
             throw new FileStorageException("파일 저장에 실패했습니다.");
+        } catch (BusinessException e) {
+            throw e;
         } catch (Exception e) {
             log.error("파일 업로드 중 오류: {}", e.getMessage(), e);
             throw new FileUploadException("파일 업로드에 실패했습니다.");
@@ -127,6 +146,7 @@ public class FileCommandService {
         file.updateInfo(request.getDescription(), request.getIsPublic());
 
         File updatedFile = fileRepository.save(file);
+        fileContentCache.invalidate(fileId);
 
         log.info("파일 정보 수정 완료: {}", fileId);
         return FileResponse.from(updatedFile);
@@ -152,6 +172,10 @@ public class FileCommandService {
             // 소프트 삭제
             file.markAsDeleted();
             fileRepository.save(file);
+            fileContentCache.invalidate(fileId);
+
+            // 저장 용량 사용량 반환
+            storageUsageService.release(file.getWorkspace().getId(), file.getUploadedBy().getId(), file.getFileSize());
 
             log.info("파일 삭제 완료: {}", fileId);
 
@@ -171,6 +195,7 @@ public class FileCommandService {
         file.updateInfo(null, !file.getIsPublic());
 
         File updatedFile = fileRepository.save(file);
+        fileContentCache.invalidate(fileId);
         return FileResponse.from(updatedFile);
     }
 
@@ -216,6 +241,24 @@ public class FileCommandService {
         }
     }
 
+    /**
+     * 업로드 스트림 앞부분으로 MIME 타입 감지
+     */
+    private String detectMimeType(MultipartFile multipartFile) {
+        String mimeType;
+        try {
+            mimeType = fileContentDetector.detect(multipartFile);
+        } catch (IOException e) {
+            log.error("MIME 타입 감지 중 오류: {}", e.getMessage(), e);
+            throw new FileUploadException("파일 형식을 확인할 수 없습니다.");
+        }
+
+        if (fileContentDetector.isBlocked(mimeType)) {
+            throw new InvalidFileTypeException("지원하지 않는 파일 형식입니다.");
+        }
+        return mimeType;
+    }
+
     /**
      * 페이지 유효성 검증 및 조회
      */
@@ -1,9 +1,11 @@
 package com.stacknote.back.domain.file.service.query;
 
 import com.stacknote.back.domain.file.dto.response.FileResponse;
+import com.stacknote.back.domain.file.dto.projection.FileSummaryProjection;
 import com.stacknote.back.domain.file.entity.File;
 import com.stacknote.back.domain.file.exception.FileNotFoundException;
 import com.stacknote.back.domain.file.repository.FileRepository;
+import com.stacknote.back.domain.file.service.FileDownloadCounter;
 import com.stacknote.back.domain.page.entity.Page;
 import com.stacknote.back.domain.page.exception.PageNotFoundException;
 import com.stacknote.back.domain.page.repository.PageRepository;
@@ -12,6 +14,8 @@ import com.stacknote.back.domain.workspace.entity.Workspace;
 import com.stacknote.back.domain.workspace.exception.WorkspaceAccessDeniedException;
 import com.stacknote.back.domain.workspace.exception.WorkspaceNotFoundException;
 import com.stacknote.back.domain.workspace.repository.WorkspaceRepository;
+import com.stacknote.back.global.dto.Cursor;
+import com.stacknote.back.global.dto.CursorResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -20,7 +24,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -36,20 +44,21 @@ public class FileQueryService {
     private final FileRepository fileRepository;
     private final WorkspaceRepository workspaceRepository;
     private final PageRepository pageRepository;
+    private final FileDownloadCounter fileDownloadCounter;
 
     /**
      * 파일 상세 조회
      */
-    @Transactional // 다운로드 수 증가를 위해 쓰기 트랜잭션 필요
     public FileResponse getFile(Long fileId, User currentUser) {
         log.debug("파일 상세 조회: {}, 사용자: {}", fileId, currentUser.getId());
 
         File file = getAccessibleFile(fileId, currentUser);
 
-        // 다운로드 수 증가
-        fileRepository.incrementDownloadCount(fileId);
+        // 다운로드 수 증가 (메모리에 누적 후 일괄 반영)
+        fileDownloadCounter.increment(fileId);
 
-        return FileResponse.from(file);
+        // 저장된 값에 아직 반영되지 않은 누적분을 더해 응답
+        return FileResponse.from(file, file.getDownloadCount() + fileDownloadCounter.getPending(fileId));
     }
 
     /**
@@ -59,7 +68,7 @@ public class FileQueryService {
         log.debug("워크스페이스 파일 목록 조회: {}, 사용자: {}", workspaceId, currentUser.getId());
 
         Workspace workspace = getAccessibleWorkspace(workspaceId, currentUser);
-        List<File> files = fileRepository.findByWorkspace(workspace);
+        List<FileSummaryProjection> files = fileRepository.findByWorkspace(workspace);
 
         return files.stream()
                 .map(FileResponse::fromSummary)
@@ -74,13 +83,30 @@ public class FileQueryService {
 
         Workspace workspace = getAccessibleWorkspace(workspaceId, currentUser);
         Pageable pageable = PageRequest.of(page, size);
-        List<File> files = fileRepository.findByWorkspace(workspace, pageable);
+        List<FileSummaryProjection> files = fileRepository.findByWorkspace(workspace, pageable);
 
         return files.stream()
                 .map(FileResponse::fromSummary)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 워크스페이스의 파일 목록 조회 (커서 기반, 최신순)
+     */
+    public CursorResponse<FileResponse> getWorkspaceFiles(Long workspaceId, User currentUser, String cursor, int size) {
+        log.debug("워크스페이스 파일 목록 조회 (커서): {}, 사용자: {}", workspaceId, currentUser.getId());
+
+        Workspace workspace = getAccessibleWorkspace(workspaceId, currentUser);
+        int limit = CursorResponse.clampSize(size);
+        Cursor position = Cursor.descending(cursor);
+        List<FileSummaryProjection> files = fileRepository.findByWorkspaceAfter(
+                workspace, position.sortKey(), position.id(), PageRequest.of(0, limit + 1));
+
+        return CursorResponse.of(files, limit,
+                file -> new Cursor(file.createdAt(), file.id()),
+                FileResponse::fromSummary);
+    }
+
     /**
      * 특정 페이지의 파일들 조회
      */
@@ -88,7 +114,7 @@ public class FileQueryService {
         log.debug("페이지 파일 목록 조회: {}, 사용자: {}", pageId, currentUser.getId());
 
         Page page = getAccessiblePage(pageId, currentUser);
-        List<File> files = fileRepository.findByPage(page);
+        List<FileSummaryProjection> files = fileRepository.findByPage(page);
 
         return files.stream()
                 .map(FileResponse::fromSummary)
@@ -102,7 +128,7 @@ public class FileQueryService {
         log.debug("연결되지 않은 파일 목록 조회: {}, 사용자: {}", workspaceId, currentUser.getId());
 
         Workspace workspace = getAccessibleWorkspace(workspaceId, currentUser);
-        List<File> files = fileRepository.findUnattachedFilesByWorkspace(workspace);
+        List<FileSummaryProjection> files = fileRepository.findUnattachedFilesByWorkspace(workspace);
 
         return files.stream()
                 .map(FileResponse::fromSummary)
@@ -116,7 +142,7 @@ public class FileQueryService {
         log.debug("파일 타입별 조회: {}, 타입: {}, 사용자: {}", workspaceId, fileType, currentUser.getId());
 
         Workspace workspace = getAccessibleWorkspace(workspaceId, currentUser);
-        List<File> files = fileRepository.findByWorkspaceAndFileType(workspace, fileType);
+        List<FileSummaryProjection> files = fileRepository.findByWorkspaceAndFileType(workspace, fileType);
 
         return files.stream()
                 .map(FileResponse::fromSummary)
@@ -130,7 +156,7 @@ public class FileQueryService {
         log.debug("이미지 파일 목록 조회: {}, 사용자: {}", workspaceId, currentUser.getId());
 
         Workspace workspace = getAccessibleWorkspace(workspaceId, currentUser);
-        List<File> files = fileRepository.findImagesByWorkspace(workspace);
+        List<FileSummaryProjection> files = fileRepository.findImagesByWorkspace(workspace);
 
         return files.stream()
                 .map(FileResponse::fromSummary)
@@ -144,7 +170,7 @@ public class FileQueryService {
         log.debug("파일 검색: 워크스페이스: {}, 키워드: {}, 사용자: {}", workspaceId, keyword, currentUser.getId());
 
         Workspace workspace = getAccessibleWorkspace(workspaceId, currentUser);
-        List<File> files = fileRepository.searchByOriginalName(workspace, keyword);
+        List<FileSummaryProjection> files = fileRepository.searchByOriginalName(workspace, keyword);
 
         return files.stream()
                 .map(FileResponse::fromSummary)
@@ -161,7 +187,7 @@ public class FileQueryService {
         LocalDateTime since = LocalDateTime.now().minusDays(days);
         Pageable pageable = PageRequest.of(0, limit);
 
-        List<File> files = fileRepository.findRecentFilesByWorkspace(workspace, since, pageable);
+        List<FileSummaryProjection> files = fileRepository.findRecentFilesByWorkspace(workspace, since, pageable);
 
         return files.stream()
                 .map(FileResponse::fromSummary)
@@ -170,6 +196,7 @@ public class FileQueryService {
 
     /**
      * 인기 파일들 조회 (다운로드 수 기준)
+     * 저장된 다운로드 수에 아직 반영되지 않은 누적분을 더해 정렬
      */
     public List<FileResponse> getPopularFiles(Long workspaceId, User currentUser, int limit) {
         log.debug("인기 파일 목록 조회: 워크스페이스: {}, 사용자: {}", workspaceId, currentUser.getId());
@@ -177,10 +204,22 @@ public class FileQueryService {
         Workspace workspace = getAccessibleWorkspace(workspaceId, currentUser);
         Pageable pageable = PageRequest.of(0, limit);
 
-        List<File> files = fileRepository.findPopularFilesByWorkspace(workspace, pageable);
+        Map<Long, FileSummaryProjection> candidates = new LinkedHashMap<>();
+        fileRepository.findPopularFilesByWorkspace(workspace, pageable)
+                .forEach(file -> candidates.put(file.id(), file));
 
-        return files.stream()
-                .map(FileResponse::fromSummary)
+        // 반영 대기 중인 파일 중 같은 워크스페이스 파일도 후보에 포함
+        Map<Long, Long> pendingCounts = fileDownloadCounter.getPendingCounts();
+        if (!pendingCounts.isEmpty()) {
+            fileRepository.findSummariesByIds(workspaceId, pendingCounts.keySet())
+                    .forEach(file -> candidates.putIfAbsent(file.id(), file));
+        }
+
+        return candidates.values().stream()
+                .map(file -> FileResponse.fromSummary(file,
+                        file.downloadCount() + pendingCounts.getOrDefault(file.id(), 0L)))
+                .sorted(Comparator.comparing(FileResponse::getDownloadCount).reversed())
+                .limit(limit)
                 .collect(Collectors.toList());
     }
 
@@ -191,7 +230,7 @@ public class FileQueryService {
         log.debug("사용자 업로드 파일 목록 조회: {}", user.getId());
 
         Pageable pageable = PageRequest.of(0, limit);
-        List<File> files = fileRepository.findByUploadedBy(user, pageable);
+        List<FileSummaryProjection> files = fileRepository.findByUploadedBy(user, pageable);
 
         return files.stream()
                 .map(FileResponse::fromSummary)
@@ -206,12 +245,22 @@ public class FileQueryService {
 
         Workspace workspace = getAccessibleWorkspace(workspaceId, currentUser);
 
-        long totalFiles = fileRepository.countByWorkspace(workspace);
-        long totalSize = fileRepository.getTotalFileSizeByWorkspace(workspace);
-        long imageCount = fileRepository.countByWorkspaceAndFileType(workspace, File.FileType.IMAGE);
-        long documentCount = fileRepository.countByWorkspaceAndFileType(workspace, File.FileType.DOCUMENT);
-        long videoCount = fileRepository.countByWorkspaceAndFileType(workspace, File.FileType.VIDEO);
-        long audioCount = fileRepository.countByWorkspaceAndFileType(workspace, File.FileType.AUDIO);
+        // 파일 타입별 개수/크기를 한 번에 집계
+        Map<File.FileType, Long> countByType = new EnumMap<>(File.FileType.class);
+        long totalFiles = 0;
+        long totalSize = 0;
+
+        for (Object[] row : fileRepository.getFileStatisticsByType(workspace)) {
+            long count = (Long) row[1];
+            countByType.put((File.FileType) row[0], count);
+            totalFiles += count;
+            totalSize += ((Number) row[2]).longValue();
+        }
+
+        long imageCount = countByType.getOrDefault(File.FileType.IMAGE, 0L);
+        long documentCount = countByType.getOrDefault(File.FileType.DOCUMENT, 0L);
+        long videoCount = countByType.getOrDefault(File.FileType.VIDEO, 0L);
+        long audioCount = countByType.getOrDefault(File.FileType.AUDIO, 0L);
         long otherCount = totalFiles - imageCount - documentCount - videoCount - audioCount;
 
         return new FileStatisticsResponse(
@@ -1,9 +1,11 @@
 package com.stacknote.back.domain.notification.controller.command;
 
+import com.stacknote.back.domain.notification.dto.request.NotificationBulkRequest;
 import com.stacknote.back.domain.notification.dto.request.NotificationCreateRequest;
 import com.stacknote.back.domain.notification.dto.request.NotificationUpdateRequest;
 import com.stacknote.back.domain.notification.dto.response.NotificationResponse;
 import com.stacknote.back.domain.notification.entity.Notification;
+import com.stacknote.back.domain.notification.service.command.NotificationBulkService;
 import com.stacknote.back.domain.notification.service.command.NotificationCommandService;
 import com.stacknote.back.domain.user.entity.User;
 import com.stacknote.back.domain.user.repository.UserRepository;
@@ -15,6 +17,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
@@ -29,6 +32,7 @@ import org.springframework.web.bind.annotation.*;
 public class NotificationCommandController {
 
     private final NotificationCommandService notificationCommandService;
+    private final NotificationBulkService notificationBulkService;
     private final UserRepository userRepository;
     @Operation(summary = "알림 생성", description = "새로운 알림을 생성합니다.")
     @PostMapping
@@ -38,9 +42,26 @@ public class NotificationCommandController {
 
         NotificationResponse notification = notificationCommandService.createNotification(request);
 
+        if (Boolean.TRUE.equals(notification.getQueued())) {
+            return ApiResponse.success("알림 요약 대기열 추가 성공", notification);
+        }
         return ApiResponse.success("알림 생성 성공", notification);
     }
 
+    @Operation(summary = "일괄 알림 생성", description = "하나의 알림을 여러 수신자에게 비동기로 발송합니다. (관리자 전용)")
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ApiResponse<Integer> createBulkNotifications(
+            @Valid @RequestBody NotificationBulkRequest request,
+            Authentication authentication) {
+
+        User currentUser = getCurrentUser(authentication);
+        int recipientCount = notificationBulkService.sendBulk(request, currentUser.getId());
+
+        return ApiResponse.success("일괄 알림 발송 요청 성공", recipientCount);
+    }
+
     @Operation(summary = "알림 수정", description = "알림 내용을 수정합니다.")
     @PutMapping("/{notificationId}")
     public ApiResponse<NotificationResponse> updateNotification(
@@ -3,10 +3,12 @@ package com.stacknote.back.domain.notification.controller.query;
 import com.stacknote.back.domain.notification.dto.response.NotificationResponse;
 import com.stacknote.back.domain.notification.dto.response.NotificationStatisticsResponse;
 import com.stacknote.back.domain.notification.entity.Notification;
+import com.stacknote.back.domain.notification.service.NotificationStreamHub;
 import com.stacknote.back.domain.notification.service.query.NotificationQueryService;
 import com.stacknote.back.domain.user.entity.User;
 import com.stacknote.back.domain.user.repository.UserRepository;
 import com.stacknote.back.global.dto.ApiResponse;
+import com.stacknote.back.global.dto.CursorResponse;
 import com.stacknote.back.global.exception.custom.EntityNotFoundException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,8 +16,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -32,6 +36,7 @@ public class NotificationQueryController {
 
     private final NotificationQueryService notificationQueryService;
     private final UserRepository userRepository;
+    private final NotificationStreamHub notificationStreamHub;
 
     @Operation(summary = "알림 상세 조회", description = "알림 ID로 알림 상세 정보를 조회합니다.")
     @GetMapping("/{notificationId}")
@@ -56,6 +61,20 @@ public class NotificationQueryController {
         return ApiResponse.success("내 알림 목록 조회 성공", notifications);
     }
 
+    @Operation(summary = "내 알림 목록 커서 조회", description = "현재 사용자의 알림 목록을 커서 기반으로 조회합니다. (무한 스크롤)")
+    @GetMapping("/my/cursor")
+    public ApiResponse<CursorResponse<NotificationResponse>> getMyNotificationsByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+
+        User currentUser = getCurrentUser(authentication);
+        CursorResponse<NotificationResponse> notifications =
+                notificationQueryService.getNotificationsByRecipient(currentUser, cursor, size);
+
+        return ApiResponse.success("내 알림 목록 조회 성공", notifications);
+    }
+
     @Operation(summary = "읽지 않은 알림 조회", description = "현재 사용자의 읽지 않은 알림을 조회합니다.")
     @GetMapping("/my/unread")
     public ApiResponse<List<NotificationResponse>> getUnreadNotifications(
@@ -193,6 +212,15 @@ public class NotificationQueryController {
         return ApiResponse.success("알림 통계 조회 성공", statistics);
     }
 
+    @Operation(summary = "알림 스트림 구독", description = "새 알림을 Server-Sent Events로 실시간 수신합니다.")
+    @GetMapping(value = "/my/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotifications(Authentication authentication) {
+
+        User currentUser = getCurrentUser(authentication);
+
+        return notificationStreamHub.subscribe(currentUser.getId());
+    }
+
     /**
      * 현재 사용자 조회
      */
@@ -0,0 +1,52 @@
+package com.stacknote.back.domain.notification.dto.request;
+
+import com.stacknote.back.domain.notification.entity.Notification;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * 일괄 알림 생성 요청 DTO
+ * 하나의 알림 템플릿을 여러 수신자에게 발송 (발송자는 요청 본문이 아닌 인증 정보에서 결정)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationBulkRequest {
+
+    @NotNull(message = "알림 타입은 필수입니다.")
+    private Notification.NotificationType type;
+
+    @NotBlank(message = "알림 제목은 필수입니다.")
+    @Size(max = 255, message = "알림 제목은 255자를 초과할 수 없습니다.")
+    private String title;
+
+    @NotBlank(message = "알림 내용은 필수입니다.")
+    @Size(max = 1000, message = "알림 내용은 1000자를 초과할 수 없습니다.")
+    private String content;
+
+    @NotEmpty(message = "수신자 ID 목록은 필수입니다.")
+    @Size(max = 10000, message = "한 번에 10000명까지 발송할 수 있습니다.")
+    private Set<Long> recipientIds;
+
+    private String referenceType; // 참조 타입
+
+    private Long referenceId; // 참조 ID
+
+    @Size(max = 500, message = "액션 URL은 500자를 초과할 수 없습니다.")
+    private String actionUrl;
+
+    @Size(max = 1000, message = "메타데이터는 1000자를 초과할 수 없습니다.")
+    private String metadata;
+
+    @Builder.Default
+    private Notification.Priority priority = Notification.Priority.NORMAL;
+}
@@ -14,7 +14,7 @@ import java.time.LocalDateTime;
  * 알림 응답 DTO
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class NotificationResponse {
@@ -36,6 +36,8 @@ public class NotificationResponse {
     private String relativeTime; // "5분 전" 형태
     private Boolean isSystemNotification;
     private Boolean isUrgent;
+    private Integer aggregateCount; // 병합된 알림 수
+    private Boolean queued; // 요약 대기열에 추가되어 아직 저장되지 않음 (ID 없음)
     private LocalDateTime readAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -62,9 +64,40 @@ public class NotificationResponse {
                 .relativeTime(DateUtil.getRelativeTime(notification.getCreatedAt()))
                 .isSystemNotification(notification.isSystemNotification())
                 .isUrgent(notification.isUrgent())
+                .aggregateCount(notification.getAggregateCount())
+                .queued(false)
                 .readAt(notification.getReadAt())
                 .createdAt(notification.getCreatedAt())
                 .updatedAt(notification.getUpdatedAt())
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 기존 알림에 병합된 새 알림으로부터 응답 생성
+     * 저장되지 않은 최신 알림 내용에 대표 알림 ID와 병합 수를 적용
+     */
+    public static NotificationResponse merged(Notification latest, Long notificationId, int aggregateCount) {
+        NotificationResponse response = from(latest);
+        response.id = notificationId;
+        response.aggregateCount = aggregateCount;
+        return response;
+    }
+
+    /**
+     * 요약 대기열에 추가된 알림 응답 생성
+     * 요약 발송 전까지 알림 행이 없으므로 ID 없이 대기 상태로 표시
+     */
+    public static NotificationResponse queued(Notification notification) {
+        NotificationResponse response = from(notification);
+        response.id = null;
+        response.queued = true;
+        return response;
+    }
+
+    /**
+     * 병합 수만 바꾼 사본 생성
+     */
+    public NotificationResponse withAggregateCount(int aggregateCount) {
+        return toBuilder().aggregateCount(aggregateCount).build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.stacknote.back.domain.notification.entity;
 
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
 import com.stacknote.back.domain.user.entity.User;
 import com.stacknote.back.global.entity.BaseTimeEntity;
 import jakarta.persistence.*;
@@ -8,13 +9,16 @@ import lombok.*;
 /**
  * 알림 엔티티
  * 사용자에게 전송되는 다양한 알림을 관리
+ * created_at 기준 월별 파티션 테이블이라 DB 기본 키는 (id, created_at)이며,
+ * id는 ID 시퀀스로만 발급되고 created_at은 수정되지 않으므로 엔티티 식별자는 id만 사용
  */
 @Entity
 @Table(name = "notifications", indexes = {
         @Index(name = "idx_notification_recipient", columnList = "recipient_id"),
         @Index(name = "idx_notification_type", columnList = "type"),
         @Index(name = "idx_notification_read", columnList = "is_read"),
-        @Index(name = "idx_notification_created_at", columnList = "created_at")
+        @Index(name = "idx_notification_created_at", columnList = "created_at"),
+        @Index(name = "idx_notification_recipient_created_id", columnList = "recipient_id, created_at, id")
 })
 @Getter
 @Builder
@@ -65,6 +69,10 @@ public class Notification extends BaseTimeEntity {
     @Builder.Default
     private Priority priority = Priority.NORMAL; // 알림 우선순위
 
+    @Column(name = "aggregate_count", nullable = false, columnDefinition = "INTEGER DEFAULT 1")
+    @Builder.Default
+    private Integer aggregateCount = 1; // 병합된 알림 수 (같은 대상에 대한 연속 알림)
+
     @Column(name = "read_at")
     private java.time.LocalDateTime readAt; // 읽은 시간
 
@@ -97,7 +105,10 @@ public class Notification extends BaseTimeEntity {
         // 계정 관련
         PASSWORD_CHANGED("비밀번호 변경"),
         EMAIL_VERIFIED("이메일 인증"),
-        LOGIN_ALERT("로그인 알림");
+        LOGIN_ALERT("로그인 알림"),
+
+        // 요약 관련 (기존 DB 는 V005 로 type CHECK 제약 갱신 필요)
+        NOTIFICATION_DIGEST("알림 요약");
 
         private final String description;
 
@@ -310,7 +321,7 @@ public class Notification extends BaseTimeEntity {
                 .sender(sender)
                 .referenceType("PAGE")
                 .referenceId(pageId)
-                .metadata("{\"context\":\"" + context + "\"}")
+                .metadata("{\"context\":\"" + new String(JsonStringEncoder.getInstance().quoteAsString(context)) + "\"}")
                 .priority(Priority.HIGH)
                 .build();
     }
@@ -329,6 +340,21 @@ public class Notification extends BaseTimeEntity {
                 .build();
     }
 
+    /**
+     * 알림 요약 생성 (낮은 우선순위 알림 묶음)
+     */
+    public static Notification createDigest(User recipient, int count, String summary) {
+        return Notification.builder()
+                .type(NotificationType.NOTIFICATION_DIGEST)
+                .title("새 알림 " + count + "건")
+                .content(summary)
+                .recipient(recipient)
+                .sender(null)
+                .priority(Priority.LOW)
+                .aggregateCount(count)
+                .build();
+    }
+
     /**
      * 보안 알림 생성
      */
@@ -0,0 +1,40 @@
+package com.stacknote.back.domain.notification.entity;
+
+import com.stacknote.back.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 알림 요약 대기 항목 엔티티
+ * 요약 모드에서 발송을 미룬 낮은 우선순위 알림 (재시작해도 유실되지 않도록 DB에 보관)
+ */
+@Entity
+@Table(name = "notification_digest_items", indexes = {
+        @Index(name = "idx_notification_digest_item_recipient", columnList = "recipient_id, id")
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class NotificationDigestItem extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "recipient_id", nullable = false)
+    private Long recipientId; // 요약을 받을 사용자
+
+    @Column(name = "title", nullable = false, length = 255)
+    private String title; // 원래 알림 제목
+
+    /**
+     * 알림으로부터 요약 대기 항목 생성
+     */
+    public static NotificationDigestItem of(Notification notification) {
+        return NotificationDigestItem.builder()
+                .recipientId(notification.getRecipient().getId())
+                .title(notification.getTitle())
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.stacknote.back.domain.notification.entity;
+
+import com.stacknote.back.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 사용자 알림 상태 엔티티
+ * 읽지 않은 알림 수를 증분으로 유지하여 배지 조회를 COUNT 없이 처리
+ */
+@Entity
+@Table(name = "user_notification_state")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class UserNotificationState extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "unread_count", nullable = false)
+    @Builder.Default
+    private Long unreadCount = 0L;
+}
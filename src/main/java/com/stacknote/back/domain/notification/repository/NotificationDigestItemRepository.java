@@ -0,0 +1,42 @@
+package com.stacknote.back.domain.notification.repository;
+
+import com.stacknote.back.domain.notification.entity.NotificationDigestItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 알림 요약 대기 항목 Repository
+ */
+@Repository
+public interface NotificationDigestItemRepository extends JpaRepository<NotificationDigestItem, Long> {
+
+    /**
+     * 요약 대기 항목이 있는 사용자 ID 목록
+     */
+    @Query("SELECT DISTINCT i.recipientId FROM NotificationDigestItem i")
+    List<Long> findRecipientIds();
+
+    /**
+     * 사용자의 요약 대기 항목을 잠그고 조회 (다른 인스턴스가 처리 중인 항목은 건너뜀)
+     */
+    @Query(value = """
+        SELECT * FROM notification_digest_items 
+        WHERE recipient_id = :recipientId 
+        ORDER BY id 
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<NotificationDigestItem> lockByRecipientId(@Param("recipientId") Long recipientId);
+
+    /**
+     * 발송한 요약 대기 항목 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM NotificationDigestItem i WHERE i.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
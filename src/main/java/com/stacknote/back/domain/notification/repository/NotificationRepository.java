@@ -28,14 +28,29 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     /**
      * 사용자의 모든 알림 조회 (최신순)
      */
-    @Query("SELECT n FROM Notification n WHERE n.recipient = :recipient AND n.deletedAt IS NULL ORDER BY n.createdAt DESC")
-    List<Notification> findNotificationsByRecipient(@Param("recipient") User recipient, Pageable pageable);
+    @Query("SELECT n FROM Notification n WHERE n.recipient = :recipient AND n.createdAt >= :since AND n.deletedAt IS NULL ORDER BY n.createdAt DESC")
+    List<Notification> findNotificationsByRecipient(@Param("recipient") User recipient, @Param("since") LocalDateTime since, Pageable pageable);
+
+    /**
+     * 사용자의 알림 조회 (커서 기반, 최신순)
+     */
+    @Query("""
+        SELECT n FROM Notification n 
+        WHERE n.recipient = :recipient AND n.createdAt >= :since AND n.deletedAt IS NULL 
+        AND (n.createdAt < :cursorAt OR (n.createdAt = :cursorAt AND n.id < :cursorId)) 
+        ORDER BY n.createdAt DESC, n.id DESC
+        """)
+    List<Notification> findNotificationsByRecipientAfter(@Param("recipient") User recipient,
+                                                         @Param("since") LocalDateTime since,
+                                                         @Param("cursorAt") LocalDateTime cursorAt,
+                                                         @Param("cursorId") Long cursorId,
+                                                         Pageable pageable);
 
     /**
      * 사용자의 읽지 않은 알림 조회
      */
-    @Query("SELECT n FROM Notification n WHERE n.recipient = :recipient AND n.isRead = false AND n.deletedAt IS NULL ORDER BY n.createdAt DESC")
-    List<Notification> findUnreadNotificationsByRecipient(@Param("recipient") User recipient);
+    @Query("SELECT n FROM Notification n WHERE n.recipient = :recipient AND n.isRead = false AND n.createdAt >= :since AND n.deletedAt IS NULL ORDER BY n.createdAt DESC")
+    List<Notification> findUnreadNotificationsByRecipient(@Param("recipient") User recipient, @Param("since") LocalDateTime since);
 
     /**
      * 사용자의 읽지 않은 알림 수 조회
@@ -46,14 +61,14 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     /**
      * 사용자의 높은 우선순위 읽지 않은 알림 조회
      */
-    @Query("SELECT n FROM Notification n WHERE n.recipient = :recipient AND n.isRead = false AND n.priority IN ('HIGH', 'URGENT') AND n.deletedAt IS NULL ORDER BY n.priority DESC, n.createdAt DESC")
-    List<Notification> findHighPriorityUnreadNotifications(@Param("recipient") User recipient);
+    @Query("SELECT n FROM Notification n WHERE n.recipient = :recipient AND n.isRead = false AND n.priority IN ('HIGH', 'URGENT') AND n.createdAt >= :since AND n.deletedAt IS NULL ORDER BY n.priority DESC, n.createdAt DESC")
+    List<Notification> findHighPriorityUnreadNotifications(@Param("recipient") User recipient, @Param("since") LocalDateTime since);
 
     /**
      * 알림 타입별 조회
      */
-    @Query("SELECT n FROM Notification n WHERE n.recipient = :recipient AND n.type = :type AND n.deletedAt IS NULL ORDER BY n.createdAt DESC")
-    List<Notification> findNotificationsByRecipientAndType(@Param("recipient") User recipient, @Param("type") Notification.NotificationType type, Pageable pageable);
+    @Query("SELECT n FROM Notification n WHERE n.recipient = :recipient AND n.type = :type AND n.createdAt >= :since AND n.deletedAt IS NULL ORDER BY n.createdAt DESC")
+    List<Notification> findNotificationsByRecipientAndType(@Param("recipient") User recipient, @Param("since") LocalDateTime since, @Param("type") Notification.NotificationType type, Pageable pageable);
 
     /**
      * 특정 기간 내 알림 조회
@@ -64,20 +79,20 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     /**
      * 시스템 알림 조회
      */
-    @Query("SELECT n FROM Notification n WHERE n.recipient = :recipient AND n.sender IS NULL AND n.deletedAt IS NULL ORDER BY n.createdAt DESC")
-    List<Notification> findSystemNotificationsByRecipient(@Param("recipient") User recipient, Pageable pageable);
+    @Query("SELECT n FROM Notification n WHERE n.recipient = :recipient AND n.sender IS NULL AND n.createdAt >= :since AND n.deletedAt IS NULL ORDER BY n.createdAt DESC")
+    List<Notification> findSystemNotificationsByRecipient(@Param("recipient") User recipient, @Param("since") LocalDateTime since, Pageable pageable);
 
     /**
      * 특정 참조에 대한 알림 조회
      */
-    @Query("SELECT n FROM Notification n WHERE n.recipient = :recipient AND n.referenceType = :referenceType AND n.referenceId = :referenceId AND n.deletedAt IS NULL ORDER BY n.createdAt DESC")
-    List<Notification> findNotificationsByReference(@Param("recipient") User recipient, @Param("referenceType") String referenceType, @Param("referenceId") Long referenceId);
+    @Query("SELECT n FROM Notification n WHERE n.recipient = :recipient AND n.referenceType = :referenceType AND n.referenceId = :referenceId AND n.createdAt >= :since AND n.deletedAt IS NULL ORDER BY n.createdAt DESC")
+    List<Notification> findNotificationsByReference(@Param("recipient") User recipient, @Param("since") LocalDateTime since, @Param("referenceType") String referenceType, @Param("referenceId") Long referenceId);
 
     /**
      * 발송자별 알림 조회
      */
-    @Query("SELECT n FROM Notification n WHERE n.recipient = :recipient AND n.sender = :sender AND n.deletedAt IS NULL ORDER BY n.createdAt DESC")
-    List<Notification> findNotificationsBySender(@Param("recipient") User recipient, @Param("sender") User sender, Pageable pageable);
+    @Query("SELECT n FROM Notification n WHERE n.recipient = :recipient AND n.sender = :sender AND n.createdAt >= :since AND n.deletedAt IS NULL ORDER BY n.createdAt DESC")
+    List<Notification> findNotificationsBySender(@Param("recipient") User recipient, @Param("since") LocalDateTime since, @Param("sender") User sender, Pageable pageable);
 
     /**
      * 중복 알림 확인 (같은 타입, 참조, 발송자)
@@ -88,8 +103,8 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     /**
      * 긴급 알림 조회
      */
-    @Query("SELECT n FROM Notification n WHERE n.recipient = :recipient AND n.priority = 'URGENT' AND n.deletedAt IS NULL ORDER BY n.createdAt DESC")
-    List<Notification> findUrgentNotificationsByRecipient(@Param("recipient") User recipient);
+    @Query("SELECT n FROM Notification n WHERE n.recipient = :recipient AND n.priority = 'URGENT' AND n.createdAt >= :since AND n.deletedAt IS NULL ORDER BY n.createdAt DESC")
+    List<Notification> findUrgentNotificationsByRecipient(@Param("recipient") User recipient, @Param("since") LocalDateTime since);
 
     /**
      * 만료된 알림 조회 (30일 이상 된 읽은 알림)
@@ -100,8 +115,8 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     /**
      * 사용자의 최근 N개 알림 조회
      */
-    @Query("SELECT n FROM Notification n WHERE n.recipient = :recipient AND n.deletedAt IS NULL ORDER BY n.createdAt DESC")
-    List<Notification> findRecentNotificationsByRecipient(@Param("recipient") User recipient, Pageable pageable);
+    @Query("SELECT n FROM Notification n WHERE n.recipient = :recipient AND n.createdAt >= :since AND n.deletedAt IS NULL ORDER BY n.createdAt DESC")
+    List<Notification> findRecentNotificationsByRecipient(@Param("recipient") User recipient, @Param("since") LocalDateTime since, Pageable pageable);
 
     /**
      * 알림 통계 조회
@@ -113,9 +128,9 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
             COUNT(CASE WHEN n.priority = 'HIGH' OR n.priority = 'URGENT' THEN 1 END) as highPriority,
             COUNT(CASE WHEN n.sender IS NULL THEN 1 END) as systemNotifications
         FROM Notification n 
-        WHERE n.recipient = :recipient AND n.deletedAt IS NULL
+        WHERE n.recipient = :recipient AND n.createdAt >= :since AND n.deletedAt IS NULL
         """)
-    Object[] getNotificationStatistics(@Param("recipient") User recipient);
+    Object[] getNotificationStatistics(@Param("recipient") User recipient, @Param("since") LocalDateTime since);
 
     /**
      * 타입별 알림 수 조회
@@ -158,6 +173,19 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("UPDATE Notification n SET n.deletedAt = CURRENT_TIMESTAMP WHERE n.recipient = :recipient AND n.type = :type AND n.deletedAt IS NULL")
     int softDeleteNotificationsByType(@Param("recipient") User recipient, @Param("type") Notification.NotificationType type);
 
+    /**
+     * 읽지 않은 대표 알림에 새 알림 병합 (병합 수 증가 및 최신 내용으로 갱신)
+     */
+    @Modifying
+    @Query("""
+        UPDATE Notification n 
+        SET n.aggregateCount = n.aggregateCount + 1, n.content = :content, n.sender = :sender, n.updatedAt = CURRENT_TIMESTAMP 
+        WHERE n.id = :notificationId AND n.isRead = false AND n.deletedAt IS NULL
+        """)
+    int mergeIntoAggregate(@Param("notificationId") Long notificationId,
+                           @Param("content") String content,
+                           @Param("sender") User sender);
+
     /**
      * 만료된 알림 정리 (물리적 삭제)
      */
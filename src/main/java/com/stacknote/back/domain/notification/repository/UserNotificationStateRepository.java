@@ -0,0 +1,100 @@
+package com.stacknote.back.domain.notification.repository;
+
+import com.stacknote.back.domain.notification.entity.UserNotificationState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+/**
+ * 사용자 알림 상태 Repository
+ */
+@Repository
+public interface UserNotificationStateRepository extends JpaRepository<UserNotificationState, Long> {
+
+    /**
+     * 읽지 않은 알림 수 증감 (0 미만으로 내려가지 않음)
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE user_notification_state 
+        SET unread_count = GREATEST(unread_count + :delta, 0), updated_at = NOW() 
+        WHERE user_id = :userId
+        """, nativeQuery = true)
+    int adjustUnreadCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    /**
+     * 실제 읽지 않은 알림 수로 상태 행 생성 (이미 있으면 무시)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_notification_state (user_id, unread_count, created_at, updated_at)
+        SELECT :userId, COUNT(*), NOW(), NOW() 
+        FROM notifications n 
+        WHERE n.recipient_id = :userId AND n.is_read = false AND n.deleted_at IS NULL
+        ON CONFLICT (user_id) DO NOTHING
+        """, nativeQuery = true)
+    int initializeFromNotifications(@Param("userId") Long userId);
+
+    /**
+     * 여러 사용자의 읽지 않은 알림 수 증감
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE user_notification_state 
+        SET unread_count = GREATEST(unread_count + :delta, 0), updated_at = NOW() 
+        WHERE user_id IN (:userIds)
+        """, nativeQuery = true)
+    int adjustUnreadCounts(@Param("userIds") Collection<Long> userIds, @Param("delta") long delta);
+
+    /**
+     * 여러 사용자의 상태 행을 실제 읽지 않은 알림 수로 생성 (이미 있으면 무시)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_notification_state (user_id, unread_count, created_at, updated_at)
+        SELECT n.recipient_id, COUNT(*), NOW(), NOW() 
+        FROM notifications n 
+        WHERE n.recipient_id IN (:userIds) AND n.is_read = false AND n.deleted_at IS NULL
+        GROUP BY n.recipient_id
+        ON CONFLICT (user_id) DO NOTHING
+        """, nativeQuery = true)
+    int initializeAllFromNotifications(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 실제 읽지 않은 알림 수로 상태 행 재계산
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE user_notification_state 
+        SET unread_count = (
+            SELECT COUNT(*) FROM notifications n 
+            WHERE n.recipient_id = :userId AND n.is_read = false AND n.deleted_at IS NULL
+        ), updated_at = NOW() 
+        WHERE user_id = :userId
+        """, nativeQuery = true)
+    int recalculate(@Param("userId") Long userId);
+
+    /**
+     * 실제 값과 어긋난 모든 상태 행 보정
+     * @return 보정된 행 수
+     */
+    @Modifying
+    @Query(value = """
+        WITH actual AS (
+            SELECT s.user_id, (
+                SELECT COUNT(*) FROM notifications n 
+                WHERE n.recipient_id = s.user_id AND n.is_read = false AND n.deleted_at IS NULL
+            ) AS unread_count
+            FROM user_notification_state s
+        )
+        UPDATE user_notification_state s 
+        SET unread_count = a.unread_count, updated_at = NOW() 
+        FROM actual a 
+        WHERE s.user_id = a.user_id AND s.unread_count <> a.unread_count
+        """, nativeQuery = true)
+    int reconcileAll();
+}
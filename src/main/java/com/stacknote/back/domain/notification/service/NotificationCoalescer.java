@@ -0,0 +1,244 @@
+package com.stacknote.back.domain.notification.service;
+
+import com.stacknote.back.domain.notification.dto.response.NotificationResponse;
+import com.stacknote.back.domain.notification.entity.Notification;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 알림 병합 및 요약 엔진
+ * - (수신자, 타입, 참조 타입, 참조 ID)가 같은 알림을 시간 창 안에서 하나의 대표 알림으로 병합
+ * - 병합된 알림의 SSE 전송은 묶음별로 일정 간격 이상 벌어지도록 제한
+ * - 묶음 상태는 트랜잭션 커밋 이후에만 반영 (롤백된 알림이 대표로 남지 않도록)
+ * - 요약 모드 대상 판별과 요약 본문 생성 (대기 항목은 notification_digest_items에 저장)
+ */
+@Slf4j
+@Component
+public class NotificationCoalescer {
+
+    private final NotificationStreamHub notificationStreamHub;
+
+    private final Map<GroupKey, Group> groups = new ConcurrentHashMap<>();
+
+    private final boolean enabled;
+    private final long windowMillis;
+    private final int maxGroups;
+    private final long pushIntervalMillis;
+    private final boolean digestEnabled;
+    private final int maxDigestItems;
+
+    public NotificationCoalescer(NotificationStreamHub notificationStreamHub,
+                                 @Value("${notification.coalesce.enabled:true}") boolean enabled,
+                                 @Value("${notification.coalesce.window-ms:600000}") long windowMillis,
+                                 @Value("${notification.coalesce.max-groups:100000}") int maxGroups,
+                                 @Value("${notification.coalesce.push-interval-ms:5000}") long pushIntervalMillis,
+                                 @Value("${notification.digest.enabled:false}") boolean digestEnabled,
+                                 @Value("${notification.digest.max-items:20}") int maxDigestItems) {
+        this.notificationStreamHub = notificationStreamHub;
+        this.enabled = enabled;
+        this.windowMillis = windowMillis;
+        this.maxGroups = maxGroups;
+        this.pushIntervalMillis = pushIntervalMillis;
+        this.digestEnabled = digestEnabled;
+        this.maxDigestItems = maxDigestItems;
+    }
+
+    /**
+     * 병합할 대표 알림 ID 조회 (시간 창이 지났거나 병합 대상이 아니면 빈 값)
+     */
+    public Optional<Long> findAggregateTarget(Notification notification) {
+        if (!isCoalescable(notification)) {
+            return Optional.empty();
+        }
+
+        GroupKey key = GroupKey.of(notification);
+        Group group = groups.get(key);
+        if (group == null) {
+            return Optional.empty();
+        }
+        if (System.currentTimeMillis() - group.startedAt > windowMillis) {
+            groups.remove(key, group);
+            return Optional.empty();
+        }
+        return Optional.of(group.notificationId);
+    }
+
+    /**
+     * 새로 저장된 알림을 묶음의 대표 알림으로 등록 (커밋 이후)
+     */
+    public void register(Notification saved) {
+        if (!isCoalescable(saved)) {
+            return;
+        }
+
+        GroupKey key = GroupKey.of(saved);
+        Long notificationId = saved.getId();
+        afterCommit(() -> {
+            if (groups.size() < maxGroups) {
+                groups.put(key, new Group(notificationId, System.currentTimeMillis()));
+            }
+        });
+    }
+
+    /**
+     * 대표 알림에 병합된 알림 기록
+     * 병합 수 증가와 전송은 커밋 이후에 반영하며, 마지막 전송 후 간격이 충분하면 바로 전송하고 아니면 다음 주기 전송으로 미룸
+     * @return 병합 후 응답 (병합 수는 커밋 시점 기준 예상 값)
+     */
+    public NotificationResponse recordMerge(Notification latest, Long notificationId) {
+        Group group = groups.get(GroupKey.of(latest));
+        if (group == null || !group.notificationId.equals(notificationId)) {
+            // 병합 도중 묶음이 만료된 경우 (DB 병합은 이미 반영됨)
+            return NotificationResponse.merged(latest, notificationId, 0);
+        }
+
+        int expectedCount;
+        synchronized (group) {
+            expectedCount = group.count + 1;
+        }
+        NotificationResponse response = NotificationResponse.merged(latest, notificationId, expectedCount);
+
+        Long recipientId = latest.getRecipient().getId();
+        afterCommit(() -> applyMerge(group, recipientId, response));
+        return response;
+    }
+
+    /**
+     * 요약 모드로 보낼 알림인지 확인
+     */
+    public boolean isDigestTarget(Notification notification) {
+        return digestEnabled && notification.getPriority() == Notification.Priority.LOW
+                && notification.getType() != Notification.NotificationType.NOTIFICATION_DIGEST;
+    }
+
+    /**
+     * 요약 알림 본문 생성 (최근 항목부터 최대 개수까지)
+     */
+    public String summarize(List<String> titles) {
+        StringBuilder summary = new StringBuilder();
+        int shown = Math.min(titles.size(), maxDigestItems);
+        for (int i = titles.size() - 1; i >= titles.size() - shown; i--) {
+            summary.append("- ").append(titles.get(i)).append('\n');
+        }
+        if (titles.size() > shown) {
+            summary.append("외 ").append(titles.size() - shown).append("건");
+        }
+        return summary.toString().trim();
+    }
+
+    /**
+     * 미뤄진 병합 알림 전송 및 만료된 묶음 정리
+     */
+    @Scheduled(fixedDelayString = "${notification.coalesce.push-interval-ms:5000}")
+    public void flushPendingPushes() {
+        long now = System.currentTimeMillis();
+
+        groups.forEach((key, group) -> {
+            NotificationResponse pending = null;
+            boolean expired;
+            synchronized (group) {
+                if (group.pendingPush != null && now - group.lastPushedAt >= pushIntervalMillis) {
+                    pending = group.pendingPush;
+                    group.pendingPush = null;
+                    group.lastPushedAt = now;
+                }
+                expired = now - group.startedAt > windowMillis && group.pendingPush == null;
+            }
+
+            if (pending != null) {
+                notificationStreamHub.publish(key.recipientId(), "notification-updated", pending);
+            }
+            if (expired) {
+                groups.remove(key, group);
+            }
+        });
+    }
+
+    // ===== 내부 헬퍼 메서드 =====
+
+    /**
+     * 커밋된 병합을 묶음에 반영하고 전송 여부 결정
+     */
+    private void applyMerge(Group group, Long recipientId, NotificationResponse merged) {
+        NotificationResponse response;
+        boolean pushNow;
+        synchronized (group) {
+            group.count++;
+            response = merged.withAggregateCount(group.count);
+
+            long now = System.currentTimeMillis();
+            pushNow = now - group.lastPushedAt >= pushIntervalMillis;
+            if (pushNow) {
+                group.lastPushedAt = now;
+                group.pendingPush = null;
+            } else {
+                group.pendingPush = response;
+            }
+        }
+
+        if (pushNow) {
+            notificationStreamHub.publish(recipientId, "notification-updated", response);
+        }
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 이후에, 아니면 바로 실행
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 참조 대상이 있는 긴급하지 않은 알림만 병합
+     */
+    private boolean isCoalescable(Notification notification) {
+        return enabled
+                && notification.getReferenceType() != null
+                && notification.getReferenceId() != null
+                && notification.getPriority() != Notification.Priority.URGENT;
+    }
+
+    /**
+     * 병합 묶음 키
+     */
+    private record GroupKey(Long recipientId, Notification.NotificationType type, String referenceType, Long referenceId) {
+        static GroupKey of(Notification notification) {
+            return new GroupKey(notification.getRecipient().getId(), notification.getType(),
+                    notification.getReferenceType(), notification.getReferenceId());
+        }
+    }
+
+    /**
+     * 대표 알림과 병합 상태
+     */
+    private static final class Group {
+        private final Long notificationId;
+        private final long startedAt;
+        private int count = 1;
+        private long lastPushedAt = 0L;
+        private NotificationResponse pendingPush;
+
+        private Group(Long notificationId, long startedAt) {
+            this.notificationId = notificationId;
+            this.startedAt = startedAt;
+        }
+    }
+}
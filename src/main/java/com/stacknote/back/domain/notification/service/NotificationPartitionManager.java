@@ -0,0 +1,216 @@
+package com.stacknote.back.domain.notification.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * 알림 테이블 월별 파티션 관리자
+ * - notifications 테이블을 created_at 기준 월별 범위 파티션으로 운영
+ * - 일반 테이블의 파티션 전환은 수동 마이그레이션(docker/postgre/migrations/V002)으로 실행하고,
+ *   여기서는 월 파티션 생성과 삭제만 담당 (전환 전에는 아무 작업도 하지 않음)
+ * - 보관 기간이 지난 파티션은 행 단위 DELETE 대신 분리 후 삭제
+ */
+@Slf4j
+@Component
+public class NotificationPartitionManager {
+
+    private static final String TABLE = "notifications";
+    private static final String PARTITION_PREFIX = TABLE + "_p";
+    private static final String DEFAULT_PARTITION = TABLE + "_default";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final LocalDateTime NO_LOWER_BOUND = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int retentionMonths;
+    private final int premakeMonths;
+
+    public NotificationPartitionManager(JdbcTemplate jdbcTemplate,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${notification.partition.enabled:true}") boolean enabled,
+                                        @Value("${notification.partition.retention-months:6}") int retentionMonths,
+                                        @Value("${notification.partition.premake-months:2}") int premakeMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.retentionMonths = retentionMonths;
+        this.premakeMonths = premakeMonths;
+    }
+
+    /**
+     * 애플리케이션 시작 시 앞으로 쓸 파티션 생성
+     * 생성에 실패해도 기본 파티션이 행을 받으므로 기동은 계속하고 다음 유지보수 주기에 다시 시도
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            if (!isPartitioned()) {
+                log.warn("알림 테이블이 파티션 테이블이 아닙니다. 수동 마이그레이션 V002 실행 전까지 파티션 관리를 건너뜁니다.");
+                return;
+            }
+            ensureFuturePartitions();
+        } catch (Exception e) {
+            log.error("알림 파티션 생성 실패 (다음 유지보수 주기에 재시도): {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 조회 하한 시각 (보관 기간 첫 달의 시작)
+     * /my 조회 쿼리에 적용하여 보관 기간 밖의 파티션을 실행 계획에서 제외
+     */
+    public LocalDateTime getRetentionLowerBound() {
+        if (!enabled) {
+            return NO_LOWER_BOUND;
+        }
+        return YearMonth.now().minusMonths(retentionMonths).atDay(1).atStartOfDay();
+    }
+
+    /**
+     * 이번 달부터 미리 만들어 둘 달까지 파티션 생성
+     */
+    public int ensureFuturePartitions() {
+        if (!enabled || !isPartitioned()) {
+            return 0;
+        }
+
+        YearMonth current = YearMonth.now();
+        int created = 0;
+        for (int i = 0; i <= premakeMonths; i++) {
+            if (createPartition(current.plusMonths(i))) {
+                created++;
+            }
+        }
+        return created;
+    }
+
+    /**
+     * 보관 기간이 지난 월 파티션 분리 후 삭제
+     * @return 삭제된 파티션 수
+     */
+    public int dropExpiredPartitions() {
+        if (!enabled || !isPartitioned()) {
+            return 0;
+        }
+
+        YearMonth cutoff = YearMonth.now().minusMonths(retentionMonths);
+        int dropped = 0;
+
+        for (String partition : findPartitionNames()) {
+            YearMonth month = parseMonth(partition);
+            if (month == null || !month.isBefore(cutoff)) {
+                continue;
+            }
+
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition);
+            jdbcTemplate.execute("DROP TABLE " + partition);
+            dropped++;
+            log.info("만료된 알림 파티션 삭제: {}", partition);
+        }
+
+        // 기본 파티션에 들어간 범위 밖 행 정리 (보통 비어 있음)
+        jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE created_at < ?",
+                cutoff.atDay(1).atStartOfDay());
+
+        return dropped;
+    }
+
+    // ===== 내부 헬퍼 메서드 =====
+
+    private boolean isPartitioned() {
+        String relkind = jdbcTemplate.queryForObject(
+                "SELECT c.relkind::text FROM pg_class c WHERE c.oid = to_regclass(?)", String.class, TABLE);
+        return "p".equals(relkind);
+    }
+
+    /**
+     * 월 파티션 생성 (이미 있으면 무시, 여러 인스턴스가 동시에 실행해도 안전)
+     * 파티션이 없던 동안 기본 파티션에 쌓인 같은 범위의 행이 있으면 PARTITION OF 가 실패하므로
+     * 별도 테이블로 만든 뒤 행을 옮기고 붙임
+     */
+    private boolean createPartition(YearMonth month) {
+        String partition = PARTITION_PREFIX + month.format(SUFFIX_FORMAT);
+        if (jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition)) {
+            return false;
+        }
+
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+        if (hasDefaultRowsInRange(from, to)) {
+            createPartitionFromDefault(partition, from, to);
+            return true;
+        }
+
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + TABLE
+                + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+        log.debug("알림 파티션 생성: {}", partition);
+        return true;
+    }
+
+    private boolean hasDefaultRowsInRange(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + DEFAULT_PARTITION + " WHERE created_at >= ? AND created_at < ?)",
+                Boolean.class, from, to);
+    }
+
+    /**
+     * 기본 파티션의 같은 범위 행을 새 파티션으로 옮긴 뒤 붙임 (한 트랜잭션)
+     * 기본 파티션을 잠가 옮기는 동안 같은 범위의 새 행이 들어오지 않게 함
+     */
+    private void createPartitionFromDefault(String partition, LocalDateTime from, LocalDateTime to) {
+        log.warn("기본 파티션에 같은 달 알림이 있어 옮긴 뒤 파티션을 붙입니다: {}", partition);
+
+        Integer moved = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("LOCK TABLE " + DEFAULT_PARTITION + " IN SHARE ROW EXCLUSIVE MODE");
+            if (jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition)) {
+                return 0; // 다른 인스턴스가 먼저 처리
+            }
+            jdbcTemplate.execute("CREATE TABLE " + partition + " (LIKE " + TABLE
+                    + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+            int count = jdbcTemplate.update("WITH moved AS (DELETE FROM " + DEFAULT_PARTITION
+                    + " WHERE created_at >= ? AND created_at < ? RETURNING *) INSERT INTO " + partition
+                    + " SELECT * FROM moved", from, to);
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " ATTACH PARTITION " + partition
+                    + " FOR VALUES FROM ('" + from.toLocalDate() + "') TO ('" + to.toLocalDate() + "')");
+            return count;
+        });
+        log.info("알림 파티션 생성 (기본 파티션에서 {}건 이동): {}", moved, partition);
+    }
+
+    private List<String> findPartitionNames() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = to_regclass(?)
+                ORDER BY c.relname
+                """, String.class, TABLE);
+    }
+
+    private YearMonth parseMonth(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), SUFFIX_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.stacknote.back.domain.notification.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 알림 SSE 팬아웃 허브
+ * - 사용자별 SSE 연결을 보관하고 알림 이벤트를 모든 연결로 전달
+ * - 연결마다 제한된 크기의 전송 큐를 두고, 큐가 가득 찬 느린 소비자는 연결을 끊음
+ * - 전송은 별도 스레드 풀에서 수행하여 알림 생성 트랜잭션을 막지 않음
+ */
+@Slf4j
+@Component
+public class NotificationStreamHub {
+
+    private final Map<Long, List<Connection>> connections = new ConcurrentHashMap<>();
+    private final ExecutorService dispatcher;
+
+    private final long timeoutMillis;
+    private final int bufferSize;
+    private final int maxConnectionsPerUser;
+
+    public NotificationStreamHub(@Value("${notification.stream.timeout-ms:1800000}") long timeoutMillis,
+                                 @Value("${notification.stream.buffer-size:32}") int bufferSize,
+                                 @Value("${notification.stream.max-connections-per-user:5}") int maxConnectionsPerUser,
+                                 @Value("${notification.stream.dispatcher-threads:4}") int dispatcherThreads) {
+        this.timeoutMillis = timeoutMillis;
+        this.bufferSize = bufferSize;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(dispatcherThreads, runnable -> {
+            Thread thread = new Thread(runnable, "notification-sse-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 사용자 SSE 연결 등록
+     */
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Connection connection = new Connection(userId, emitter);
+
+        // 목록 생성과 추가를 같은 키 잠금 안에서 처리 (빈 목록 제거와 겹쳐 맵에서 빠진 목록에 추가되지 않도록)
+        List<Connection> userConnections = connections.compute(userId, (id, existing) -> {
+            List<Connection> target = existing != null ? existing : new CopyOnWriteArrayList<>();
+            target.add(connection);
+            return target;
+        });
+
+        // 사용자당 연결 수 제한 (가장 오래된 연결부터 종료)
+        while (userConnections.size() > maxConnectionsPerUser) {
+            close(userConnections.get(0));
+        }
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> close(connection));
+        emitter.onError(e -> remove(connection));
+
+        enqueue(connection, SseEmitter.event().name("connected").data("ok"));
+        log.debug("알림 스트림 연결 - 사용자: {}, 연결 수: {}", userId, userConnections.size());
+
+        return emitter;
+    }
+
+    /**
+     * 사용자에게 이벤트 전송
+     * 트랜잭션 안에서 호출되면 커밋 이후에 전송
+     */
+    public void publish(Long userId, String eventName, Object data) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(userId, eventName, data);
+                }
+            });
+        } else {
+            send(userId, eventName, data);
+        }
+    }
+
+    /**
+     * 연결 유지용 하트비트 (프록시 유휴 타임아웃 방지)
+     */
+    @Scheduled(fixedRateString = "${notification.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        connections.values().forEach(userConnections ->
+                userConnections.forEach(connection ->
+                        enqueue(connection, SseEmitter.event().comment("heartbeat"))));
+    }
+
+    /**
+     * 현재 연결 수
+     */
+    public int getConnectionCount() {
+        return connections.values().stream().mapToInt(List::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connections.values().forEach(userConnections -> userConnections.forEach(this::close));
+        dispatcher.shutdownNow();
+    }
+
+    // ===== 내부 헬퍼 메서드 =====
+
+    private void send(Long userId, String eventName, Object data) {
+        List<Connection> userConnections = connections.get(userId);
+        if (userConnections == null) {
+            return;
+        }
+        userConnections.forEach(connection ->
+                enqueue(connection, SseEmitter.event().name(eventName).data(data)));
+    }
+
+    /**
+     * 연결 큐에 이벤트 적재, 큐가 가득 차면 느린 소비자로 보고 연결 종료
+     */
+    private void enqueue(Connection connection, SseEmitter.SseEventBuilder event) {
+        boolean schedule;
+        synchronized (connection) {
+            if (connection.closed) {
+                return;
+            }
+            if (connection.queue.size() >= bufferSize) {
+                log.warn("알림 스트림 전송 지연으로 연결 종료 - 사용자: {}", connection.userId);
+                schedule = false;
+                connection.closed = true;
+            } else {
+                connection.queue.add(event);
+                schedule = !connection.draining;
+                connection.draining = true;
+            }
+        }
+
+        if (connection.closed) {
+            close(connection);
+        } else if (schedule) {
+            dispatcher.execute(() -> drain(connection));
+        }
+    }
+
+    /**
+     * 연결 큐를 비울 때까지 전송 (연결당 동시에 하나의 전송 작업만 실행)
+     */
+    private void drain(Connection connection) {
+        while (true) {
+            SseEmitter.SseEventBuilder event;
+            synchronized (connection) {
+                event = connection.queue.poll();
+                if (event == null || connection.closed) {
+                    connection.draining = false;
+                    return;
+                }
+            }
+
+            try {
+                connection.emitter.send(event);
+            } catch (Exception e) {
+                log.debug("알림 스트림 전송 실패 - 사용자: {}, {}", connection.userId, e.getMessage());
+                close(connection);
+                return;
+            }
+        }
+    }
+
+    private void close(Connection connection) {
+        synchronized (connection) {
+            connection.closed = true;
+            connection.queue.clear();
+        }
+        remove(connection);
+        try {
+            connection.emitter.complete();
+        } catch (Exception ignored) {
+            // 이미 종료된 연결
+        }
+    }
+
+    private void remove(Connection connection) {
+        connections.computeIfPresent(connection.userId, (id, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    /**
+     * 단일 SSE 연결과 전송 대기 큐
+     */
+    private static final class Connection {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> queue = new ArrayDeque<>();
+        private boolean draining = false;
+        private volatile boolean closed = false;
+
+        private Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.stacknote.back.domain.notification.service;
+
+import com.stacknote.back.domain.notification.entity.UserNotificationState;
+import com.stacknote.back.domain.notification.repository.NotificationRepository;
+import com.stacknote.back.domain.notification.repository.UserNotificationStateRepository;
+import com.stacknote.back.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 읽지 않은 알림 수 카운터
+ * - user_notification_state 행을 호출 트랜잭션 안에서 원자적으로 증감
+ * - 커밋된 값을 메모리에 캐시하고, 변경이 커밋되면 캐시 무효화
+ * - 캐시 항목은 TTL이 지나면 다시 읽어 동시 갱신으로 인한 오래된 값을 제한
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadNotificationCounter {
+
+    private final UserNotificationStateRepository userNotificationStateRepository;
+    private final NotificationRepository notificationRepository;
+
+    private final Map<Long, CachedCount> cache = new ConcurrentHashMap<>();
+
+    @Value("${notification.unread-cache.ttl-ms:30000}")
+    private long cacheTtlMillis;
+
+    /**
+     * 읽지 않은 알림 수 조회
+     */
+    public long getUnreadCount(User user) {
+        Long userId = user.getId();
+        CachedCount cached = cache.get(userId);
+        if (cached != null && !cached.isExpired(cacheTtlMillis)) {
+            return cached.count;
+        }
+
+        long count = userNotificationStateRepository.findById(userId)
+                .map(UserNotificationState::getUnreadCount)
+                .orElseGet(() -> notificationRepository.countUnreadNotificationsByRecipient(user));
+
+        cache.put(userId, new CachedCount(count));
+        return count;
+    }
+
+    /**
+     * 읽지 않은 알림 수 증감 (쓰기 트랜잭션 안에서 호출)
+     */
+    public void adjust(Long userId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+
+        if (userNotificationStateRepository.adjustUnreadCount(userId, delta) == 0) {
+            // 상태 행이 없으면 현재 트랜잭션 기준 실제 값으로 생성 (이번 변경분 포함)
+            userNotificationStateRepository.initializeFromNotifications(userId);
+        }
+        evictAfterCommit(userId);
+    }
+
+    /**
+     * 여러 사용자의 읽지 않은 알림 수 증감 (일괄 알림 생성 후 호출)
+     * 상태 행이 없는 사용자는 실제 값으로 생성
+     */
+    public void adjustAll(Collection<Long> userIds, long delta) {
+        if (userIds.isEmpty() || delta == 0) {
+            return;
+        }
+
+        if (userNotificationStateRepository.adjustUnreadCounts(userIds, delta) < userIds.size()) {
+            userNotificationStateRepository.initializeAllFromNotifications(userIds);
+        }
+        userIds.forEach(this::evictAfterCommit);
+    }
+
+    /**
+     * 일괄 변경 후 실제 값으로 재계산 (쓰기 트랜잭션 안에서 호출)
+     */
+    public void recalculate(Long userId) {
+        if (userNotificationStateRepository.recalculate(userId) == 0) {
+            userNotificationStateRepository.initializeFromNotifications(userId);
+        }
+        evictAfterCommit(userId);
+    }
+
+    /**
+     * 전체 상태 행 보정
+     * @return 보정된 행 수
+     */
+    public int reconcileAll() {
+        int corrected = userNotificationStateRepository.reconcileAll();
+        cache.clear();
+        return corrected;
+    }
+
+    // ===== 내부 헬퍼 메서드 =====
+
+    private void evictAfterCommit(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.remove(userId);
+                }
+            });
+        } else {
+            cache.remove(userId);
+        }
+    }
+
+    /**
+     * 캐시된 읽지 않은 알림 수
+     */
+    private static final class CachedCount {
+        private final long count;
+        private final long loadedAt = System.currentTimeMillis();
+
+        private CachedCount(long count) {
+            this.count = count;
+        }
+
+        private boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - loadedAt > ttlMillis;
+        }
+    }
+}
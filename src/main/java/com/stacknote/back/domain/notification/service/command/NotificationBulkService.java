@@ -0,0 +1,235 @@
+package com.stacknote.back.domain.notification.service.command;
+
+import com.stacknote.back.domain.notification.dto.request.NotificationBulkRequest;
+import com.stacknote.back.domain.notification.dto.response.NotificationResponse;
+import com.stacknote.back.domain.notification.entity.Notification;
+import com.stacknote.back.domain.notification.service.NotificationStreamHub;
+import com.stacknote.back.domain.notification.service.UnreadNotificationCounter;
+import com.stacknote.back.domain.user.repository.UserRepository;
+import com.stacknote.back.domain.workspace.repository.WorkspaceMemberRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 일괄 알림 발송 서비스
+ * - 수신자별 엔티티 조회 없이 ID로 JDBC 배치 INSERT (청크 단위 트랜잭션)
+ * - 호출자 트랜잭션 커밋 이후 제한된 작업 풀에서 실행
+ * - 존재하지 않거나 비활성인 수신자는 미리 제외 (한 명의 외래키 오류로 청크 전체가 실패하지 않도록)
+ * - 관리자/시스템 공지용이므로 병합(NotificationCoalescer)과 요약 모드를 거치지 않음
+ *   수신자마다 한 건씩만 만들어져 병합할 반복 알림이 없고, 공지는 우선순위와 관계없이 즉시 전달
+ */
+@Slf4j
+@Service
+public class NotificationBulkService {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO notifications (type, title, content, recipient_id, sender_id, is_read,
+                                       reference_type, reference_id, action_url, metadata, priority,
+                                       created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, false, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final WorkspaceMemberRepository workspaceMemberRepository;
+    private final UserRepository userRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final NotificationStreamHub notificationStreamHub;
+
+    private final int chunkSize;
+    private final ThreadPoolExecutor executor;
+
+    public NotificationBulkService(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   WorkspaceMemberRepository workspaceMemberRepository,
+                                   UserRepository userRepository,
+                                   UnreadNotificationCounter unreadNotificationCounter,
+                                   NotificationStreamHub notificationStreamHub,
+                                   @Value("${notification.bulk.chunk-size:500}") int chunkSize,
+                                   @Value("${notification.bulk.workers:2}") int workers,
+                                   @Value("${notification.bulk.queue-capacity:50}") int queueCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.workspaceMemberRepository = workspaceMemberRepository;
+        this.userRepository = userRepository;
+        this.unreadNotificationCounter = unreadNotificationCounter;
+        this.notificationStreamHub = notificationStreamHub;
+        this.chunkSize = chunkSize;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notification-bulk-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // 대기열이 가득 차면 호출 스레드에서 실행하여 자연스럽게 속도 조절
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    /**
+     * 여러 수신자에게 알림 발송 예약
+     * @param senderId 발송자 (시스템 알림이면 null)
+     * @return 발송 대상 수신자 수
+     */
+    public int sendBulk(NotificationBulkRequest request, Long senderId) {
+        Set<Long> recipientIds = retainActiveUsers(request.getRecipientIds());
+        submitAfterCommit(request, senderId, recipientIds);
+        return recipientIds.size();
+    }
+
+    /**
+     * 워크스페이스 전체 멤버에게 알림 발송 예약 (발송자 본인은 제외)
+     * @param senderId 발송자 (시스템 알림이면 null)
+     * @return 발송 대상 수신자 수
+     */
+    public int sendToWorkspaceMembers(Long workspaceId, NotificationBulkRequest template, Long senderId) {
+        Set<Long> recipientIds = retainActiveUsers(workspaceMemberRepository.findActiveUserIdsByWorkspaceId(workspaceId));
+        if (senderId != null) {
+            recipientIds.remove(senderId);
+        }
+        submitAfterCommit(template, senderId, recipientIds);
+        return recipientIds.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // ===== 내부 헬퍼 메서드 =====
+
+    /**
+     * 존재하는 활성 사용자만 남김 (요청 순서 유지, 청크 크기 단위로 조회)
+     */
+    private Set<Long> retainActiveUsers(Collection<Long> userIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(userIds));
+        Set<Long> active = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            active.addAll(userRepository.findActiveUserIdsByIds(ids.subList(from, Math.min(from + chunkSize, ids.size()))));
+        }
+
+        Set<Long> recipientIds = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (active.contains(id)) {
+                recipientIds.add(id);
+            }
+        }
+        if (recipientIds.size() < ids.size()) {
+            log.info("일괄 알림 수신자 중 존재하지 않거나 비활성인 사용자 {}명 제외", ids.size() - recipientIds.size());
+        }
+        return recipientIds;
+    }
+
+    private void submitAfterCommit(NotificationBulkRequest template, Long senderId, Set<Long> recipientIds) {
+        if (recipientIds.isEmpty()) {
+            return;
+        }
+
+        Runnable task = () -> executor.execute(() -> deliver(template, senderId, new ArrayList<>(recipientIds)));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * 청크 단위로 INSERT 및 읽지 않은 수 갱신 후 SSE 전송
+     */
+    private void deliver(NotificationBulkRequest template, Long senderId, List<Long> recipientIds) {
+        LocalDateTime now = LocalDateTime.now();
+        int delivered = 0;
+
+        for (int from = 0; from < recipientIds.size(); from += chunkSize) {
+            List<Long> chunk = recipientIds.subList(from, Math.min(from + chunkSize, recipientIds.size()));
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.batchUpdate(INSERT_SQL, toBatchArgs(template, senderId, chunk, now));
+                    unreadNotificationCounter.adjustAll(chunk, 1);
+                });
+                delivered += chunk.size();
+            } catch (Exception e) {
+                log.error("일괄 알림 저장 실패 - 타입: {}, 수신자 {}명: {}", template.getType(), chunk.size(), e.getMessage(), e);
+                continue;
+            }
+
+            NotificationResponse payload = toPayload(template, senderId, now);
+            chunk.forEach(recipientId -> notificationStreamHub.publish(recipientId, "notification", payload));
+        }
+
+        log.info("일괄 알림 발송 완료 - 타입: {}, 수신자: {}/{}", template.getType(), delivered, recipientIds.size());
+    }
+
+    private List<Object[]> toBatchArgs(NotificationBulkRequest template, Long senderId,
+                                       List<Long> recipientIds, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        Notification.Priority priority = template.getPriority() != null ? template.getPriority() : Notification.Priority.NORMAL;
+
+        List<Object[]> batchArgs = new ArrayList<>(recipientIds.size());
+        for (Long recipientId : recipientIds) {
+            batchArgs.add(new Object[]{
+                    template.getType().name(), template.getTitle(), template.getContent(),
+                    recipientId, senderId,
+                    template.getReferenceType(), template.getReferenceId(),
+                    template.getActionUrl(), template.getMetadata(), priority.name(),
+                    timestamp, timestamp
+            });
+        }
+        return batchArgs;
+    }
+
+    /**
+     * SSE 전송용 알림 내용 (일괄 INSERT는 ID를 돌려받지 않으므로 ID 없이 전송)
+     */
+    private NotificationResponse toPayload(NotificationBulkRequest template, Long senderId, LocalDateTime now) {
+        Notification.Priority priority = template.getPriority() != null ? template.getPriority() : Notification.Priority.NORMAL;
+        return NotificationResponse.builder()
+                .type(template.getType().name())
+                .typeDescription(template.getType().getDescription())
+                .title(template.getTitle())
+                .content(template.getContent())
+                .isRead(false)
+                .referenceType(template.getReferenceType())
+                .referenceId(template.getReferenceId())
+                .actionUrl(template.getActionUrl())
+                .metadata(template.getMetadata())
+                .priority(priority.name())
+                .priorityDescription(priority.getDescription())
+                .isSystemNotification(senderId == null)
+                .isUrgent(priority == Notification.Priority.URGENT)
+                .aggregateCount(1)
+                .createdAt(now)
+                .build();
+    }
+}
@@ -4,9 +4,14 @@ import com.stacknote.back.domain.notification.dto.request.NotificationCreateRequ
 import com.stacknote.back.domain.notification.dto.request.NotificationUpdateRequest;
 import com.stacknote.back.domain.notification.dto.response.NotificationResponse;
 import com.stacknote.back.domain.notification.entity.Notification;
+import com.stacknote.back.domain.notification.entity.NotificationDigestItem;
 import com.stacknote.back.domain.notification.exception.NotificationAccessDeniedException;
 import com.stacknote.back.domain.notification.exception.NotificationNotFoundException;
+import com.stacknote.back.domain.notification.repository.NotificationDigestItemRepository;
 import com.stacknote.back.domain.notification.repository.NotificationRepository;
+import com.stacknote.back.domain.notification.service.NotificationCoalescer;
+import com.stacknote.back.domain.notification.service.NotificationStreamHub;
+import com.stacknote.back.domain.notification.service.UnreadNotificationCounter;
 import com.stacknote.back.domain.user.entity.User;
 import com.stacknote.back.domain.user.repository.UserRepository;
 import com.stacknote.back.global.exception.custom.EntityNotFoundException;
@@ -15,10 +20,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 알림 명령 서비스
@@ -31,6 +41,11 @@ public class NotificationCommandService {
 
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final NotificationStreamHub notificationStreamHub;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final NotificationCoalescer notificationCoalescer;
+    private final NotificationDigestItemRepository notificationDigestItemRepository;
+    private final PlatformTransactionManager transactionManager;
 
     /**
      * 알림 생성
@@ -59,12 +74,16 @@ public class NotificationCommandService {
                 .priority(request.getPriority())
                 .build();
 
-        Notification savedNotification = notificationRepository.save(notification);
+        NotificationResponse response = deliver(notification);
 
-        log.info("알림 생성 완료 - ID: {}, 타입: {}, 수신자: {}",
-                savedNotification.getId(), savedNotification.getType(), recipient.getEmail());
+        if (Boolean.TRUE.equals(response.getQueued())) {
+            log.debug("알림 요약 대기열 추가 - 타입: {}, 수신자: {}", notification.getType(), recipient.getEmail());
+        } else {
+            log.info("알림 생성 완료 - ID: {}, 타입: {}, 수신자: {}",
+                    response.getId(), notification.getType(), recipient.getEmail());
+        }
 
-        return NotificationResponse.from(savedNotification);
+        return response;
     }
 
     /**
@@ -111,7 +130,10 @@ public class NotificationCommandService {
             throw new NotificationAccessDeniedException("알림에 대한 권한이 없습니다.");
         }
 
-        notification.markAsRead();
+        if (!notification.getIsRead()) {
+            notification.markAsRead();
+            unreadNotificationCounter.adjust(user.getId(), -1);
+        }
 
         log.debug("알림 읽음 처리 - ID: {}, 사용자: {}", notificationId, user.getEmail());
     }
@@ -128,7 +150,10 @@ public class NotificationCommandService {
             throw new NotificationAccessDeniedException("알림에 대한 권한이 없습니다.");
         }
 
-        notification.markAsUnread();
+        if (notification.getIsRead()) {
+            notification.markAsUnread();
+            unreadNotificationCounter.adjust(user.getId(), 1);
+        }
 
         log.debug("알림 읽지 않음 처리 - ID: {}, 사용자: {}", notificationId, user.getEmail());
     }
@@ -138,6 +163,7 @@ public class NotificationCommandService {
      */
     public void markAllAsRead(User user) {
         int updatedCount = notificationRepository.markAllAsReadByRecipient(user);
+        unreadNotificationCounter.adjust(user.getId(), -updatedCount);
 
         log.info("모든 알림 읽음 처리 완료 - 사용자: {}, 처리된 알림 수: {}", user.getEmail(), updatedCount);
     }
@@ -147,6 +173,7 @@ public class NotificationCommandService {
      */
     public void markAsReadByType(User user, Notification.NotificationType type) {
         int updatedCount = notificationRepository.markAsReadByRecipientAndType(user, type);
+        unreadNotificationCounter.adjust(user.getId(), -updatedCount);
 
         log.info("타입별 알림 읽음 처리 완료 - 사용자: {}, 타입: {}, 처리된 알림 수: {}",
                 user.getEmail(), type, updatedCount);
@@ -157,6 +184,7 @@ public class NotificationCommandService {
      */
     public void markAsReadByReference(User user, String referenceType, Long referenceId) {
         int updatedCount = notificationRepository.markAsReadByReference(user, referenceType, referenceId);
+        unreadNotificationCounter.adjust(user.getId(), -updatedCount);
 
         log.info("참조별 알림 읽음 처리 완료 - 사용자: {}, 참조: {}:{}, 처리된 알림 수: {}",
                 user.getEmail(), referenceType, referenceId, updatedCount);
@@ -175,6 +203,9 @@ public class NotificationCommandService {
         }
 
         notification.delete();
+        if (!notification.getIsRead()) {
+            unreadNotificationCounter.adjust(user.getId(), -1);
+        }
 
         log.info("알림 삭제 완료 - ID: {}, 사용자: {}", notificationId, user.getEmail());
     }
@@ -184,6 +215,7 @@ public class NotificationCommandService {
      */
     public void deleteAllNotifications(User user) {
         int deletedCount = notificationRepository.softDeleteNotificationsByRecipient(user);
+        unreadNotificationCounter.recalculate(user.getId());
 
         log.info("모든 알림 삭제 완료 - 사용자: {}, 삭제된 알림 수: {}", user.getEmail(), deletedCount);
     }
@@ -193,6 +225,7 @@ public class NotificationCommandService {
      */
     public void deleteNotificationsByType(User user, Notification.NotificationType type) {
         int deletedCount = notificationRepository.softDeleteNotificationsByType(user, type);
+        unreadNotificationCounter.recalculate(user.getId());
 
         log.info("타입별 알림 삭제 완료 - 사용자: {}, 타입: {}, 삭제된 알림 수: {}",
                 user.getEmail(), type, deletedCount);
@@ -232,12 +265,12 @@ public class NotificationCommandService {
         Notification notification = Notification.createWorkspaceInvitation(
                 recipient, sender, workspaceName, workspaceId);
 
-        Notification saved = notificationRepository.save(notification);
+        NotificationResponse response = deliver(notification);
 
         log.info("워크스페이스 초대 알림 생성 - 수신자: {}, 워크스페이스: {}",
                 recipient.getEmail(), workspaceName);
 
-        return NotificationResponse.from(saved);
+        return response;
     }
 
     /**
@@ -249,12 +282,12 @@ public class NotificationCommandService {
         Notification notification = Notification.createPageComment(
                 recipient, sender, pageTitle, pageId, commentId);
 
-        Notification saved = notificationRepository.save(notification);
+        NotificationResponse response = deliver(notification);
 
         log.info("페이지 댓글 알림 생성 - 수신자: {}, 페이지: {}",
                 recipient.getEmail(), pageTitle);
 
-        return NotificationResponse.from(saved);
+        return response;
     }
 
     /**
@@ -266,12 +299,12 @@ public class NotificationCommandService {
         Notification notification = Notification.createCommentReply(
                 recipient, sender, pageTitle, commentId);
 
-        Notification saved = notificationRepository.save(notification);
+        NotificationResponse response = deliver(notification);
 
         log.info("댓글 답글 알림 생성 - 수신자: {}, 페이지: {}",
                 recipient.getEmail(), pageTitle);
 
-        return NotificationResponse.from(saved);
+        return response;
     }
 
     /**
@@ -283,12 +316,12 @@ public class NotificationCommandService {
         Notification notification = Notification.createMention(
                 recipient, sender, pageTitle, pageId, context);
 
-        Notification saved = notificationRepository.save(notification);
+        NotificationResponse response = deliver(notification);
 
         log.info("멘션 알림 생성 - 수신자: {}, 페이지: {}",
                 recipient.getEmail(), pageTitle);
 
-        return NotificationResponse.from(saved);
+        return response;
     }
 
     /**
@@ -299,12 +332,12 @@ public class NotificationCommandService {
 
         Notification notification = Notification.createSystemAnnouncement(recipient, title, content);
 
-        Notification saved = notificationRepository.save(notification);
+        NotificationResponse response = deliver(notification);
 
         log.info("시스템 공지 알림 생성 - 수신자: {}, 제목: {}",
                 recipient.getEmail(), title);
 
-        return NotificationResponse.from(saved);
+        return response;
     }
 
     /**
@@ -313,10 +346,96 @@ public class NotificationCommandService {
     public NotificationResponse createSecurityAlertNotification(User recipient, String message) {
         Notification notification = Notification.createSecurityAlert(recipient, message);
 
-        Notification saved = notificationRepository.save(notification);
+        NotificationResponse response = deliver(notification);
 
         log.info("보안 알림 생성 - 수신자: {}", recipient.getEmail());
 
-        return NotificationResponse.from(saved);
+        return response;
+    }
+
+    /**
+     * 모아 둔 낮은 우선순위 알림을 사용자별 요약 알림으로 발송 (배치 작업용)
+     * 사용자마다 별도 트랜잭션으로 처리하여 한 사용자의 실패가 다른 사용자의 요약을 막지 않음
+     * @return 요약을 발송한 사용자 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int sendDigests() {
+        int sent = 0;
+
+        for (Long recipientId : notificationDigestItemRepository.findRecipientIds()) {
+            try {
+                if (Boolean.TRUE.equals(newTransaction().execute(status -> sendDigest(recipientId)))) {
+                    sent++;
+                }
+            } catch (Exception e) {
+                log.warn("알림 요약 발송 실패 (다음 주기에 재시도) - 사용자: {}, {}", recipientId, e.getMessage());
+            }
+        }
+
+        if (sent > 0) {
+            log.info("알림 요약 발송 완료 - 사용자 수: {}", sent);
+        }
+        return sent;
+    }
+
+    // ===== 내부 헬퍼 메서드 =====
+
+    /**
+     * 사용자 한 명의 요약 발송
+     * 대기 항목을 잠그고 요약 알림 저장 후 항목 삭제 (다른 인스턴스가 처리 중이면 건너뜀)
+     */
+    private boolean sendDigest(Long recipientId) {
+        List<NotificationDigestItem> items = notificationDigestItemRepository.lockByRecipientId(recipientId);
+        if (items.isEmpty()) {
+            return false;
+        }
+
+        List<String> titles = items.stream().map(NotificationDigestItem::getTitle).toList();
+        Notification digest = Notification.createDigest(
+                userRepository.getReferenceById(recipientId), titles.size(), notificationCoalescer.summarize(titles));
+        Notification saved = notificationRepository.save(digest);
+        notificationDigestItemRepository.deleteByIds(items.stream().map(NotificationDigestItem::getId).toList());
+
+        afterCreate(NotificationResponse.from(saved));
+        return true;
+    }
+
+    private TransactionTemplate newTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    /**
+     * 알림 저장 및 발송
+     * - 요약 대상(낮은 우선순위)은 알림 대신 요약 대기 항목으로 저장하고 대기 상태 응답 반환
+     * - 같은 대상에 대한 읽지 않은 대표 알림이 있으면 새 행 대신 병합
+     */
+    private NotificationResponse deliver(Notification notification) {
+        if (notificationCoalescer.isDigestTarget(notification)) {
+            notificationDigestItemRepository.save(NotificationDigestItem.of(notification));
+            return NotificationResponse.queued(notification);
+        }
+
+        Optional<Long> aggregateTarget = notificationCoalescer.findAggregateTarget(notification);
+        if (aggregateTarget.isPresent() && notificationRepository.mergeIntoAggregate(
+                aggregateTarget.get(), notification.getContent(), notification.getSender()) > 0) {
+            return notificationCoalescer.recordMerge(notification, aggregateTarget.get());
+        }
+
+        Notification saved = notificationRepository.save(notification);
+        notificationCoalescer.register(saved);
+        return afterCreate(NotificationResponse.from(saved));
+    }
+
+    /**
+     * 알림 생성 후처리
+     * 읽지 않은 알림 수 증가 및 수신자의 SSE 연결로 전송 (커밋 이후)
+     */
+    private NotificationResponse afterCreate(NotificationResponse response) {
+        Long recipientId = response.getRecipient().getId();
+        unreadNotificationCounter.adjust(recipientId, 1);
+        notificationStreamHub.publish(recipientId, "notification", response);
+        return response;
     }
-}
\ No newline at end of file
+}
@@ -5,7 +5,11 @@ import com.stacknote.back.domain.notification.dto.response.NotificationStatistic
 import com.stacknote.back.domain.notification.entity.Notification;
 import com.stacknote.back.domain.notification.exception.NotificationNotFoundException;
 import com.stacknote.back.domain.notification.repository.NotificationRepository;
+import com.stacknote.back.domain.notification.service.NotificationPartitionManager;
+import com.stacknote.back.domain.notification.service.UnreadNotificationCounter;
 import com.stacknote.back.domain.user.entity.User;
+import com.stacknote.back.global.dto.Cursor;
+import com.stacknote.back.global.dto.CursorResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -27,6 +31,8 @@ import java.util.stream.Collectors;
 public class NotificationQueryService {
 
     private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final NotificationPartitionManager notificationPartitionManager;
 
     /**
      * 알림 ID로 알림 조회
@@ -43,18 +49,32 @@ public class NotificationQueryService {
      */
     public List<NotificationResponse> getNotificationsByRecipient(User recipient, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        List<Notification> notifications = notificationRepository.findNotificationsByRecipient(recipient, pageable);
+        List<Notification> notifications = notificationRepository.findNotificationsByRecipient(recipient, retentionLowerBound(), pageable);
 
         return notifications.stream()
                 .map(NotificationResponse::from)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 사용자의 알림 조회 (커서 기반, 최신순)
+     */
+    public CursorResponse<NotificationResponse> getNotificationsByRecipient(User recipient, String cursor, int size) {
+        int limit = CursorResponse.clampSize(size);
+        Cursor position = Cursor.descending(cursor);
+        List<Notification> notifications = notificationRepository.findNotificationsByRecipientAfter(
+                recipient, retentionLowerBound(), position.sortKey(), position.id(), PageRequest.of(0, limit + 1));
+
+        return CursorResponse.of(notifications, limit,
+                notification -> new Cursor(notification.getCreatedAt(), notification.getId()),
+                NotificationResponse::from);
+    }
+
     /**
      * 사용자의 읽지 않은 알림 조회
      */
     public List<NotificationResponse> getUnreadNotificationsByRecipient(User recipient) {
-        List<Notification> notifications = notificationRepository.findUnreadNotificationsByRecipient(recipient);
+        List<Notification> notifications = notificationRepository.findUnreadNotificationsByRecipient(recipient, retentionLowerBound());
 
         return notifications.stream()
                 .map(NotificationResponse::from)
@@ -65,14 +85,14 @@ public class NotificationQueryService {
      * 사용자의 읽지 않은 알림 수 조회
      */
     public long getUnreadNotificationCount(User recipient) {
-        return notificationRepository.countUnreadNotificationsByRecipient(recipient);
+        return unreadNotificationCounter.getUnreadCount(recipient);
     }
 
     /**
      * 사용자의 높은 우선순위 읽지 않은 알림 조회
      */
     public List<NotificationResponse> getHighPriorityUnreadNotifications(User recipient) {
-        List<Notification> notifications = notificationRepository.findHighPriorityUnreadNotifications(recipient);
+        List<Notification> notifications = notificationRepository.findHighPriorityUnreadNotifications(recipient, retentionLowerBound());
 
         return notifications.stream()
                 .map(NotificationResponse::from)
@@ -85,7 +105,7 @@ public class NotificationQueryService {
     public List<NotificationResponse> getNotificationsByType(
             User recipient, Notification.NotificationType type, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        List<Notification> notifications = notificationRepository.findNotificationsByRecipientAndType(recipient, type, pageable);
+        List<Notification> notifications = notificationRepository.findNotificationsByRecipientAndType(recipient, retentionLowerBound(), type, pageable);
 
         return notifications.stream()
                 .map(NotificationResponse::from)
@@ -97,8 +117,9 @@ public class NotificationQueryService {
      */
     public List<NotificationResponse> getNotificationsByDateRange(
             User recipient, LocalDateTime startDate, LocalDateTime endDate) {
+        LocalDateTime lowerBound = retentionLowerBound();
         List<Notification> notifications = notificationRepository.findNotificationsByRecipientAndDateRange(
-                recipient, startDate, endDate);
+                recipient, startDate.isBefore(lowerBound) ? lowerBound : startDate, endDate);
 
         return notifications.stream()
                 .map(NotificationResponse::from)
@@ -110,7 +131,7 @@ public class NotificationQueryService {
      */
     public List<NotificationResponse> getSystemNotificationsByRecipient(User recipient, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        List<Notification> notifications = notificationRepository.findSystemNotificationsByRecipient(recipient, pageable);
+        List<Notification> notifications = notificationRepository.findSystemNotificationsByRecipient(recipient, retentionLowerBound(), pageable);
 
         return notifications.stream()
                 .map(NotificationResponse::from)
@@ -123,7 +144,7 @@ public class NotificationQueryService {
     public List<NotificationResponse> getNotificationsByReference(
             User recipient, String referenceType, Long referenceId) {
         List<Notification> notifications = notificationRepository.findNotificationsByReference(
-                recipient, referenceType, referenceId);
+                recipient, retentionLowerBound(), referenceType, referenceId);
 
         return notifications.stream()
                 .map(NotificationResponse::from)
@@ -136,7 +157,7 @@ public class NotificationQueryService {
     public List<NotificationResponse> getNotificationsBySender(
             User recipient, User sender, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        List<Notification> notifications = notificationRepository.findNotificationsBySender(recipient, sender, pageable);
+        List<Notification> notifications = notificationRepository.findNotificationsBySender(recipient, retentionLowerBound(), sender, pageable);
 
         return notifications.stream()
                 .map(NotificationResponse::from)
@@ -147,7 +168,7 @@ public class NotificationQueryService {
      * 긴급 알림 조회
      */
     public List<NotificationResponse> getUrgentNotificationsByRecipient(User recipient) {
-        List<Notification> notifications = notificationRepository.findUrgentNotificationsByRecipient(recipient);
+        List<Notification> notifications = notificationRepository.findUrgentNotificationsByRecipient(recipient, retentionLowerBound());
 
         return notifications.stream()
                 .map(NotificationResponse::from)
@@ -159,7 +180,7 @@ public class NotificationQueryService {
      */
     public List<NotificationResponse> getRecentNotificationsByRecipient(User recipient, int size) {
         Pageable pageable = PageRequest.of(0, size);
-        List<Notification> notifications = notificationRepository.findRecentNotificationsByRecipient(recipient, pageable);
+        List<Notification> notifications = notificationRepository.findRecentNotificationsByRecipient(recipient, retentionLowerBound(), pageable);
 
         return notifications.stream()
                 .map(NotificationResponse::from)
@@ -170,7 +191,7 @@ public class NotificationQueryService {
      * 알림 통계 조회
      */
     public NotificationStatisticsResponse getNotificationStatistics(User recipient) {
-        Object[] statistics = notificationRepository.getNotificationStatistics(recipient);
+        Object[] statistics = notificationRepository.getNotificationStatistics(recipient, retentionLowerBound());
 
         if (statistics != null && statistics.length >= 4) {
             return NotificationStatisticsResponse.builder()
@@ -222,4 +243,13 @@ public class NotificationQueryService {
 
         return !duplicates.isEmpty();
     }
-}
\ No newline at end of file
+
+    // ===== 내부 헬퍼 메서드 =====
+
+    /**
+     * 조회 하한 시각 (보관 기간 시작, 이전 월 파티션은 조회 대상에서 제외)
+     */
+    private LocalDateTime retentionLowerBound() {
+        return notificationPartitionManager.getRetentionLowerBound();
+    }
+}
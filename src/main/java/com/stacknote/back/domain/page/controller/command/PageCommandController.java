@@ -1,10 +1,15 @@
 package com.stacknote.back.domain.page.controller.command;
 
+import com.stacknote.back.domain.page.dto.request.PageBlockPatchRequest;
 import com.stacknote.back.domain.page.dto.request.PageCreateRequest;
 import com.stacknote.back.domain.page.dto.request.PageDuplicateRequest;
 import com.stacknote.back.domain.page.dto.request.PageMoveRequest;
 import com.stacknote.back.domain.page.dto.request.PageUpdateRequest;
+import com.stacknote.back.domain.page.dto.response.PageBlockPatchResponse;
+import com.stacknote.back.domain.page.dto.response.PageBlockResponse;
 import com.stacknote.back.domain.page.dto.response.PageResponse;
+import com.stacknote.back.domain.page.service.IfMatchCondition;
+import com.stacknote.back.domain.page.service.command.PageBlockCommandService;
 import com.stacknote.back.domain.page.service.command.PageCommandService;
 import com.stacknote.back.domain.user.entity.User;
 import com.stacknote.back.global.dto.ApiResponse;
@@ -14,11 +19,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 페이지 명령 컨트롤러
  * 페이지 생성, 수정, 삭제, 이동 등의 명령 기능 제공
@@ -31,6 +39,7 @@ import org.springframework.web.bind.annotation.*;
 public class PageCommandController {
 
     private final PageCommandService pageCommandService;
+    private final PageBlockCommandService pageBlockCommandService;
 
     /**
      * 페이지 생성
@@ -55,18 +64,22 @@ public class PageCommandController {
      * 페이지 수정
      */
     @PutMapping("/{pageId}")
-    @Operation(summary = "페이지 수정", description = "페이지 정보를 수정합니다.")
+    @Operation(summary = "페이지 수정", description = "페이지 정보를 수정합니다. If-Match 헤더에 버전을 보내면 버전이 다를 때 412로 거부합니다. "
+            + "content 를 보내면 본문 전체를 교체하며, 블록 단위로 편집 중이던 페이지는 블록 모드가 해제되고 기존 블록이 삭제됩니다.")
     public ResponseEntity<ApiResponse<PageResponse>> updatePage(
             @Parameter(description = "워크스페이스 ID") @PathVariable Long workspaceId,
             @Parameter(description = "페이지 ID") @PathVariable Long pageId,
+            @Parameter(description = "수정 기준 페이지 버전 (ETag, 여러 개면 하나라도 일치하면 수정)") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @AuthenticationPrincipal User currentUser,
             @Valid @RequestBody PageUpdateRequest request
     ) {
         log.info("페이지 수정 요청: {}, 사용자: {}", pageId, currentUser.getId());
 
-        PageResponse response = pageCommandService.updatePage(pageId, currentUser, request);
+        PageResponse response = pageCommandService.updatePage(pageId, currentUser, request, IfMatchCondition.parse(ifMatch));
 
-        return ResponseEntity.ok(ApiResponse.success("페이지가 수정되었습니다.", response));
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(response.getVersion()))
+                .body(ApiResponse.success("페이지가 수정되었습니다.", response));
     }
 
     /**
@@ -175,4 +188,42 @@ public class PageCommandController {
 
         return ResponseEntity.ok(ApiResponse.success("페이지가 버전 " + version + "으로 복원되었습니다.", response));
     }
-}
\ No newline at end of file
+
+    /**
+     * 페이지 블록 전환
+     */
+    @PostMapping("/{pageId}/blocks/convert")
+    @Operation(summary = "페이지 블록 전환", description = "페이지 본문을 문단 단위 블록으로 전환합니다.")
+    public ResponseEntity<ApiResponse<List<PageBlockResponse>>> convertToBlocks(
+            @Parameter(description = "워크스페이스 ID") @PathVariable Long workspaceId,
+            @Parameter(description = "페이지 ID") @PathVariable Long pageId,
+            @AuthenticationPrincipal User currentUser
+    ) {
+        log.info("페이지 블록 전환 요청: {}, 사용자: {}", pageId, currentUser.getId());
+
+        List<PageBlockResponse> response = pageBlockCommandService.convertToBlocks(pageId, currentUser);
+
+        return ResponseEntity.ok(ApiResponse.success("페이지가 블록으로 전환되었습니다.", response));
+    }
+
+    /**
+     * 페이지 블록 부분 수정
+     */
+    @PatchMapping("/{pageId}/blocks")
+    @Operation(summary = "페이지 블록 부분 수정", description = "블록 추가/수정/이동/삭제 연산을 순서대로 적용합니다. 변경된 블록만 저장됩니다.")
+    public ResponseEntity<ApiResponse<PageBlockPatchResponse>> patchBlocks(
+            @Parameter(description = "워크스페이스 ID") @PathVariable Long workspaceId,
+            @Parameter(description = "페이지 ID") @PathVariable Long pageId,
+            @Parameter(description = "수정 기준 페이지 버전 (ETag, 여러 개면 하나라도 일치하면 수정)") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @AuthenticationPrincipal User currentUser,
+            @Valid @RequestBody PageBlockPatchRequest request
+    ) {
+        log.info("페이지 블록 수정 요청: {}, 사용자: {}", pageId, currentUser.getId());
+
+        PageBlockPatchResponse response = pageBlockCommandService.patchBlocks(pageId, currentUser, request, IfMatchCondition.parse(ifMatch));
+
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(response.getVersion()))
+                .body(ApiResponse.success("페이지 블록이 수정되었습니다.", response));
+    }
+}
@@ -1,5 +1,7 @@
 package com.stacknote.back.domain.page.controller.query;
 
+import com.stacknote.back.domain.page.dto.response.PageBlockResponse;
+import com.stacknote.back.domain.page.dto.response.PageChangesResponse;
 import com.stacknote.back.domain.page.dto.response.PageResponse;
 import com.stacknote.back.domain.page.dto.response.PageSummaryResponse;
 import com.stacknote.back.domain.page.entity.Page;
@@ -62,6 +64,24 @@ public class PageQueryController {
         return ResponseEntity.ok(ApiResponse.success("최상위 페이지 목록 조회 완료", pages));
     }
 
+    /**
+     * 변경 순번 이후의 페이지 변경 조회 (동기화용)
+     */
+    @GetMapping("/changes")
+    @Operation(summary = "페이지 변경 조회", description = "마지막으로 받은 변경 순번 이후 생성/수정/삭제된 페이지만 조회합니다.")
+    public ResponseEntity<ApiResponse<PageChangesResponse>> getChangesSince(
+            @Parameter(description = "워크스페이스 ID") @PathVariable Long workspaceId,
+            @Parameter(description = "마지막으로 받은 변경 순번 (처음이면 0)") @RequestParam(defaultValue = "0") long since,
+            @Parameter(description = "최대 변경 수") @RequestParam(defaultValue = "500") int limit,
+            @AuthenticationPrincipal User currentUser
+    ) {
+        log.debug("페이지 변경 조회 요청: 워크스페이스: {}, 순번: {}, 사용자: {}", workspaceId, since, currentUser.getId());
+
+        PageChangesResponse changes = pageQueryService.getChangesSince(workspaceId, currentUser, since, limit);
+
+        return ResponseEntity.ok(ApiResponse.success("페이지 변경 조회 완료", changes));
+    }
+
     /**
      * 페이지 상세 조회
      */
@@ -76,7 +96,26 @@ public class PageQueryController {
 
         PageResponse page = pageQueryService.getPage(pageId, currentUser);
 
-        return ResponseEntity.ok(ApiResponse.success("페이지 조회 완료", page));
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(page.getVersion()))
+                .body(ApiResponse.success("페이지 조회 완료", page));
+    }
+
+    /**
+     * 페이지 블록 목록 조회
+     */
+    @GetMapping("/{pageId}/blocks")
+    @Operation(summary = "페이지 블록 목록", description = "블록으로 전환된 페이지의 블록을 순서대로 조회합니다.")
+    public ResponseEntity<ApiResponse<List<PageBlockResponse>>> getPageBlocks(
+            @Parameter(description = "워크스페이스 ID") @PathVariable Long workspaceId,
+            @Parameter(description = "페이지 ID") @PathVariable Long pageId,
+            @AuthenticationPrincipal User currentUser
+    ) {
+        log.debug("페이지 블록 조회 요청: {}, 사용자: {}", pageId, currentUser.getId());
+
+        List<PageBlockResponse> blocks = pageQueryService.getPageBlocks(pageId, currentUser);
+
+        return ResponseEntity.ok(ApiResponse.success("페이지 블록 조회 완료", blocks));
     }
 
     /**
@@ -4,6 +4,7 @@ import com.stacknote.back.domain.page.dto.response.PageSummaryResponse;
 import com.stacknote.back.domain.page.service.query.PageQueryService;
 import com.stacknote.back.domain.user.entity.User;
 import com.stacknote.back.global.dto.ApiResponse;
+import com.stacknote.back.global.dto.CursorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -50,4 +51,18 @@ public class UserPageQueryController {
         List<PageSummaryResponse> pages = pageQueryService.getUserRecentlyModifiedPages(currentUser, limit);
         return ResponseEntity.ok(ApiResponse.success("내가 최근 수정한 페이지 목록 조회 완료", pages));
     }
-}
\ No newline at end of file
+
+    /**
+     * 내가 최근 수정한 페이지 목록 커서 조회
+     */
+    @GetMapping("/recent-modified/cursor")
+    @Operation(summary = "내가 최근 수정한 페이지 (커서)", description = "현재 사용자가 최근 수정한 페이지 목록을 커서 기반으로 조회합니다.")
+    public ResponseEntity<ApiResponse<CursorResponse<PageSummaryResponse>>> getMyRecentlyModifiedPagesByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal User currentUser
+    ) {
+        CursorResponse<PageSummaryResponse> pages = pageQueryService.getUserRecentlyModifiedPages(currentUser, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success("내가 최근 수정한 페이지 목록 조회 완료", pages));
+    }
+}
@@ -0,0 +1,29 @@
+package com.stacknote.back.domain.page.dto.projection;
+
+import com.stacknote.back.domain.page.entity.Page;
+
+import java.time.LocalDateTime;
+
+/**
+ * 페이지 목록 조회용 프로젝션
+ * 본문(content) 없이 목록에 필요한 컬럼만 조회하며 영속성 컨텍스트에 엔티티를 올리지 않음
+ */
+public record PageSummaryProjection(Long id,
+                                    String title,
+                                    String summary,
+                                    String icon,
+                                    String coverImageUrl,
+                                    Long parentId,
+                                    String createdByName,
+                                    String lastModifiedByName,
+                                    Boolean isPublished,
+                                    Boolean isTemplate,
+                                    Boolean isLocked,
+                                    Integer sortOrder,
+                                    Long viewCount,
+                                    Page.PageType pageType,
+                                    Boolean hasChildren,
+                                    LocalDateTime createdAt,
+                                    LocalDateTime updatedAt,
+                                    Long version) {
+}
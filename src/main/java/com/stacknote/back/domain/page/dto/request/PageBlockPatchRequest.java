@@ -0,0 +1,55 @@
+package com.stacknote.back.domain.page.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 페이지 블록 부분 수정 요청 DTO
+ * 연산은 순서대로 적용되며, 같은 요청에서 추가한 블록을 뒤 연산에서 참조할 수 있음
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageBlockPatchRequest {
+
+    @NotEmpty(message = "블록 연산 목록은 필수입니다.")
+    @Size(max = 500, message = "한 번에 500개까지 연산할 수 있습니다.")
+    @Valid
+    private List<BlockOperation> operations;
+
+    /**
+     * 블록 연산
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BlockOperation {
+
+        @NotNull(message = "연산 타입은 필수입니다.")
+        private OperationType type;
+
+        @Size(max = 36, message = "블록 ID는 36자를 초과할 수 없습니다.")
+        private String blockId; // INSERT 시 생략하면 서버에서 생성
+
+        private String afterBlockId; // INSERT/MOVE 기준 블록 (null이면 맨 앞)
+
+        private String content; // INSERT/UPDATE 본문 (마크다운)
+    }
+
+    /**
+     * 연산 타입
+     */
+    public enum OperationType {
+        INSERT,     // 블록 추가
+        UPDATE,     // 블록 본문 수정
+        MOVE,       // 블록 이동
+        DELETE      // 블록 삭제
+    }
+}
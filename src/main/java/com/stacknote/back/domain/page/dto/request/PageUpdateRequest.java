@@ -18,7 +18,7 @@ public class PageUpdateRequest {
     @Size(min = 1, max = 200, message = "제목은 1자 이상 200자 이하여야 합니다.")
     private String title;
 
-    private String content; // 마크다운 콘텐츠
+    private String content; // 마크다운 콘텐츠 (보내면 본문 전체를 교체하고 블록 모드를 해제, 블록은 삭제됨)
 
     @Size(max = 10, message = "아이콘은 10자를 초과할 수 없습니다.")
     @Pattern(regexp = "^[\\p{So}\\p{Sk}]*$", message = "아이콘은 이모지만 입력 가능합니다.")
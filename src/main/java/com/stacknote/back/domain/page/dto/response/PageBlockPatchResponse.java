@@ -0,0 +1,34 @@
+package com.stacknote.back.domain.page.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 페이지 블록 부분 수정 응답 DTO
+ * 변경된 블록만 포함
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "페이지 블록 부분 수정 결과")
+public class PageBlockPatchResponse {
+
+    @Schema(description = "페이지 ID")
+    private Long pageId;
+
+    @Schema(description = "수정 후 페이지 버전 (다음 If-Match 에 사용)")
+    private Long version;
+
+    @Schema(description = "추가/수정/이동된 블록")
+    private List<PageBlockResponse> changedBlocks;
+
+    @Schema(description = "삭제된 블록 ID")
+    private List<String> deletedBlockIds;
+
+    @Schema(description = "전체 블록 위치가 재배치되었는지 (true면 블록 목록을 다시 조회해야 함)")
+    private boolean rebalanced;
+}
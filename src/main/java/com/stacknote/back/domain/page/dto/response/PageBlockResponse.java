@@ -0,0 +1,45 @@
+package com.stacknote.back.domain.page.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.stacknote.back.domain.page.entity.PageBlock;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 페이지 블록 응답 DTO
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "페이지 블록 정보")
+public class PageBlockResponse {
+
+    @Schema(description = "블록 ID")
+    private String id;
+
+    @Schema(description = "정렬 키 (문자열 오름차순)")
+    private String position;
+
+    @Schema(description = "블록 내용 (위치만 바뀐 경우 null)")
+    private String content;
+
+    @Schema(description = "수정 시간")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime updatedAt;
+
+    /**
+     * PageBlock 엔티티로부터 PageBlockResponse 생성
+     */
+    public static PageBlockResponse from(PageBlock block) {
+        return PageBlockResponse.builder()
+                .id(block.getId())
+                .position(block.getPosition())
+                .content(block.getContent())
+                .updatedAt(block.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.stacknote.back.domain.page.dto.response;
+
+import com.stacknote.back.domain.page.entity.PageChange;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * 페이지 변경 응답 DTO (동기화용)
+ * 같은 페이지의 여러 변경은 하나로 합쳐서 반환
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageChangeResponse {
+
+    private Long pageId;
+    private Long seq;                           // 이 페이지의 마지막 변경 순번
+    private PageChange.ChangeType changeType;   // 마지막 변경 타입
+    private Set<PageChange.Field> changedFields; // 구간 내 변경된 필드 합집합
+    private boolean deleted;                    // true면 클라이언트에서 제거
+    private PageSummaryResponse page;           // 현재 페이지 요약 (삭제된 경우 null)
+}
@@ -0,0 +1,26 @@
+package com.stacknote.back.domain.page.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 페이지 변경 목록 응답 DTO
+ * 클라이언트는 nextSince 를 저장해 두었다가 다음 동기화 요청의 since 로 전달
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageChangesResponse {
+
+    private Long workspaceId;
+    private Long nextSince;       // 이번 응답까지 반영된 변경 순번
+    private Long latestSeq;       // 워크스페이스의 최신 변경 순번
+    private boolean hasMore;      // true면 nextSince 로 이어서 조회
+    private boolean resetRequired; // true면 변경 로그가 정리되어 전체 목록을 다시 조회해야 함
+    private List<PageChangeResponse> changes;
+}
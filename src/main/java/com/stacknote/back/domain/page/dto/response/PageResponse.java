@@ -40,15 +40,16 @@ public class PageResponse {
     private Boolean hasChildren;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version; // If-Match 조건부 수정용 (ETag 와 동일)
 
     /**
-     * Page 엔티티로부터 PageResponse 생성
+     * Page 엔티티와 본문으로부터 PageResponse 생성
      */
-    public static PageResponse from(Page page) {
+    public static PageResponse from(Page page, String content) {
         return PageResponse.builder()
                 .id(page.getId())
                 .title(page.getTitle())
-                .content(page.getContent())
+                .content(content)
                 .summary(page.getSummary())
                 .icon(page.getIcon())
                 .coverImageUrl(page.getCoverImageUrl())
@@ -69,6 +70,7 @@ public class PageResponse {
                 .hasChildren(!page.getChildren().isEmpty())
                 .createdAt(page.getCreatedAt())
                 .updatedAt(page.getUpdatedAt())
+                .version(page.getVersion())
                 .build();
     }
 
@@ -76,7 +78,7 @@ public class PageResponse {
      * 콘텐츠 없는 요약 버전 생성
      */
     public static PageResponse fromWithoutContent(Page page) {
-        PageResponse response = from(page);
+        PageResponse response = from(page, null);
         return PageResponse.builder()
                 .id(response.id)
                 .title(response.title)
@@ -99,6 +101,7 @@ public class PageResponse {
                 .hasChildren(response.hasChildren)
                 .createdAt(response.createdAt)
                 .updatedAt(response.updatedAt)
+                .version(response.version)
                 .build();
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.stacknote.back.domain.page.dto.response;
 
+import com.stacknote.back.domain.page.dto.projection.PageSummaryProjection;
 import com.stacknote.back.domain.page.entity.Page;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -35,6 +36,7 @@ public class PageSummaryResponse {
     private Boolean hasChildren;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version; // If-Match 조건부 수정용
 
     /**
      * Page 엔티티로부터 PageSummaryResponse 생성
@@ -60,6 +62,34 @@ public class PageSummaryResponse {
                 .hasChildren(!page.getChildren().isEmpty())
                 .createdAt(page.getCreatedAt())
                 .updatedAt(page.getUpdatedAt())
+                .version(page.getVersion())
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 목록 프로젝션으로부터 PageSummaryResponse 생성
+     */
+    public static PageSummaryResponse from(PageSummaryProjection page, int depth) {
+        return PageSummaryResponse.builder()
+                .id(page.id())
+                .title(page.title())
+                .summary(page.summary())
+                .icon(page.icon())
+                .coverImageUrl(page.coverImageUrl())
+                .parentId(page.parentId())
+                .createdByName(page.createdByName())
+                .lastModifiedByName(page.lastModifiedByName())
+                .isPublished(page.isPublished())
+                .isTemplate(page.isTemplate())
+                .isLocked(page.isLocked())
+                .sortOrder(page.sortOrder())
+                .viewCount(page.viewCount())
+                .pageType(page.pageType().name())
+                .depth(depth)
+                .hasChildren(page.hasChildren())
+                .createdAt(page.createdAt())
+                .updatedAt(page.updatedAt())
+                .version(page.version())
+                .build();
+    }
+}
@@ -19,7 +19,9 @@ import java.util.List;
         @Index(name = "idx_page_parent", columnList = "parent_id"),
         @Index(name = "idx_page_creator", columnList = "created_by"),
         @Index(name = "idx_page_title", columnList = "title"),
-        @Index(name = "idx_page_is_published", columnList = "is_published")
+        @Index(name = "idx_page_is_published", columnList = "is_published"),
+        @Index(name = "idx_page_modifier_updated", columnList = "last_modified_by, updated_at, id"),
+        @Index(name = "idx_page_content_stale_updated", columnList = "content_stale, updated_at")
 })
 @Getter
 @Builder
@@ -30,11 +32,8 @@ public class Page extends BaseEntity {
     @Column(name = "title", nullable = false, length = 200)
     private String title;
 
-    @Column(name = "content", columnDefinition = "TEXT")
-    private String content; // 마크다운 형식
-
     @Column(name = "summary", length = 500)
-    private String summary; // 자동 생성되는 요약
+    private String summary; // 자동 생성되는 요약 (본문은 page_contents 테이블에 보관)
 
     @Column(name = "icon", length = 10)
     private String icon; // 이모지 또는 아이콘
@@ -87,20 +86,26 @@ public class Page extends BaseEntity {
     @Builder.Default
     private PageType pageType = PageType.DOCUMENT;
 
+    // 블록 수정 후 page_contents 본문이 아직 재구성되지 않음 (상세/편집 조회는 블록에서 조립)
+    @Column(name = "content_stale", nullable = false, columnDefinition = "BOOLEAN NOT NULL DEFAULT FALSE")
+    @Builder.Default
+    private Boolean contentStale = false;
+
+    // 낙관적 잠금 버전 (If-Match 조건부 수정, 동시 저장 덮어쓰기 방지)
+    // 새 엔티티 판별을 위해 null 로 두고 저장 시 0부터 시작, 기존 행은 DEFAULT 0 으로 채움
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long version;
+
     // ===== 비즈니스 로직 메서드 =====
 
     /**
      * 페이지 정보 업데이트
      */
-    public void updateInfo(String title, String content, String icon, String coverImageUrl) {
+    public void updateInfo(String title, String icon, String coverImageUrl) {
         if (title != null && !title.trim().isEmpty()) {
             this.title = title.trim();
         }
-        if (content != null) {
-            this.content = content;
-            // 콘텐츠가 변경되면 요약도 업데이트
-            this.summary = generateSummary(content);
-        }
         if (icon != null) {
             this.icon = icon.trim().isEmpty() ? null : icon.trim();
         }
@@ -109,6 +114,27 @@ public class Page extends BaseEntity {
         }
     }
 
+    /**
+     * 본문 변경 시 요약 갱신 (본문 자체는 page_contents 에 저장)
+     */
+    public void updateSummary(String content) {
+        this.summary = generateSummary(content);
+    }
+
+    /**
+     * 블록 수정으로 page_contents 본문 재구성이 필요함을 표시
+     */
+    public void markContentStale() {
+        this.contentStale = true;
+    }
+
+    /**
+     * page_contents 본문이 최신임을 표시 (본문 전체 교체, 재구성 완료 시)
+     */
+    public void markContentAssembled() {
+        this.contentStale = false;
+    }
+
     /**
      * 마지막 수정자 업데이트
      */
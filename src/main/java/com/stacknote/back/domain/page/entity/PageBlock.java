@@ -0,0 +1,39 @@
+package com.stacknote.back.domain.page.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 페이지 블록 엔티티
+ * 블록 모드 페이지의 본문을 문단 단위로 나누어 보관 (부분 수정 시 바뀐 블록만 기록)
+ * 블록 순서는 정수 정렬 순서 대신 분수 인덱스 문자열(position)로 관리하여 삽입/이동 시 다른 블록을 건드리지 않음
+ */
+@Entity
+@Table(name = "page_blocks", indexes = {
+        @Index(name = "idx_page_block_page_position", columnList = "page_id, position")
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class PageBlock {
+
+    @Id
+    @Column(name = "id", length = 36)
+    private String id; // 클라이언트가 참조하는 고정 블록 ID (UUID)
+
+    @Column(name = "page_id", nullable = false)
+    private Long pageId;
+
+    // 바이트 순서로 비교해야 하므로 "C" 콜레이션 사용
+    @Column(name = "position", nullable = false, columnDefinition = "VARCHAR(255) COLLATE \"C\"")
+    private String position;
+
+    @Column(name = "content", columnDefinition = "TEXT")
+    private String content; // 마크다운 형식
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
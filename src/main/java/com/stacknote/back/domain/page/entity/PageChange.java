@@ -0,0 +1,88 @@
+package com.stacknote.back.domain.page.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 페이지 변경 로그 엔티티
+ * 워크스페이스별로 단조 증가하는 변경 순번(seq)을 부여하여 클라이언트가 마지막 순번 이후 변경만 받아가도록 함
+ * 행은 PageChangeLog 가 JDBC 배치로만 추가하고 보관 기간이 지나면 삭제
+ */
+@Entity
+@Table(name = "page_changes", indexes = {
+        @Index(name = "idx_page_change_workspace_seq", columnList = "workspace_id, seq"),
+        @Index(name = "idx_page_change_changed_at", columnList = "changed_at")
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class PageChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "workspace_id", nullable = false)
+    private Long workspaceId;
+
+    @Column(name = "seq", nullable = false)
+    private Long seq; // 워크스페이스 내 변경 순번 (한 트랜잭션의 변경은 같은 순번)
+
+    @Column(name = "page_id", nullable = false)
+    private Long pageId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 20)
+    private ChangeType changeType;
+
+    @Column(name = "changed_fields", length = 255)
+    private String changedFields; // 변경된 필드 (쉼표 구분)
+
+    @Column(name = "changed_by")
+    private Long changedBy;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    /**
+     * 변경된 필드 목록
+     */
+    public Set<Field> getFieldSet() {
+        Set<Field> fields = EnumSet.noneOf(Field.class);
+        if (changedFields != null && !changedFields.isEmpty()) {
+            Arrays.stream(changedFields.split(",")).map(Field::valueOf).forEach(fields::add);
+        }
+        return fields;
+    }
+
+    /**
+     * 변경 타입
+     */
+    public enum ChangeType {
+        CREATED,    // 생성 (복제 포함)
+        UPDATED,    // 필드 수정
+        DELETED     // 삭제
+    }
+
+    /**
+     * 변경 필드
+     */
+    public enum Field {
+        TITLE,
+        CONTENT,
+        ICON,
+        COVER_IMAGE,
+        PARENT,
+        SORT_ORDER,
+        PAGE_TYPE,
+        PUBLISHED,
+        TEMPLATE,
+        LOCKED
+    }
+}
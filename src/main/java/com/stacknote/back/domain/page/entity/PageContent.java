@@ -0,0 +1,35 @@
+package com.stacknote.back.domain.page.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 페이지 본문 엔티티
+ * 자주 조회되는 페이지 메타데이터(pages)와 큰 본문을 분리하여 보관
+ * 본문이 필요한 상세 조회/편집/검색에서만 page_id로 조회
+ */
+@Entity
+@Table(name = "page_contents")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class PageContent {
+
+    @Id
+    @Column(name = "page_id")
+    private Long pageId; // 페이지 ID (pages.id와 동일)
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "page_id", insertable = false, updatable = false,
+            foreignKey = @ForeignKey(name = "fk_page_content_page"))
+    private Page page;
+
+    @Column(name = "content", columnDefinition = "TEXT")
+    private String content; // 마크다운 형식
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
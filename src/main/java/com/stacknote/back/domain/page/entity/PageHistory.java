@@ -68,19 +68,19 @@ public class PageHistory extends BaseTimeEntity {
     /**
      * 현재 페이지 상태로부터 히스토리 생성
      */
-    public static PageHistory createFromPage(Page page, User modifiedBy, ChangeType changeType, String changeDescription) {
+    public static PageHistory createFromPage(Page page, String content, User modifiedBy, ChangeType changeType, String changeDescription) {
         return PageHistory.builder()
                 .page(page)
                 .version(getNextVersion(page))
                 .title(page.getTitle())
-                .content(page.getContent())
+                .content(content)
                 .summary(page.getSummary())
                 .icon(page.getIcon())
                 .coverImageUrl(page.getCoverImageUrl())
                 .modifiedBy(modifiedBy)
                 .changeType(changeType)
                 .changeDescription(changeDescription)
-                .contentSize(calculateContentSize(page.getContent()))
+                .contentSize(calculateContentSize(content))
                 .build();
     }
 
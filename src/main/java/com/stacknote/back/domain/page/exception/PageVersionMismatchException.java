@@ -0,0 +1,15 @@
+package com.stacknote.back.domain.page.exception;
+
+import com.stacknote.back.global.exception.ErrorCode;
+import com.stacknote.back.global.exception.custom.BusinessException;
+
+/**
+ * If-Match 로 전달한 페이지 버전이 현재 버전과 다를 때 발생하는 예외
+ */
+public class PageVersionMismatchException extends BusinessException {
+
+    public PageVersionMismatchException(String expectedVersion, Long currentVersion) {
+        super(ErrorCode.PAGE_VERSION_MISMATCH,
+                "페이지가 다른 곳에서 수정되었습니다. (요청 버전: " + expectedVersion + ", 현재 버전: " + currentVersion + ")");
+    }
+}
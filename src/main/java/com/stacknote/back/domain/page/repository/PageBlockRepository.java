@@ -0,0 +1,84 @@
+package com.stacknote.back.domain.page.repository;
+
+import com.stacknote.back.domain.page.entity.PageBlock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 페이지 블록 Repository
+ * 블록 추가/수정은 PageBlockCommandService 에서 JDBC 배치로 처리
+ */
+@Repository
+public interface PageBlockRepository extends JpaRepository<PageBlock, String> {
+
+    /**
+     * 페이지의 블록 목록 (순서대로)
+     */
+    @Query("SELECT b FROM PageBlock b WHERE b.pageId = :pageId ORDER BY b.position")
+    List<PageBlock> findByPageIdOrderByPosition(@Param("pageId") Long pageId);
+
+    /**
+     * 페이지의 블록 ID와 위치만 조회 (본문 제외, 순서대로)
+     * @return [블록 ID, 위치] 목록
+     */
+    @Query("SELECT b.id, b.position FROM PageBlock b WHERE b.pageId = :pageId ORDER BY b.position")
+    List<Object[]> findPositionsByPageId(@Param("pageId") Long pageId);
+
+    /**
+     * 블록을 순서대로 이어 붙인 본문 (블록 사이 구분자는 PageBlockAssembler.SEPARATOR 와 동일)
+     */
+    @Query(value = """
+        SELECT COALESCE(STRING_AGG(content, E'\\n\\n' ORDER BY position), '')
+        FROM page_blocks WHERE page_id = :pageId
+        """, nativeQuery = true)
+    String assembleContent(@Param("pageId") Long pageId);
+
+    /**
+     * 앞쪽 블록만 이어 붙인 본문 앞부분 (요약 생성용, 전체 블록을 읽지 않음)
+     */
+    @Query(value = """
+        SELECT LEFT(STRING_AGG(content, E'\\n\\n' ORDER BY position), :length)
+        FROM (SELECT LEFT(content, :length) AS content, position FROM page_blocks
+              WHERE page_id = :pageId ORDER BY position LIMIT :blockCount) b
+        """, nativeQuery = true)
+    String findContentPrefix(@Param("pageId") Long pageId, @Param("length") int length,
+                             @Param("blockCount") int blockCount);
+
+    /**
+     * 이미 사용 중인 블록 ID 조회 (블록 ID는 전체 페이지에서 고유)
+     */
+    @Query("SELECT b.id FROM PageBlock b WHERE b.id IN :ids")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
+
+    /**
+     * 블록 모드 페이지 여부
+     */
+    boolean existsByPageId(Long pageId);
+
+    /**
+     * 블록 일괄 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM PageBlock b WHERE b.pageId = :pageId AND b.id IN :ids")
+    int deleteByIds(@Param("pageId") Long pageId, @Param("ids") Collection<String> ids);
+
+    /**
+     * 페이지의 모든 블록 삭제 (블록 모드 해제)
+     */
+    @Modifying
+    @Query("DELETE FROM PageBlock b WHERE b.pageId = :pageId")
+    int deleteByPageId(@Param("pageId") Long pageId);
+
+    /**
+     * 여러 페이지의 블록 일괄 삭제 (페이지 삭제 시)
+     */
+    @Modifying
+    @Query("DELETE FROM PageBlock b WHERE b.pageId IN :pageIds")
+    int deleteByPageIds(@Param("pageIds") Collection<Long> pageIds);
+}
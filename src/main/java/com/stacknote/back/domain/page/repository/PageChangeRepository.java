@@ -0,0 +1,58 @@
+package com.stacknote.back.domain.page.repository;
+
+import com.stacknote.back.domain.page.entity.PageChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 페이지 변경 로그 Repository
+ * 변경 기록 추가는 PageChangeLog 에서 JDBC 배치로 처리
+ */
+@Repository
+public interface PageChangeRepository extends JpaRepository<PageChange, Long> {
+
+    /**
+     * 순번 구간의 변경 순번 목록 (응답 크기 제한용, 변경 행 단위)
+     */
+    @Query("""
+        SELECT c.seq FROM PageChange c
+        WHERE c.workspaceId = :workspaceId AND c.seq > :since AND c.seq <= :until
+        ORDER BY c.seq
+        """)
+    List<Long> findSeqsInRange(@Param("workspaceId") Long workspaceId,
+                               @Param("since") Long since,
+                               @Param("until") Long until,
+                               Pageable pageable);
+
+    /**
+     * 순번 구간의 변경 목록 (순번 오름차순)
+     */
+    @Query("""
+        SELECT c FROM PageChange c
+        WHERE c.workspaceId = :workspaceId AND c.seq > :since AND c.seq <= :until
+        ORDER BY c.seq, c.id
+        """)
+    List<PageChange> findInRange(@Param("workspaceId") Long workspaceId,
+                                 @Param("since") Long since,
+                                 @Param("until") Long until);
+
+    /**
+     * 보관 중인 가장 오래된 변경 순번
+     */
+    @Query("SELECT MIN(c.seq) FROM PageChange c WHERE c.workspaceId = :workspaceId")
+    Long findMinSeq(@Param("workspaceId") Long workspaceId);
+
+    /**
+     * 보관 기간이 지난 변경 기록 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM PageChange c WHERE c.changedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
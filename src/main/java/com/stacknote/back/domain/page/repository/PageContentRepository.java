@@ -0,0 +1,81 @@
+package com.stacknote.back.domain.page.repository;
+
+import com.stacknote.back.domain.page.entity.PageContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 페이지 본문 Repository
+ */
+@Repository
+public interface PageContentRepository extends JpaRepository<PageContent, Long> {
+
+    /**
+     * 페이지 본문 조회
+     */
+    @Query("SELECT c.content FROM PageContent c WHERE c.pageId = :pageId")
+    Optional<String> findContentByPageId(@Param("pageId") Long pageId);
+
+    /**
+     * 여러 페이지 본문 일괄 조회
+     * @return [페이지 ID, 본문] 목록
+     */
+    @Query("SELECT c.pageId, c.content FROM PageContent c WHERE c.pageId IN :pageIds")
+    List<Object[]> findContentsByPageIds(@Param("pageIds") Collection<Long> pageIds);
+
+    /**
+     * 페이지 본문 저장 (없으면 생성, 있으면 교체)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO page_contents (page_id, content, updated_at)
+        VALUES (:pageId, :content, NOW())
+        ON CONFLICT (page_id) DO UPDATE SET content = EXCLUDED.content, updated_at = NOW()
+        """, nativeQuery = true)
+    int upsert(@Param("pageId") Long pageId, @Param("content") String content);
+
+    /**
+     * 다른 페이지의 본문을 그대로 복사 (본문을 애플리케이션으로 가져오지 않음)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO page_contents (page_id, content, updated_at)
+        SELECT :targetPageId, content, NOW() FROM page_contents WHERE page_id = :sourcePageId
+        ON CONFLICT (page_id) DO UPDATE SET content = EXCLUDED.content, updated_at = NOW()
+        """, nativeQuery = true)
+    int copy(@Param("sourcePageId") Long sourcePageId, @Param("targetPageId") Long targetPageId);
+
+    /**
+     * 블록을 순서대로 이어 붙여 본문 재구성 (블록 본문을 애플리케이션으로 가져오지 않음)
+     * 블록 사이 구분자는 PageBlockAssembler.SEPARATOR 와 동일
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO page_contents (page_id, content, updated_at)
+        SELECT :pageId, COALESCE(STRING_AGG(content, E'\\n\\n' ORDER BY position), ''), NOW()
+        FROM page_blocks WHERE page_id = :pageId
+        ON CONFLICT (page_id) DO UPDATE SET content = EXCLUDED.content, updated_at = NOW()
+        """, nativeQuery = true)
+    int assembleFromBlocks(@Param("pageId") Long pageId);
+
+    /**
+     * 재구성이 필요한 페이지들의 본문을 블록으로부터 일괄 재구성 (페이지 삭제로 블록을 지우기 전)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO page_contents (page_id, content, updated_at)
+        SELECT b.page_id, STRING_AGG(b.content, E'\\n\\n' ORDER BY b.position), NOW()
+        FROM page_blocks b JOIN pages p ON p.id = b.page_id
+        WHERE b.page_id IN (:pageIds) AND p.content_stale
+        GROUP BY b.page_id
+        ON CONFLICT (page_id) DO UPDATE SET content = EXCLUDED.content, updated_at = NOW()
+        """, nativeQuery = true)
+    int assembleStaleFromBlocks(@Param("pageIds") Collection<Long> pageIds);
+}
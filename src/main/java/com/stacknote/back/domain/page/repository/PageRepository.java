@@ -1,16 +1,20 @@
 package com.stacknote.back.domain.page.repository;
 
+import com.stacknote.back.domain.page.dto.projection.PageSummaryProjection;
 import com.stacknote.back.domain.page.entity.Page;
 import com.stacknote.back.domain.user.entity.User;
 import com.stacknote.back.domain.workspace.entity.Workspace;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,17 +24,32 @@ import java.util.Optional;
 @Repository
 public interface PageRepository extends JpaRepository<Page, Long> {
 
+    /**
+     * 목록 조회용 프로젝션 SELECT 절 (본문 content 제외)
+     */
+    String SUMMARY_SELECT = """
+        SELECT new com.stacknote.back.domain.page.dto.projection.PageSummaryProjection(
+            p.id, p.title, p.summary, p.icon, p.coverImageUrl, p.parent.id,
+            c.username, m.username, p.isPublished, p.isTemplate, p.isLocked,
+            p.sortOrder, p.viewCount, p.pageType,
+            CASE WHEN EXISTS (SELECT 1 FROM Page ch WHERE ch.parent = p AND ch.deletedAt IS NULL) THEN true ELSE false END,
+            p.createdAt, p.updatedAt, p.version)
+        FROM Page p
+        JOIN p.createdBy c
+        LEFT JOIN p.lastModifiedBy m
+        """;
+
     /**
      * 워크스페이스의 활성 페이지 목록 조회
      */
-    @Query("SELECT p FROM Page p WHERE p.workspace = :workspace AND p.deletedAt IS NULL ORDER BY p.sortOrder, p.createdAt")
-    List<Page> findByWorkspace(@Param("workspace") Workspace workspace);
+    @Query(SUMMARY_SELECT + "WHERE p.workspace = :workspace AND p.deletedAt IS NULL ORDER BY p.sortOrder, p.createdAt")
+    List<PageSummaryProjection> findByWorkspace(@Param("workspace") Workspace workspace);
 
     /**
      * 워크스페이스의 최상위 페이지들 조회
      */
-    @Query("SELECT p FROM Page p WHERE p.workspace = :workspace AND p.parent IS NULL AND p.deletedAt IS NULL ORDER BY p.sortOrder, p.createdAt")
-    List<Page> findRootPagesByWorkspace(@Param("workspace") Workspace workspace);
+    @Query(SUMMARY_SELECT + "WHERE p.workspace = :workspace AND p.parent IS NULL AND p.deletedAt IS NULL ORDER BY p.sortOrder, p.createdAt")
+    List<PageSummaryProjection> findRootPagesByWorkspace(@Param("workspace") Workspace workspace);
 
     /**
      * 특정 부모 페이지의 자식 페이지들 조회
@@ -38,12 +57,25 @@ public interface PageRepository extends JpaRepository<Page, Long> {
     @Query("SELECT p FROM Page p WHERE p.parent = :parent AND p.deletedAt IS NULL ORDER BY p.sortOrder, p.createdAt")
     List<Page> findByParent(@Param("parent") Page parent);
 
+    /**
+     * 특정 부모 페이지의 자식 페이지들 조회 (목록용)
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.parent = :parent AND p.deletedAt IS NULL ORDER BY p.sortOrder, p.createdAt")
+    List<PageSummaryProjection> findChildPageSummaries(@Param("parent") Page parent);
+
     /**
      * 페이지 ID로 활성 페이지 조회
      */
     @Query("SELECT p FROM Page p WHERE p.id = :id AND p.deletedAt IS NULL")
     Optional<Page> findActivePageById(@Param("id") Long id);
 
+    /**
+     * 페이지 ID로 활성 페이지 조회 (행 잠금, 블록 부분 수정 직렬화용)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Page p WHERE p.id = :id AND p.deletedAt IS NULL")
+    Optional<Page> findActivePageByIdForUpdate(@Param("id") Long id);
+
     /**
      * 워크스페이스 내에서 제목으로 페이지 검색
      */
@@ -64,57 +96,84 @@ public interface PageRepository extends JpaRepository<Page, Long> {
         WHERE p.workspace = :workspace 
         AND p.deletedAt IS NULL 
         AND (LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) 
-             OR LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%')))
+             OR EXISTS (SELECT 1 FROM PageContent pc WHERE pc.pageId = p.id
+                        AND LOWER(pc.content) LIKE LOWER(CONCAT('%', :keyword, '%'))))
         ORDER BY p.updatedAt DESC
         """)
     List<Page> searchByContentInWorkspace(@Param("workspace") Workspace workspace, @Param("keyword") String keyword);
 
+    /**
+     * 워크스페이스 내에서 콘텐츠로 페이지 검색 (목록용, 본문은 조건에만 사용)
+     */
+    @Query(SUMMARY_SELECT + """
+        WHERE p.workspace = :workspace 
+        AND p.deletedAt IS NULL 
+        AND (LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) 
+             OR EXISTS (SELECT 1 FROM PageContent pc WHERE pc.pageId = p.id
+                        AND LOWER(pc.content) LIKE LOWER(CONCAT('%', :keyword, '%'))))
+        ORDER BY p.updatedAt DESC
+        """)
+    List<PageSummaryProjection> searchSummariesByContentInWorkspace(@Param("workspace") Workspace workspace,
+                                                                    @Param("keyword") String keyword);
+
     /**
      * 사용자가 생성한 페이지 목록 조회
      */
-    @Query("SELECT p FROM Page p WHERE p.createdBy = :user AND p.deletedAt IS NULL ORDER BY p.createdAt DESC")
-    List<Page> findByCreatedBy(@Param("user") User user);
+    @Query(SUMMARY_SELECT + "WHERE p.createdBy = :user AND p.deletedAt IS NULL ORDER BY p.createdAt DESC")
+    List<PageSummaryProjection> findByCreatedBy(@Param("user") User user, Pageable pageable);
 
     /**
      * 최근 수정된 페이지 목록 조회 (워크스페이스별)
      */
-    @Query("""
-        SELECT p FROM Page p 
+    @Query(SUMMARY_SELECT + """
         WHERE p.workspace = :workspace 
         AND p.deletedAt IS NULL 
         AND p.updatedAt >= :since
         ORDER BY p.updatedAt DESC
         """)
-    List<Page> findRecentlyModifiedInWorkspace(@Param("workspace") Workspace workspace, @Param("since") LocalDateTime since, Pageable pageable);
+    List<PageSummaryProjection> findRecentlyModifiedInWorkspace(@Param("workspace") Workspace workspace, @Param("since") LocalDateTime since, Pageable pageable);
 
     /**
      * 공개된 페이지 목록 조회 (워크스페이스별)
      */
-    @Query("SELECT p FROM Page p WHERE p.workspace = :workspace AND p.isPublished = true AND p.deletedAt IS NULL ORDER BY p.updatedAt DESC")
-    List<Page> findPublishedPagesByWorkspace(@Param("workspace") Workspace workspace);
+    @Query(SUMMARY_SELECT + "WHERE p.workspace = :workspace AND p.isPublished = true AND p.deletedAt IS NULL ORDER BY p.updatedAt DESC")
+    List<PageSummaryProjection> findPublishedPagesByWorkspace(@Param("workspace") Workspace workspace);
 
     /**
      * 템플릿 페이지 목록 조회 (워크스페이스별)
      */
-    @Query("SELECT p FROM Page p WHERE p.workspace = :workspace AND p.isTemplate = true AND p.deletedAt IS NULL ORDER BY p.title")
-    List<Page> findTemplatesByWorkspace(@Param("workspace") Workspace workspace);
+    @Query(SUMMARY_SELECT + "WHERE p.workspace = :workspace AND p.isTemplate = true AND p.deletedAt IS NULL ORDER BY p.title")
+    List<PageSummaryProjection> findTemplatesByWorkspace(@Param("workspace") Workspace workspace);
 
     /**
      * 페이지 타입별 조회
      */
-    @Query("SELECT p FROM Page p WHERE p.workspace = :workspace AND p.pageType = :pageType AND p.deletedAt IS NULL ORDER BY p.sortOrder, p.createdAt")
-    List<Page> findByWorkspaceAndPageType(@Param("workspace") Workspace workspace, @Param("pageType") Page.PageType pageType);
+    @Query(SUMMARY_SELECT + "WHERE p.workspace = :workspace AND p.pageType = :pageType AND p.deletedAt IS NULL ORDER BY p.sortOrder, p.createdAt")
+    List<PageSummaryProjection> findByWorkspaceAndPageType(@Param("workspace") Workspace workspace, @Param("pageType") Page.PageType pageType);
 
     /**
      * 특정 사용자가 마지막으로 수정한 페이지들 조회
      */
-    @Query("""
-        SELECT p FROM Page p 
+    @Query(SUMMARY_SELECT + """
         WHERE p.lastModifiedBy = :user 
         AND p.deletedAt IS NULL 
         ORDER BY p.updatedAt DESC
         """)
-    List<Page> findRecentlyModifiedByUser(@Param("user") User user, Pageable pageable);
+    List<PageSummaryProjection> findRecentlyModifiedByUser(@Param("user") User user, Pageable pageable);
+
+    /**
+     * 특정 사용자가 마지막으로 수정한 페이지들 조회 (커서 기반, 최신순)
+     */
+    @Query(SUMMARY_SELECT + """
+        WHERE p.lastModifiedBy = :user 
+        AND p.deletedAt IS NULL 
+        AND (p.updatedAt < :cursorAt OR (p.updatedAt = :cursorAt AND p.id < :cursorId)) 
+        ORDER BY p.updatedAt DESC, p.id DESC
+        """)
+    List<PageSummaryProjection> findRecentlyModifiedByUserAfter(@Param("user") User user,
+                                                                @Param("cursorAt") LocalDateTime cursorAt,
+                                                                @Param("cursorId") Long cursorId,
+                                                                Pageable pageable);
 
     /**
      * 워크스페이스의 페이지 개수 조회
@@ -135,6 +194,56 @@ public interface PageRepository extends JpaRepository<Page, Long> {
     @Query("UPDATE Page p SET p.viewCount = p.viewCount + 1 WHERE p.id = :pageId")
     int incrementViewCount(@Param("pageId") Long pageId);
 
+    /**
+     * ID 목록으로 활성 페이지 조회 (목록용)
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.id IN :pageIds AND p.deletedAt IS NULL")
+    List<PageSummaryProjection> findSummariesByIds(@Param("pageIds") Collection<Long> pageIds);
+
+    /**
+     * 페이지별 깊이 일괄 조회 (조상 체인을 따라 올라가며 계산)
+     * @return [페이지 ID, 깊이] 목록
+     */
+    @Query(value = """
+        WITH RECURSIVE ancestors AS (
+            SELECT id AS page_id, parent_id, 0 AS depth
+            FROM pages
+            WHERE id IN (:pageIds)
+            UNION ALL
+            SELECT a.page_id, p.parent_id, a.depth + 1
+            FROM ancestors a
+            INNER JOIN pages p ON p.id = a.parent_id
+        )
+        SELECT page_id, MAX(depth) FROM ancestors GROUP BY page_id
+        """, nativeQuery = true)
+    List<Object[]> findDepthsByIds(@Param("pageIds") Collection<Long> pageIds);
+
+    /**
+     * 본문 재구성이 필요한 페이지 ID 조회 (마지막 수정 후 일정 시간이 지난 페이지만, 오래된 순)
+     */
+    @Query("""
+        SELECT p.id FROM Page p
+        WHERE p.contentStale = true AND p.deletedAt IS NULL AND p.updatedAt < :before
+        ORDER BY p.updatedAt
+        """)
+    List<Long> findContentStalePageIds(@Param("before") LocalDateTime before, Pageable pageable);
+
+    /**
+     * 본문 재구성 필요 표시 해제 (버전은 올리지 않음)
+     * 블록 수정과 같은 페이지 행 잠금을 잡으므로, 해제 후 재구성하면 그 사이의 블록 수정이 누락되지 않음
+     * @return 해제된 행 수 (이미 해제되었으면 0)
+     */
+    @Modifying
+    @Query("UPDATE Page p SET p.contentStale = false WHERE p.id = :pageId AND p.contentStale = true")
+    int clearContentStale(@Param("pageId") Long pageId);
+
+    /**
+     * 여러 페이지 일괄 소프트 삭제
+     */
+    @Modifying
+    @Query("UPDATE Page p SET p.deletedAt = CURRENT_TIMESTAMP, p.updatedAt = CURRENT_TIMESTAMP WHERE p.id IN :pageIds AND p.deletedAt IS NULL")
+    int softDeletePagesByIds(@Param("pageIds") Collection<Long> pageIds);
+
     /**
      * 부모 페이지의 모든 자식 페이지 조회 (재귀적)
      */
@@ -171,11 +280,23 @@ public interface PageRepository extends JpaRepository<Page, Long> {
     @Query("SELECT p FROM Page p WHERE p.workspace = :workspace AND p.isLocked = true AND p.deletedAt IS NULL")
     List<Page> findLockedPagesByWorkspace(@Param("workspace") Workspace workspace);
 
+    /**
+     * 워크스페이스의 페이지 상태별 개수 집계 (단일 쿼리)
+     * [isPublished, isTemplate, isLocked, count]
+     */
+    @Query("""
+        SELECT p.isPublished, p.isTemplate, p.isLocked, COUNT(p) 
+        FROM Page p 
+        WHERE p.workspace = :workspace AND p.deletedAt IS NULL 
+        GROUP BY p.isPublished, p.isTemplate, p.isLocked
+        """)
+    List<Object[]> getPageStatisticsByState(@Param("workspace") Workspace workspace);
+
     /**
      * 인기 페이지 목록 조회 (조회수 기준)
      */
-    @Query("SELECT p FROM Page p WHERE p.workspace = :workspace AND p.deletedAt IS NULL ORDER BY p.viewCount DESC, p.updatedAt DESC")
-    List<Page> findPopularPagesByWorkspace(@Param("workspace") Workspace workspace, Pageable pageable);
+    @Query(SUMMARY_SELECT + "WHERE p.workspace = :workspace AND p.deletedAt IS NULL ORDER BY p.viewCount DESC, p.updatedAt DESC")
+    List<PageSummaryProjection> findPopularPagesByWorkspace(@Param("workspace") Workspace workspace, Pageable pageable);
 
     // ===== 추가된 메서드들 =====
 
@@ -191,7 +312,8 @@ public interface PageRepository extends JpaRepository<Page, Long> {
         AND w.isActive = true
         AND (w.owner = :user OR (m.user = :user AND m.isActive = true) OR w.visibility = 'PUBLIC')
         AND (LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) 
-             OR LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%')))
+             OR EXISTS (SELECT 1 FROM PageContent pc WHERE pc.pageId = p.id
+                        AND LOWER(pc.content) LIKE LOWER(CONCAT('%', :keyword, '%'))))
         ORDER BY p.updatedAt DESC
         """)
     List<Page> searchPagesGlobally(@Param("user") User user, @Param("keyword") String keyword, Pageable pageable);
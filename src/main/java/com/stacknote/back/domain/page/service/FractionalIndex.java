@@ -0,0 +1,112 @@
+package com.stacknote.back.domain.page.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 분수 인덱스 (문자열 정렬 키) 생성기
+ * - 두 키 사이에 항상 새 키를 만들 수 있어 블록 삽입/이동 시 다른 블록의 위치를 바꾸지 않아도 됨
+ * - 키는 62진수 숫자 문자열로, 바이트 순서("C" 콜레이션)로 비교하며 끝자리는 '0'이 아님
+ */
+public final class FractionalIndex {
+
+    private static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    private FractionalIndex() {
+    }
+
+    /**
+     * 두 키 사이의 키 생성
+     * @param before 앞 키 (null 이면 맨 앞)
+     * @param after 뒤 키 (null 이면 맨 뒤)
+     */
+    public static String between(String before, String after) {
+        String a = before != null ? before : "";
+        if (after != null && a.compareTo(after) >= 0) {
+            throw new IllegalArgumentException("앞 키는 뒤 키보다 작아야 합니다: " + before + ", " + after);
+        }
+        return midpoint(a, after);
+    }
+
+    /**
+     * 균등한 간격의 키 n개 생성 (블록 전환, 위치 재배치용)
+     * 모든 키 길이가 같아 이후 삽입 시 키가 짧게 유지됨
+     */
+    public static List<String> sequence(int count) {
+        List<String> keys = new ArrayList<>(count);
+        if (count <= 0) {
+            return keys;
+        }
+
+        int width = 1;
+        long range = BASE;
+        while (range <= count + 1L) {
+            width++;
+            range *= BASE;
+        }
+
+        long step = range / (count + 1L);
+        for (int i = 1; i <= count; i++) {
+            keys.add(encode(step * i, width));
+        }
+        return keys;
+    }
+
+    // ===== 내부 헬퍼 메서드 =====
+
+    /**
+     * a < b 인 두 키(소수점 이하 자리로 해석)의 중간값
+     * a 는 빈 문자열(0), b 는 null(1) 일 수 있음
+     */
+    private static String midpoint(String a, String b) {
+        if (b != null) {
+            // 공통 접두사는 그대로 두고 나머지 자리에서 중간값 계산 (a 의 빈 자리는 '0'으로 간주)
+            int n = 0;
+            while (n < b.length() && (n < a.length() ? a.charAt(n) : DIGITS.charAt(0)) == b.charAt(n)) {
+                n++;
+            }
+            if (n > 0) {
+                return b.substring(0, n) + midpoint(n < a.length() ? a.substring(n) : "", b.substring(n));
+            }
+        }
+
+        int digitA = a.isEmpty() ? 0 : digit(a.charAt(0));
+        int digitB = b != null ? digit(b.charAt(0)) : BASE;
+
+        if (digitB - digitA > 1) {
+            return String.valueOf(DIGITS.charAt((digitA + digitB) / 2));
+        }
+
+        // 첫 자리가 인접한 경우
+        if (b != null && b.length() > 1) {
+            return b.substring(0, 1);
+        }
+        return DIGITS.charAt(digitA) + midpoint(a.isEmpty() ? "" : a.substring(1), null);
+    }
+
+    private static int digit(char c) {
+        int digit = DIGITS.indexOf(c);
+        if (digit < 0) {
+            throw new IllegalArgumentException("잘못된 정렬 키 문자입니다: " + c);
+        }
+        return digit;
+    }
+
+    /**
+     * 고정 자릿수 62진수로 변환 후 끝의 '0' 제거 (순서 유지)
+     */
+    private static String encode(long value, int width) {
+        char[] chars = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            chars[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+
+        int length = width;
+        while (length > 1 && chars[length - 1] == DIGITS.charAt(0)) {
+            length--;
+        }
+        return new String(chars, 0, length);
+    }
+}
@@ -0,0 +1,62 @@
+package com.stacknote.back.domain.page.service;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * If-Match 조건 (페이지 버전 ETag 목록)
+ * - If-Match 는 강한 비교만 사용하므로 약한 태그(W/"3")는 어떤 버전과도 일치하지 않음
+ * - 목록("1", "2") 중 하나라도 현재 버전과 같으면 일치, 버전 형식이 아닌 태그는 불일치로 취급
+ */
+public final class IfMatchCondition {
+
+    private final Set<Long> versions;
+
+    private IfMatchCondition(Set<Long> versions) {
+        this.versions = versions;
+    }
+
+    /**
+     * If-Match 헤더 해석
+     * @return 조건 (헤더가 없거나 * 이면 버전 확인을 생략하도록 null)
+     */
+    public static IfMatchCondition parse(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+
+        Set<Long> versions = new LinkedHashSet<>();
+        for (String tag : ifMatch.split(",")) {
+            String value = tag.trim();
+            if (value.equals("*")) {
+                return null;
+            }
+            if (value.startsWith("W/")) {
+                continue; // 약한 태그는 강한 비교에서 항상 불일치
+            }
+            if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+                value = value.substring(1, value.length() - 1);
+            }
+
+            try {
+                versions.add(Long.parseLong(value));
+            } catch (NumberFormatException e) {
+                // 페이지 버전이 아닌 태그는 현재 버전과 일치할 수 없음
+            }
+        }
+        return new IfMatchCondition(versions);
+    }
+
+    /**
+     * 현재 버전이 조건의 태그 중 하나와 일치하는지 확인
+     */
+    public boolean matches(Long currentVersion) {
+        return currentVersion != null && versions.contains(currentVersion);
+    }
+
+    @Override
+    public String toString() {
+        return versions.stream().map(String::valueOf).collect(Collectors.joining(", "));
+    }
+}
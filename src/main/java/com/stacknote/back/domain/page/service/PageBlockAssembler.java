@@ -0,0 +1,81 @@
+package com.stacknote.back.domain.page.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 마크다운 본문 ↔ 블록 변환기
+ * - 분할: 빈 줄 기준으로 문단을 나누되 코드 펜스(```, ~~~) 안의 빈 줄은 나누지 않음
+ * - 조립: 블록 본문을 구분자로 이어 붙임 (DB 재구성 쿼리 PageContentRepository.assembleFromBlocks 와 같은 규칙)
+ */
+@Component
+public class PageBlockAssembler {
+
+    public static final String SEPARATOR = "\n\n";
+
+    /**
+     * 마크다운 본문을 블록 본문 목록으로 분할
+     */
+    public List<String> split(String markdown) {
+        List<String> blocks = new ArrayList<>();
+        if (markdown == null || markdown.isBlank()) {
+            return blocks;
+        }
+
+        StringBuilder current = new StringBuilder();
+        String fence = null;
+
+        for (String line : markdown.replace("\r\n", "\n").split("\n", -1)) {
+            String trimmed = line.stripLeading();
+
+            if (fence == null && line.isBlank()) {
+                flush(current, blocks);
+                continue;
+            }
+
+            if (fence == null && (trimmed.startsWith("```") || trimmed.startsWith("~~~"))) {
+                fence = trimmed.substring(0, 3);
+            } else if (fence != null && trimmed.startsWith(fence)) {
+                fence = null;
+            }
+
+            if (!current.isEmpty()) {
+                current.append('\n');
+            }
+            current.append(line);
+        }
+        flush(current, blocks);
+
+        return blocks;
+    }
+
+    /**
+     * 블록 본문 목록을 마크다운 본문으로 조립
+     */
+    public String assemble(List<String> contents) {
+        int length = 0;
+        for (String content : contents) {
+            length += (content != null ? content.length() : 0) + SEPARATOR.length();
+        }
+
+        StringBuilder markdown = new StringBuilder(length);
+        for (int i = 0; i < contents.size(); i++) {
+            if (i > 0) {
+                markdown.append(SEPARATOR);
+            }
+            if (contents.get(i) != null) {
+                markdown.append(contents.get(i));
+            }
+        }
+        return markdown.toString();
+    }
+
+    private void flush(StringBuilder current, List<String> blocks) {
+        if (!current.isEmpty()) {
+            blocks.add(current.toString());
+            current.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.stacknote.back.domain.page.service;
+
+import com.stacknote.back.domain.page.entity.PageChange;
+import com.stacknote.back.domain.page.repository.PageChangeRepository;
+import com.stacknote.back.domain.user.entity.User;
+import com.stacknote.back.domain.workspace.exception.WorkspaceNotFoundException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 페이지 변경 로그 기록기
+ * - 변경 순번은 workspaces.change_seq 를 증가시켜 발급하므로 같은 워크스페이스의 쓰기 트랜잭션은 커밋 순서대로 순번을 받음
+ *   (행 잠금이 커밋까지 유지되어 낮은 순번이 나중에 커밋되는 일이 없음 → 클라이언트가 순번 이후 변경을 놓치지 않음)
+ * - 트랜잭션 안에서는 기록을 모아 두었다가 커밋 직전 마지막 문장으로 순번 발급과 기록을 한 번에 처리
+ *   (워크스페이스 행 잠금을 커밋 순간에만 잡아 다른 페이지 수정, 카운터 반영을 오래 막지 않음)
+ * - 호출자의 트랜잭션 안에서 기록하여 페이지 변경이 롤백되면 변경 로그와 순번도 함께 롤백
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PageChangeLog {
+
+    // 커밋 전 작업 실행 순서 (기본 순서 LOWEST_PRECEDENCE 인 동기화와 등록 순서에 따라 섞이지 않도록 명시)
+    static final int SYNCHRONIZATION_ORDER = Ordered.LOWEST_PRECEDENCE - 100;
+
+    private static final String NEXT_SEQ_SQL =
+            "UPDATE workspaces SET change_seq = change_seq + ? WHERE id = ? RETURNING change_seq";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO page_changes (workspace_id, seq, page_id, change_type, changed_fields, changed_by, changed_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PageChangeRepository pageChangeRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 페이지 하나의 변경 기록
+     */
+    public void record(Long workspaceId, Long pageId, PageChange.ChangeType changeType,
+                       Collection<PageChange.Field> fields, User changedBy) {
+        recordAll(workspaceId, List.of(pageId), changeType, fields, changedBy);
+    }
+
+    /**
+     * 여러 페이지의 같은 변경을 하나의 순번으로 기록 (하위 페이지 일괄 삭제 등)
+     * 트랜잭션 안이면 커밋 직전에 기록되고, 같은 트랜잭션의 기록은 호출 순서대로 순번을 받음
+     */
+    public void recordAll(Long workspaceId, Collection<Long> pageIds, PageChange.ChangeType changeType,
+                          Collection<PageChange.Field> fields, User changedBy) {
+        if (pageIds.isEmpty()) {
+            return;
+        }
+
+        String changedFields = fields.isEmpty() ? null : fields.stream()
+                .map(Enum::name)
+                .collect(Collectors.joining(","));
+        PendingChange change = new PendingChange(workspaceId, List.copyOf(pageIds), changeType, changedFields,
+                changedBy != null ? changedBy.getId() : null, Timestamp.valueOf(LocalDateTime.now()));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingChanges().add(change);
+        } else {
+            write(List.of(change));
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 변경 기록 정리
+     * 정리된 구간을 요청한 클라이언트는 resetRequired 응답을 받고 전체 목록을 다시 조회
+     */
+    @Transactional
+    public int purgeOlderThan(LocalDateTime cutoff) {
+        return pageChangeRepository.deleteOlderThan(cutoff);
+    }
+
+    // ===== 내부 헬퍼 메서드 =====
+
+    /**
+     * 현재 트랜잭션에 모아 둔 변경 목록 (없으면 커밋 직전 기록 작업과 함께 등록)
+     */
+    private List<PendingChange> pendingChanges() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingChanges pending) {
+                return pending.changes;
+            }
+        }
+
+        PendingChanges pending = new PendingChanges();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending.changes;
+    }
+
+    /**
+     * 워크스페이스별로 순번을 한 번에 발급하고 변경 기록 저장
+     * 여러 워크스페이스를 기록하는 경우 교착을 피하기 위해 워크스페이스 ID 순서로 잠금
+     */
+    private void write(List<PendingChange> changes) {
+        Map<Long, List<PendingChange>> byWorkspace = changes.stream()
+                .collect(Collectors.groupingBy(PendingChange::workspaceId, TreeMap::new, Collectors.toList()));
+
+        List<Object[]> batchArgs = new ArrayList<>();
+        byWorkspace.forEach((workspaceId, workspaceChanges) -> {
+            List<Long> issued = jdbcTemplate.queryForList(NEXT_SEQ_SQL, Long.class, workspaceChanges.size(), workspaceId);
+            if (issued.isEmpty()) {
+                throw new WorkspaceNotFoundException("워크스페이스를 찾을 수 없습니다.");
+            }
+
+            long seq = issued.get(0) - workspaceChanges.size();
+            for (PendingChange change : workspaceChanges) {
+                seq++;
+                for (Long pageId : change.pageIds()) {
+                    batchArgs.add(new Object[]{workspaceId, seq, pageId, change.changeType().name(),
+                            change.changedFields(), change.changedById(), change.changedAt()});
+                }
+                log.debug("페이지 변경 기록 - 워크스페이스: {}, 순번: {}, 페이지 수: {}, 타입: {}",
+                        workspaceId, seq, change.pageIds().size(), change.changeType());
+            }
+        });
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+    }
+
+    private record PendingChange(Long workspaceId, List<Long> pageIds, PageChange.ChangeType changeType,
+                                 String changedFields, Long changedById, Timestamp changedAt) {
+    }
+
+    /**
+     * 커밋 직전 기록 작업
+     * 남은 엔티티 변경 반영 중 발생한 JPA 예외는 스프링 예외로 변환 (낙관적 잠금 충돌은 409 응답)
+     */
+    private final class PendingChanges implements TransactionSynchronization {
+
+        private final List<PendingChange> changes = new ArrayList<>();
+
+        @Override
+        public int getOrder() {
+            return SYNCHRONIZATION_ORDER;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (changes.isEmpty()) {
+                return;
+            }
+            try {
+                entityManager.flush(); // 남은 엔티티 변경을 먼저 반영하여 순번 발급이 마지막 문장이 되도록 함
+            } catch (PersistenceException e) {
+                DataAccessException translated = EntityManagerFactoryUtils.convertJpaAccessExceptionIfPossible(e);
+                throw translated != null ? translated : e;
+            }
+            write(changes);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.stacknote.back.domain.page.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 페이지 본문 분리 마이그레이션
+ * - 본문은 pages.content 컬럼 대신 page_contents 테이블에 보관 (목록/트리 조회 시 본문을 읽지 않도록)
+ * - 기존 pages.content 컬럼이 남아 있으면 시작 시 page_contents 에 없는 본문만 배치 단위로 복사
+ * - 단방향 전환: 이 버전부터 본문은 page_contents 에만 쓰고 pages.content 는 갱신하지 않으므로
+ *   남은 컬럼은 이전 버전으로 되돌리는 용도로 쓸 수 없음 (되돌리면 이후 수정된 본문이 사라짐)
+ * - 남은 컬럼은 수동 마이그레이션(docker/postgre/migrations/V004)으로 삭제 (삭제 후에는 아무 작업도 하지 않음)
+ */
+@Slf4j
+@Component
+public class PageContentMigrator {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String LEGACY_COLUMN_EXISTS_SQL = """
+            SELECT COUNT(*) FROM information_schema.columns
+            WHERE table_schema = current_schema() AND table_name = 'pages' AND column_name = 'content'
+            """;
+
+    private static final String NEXT_BATCH_LAST_ID_SQL = """
+            SELECT MAX(id) FROM (SELECT id FROM pages WHERE id > ? ORDER BY id LIMIT ?) b
+            """;
+
+    private static final String COPY_SQL = """
+            INSERT INTO page_contents (page_id, content, updated_at)
+            SELECT p.id, p.content, COALESCE(p.updated_at, NOW()) FROM pages p
+            WHERE p.id > ? AND p.id <= ? AND p.content IS NOT NULL
+            AND NOT EXISTS (SELECT 1 FROM page_contents c WHERE c.page_id = p.id)
+            ON CONFLICT (page_id) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public PageContentMigrator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 애플리케이션 시작 시 기존 본문 복사 (여러 인스턴스가 동시에 실행해도 안전)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            Integer legacyColumns = jdbcTemplate.queryForObject(LEGACY_COLUMN_EXISTS_SQL, Integer.class);
+            if (legacyColumns == null || legacyColumns == 0) {
+                return;
+            }
+
+            long lastId = 0L;
+            int copied = 0;
+            while (true) {
+                Long batchLastId = jdbcTemplate.queryForObject(NEXT_BATCH_LAST_ID_SQL, Long.class, lastId, BATCH_SIZE);
+                if (batchLastId == null) {
+                    break;
+                }
+
+                long from = lastId;
+                Integer batchCopied = transactionTemplate.execute(status ->
+                        jdbcTemplate.update(COPY_SQL, from, batchLastId));
+                copied += batchCopied != null ? batchCopied : 0;
+                lastId = batchLastId;
+            }
+
+            if (copied > 0) {
+                log.info("페이지 본문 분리 완료 - 복사된 페이지 수: {}", copied);
+            }
+        } catch (Exception e) {
+            log.error("페이지 본문 분리 실패 (다음 시작 시 이어서 복사): {}", e.getMessage(), e);
+        }
+    }
+}
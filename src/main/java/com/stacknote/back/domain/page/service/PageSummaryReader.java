@@ -0,0 +1,65 @@
+package com.stacknote.back.domain.page.service;
+
+import com.stacknote.back.domain.page.dto.projection.PageSummaryProjection;
+import com.stacknote.back.domain.page.dto.response.PageSummaryResponse;
+import com.stacknote.back.domain.page.repository.PageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 페이지 목록 응답 조립
+ * 프로젝션에는 부모 ID만 있으므로 깊이는 목록 안의 부모 관계로 계산하고,
+ * 목록 밖에 있는 부모만 한 번의 쿼리로 깊이를 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class PageSummaryReader {
+
+    private final PageRepository pageRepository;
+
+    /**
+     * 프로젝션 목록을 응답 목록으로 변환 (순서 유지)
+     */
+    public List<PageSummaryResponse> toResponses(List<PageSummaryProjection> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Long> parentIds = new HashMap<>();
+        rows.forEach(row -> parentIds.put(row.id(), row.parentId()));
+
+        Map<Long, Integer> depths = new HashMap<>();
+        Set<Long> outsideParentIds = rows.stream()
+                .map(PageSummaryProjection::parentId)
+                .filter(Objects::nonNull)
+                .filter(parentId -> !parentIds.containsKey(parentId))
+                .collect(Collectors.toSet());
+        if (!outsideParentIds.isEmpty()) {
+            pageRepository.findDepthsByIds(outsideParentIds).forEach(row ->
+                    depths.put(((Number) row[0]).longValue(), ((Number) row[1]).intValue()));
+        }
+
+        return rows.stream()
+                .map(row -> PageSummaryResponse.from(row, depthOf(row.id(), parentIds, depths)))
+                .toList();
+    }
+
+    private int depthOf(Long pageId, Map<Long, Long> parentIds, Map<Long, Integer> depths) {
+        Integer known = depths.get(pageId);
+        if (known != null) {
+            return known;
+        }
+
+        Long parentId = parentIds.get(pageId);
+        int depth = parentId == null ? 0 : depthOf(parentId, parentIds, depths) + 1;
+        depths.put(pageId, depth);
+        return depth;
+    }
+}
@@ -0,0 +1,430 @@
+package com.stacknote.back.domain.page.service.command;
+
+import com.stacknote.back.domain.page.dto.request.PageBlockPatchRequest;
+import com.stacknote.back.domain.page.dto.response.PageBlockPatchResponse;
+import com.stacknote.back.domain.page.dto.response.PageBlockResponse;
+import com.stacknote.back.domain.page.entity.Page;
+import com.stacknote.back.domain.page.entity.PageChange;
+import com.stacknote.back.domain.page.exception.PageAccessDeniedException;
+import com.stacknote.back.domain.page.exception.PageLockedException;
+import com.stacknote.back.domain.page.exception.PageNotFoundException;
+import com.stacknote.back.domain.page.exception.PageVersionMismatchException;
+import com.stacknote.back.domain.page.repository.PageBlockRepository;
+import com.stacknote.back.domain.page.repository.PageContentRepository;
+import com.stacknote.back.domain.page.repository.PageRepository;
+import com.stacknote.back.domain.page.service.FractionalIndex;
+import com.stacknote.back.domain.page.service.IfMatchCondition;
+import com.stacknote.back.domain.page.service.PageBlockAssembler;
+import com.stacknote.back.domain.page.service.PageChangeLog;
+import com.stacknote.back.domain.user.entity.User;
+import com.stacknote.back.domain.workspace.entity.Workspace;
+import com.stacknote.back.domain.workspace.entity.WorkspaceMember;
+import com.stacknote.back.domain.workspace.repository.WorkspaceMemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 페이지 블록 명령 서비스
+ * - 블록 모드 전환, 블록 단위 부분 수정(추가/수정/이동/삭제) 처리
+ * - 부분 수정은 변경된 블록 행만 기록하고 페이지에 본문 재구성 필요 표시만 남김
+ * - 기존 본문 조회용 page_contents 는 수정이 잠잠해진 페이지부터 모아 DB 안에서 재구성 (PageContentAssembleScheduler)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PageBlockCommandService {
+
+    private static final int MAX_POSITION_LENGTH = 64;  // 넘으면 페이지 전체 위치 재배치
+    private static final int SUMMARY_SOURCE_LENGTH = 1000;
+    private static final int SUMMARY_BLOCK_COUNT = 20;    // 요약은 앞쪽 블록만으로 생성
+
+    private static final String INSERT_SQL = """
+            INSERT INTO page_blocks (id, page_id, position, content, updated_at)
+            VALUES (?, ?, ?, ?, NOW())
+            """;
+    private static final String UPDATE_CONTENT_SQL =
+            "UPDATE page_blocks SET content = ?, updated_at = NOW() WHERE id = ? AND page_id = ?";
+    private static final String UPDATE_POSITION_SQL =
+            "UPDATE page_blocks SET position = ?, updated_at = NOW() WHERE id = ? AND page_id = ?";
+
+    private final PageRepository pageRepository;
+    private final PageBlockRepository pageBlockRepository;
+    private final PageContentRepository pageContentRepository;
+    private final WorkspaceMemberRepository workspaceMemberRepository;
+    private final PageBlockAssembler pageBlockAssembler;
+    private final PageChangeLog pageChangeLog;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 페이지를 블록 모드로 전환 (현재 본문을 문단 단위 블록으로 분할)
+     */
+    public List<PageBlockResponse> convertToBlocks(Long pageId, User currentUser) {
+        log.info("페이지 블록 전환 시도: {}, 사용자: {}", pageId, currentUser.getId());
+
+        Page page = getWritablePage(pageId, currentUser);
+
+        if (pageBlockRepository.existsByPageId(pageId)) {
+            throw new IllegalArgumentException("이미 블록으로 전환된 페이지입니다.");
+        }
+
+        List<String> contents = pageBlockAssembler.split(
+                pageContentRepository.findContentByPageId(pageId).orElse(null));
+        if (contents.isEmpty()) {
+            contents = List.of(""); // 빈 페이지도 편집할 블록 하나는 가짐
+        }
+
+        List<String> positions = FractionalIndex.sequence(contents.size());
+        List<PageBlockResponse> blocks = new ArrayList<>(contents.size());
+        List<Object[]> batchArgs = new ArrayList<>(contents.size());
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < contents.size(); i++) {
+            String blockId = UUID.randomUUID().toString();
+            batchArgs.add(new Object[]{blockId, pageId, positions.get(i), contents.get(i)});
+            blocks.add(PageBlockResponse.builder()
+                    .id(blockId)
+                    .position(positions.get(i))
+                    .content(contents.get(i))
+                    .updatedAt(now)
+                    .build());
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+
+        // 분할 시 정리된 빈 줄을 본문에도 반영하여 블록 조립 결과와 일치시킴
+        String content = pageBlockAssembler.assemble(contents);
+        pageContentRepository.upsert(pageId, content);
+        page.updateSummary(content);
+        page.updateLastModifiedBy(currentUser);
+        page.touch();
+        pageRepository.save(page);
+        pageChangeLog.record(page.getWorkspace().getId(), pageId, PageChange.ChangeType.UPDATED,
+                EnumSet.of(PageChange.Field.CONTENT), currentUser);
+
+        log.info("페이지 블록 전환 완료: {}, 블록 수: {}", pageId, blocks.size());
+        return blocks;
+    }
+
+    /**
+     * 블록 부분 수정
+     * 연산을 메모리의 블록 순서에 차례로 적용한 뒤 최종 변경분만 DB에 기록
+     * @param ifMatch If-Match 조건 (null이면 버전 확인 생략)
+     */
+    public PageBlockPatchResponse patchBlocks(Long pageId, User currentUser, PageBlockPatchRequest request,
+                                              IfMatchCondition ifMatch) {
+        log.info("페이지 블록 수정 시도: {}, 연산 수: {}, 사용자: {}", pageId, request.getOperations().size(), currentUser.getId());
+
+        Page page = getWritablePage(pageId, currentUser);
+        if (ifMatch != null && !ifMatch.matches(page.getVersion())) {
+            throw new PageVersionMismatchException(ifMatch.toString(), page.getVersion());
+        }
+
+        List<Object[]> rows = pageBlockRepository.findPositionsByPageId(pageId);
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("블록으로 전환되지 않은 페이지입니다.");
+        }
+
+        BlockOrder order = new BlockOrder(rows);
+        Map<String, String> inserted = new LinkedHashMap<>();  // 블록 ID -> 본문
+        Map<String, String> updated = new LinkedHashMap<>();   // 블록 ID -> 본문
+        Set<String> moved = new LinkedHashSet<>();
+        Set<String> deleted = new LinkedHashSet<>();
+
+        for (PageBlockPatchRequest.BlockOperation operation : request.getOperations()) {
+            String content = operation.getContent() != null ? operation.getContent() : "";
+
+            switch (operation.getType()) {
+                case INSERT -> {
+                    String blockId = operation.getBlockId() != null ? operation.getBlockId() : UUID.randomUUID().toString();
+                    if (order.contains(blockId)) {
+                        throw new IllegalArgumentException("이미 존재하는 블록 ID입니다: " + blockId);
+                    }
+                    order.insertAfter(blockId, operation.getAfterBlockId());
+                    inserted.put(blockId, content);
+                }
+                case UPDATE -> {
+                    String blockId = order.require(operation.getBlockId());
+                    if (inserted.containsKey(blockId)) {
+                        inserted.put(blockId, content);
+                    } else {
+                        updated.put(blockId, content);
+                    }
+                }
+                case MOVE -> {
+                    String blockId = order.require(operation.getBlockId());
+                    if (blockId.equals(operation.getAfterBlockId())) {
+                        throw new IllegalArgumentException("블록을 자기 자신 뒤로 이동할 수 없습니다.");
+                    }
+                    order.remove(blockId);
+                    order.insertAfter(blockId, operation.getAfterBlockId());
+                    if (!inserted.containsKey(blockId)) {
+                        moved.add(blockId);
+                    }
+                }
+                case DELETE -> {
+                    String blockId = order.require(operation.getBlockId());
+                    order.remove(blockId);
+                    if (inserted.remove(blockId) == null) {
+                        updated.remove(blockId);
+                        moved.remove(blockId);
+                        deleted.add(blockId);
+                    }
+                }
+            }
+        }
+
+        // 같은 위치에 반복 삽입되어 키가 길어지면 전체 위치를 균등 간격으로 재배치
+        boolean rebalanced = order.maxPositionLength() > MAX_POSITION_LENGTH;
+        if (rebalanced) {
+            order.rebalance();
+            order.ids().stream()
+                    .filter(blockId -> !inserted.containsKey(blockId))
+                    .forEach(moved::add);
+        }
+
+        checkBlockIdsAvailable(inserted.keySet(), deleted);
+        writeChanges(pageId, order, inserted, updated, moved, deleted);
+
+        // page_contents 는 바로 다시 쓰지 않고 재구성 필요만 표시 (조회 시 블록에서 조립, 스케줄러가 모아서 반영)
+        page.markContentStale();
+        page.updateSummary(pageBlockRepository.findContentPrefix(pageId, SUMMARY_SOURCE_LENGTH, SUMMARY_BLOCK_COUNT));
+        page.updateLastModifiedBy(currentUser);
+        page.touch(); // 요약/수정자가 같아도 본문이 바뀌었으므로 버전 증가
+        Page updatedPage = pageRepository.saveAndFlush(page);
+        pageChangeLog.record(page.getWorkspace().getId(), pageId, PageChange.ChangeType.UPDATED,
+                EnumSet.of(PageChange.Field.CONTENT), currentUser);
+
+        log.info("페이지 블록 수정 완료: {}, 추가: {}, 수정: {}, 이동: {}, 삭제: {}",
+                pageId, inserted.size(), updated.size(), moved.size(), deleted.size());
+
+        return PageBlockPatchResponse.builder()
+                .pageId(pageId)
+                .version(updatedPage.getVersion())
+                .changedBlocks(toChangedBlocks(order, inserted, updated, moved))
+                .deletedBlockIds(new ArrayList<>(deleted))
+                .rebalanced(rebalanced)
+                .build();
+    }
+
+    /**
+     * 재구성이 필요한 페이지의 page_contents 본문을 블록으로부터 재구성
+     * 페이지마다 별도 트랜잭션으로 처리하여 한 번에 여러 페이지 행을 잠그지 않음
+     * @param before 이 시각 이전에 마지막으로 수정된 페이지만 (연속 수정 중인 페이지는 다음 주기로 미룸)
+     * @return 재구성된 페이지 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int assembleStaleContents(LocalDateTime before, int limit) {
+        List<Long> pageIds = pageRepository.findContentStalePageIds(before, PageRequest.of(0, limit));
+
+        int assembled = 0;
+        for (Long pageId : pageIds) {
+            try {
+                Boolean done = inNewTransaction().execute(status -> {
+                    if (pageRepository.clearContentStale(pageId) == 0) {
+                        return false; // 다른 작업에서 이미 재구성
+                    }
+                    pageContentRepository.assembleFromBlocks(pageId);
+                    return true;
+                });
+                if (Boolean.TRUE.equals(done)) {
+                    assembled++;
+                }
+            } catch (Exception e) {
+                log.warn("페이지 본문 재구성 실패: {}, {}", pageId, e.getMessage());
+            }
+        }
+        return assembled;
+    }
+
+    // ===== 내부 헬퍼 메서드 =====
+
+    /**
+     * 새 블록 ID가 다른 페이지에서 사용 중인지 확인 (블록 ID는 전체 페이지에서 고유)
+     * 같은 요청에서 삭제한 블록 ID를 다시 추가하는 경우는 허용
+     */
+    private void checkBlockIdsAvailable(Set<String> insertedIds, Set<String> deletedIds) {
+        List<String> candidates = insertedIds.stream()
+                .filter(blockId -> !deletedIds.contains(blockId))
+                .toList();
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        List<String> existing = pageBlockRepository.findExistingIds(candidates);
+        if (!existing.isEmpty()) {
+            throw new IllegalArgumentException("이미 사용 중인 블록 ID입니다: " + existing.get(0));
+        }
+    }
+
+    /**
+     * 변경된 블록 행만 기록 (삭제 → 추가 → 본문 수정 → 위치 수정 순)
+     */
+    private void writeChanges(Long pageId, BlockOrder order, Map<String, String> inserted,
+                              Map<String, String> updated, Set<String> moved, Set<String> deleted) {
+        if (!deleted.isEmpty()) {
+            pageBlockRepository.deleteByIds(pageId, deleted);
+        }
+
+        if (!inserted.isEmpty()) {
+            List<Object[]> batchArgs = new ArrayList<>(inserted.size());
+            inserted.forEach((blockId, content) ->
+                    batchArgs.add(new Object[]{blockId, pageId, order.positionOf(blockId), content}));
+            try {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+            } catch (DuplicateKeyException e) {
+                // 확인 이후 다른 페이지에서 같은 ID를 먼저 추가한 경우
+                throw new IllegalArgumentException("이미 사용 중인 블록 ID입니다.");
+            }
+        }
+
+        if (!updated.isEmpty()) {
+            List<Object[]> batchArgs = new ArrayList<>(updated.size());
+            updated.forEach((blockId, content) -> batchArgs.add(new Object[]{content, blockId, pageId}));
+            jdbcTemplate.batchUpdate(UPDATE_CONTENT_SQL, batchArgs);
+        }
+
+        if (!moved.isEmpty()) {
+            List<Object[]> batchArgs = new ArrayList<>(moved.size());
+            moved.forEach(blockId -> batchArgs.add(new Object[]{order.positionOf(blockId), blockId, pageId}));
+            jdbcTemplate.batchUpdate(UPDATE_POSITION_SQL, batchArgs);
+        }
+    }
+
+    private List<PageBlockResponse> toChangedBlocks(BlockOrder order, Map<String, String> inserted,
+                                                    Map<String, String> updated, Set<String> moved) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, PageBlockResponse> changed = new LinkedHashMap<>();
+
+        inserted.forEach((blockId, content) -> changed.put(blockId, blockResponse(blockId, order, content, now)));
+        updated.forEach((blockId, content) -> changed.put(blockId, blockResponse(blockId, order, content, now)));
+        moved.forEach(blockId -> changed.putIfAbsent(blockId, blockResponse(blockId, order, null, now)));
+
+        return new ArrayList<>(changed.values());
+    }
+
+    private PageBlockResponse blockResponse(String blockId, BlockOrder order, String content, LocalDateTime now) {
+        return PageBlockResponse.builder()
+                .id(blockId)
+                .position(order.positionOf(blockId))
+                .content(content)
+                .updatedAt(now)
+                .build();
+    }
+
+    private TransactionTemplate inNewTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    /**
+     * 쓰기 권한과 잠금 상태를 확인하고 페이지 행을 잠금 (같은 페이지의 블록 수정 직렬화)
+     */
+    private Page getWritablePage(Long pageId, User user) {
+        Page page = pageRepository.findActivePageByIdForUpdate(pageId)
+                .orElseThrow(() -> new PageNotFoundException("페이지를 찾을 수 없습니다."));
+
+        Workspace workspace = page.getWorkspace();
+        if (!workspace.isOwner(user)) {
+            WorkspaceMember member = workspaceMemberRepository.findActiveByWorkspaceAndUser(workspace, user)
+                    .orElseThrow(() -> new PageAccessDeniedException("워크스페이스에 접근할 권한이 없습니다."));
+
+            if (!member.canWrite()) {
+                throw new PageAccessDeniedException("페이지를 편집할 권한이 없습니다.");
+            }
+        }
+
+        if (page.getIsLocked()) {
+            throw new PageLockedException("페이지가 잠겨있어 편집할 수 없습니다.");
+        }
+
+        return page;
+    }
+
+    /**
+     * 메모리상의 블록 순서 (블록 ID 목록 + 위치 키)
+     */
+    private static final class BlockOrder {
+        private final List<String> ids = new ArrayList<>();
+        private final Map<String, String> positions = new HashMap<>();
+
+        BlockOrder(List<Object[]> rows) {
+            for (Object[] row : rows) {
+                ids.add((String) row[0]);
+                positions.put((String) row[0], (String) row[1]);
+            }
+        }
+
+        boolean contains(String blockId) {
+            return positions.containsKey(blockId);
+        }
+
+        String require(String blockId) {
+            if (blockId == null || !positions.containsKey(blockId)) {
+                throw new IllegalArgumentException("블록을 찾을 수 없습니다: " + blockId);
+            }
+            return blockId;
+        }
+
+        String positionOf(String blockId) {
+            return positions.get(blockId);
+        }
+
+        List<String> ids() {
+            return ids;
+        }
+
+        /**
+         * 기준 블록 바로 뒤에 배치 (기준이 null이면 맨 앞)
+         */
+        void insertAfter(String blockId, String afterBlockId) {
+            int index = afterBlockId == null ? 0 : ids.indexOf(require(afterBlockId)) + 1;
+            String before = index > 0 ? positions.get(ids.get(index - 1)) : null;
+            String after = index < ids.size() ? positions.get(ids.get(index)) : null;
+
+            ids.add(index, blockId);
+            positions.put(blockId, FractionalIndex.between(before, after));
+        }
+
+        void remove(String blockId) {
+            ids.remove(blockId);
+            positions.remove(blockId);
+        }
+
+        int maxPositionLength() {
+            int max = 0;
+            for (String position : positions.values()) {
+                max = Math.max(max, position.length());
+            }
+            return max;
+        }
+
+        void rebalance() {
+            List<String> sequence = FractionalIndex.sequence(ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                positions.put(ids.get(i), sequence.get(i));
+            }
+        }
+    }
+}
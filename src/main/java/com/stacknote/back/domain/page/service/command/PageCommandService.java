@@ -1,29 +1,42 @@
 package com.stacknote.back.domain.page.service.command;
 
+import com.stacknote.back.domain.comment.service.command.CommentCommandService;
 import com.stacknote.back.domain.page.dto.request.PageCreateRequest;
 import com.stacknote.back.domain.page.dto.request.PageDuplicateRequest;
 import com.stacknote.back.domain.page.dto.request.PageMoveRequest;
 import com.stacknote.back.domain.page.dto.request.PageUpdateRequest;
 import com.stacknote.back.domain.page.dto.response.PageResponse;
 import com.stacknote.back.domain.page.entity.Page;
+import com.stacknote.back.domain.page.entity.PageChange;
 import com.stacknote.back.domain.page.entity.PageHistory;
 import com.stacknote.back.domain.page.exception.PageAccessDeniedException;
 import com.stacknote.back.domain.page.exception.PageLockedException;
 import com.stacknote.back.domain.page.exception.PageNotFoundException;
+import com.stacknote.back.domain.page.exception.PageVersionMismatchException;
+import com.stacknote.back.domain.page.repository.PageBlockRepository;
+import com.stacknote.back.domain.page.repository.PageContentRepository;
 import com.stacknote.back.domain.page.repository.PageHistoryRepository;
 import com.stacknote.back.domain.page.repository.PageRepository;
+import com.stacknote.back.domain.page.service.IfMatchCondition;
+import com.stacknote.back.domain.page.service.PageChangeLog;
+import com.stacknote.back.domain.tag.service.TagPageIndex;
 import com.stacknote.back.domain.user.entity.User;
 import com.stacknote.back.domain.workspace.entity.Workspace;
 import com.stacknote.back.domain.workspace.entity.WorkspaceMember;
 import com.stacknote.back.domain.workspace.exception.WorkspaceNotFoundException;
 import com.stacknote.back.domain.workspace.repository.WorkspaceMemberRepository;
 import com.stacknote.back.domain.workspace.repository.WorkspaceRepository;
+import com.stacknote.back.domain.workspace.service.WorkspaceCounter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * 페이지 관련 명령 서비스
@@ -36,9 +49,15 @@ import java.util.List;
 public class PageCommandService {
 
     private final PageRepository pageRepository;
+    private final PageContentRepository pageContentRepository;
+    private final PageBlockRepository pageBlockRepository;
     private final PageHistoryRepository pageHistoryRepository;
     private final WorkspaceRepository workspaceRepository;
     private final WorkspaceMemberRepository workspaceMemberRepository;
+    private final CommentCommandService commentCommandService;
+    private final TagPageIndex tagPageIndex;
+    private final WorkspaceCounter workspaceCounter;
+    private final PageChangeLog pageChangeLog;
 
     /**
      * 페이지 생성
@@ -66,7 +85,6 @@ public class PageCommandService {
 
         Page page = Page.builder()
                 .title(request.getTitle())
-                .content(request.getContent())
                 .icon(request.getIcon())
                 .coverImageUrl(request.getCoverImageUrl())
                 .workspace(workspace)
@@ -79,35 +97,61 @@ public class PageCommandService {
                 .pageType(request.getPageType())
                 .build();
 
+        String content = request.getContent();
+        if (content != null) {
+            page.updateSummary(content);
+        }
+
         Page savedPage = pageRepository.save(page);
+        if (content != null) {
+            pageContentRepository.upsert(savedPage.getId(), content);
+        }
+        workspaceCounter.addPages(workspace.getId(), 1);
+        pageChangeLog.record(workspace.getId(), savedPage.getId(), PageChange.ChangeType.CREATED,
+                EnumSet.allOf(PageChange.Field.class), currentUser);
 
         // 히스토리 생성
-        createPageHistory(savedPage, currentUser, PageHistory.ChangeType.CREATED, "페이지 생성");
+        createPageHistory(savedPage, content, currentUser, PageHistory.ChangeType.CREATED, "페이지 생성");
 
         log.info("페이지 생성 완료: {}", savedPage.getId());
-        return PageResponse.from(savedPage);
+        return PageResponse.from(savedPage, content);
     }
 
     /**
      * 페이지 수정
+     * @param ifMatch If-Match 조건 (null이면 버전 확인 생략)
      */
-    public PageResponse updatePage(Long pageId, User currentUser, PageUpdateRequest request) {
+    public PageResponse updatePage(Long pageId, User currentUser, PageUpdateRequest request, IfMatchCondition ifMatch) {
         log.info("페이지 수정 시도: {}, 사용자: {}", pageId, currentUser.getId());
 
-        Page page = getPageWithPermissionCheck(pageId, currentUser, true);
+        // 블록 수정(patchBlocks), 본문 재구성과 같은 순서로 페이지 행을 먼저 잠근 뒤 page_contents/page_blocks 변경
+        Page page = getPageForUpdateWithWritePermission(pageId, currentUser);
 
         if (page.getIsLocked()) {
             throw new PageLockedException("페이지가 잠겨있어 편집할 수 없습니다.");
         }
+        checkExpectedVersion(page, ifMatch);
 
         // 변경 사항 추적
-        String changeDescription = buildChangeDescription(page, request);
-        PageHistory.ChangeType changeType = determineChangeType(page, request);
+        String currentContent = loadContent(page);
+        String changeDescription = buildChangeDescription(page, currentContent, request);
+        PageHistory.ChangeType changeType = determineChangeType(page, currentContent, request);
+        Set<PageChange.Field> changedFields = collectChangedFields(page, currentContent, request);
 
-        // 페이지 정보 업데이트
-        page.updateInfo(request.getTitle(), request.getContent(), request.getIcon(), request.getCoverImageUrl());
+        // 페이지 정보 업데이트 (본문은 변경된 경우에만 page_contents 에 기록)
+        page.updateInfo(request.getTitle(), request.getIcon(), request.getCoverImageUrl());
         page.updateLastModifiedBy(currentUser);
 
+        String content = currentContent;
+        if (request.getContent() != null && !request.getContent().equals(currentContent)) {
+            content = request.getContent();
+            page.updateSummary(content);
+            page.touch(); // 요약이 같아도 본문이 바뀌었으므로 수정일시와 버전 갱신
+            pageContentRepository.upsert(pageId, content);
+            pageBlockRepository.deleteByPageId(pageId); // 본문 전체 교체 시 블록 모드 해제
+            page.markContentAssembled();
+        }
+
         if (request.getPageType() != null) {
             page.changePageType(request.getPageType());
         }
@@ -136,15 +180,20 @@ public class PageCommandService {
             page.updateSortOrder(request.getSortOrder());
         }
 
-        Page updatedPage = pageRepository.save(page);
+        // 증가된 버전을 응답에 담기 위해 즉시 반영 (동시 수정 시 여기서 충돌 감지)
+        Page updatedPage = pageRepository.saveAndFlush(page);
 
         // 히스토리 생성 (변경 사항이 있는 경우만)
         if (changeType != null) {
-            createPageHistory(updatedPage, currentUser, changeType, changeDescription);
+            createPageHistory(updatedPage, content, currentUser, changeType, changeDescription);
+        }
+        if (!changedFields.isEmpty()) {
+            pageChangeLog.record(page.getWorkspace().getId(), pageId, PageChange.ChangeType.UPDATED,
+                    changedFields, currentUser);
         }
 
         log.info("페이지 수정 완료: {}", pageId);
-        return PageResponse.from(updatedPage);
+        return PageResponse.from(updatedPage, content);
     }
 
     /**
@@ -159,19 +208,27 @@ public class PageCommandService {
             throw new PageLockedException("페이지가 잠겨있어 삭제할 수 없습니다.");
         }
 
-        // 자식 페이지들도 함께 삭제
+        // 자식 페이지들도 함께 삭제 (엔티티 로딩 없이 일괄 UPDATE)
         List<Long> descendantIds = pageRepository.findAllDescendantIds(pageId);
-        for (Long descendantId : descendantIds) {
-            Page descendant = pageRepository.findById(descendantId).orElse(null);
-            if (descendant != null) {
-                descendant.markAsDeleted();
-                pageRepository.save(descendant);
-            }
+        int deletedDescendants = 0;
+        if (!descendantIds.isEmpty()) {
+            deletedDescendants = pageRepository.softDeletePagesByIds(descendantIds);
         }
 
         // 현재 페이지 삭제
         page.markAsDeleted();
-        pageRepository.save(page);
+        pageRepository.saveAndFlush(page); // 동시 수정 충돌을 커밋 직전이 아닌 여기서 감지 (409 응답)
+        workspaceCounter.addPages(page.getWorkspace().getId(), -(deletedDescendants + 1));
+
+        // 하위 트리 전체의 블록과 댓글 삭제 (블록은 마지막 수정분을 본문에 반영한 뒤 삭제)
+        List<Long> deletedPageIds = new ArrayList<>(descendantIds);
+        deletedPageIds.add(pageId);
+        pageContentRepository.assembleStaleFromBlocks(deletedPageIds);
+        pageBlockRepository.deleteByPageIds(deletedPageIds);
+        pageChangeLog.recordAll(page.getWorkspace().getId(), deletedPageIds, PageChange.ChangeType.DELETED,
+                Set.of(), currentUser);
+        commentCommandService.deleteCommentsByPageIds(deletedPageIds);
+        tagPageIndex.onPagesDeleted(page.getWorkspace().getId());
 
         log.info("페이지 삭제 완료: {}", pageId);
     }
@@ -214,13 +271,16 @@ public class PageCommandService {
         page.updateSortOrder(sortOrder);
         page.updateLastModifiedBy(currentUser);
 
-        Page movedPage = pageRepository.save(page);
+        Page movedPage = pageRepository.saveAndFlush(page);
+        String content = loadContent(page);
+        pageChangeLog.record(page.getWorkspace().getId(), pageId, PageChange.ChangeType.UPDATED,
+                EnumSet.of(PageChange.Field.PARENT, PageChange.Field.SORT_ORDER), currentUser);
 
         // 히스토리 생성
-        createPageHistory(movedPage, currentUser, PageHistory.ChangeType.STRUCTURE_CHANGED, "페이지 이동");
+        createPageHistory(movedPage, content, currentUser, PageHistory.ChangeType.STRUCTURE_CHANGED, "페이지 이동");
 
         log.info("페이지 이동 완료: {}", pageId);
-        return PageResponse.from(movedPage);
+        return PageResponse.from(movedPage, content);
     }
 
     /**
@@ -257,7 +317,7 @@ public class PageCommandService {
 
         Page duplicatedPage = Page.builder()
                 .title(newTitle)
-                .content(originalPage.getContent())
+                .summary(originalPage.getSummary())
                 .icon(originalPage.getIcon())
                 .coverImageUrl(originalPage.getCoverImageUrl())
                 .workspace(workspace)
@@ -272,6 +332,10 @@ public class PageCommandService {
                 .build();
 
         Page savedPage = pageRepository.save(duplicatedPage);
+        String content = copyContent(originalPage, savedPage);
+        workspaceCounter.addPages(workspace.getId(), 1);
+        pageChangeLog.record(workspace.getId(), savedPage.getId(), PageChange.ChangeType.CREATED,
+                EnumSet.allOf(PageChange.Field.class), currentUser);
 
         // 자식 페이지들도 함께 복제 (옵션)
         if (request.getIncludeChildren()) {
@@ -279,10 +343,10 @@ public class PageCommandService {
         }
 
         // 히스토리 생성
-        createPageHistory(savedPage, currentUser, PageHistory.ChangeType.CREATED, "페이지 복제 (원본: " + originalPage.getTitle() + ")");
+        createPageHistory(savedPage, content, currentUser, PageHistory.ChangeType.CREATED, "페이지 복제 (원본: " + originalPage.getTitle() + ")");
 
         log.info("페이지 복제 완료: {} -> {}", pageId, savedPage.getId());
-        return PageResponse.from(savedPage);
+        return PageResponse.from(savedPage, content);
     }
 
     /**
@@ -300,14 +364,17 @@ public class PageCommandService {
         }
 
         page.updateLastModifiedBy(currentUser);
-        Page updatedPage = pageRepository.save(page);
+        Page updatedPage = pageRepository.saveAndFlush(page);
+        String content = loadContent(page);
+        pageChangeLog.record(page.getWorkspace().getId(), pageId, PageChange.ChangeType.UPDATED,
+                EnumSet.of(PageChange.Field.PUBLISHED), currentUser);
 
         // 히스토리 생성
         String description = page.getIsPublished() ? "페이지 공개" : "페이지 비공개";
-        createPageHistory(updatedPage, currentUser, PageHistory.ChangeType.STATUS_CHANGED, description);
+        createPageHistory(updatedPage, content, currentUser, PageHistory.ChangeType.STATUS_CHANGED, description);
 
         log.info("페이지 공개 상태 변경 완료: {}", pageId);
-        return PageResponse.from(updatedPage);
+        return PageResponse.from(updatedPage, content);
     }
 
     /**
@@ -325,14 +392,17 @@ public class PageCommandService {
         }
 
         page.updateLastModifiedBy(currentUser);
-        Page updatedPage = pageRepository.save(page);
+        Page updatedPage = pageRepository.saveAndFlush(page);
+        String content = loadContent(page);
+        pageChangeLog.record(page.getWorkspace().getId(), pageId, PageChange.ChangeType.UPDATED,
+                EnumSet.of(PageChange.Field.LOCKED), currentUser);
 
         // 히스토리 생성
         String description = page.getIsLocked() ? "페이지 잠금" : "페이지 잠금 해제";
-        createPageHistory(updatedPage, currentUser, PageHistory.ChangeType.STATUS_CHANGED, description);
+        createPageHistory(updatedPage, content, currentUser, PageHistory.ChangeType.STATUS_CHANGED, description);
 
         log.info("페이지 잠금 상태 변경 완료: {}", pageId);
-        return PageResponse.from(updatedPage);
+        return PageResponse.from(updatedPage, content);
     }
 
     /**
@@ -351,19 +421,33 @@ public class PageCommandService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 버전을 찾을 수 없습니다."));
 
         // 현재 상태를 히스토리로 저장
-        createPageHistory(page, currentUser, PageHistory.ChangeType.RESTORED, "버전 " + version + "으로 복원 전 백업");
+        createPageHistory(page, loadContent(page), currentUser, PageHistory.ChangeType.RESTORED, "버전 " + version + "으로 복원 전 백업");
 
         // 페이지를 이전 버전으로 복원
-        page.updateInfo(history.getTitle(), history.getContent(), history.getIcon(), history.getCoverImageUrl());
+        String content = history.getContent();
+        page.updateInfo(history.getTitle(), history.getIcon(), history.getCoverImageUrl());
+        if (content != null) {
+            page.updateSummary(content);
+            page.touch(); // 요약이 같아도 본문이 바뀌었으므로 수정일시와 버전 갱신
+            pageContentRepository.upsert(pageId, content);
+            pageBlockRepository.deleteByPageId(pageId); // 본문 전체 교체 시 블록 모드 해제
+            page.markContentAssembled();
+        }
         page.updateLastModifiedBy(currentUser);
 
-        Page restoredPage = pageRepository.save(page);
+        Page restoredPage = pageRepository.saveAndFlush(page);
+        if (content == null) {
+            content = loadContent(page);
+        }
 
         // 복원 히스토리 생성
-        createPageHistory(restoredPage, currentUser, PageHistory.ChangeType.RESTORED, "버전 " + version + "으로 복원");
+        createPageHistory(restoredPage, content, currentUser, PageHistory.ChangeType.RESTORED, "버전 " + version + "으로 복원");
+        pageChangeLog.record(page.getWorkspace().getId(), pageId, PageChange.ChangeType.UPDATED,
+                EnumSet.of(PageChange.Field.TITLE, PageChange.Field.CONTENT,
+                        PageChange.Field.ICON, PageChange.Field.COVER_IMAGE), currentUser);
 
         log.info("페이지 버전 복원 완료: {}", pageId);
-        return PageResponse.from(restoredPage);
+        return PageResponse.from(restoredPage, content);
     }
 
     // ===== 내부 헬퍼 메서드 =====
@@ -393,6 +477,22 @@ public class PageCommandService {
         Page page = pageRepository.findActivePageById(pageId)
                 .orElseThrow(() -> new PageNotFoundException("페이지를 찾을 수 없습니다."));
 
+        checkPagePermission(page, user, requireWritePermission);
+        return page;
+    }
+
+    /**
+     * 쓰기 권한을 확인하고 페이지 행을 잠금
+     */
+    private Page getPageForUpdateWithWritePermission(Long pageId, User user) {
+        Page page = pageRepository.findActivePageByIdForUpdate(pageId)
+                .orElseThrow(() -> new PageNotFoundException("페이지를 찾을 수 없습니다."));
+
+        checkPagePermission(page, user, true);
+        return page;
+    }
+
+    private void checkPagePermission(Page page, User user, boolean requireWritePermission) {
         Workspace workspace = page.getWorkspace();
 
         // 읽기 권한 확인
@@ -404,8 +504,6 @@ public class PageCommandService {
         if (requireWritePermission) {
             checkWorkspaceWritePermission(workspace, user);
         }
-
-        return page;
     }
 
     private boolean canUserAccessPage(Workspace workspace, User user) {
@@ -414,33 +512,105 @@ public class PageCommandService {
                 workspace.getVisibility() == Workspace.Visibility.PUBLIC;
     }
 
-    private void createPageHistory(Page page, User modifiedBy, PageHistory.ChangeType changeType, String description) {
+    /**
+     * 페이지 본문 조회 (본문이 없으면 null)
+     * 블록 수정 후 아직 재구성되지 않은 페이지는 page_contents 대신 블록에서 조립
+     */
+    private String loadContent(Page page) {
+        if (page.getContentStale()) {
+            return pageBlockRepository.assembleContent(page.getId());
+        }
+        return pageContentRepository.findContentByPageId(page.getId()).orElse(null);
+    }
+
+    /**
+     * 원본 페이지 본문을 복제 페이지에 복사 (복제 페이지는 블록 모드가 아닌 일반 본문으로 시작)
+     * @return 복사된 본문
+     */
+    private String copyContent(Page original, Page copy) {
+        if (original.getContentStale()) {
+            String content = pageBlockRepository.assembleContent(original.getId());
+            pageContentRepository.upsert(copy.getId(), content);
+            return content;
+        }
+        pageContentRepository.copy(original.getId(), copy.getId());
+        return loadContent(copy);
+    }
+
+    private void createPageHistory(Page page, String content, User modifiedBy, PageHistory.ChangeType changeType, String description) {
         int nextVersion = pageHistoryRepository.findMaxVersionByPage(page) + 1;
 
         PageHistory history = PageHistory.builder()
                 .page(page)
                 .version(nextVersion)
                 .title(page.getTitle())
-                .content(page.getContent())
+                .content(content)
                 .summary(page.getSummary())
                 .icon(page.getIcon())
                 .coverImageUrl(page.getCoverImageUrl())
                 .modifiedBy(modifiedBy)
                 .changeType(changeType)
                 .changeDescription(description)
-                .contentSize(page.getContent() != null ? (long) page.getContent().getBytes().length : 0L)
+                .contentSize(content != null ? (long) content.getBytes().length : 0L)
                 .build();
 
         pageHistoryRepository.save(history);
     }
 
-    private String buildChangeDescription(Page page, PageUpdateRequest request) {
+    /**
+     * If-Match 버전 확인
+     */
+    private void checkExpectedVersion(Page page, IfMatchCondition ifMatch) {
+        if (ifMatch != null && !ifMatch.matches(page.getVersion())) {
+            throw new PageVersionMismatchException(ifMatch.toString(), page.getVersion());
+        }
+    }
+
+    /**
+     * 수정 요청에서 실제로 바뀌는 필드 (변경 로그용)
+     */
+    private Set<PageChange.Field> collectChangedFields(Page page, String currentContent, PageUpdateRequest request) {
+        Set<PageChange.Field> fields = EnumSet.noneOf(PageChange.Field.class);
+
+        if (request.getTitle() != null && !request.getTitle().trim().isEmpty()
+                && !request.getTitle().trim().equals(page.getTitle())) {
+            fields.add(PageChange.Field.TITLE);
+        }
+        if (request.getContent() != null && !request.getContent().equals(currentContent)) {
+            fields.add(PageChange.Field.CONTENT);
+        }
+        if (request.getIcon() != null && !request.getIcon().equals(page.getIcon())) {
+            fields.add(PageChange.Field.ICON);
+        }
+        if (request.getCoverImageUrl() != null && !request.getCoverImageUrl().equals(page.getCoverImageUrl())) {
+            fields.add(PageChange.Field.COVER_IMAGE);
+        }
+        if (request.getPageType() != null && request.getPageType() != page.getPageType()) {
+            fields.add(PageChange.Field.PAGE_TYPE);
+        }
+        if (request.getIsPublished() != null && !request.getIsPublished().equals(page.getIsPublished())) {
+            fields.add(PageChange.Field.PUBLISHED);
+        }
+        if (request.getIsTemplate() != null && !request.getIsTemplate().equals(page.getIsTemplate())) {
+            fields.add(PageChange.Field.TEMPLATE);
+        }
+        if (request.getIsLocked() != null && !request.getIsLocked().equals(page.getIsLocked())) {
+            fields.add(PageChange.Field.LOCKED);
+        }
+        if (request.getSortOrder() != null && !Objects.equals(request.getSortOrder(), page.getSortOrder())) {
+            fields.add(PageChange.Field.SORT_ORDER);
+        }
+
+        return fields;
+    }
+
+    private String buildChangeDescription(Page page, String currentContent, PageUpdateRequest request) {
         StringBuilder description = new StringBuilder();
 
         if (request.getTitle() != null && !request.getTitle().equals(page.getTitle())) {
             description.append("제목 변경, ");
         }
-        if (request.getContent() != null && !request.getContent().equals(page.getContent())) {
+        if (request.getContent() != null && !request.getContent().equals(currentContent)) {
             description.append("내용 변경, ");
         }
         if (request.getIcon() != null && !request.getIcon().equals(page.getIcon())) {
@@ -458,11 +628,11 @@ public class PageCommandService {
         return "메타데이터 변경";
     }
 
-    private PageHistory.ChangeType determineChangeType(Page page, PageUpdateRequest request) {
+    private PageHistory.ChangeType determineChangeType(Page page, String currentContent, PageUpdateRequest request) {
         if (request.getTitle() != null && !request.getTitle().equals(page.getTitle())) {
             return PageHistory.ChangeType.TITLE_UPDATED;
         }
-        if (request.getContent() != null && !request.getContent().equals(page.getContent())) {
+        if (request.getContent() != null && !request.getContent().equals(currentContent)) {
             return PageHistory.ChangeType.CONTENT_UPDATED;
         }
         if ((request.getIcon() != null && !request.getIcon().equals(page.getIcon())) ||
@@ -493,7 +663,7 @@ public class PageCommandService {
         for (Page child : children) {
             Page duplicatedChild = Page.builder()
                     .title(child.getTitle())
-                    .content(child.getContent())
+                    .summary(child.getSummary())
                     .icon(child.getIcon())
                     .coverImageUrl(child.getCoverImageUrl())
                     .workspace(newParent.getWorkspace())
@@ -508,7 +678,11 @@ public class PageCommandService {
                     .build();
 
             Page savedChild = pageRepository.save(duplicatedChild);
-            createPageHistory(savedChild, currentUser, PageHistory.ChangeType.CREATED, "자식 페이지 복제");
+            String childContent = copyContent(child, savedChild);
+            workspaceCounter.addPages(newParent.getWorkspace().getId(), 1);
+            pageChangeLog.record(newParent.getWorkspace().getId(), savedChild.getId(), PageChange.ChangeType.CREATED,
+                    EnumSet.allOf(PageChange.Field.class), currentUser);
+            createPageHistory(savedChild, childContent, currentUser, PageHistory.ChangeType.CREATED, "자식 페이지 복제");
 
             // 재귀적으로 자식의 자식들도 복제
             duplicateChildren(child, savedChild, currentUser);
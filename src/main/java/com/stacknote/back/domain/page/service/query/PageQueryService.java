@@ -1,17 +1,28 @@
 package com.stacknote.back.domain.page.service.query;
 
+import com.stacknote.back.domain.page.dto.projection.PageSummaryProjection;
+import com.stacknote.back.domain.page.dto.response.PageBlockResponse;
+import com.stacknote.back.domain.page.dto.response.PageChangeResponse;
+import com.stacknote.back.domain.page.dto.response.PageChangesResponse;
 import com.stacknote.back.domain.page.dto.response.PageResponse;
 import com.stacknote.back.domain.page.dto.response.PageSummaryResponse;
 import com.stacknote.back.domain.page.entity.Page;
+import com.stacknote.back.domain.page.entity.PageChange;
 import com.stacknote.back.domain.page.entity.PageHistory;
 import com.stacknote.back.domain.page.exception.PageAccessDeniedException;
 import com.stacknote.back.domain.page.exception.PageNotFoundException;
+import com.stacknote.back.domain.page.repository.PageBlockRepository;
+import com.stacknote.back.domain.page.repository.PageChangeRepository;
+import com.stacknote.back.domain.page.repository.PageContentRepository;
 import com.stacknote.back.domain.page.repository.PageHistoryRepository;
 import com.stacknote.back.domain.page.repository.PageRepository;
+import com.stacknote.back.domain.page.service.PageSummaryReader;
 import com.stacknote.back.domain.user.entity.User;
 import com.stacknote.back.domain.workspace.entity.Workspace;
 import com.stacknote.back.domain.workspace.exception.WorkspaceNotFoundException;
 import com.stacknote.back.domain.workspace.repository.WorkspaceRepository;
+import com.stacknote.back.global.dto.Cursor;
+import com.stacknote.back.global.dto.CursorResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -20,7 +31,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -33,7 +49,13 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PageQueryService {
 
+    private static final int MAX_CHANGES_LIMIT = 1000;
+
     private final PageRepository pageRepository;
+    private final PageContentRepository pageContentRepository;
+    private final PageBlockRepository pageBlockRepository;
+    private final PageChangeRepository pageChangeRepository;
+    private final PageSummaryReader pageSummaryReader;
     private final PageHistoryRepository pageHistoryRepository;
     private final WorkspaceRepository workspaceRepository;
 
@@ -49,7 +71,24 @@ public class PageQueryService {
         // 조회수 증가
         pageRepository.incrementViewCount(pageId);
 
-        return PageResponse.from(page);
+        // 본문은 상세 조회에서만 로딩 (블록 수정 후 아직 재구성되지 않았으면 블록에서 조립)
+        String content = page.getContentStale()
+                ? pageBlockRepository.assembleContent(pageId)
+                : pageContentRepository.findContentByPageId(pageId).orElse(null);
+        return PageResponse.from(page, content);
+    }
+
+    /**
+     * 페이지 블록 목록 조회 (블록으로 전환되지 않은 페이지는 빈 목록)
+     */
+    public List<PageBlockResponse> getPageBlocks(Long pageId, User currentUser) {
+        log.debug("페이지 블록 조회: {}, 사용자: {}", pageId, currentUser.getId());
+
+        getAccessiblePage(pageId, currentUser);
+
+        return pageBlockRepository.findByPageIdOrderByPosition(pageId).stream()
+                .map(PageBlockResponse::from)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -59,11 +98,84 @@ public class PageQueryService {
         log.debug("워크스페이스 페이지 목록 조회: {}, 사용자: {}", workspaceId, currentUser.getId());
 
         Workspace workspace = getAccessibleWorkspace(workspaceId, currentUser);
-        List<Page> pages = pageRepository.findByWorkspace(workspace);
+        List<PageSummaryProjection> pages = pageRepository.findByWorkspace(workspace);
 
-        return pages.stream()
-                .map(PageSummaryResponse::from)
+        return pageSummaryReader.toResponses(pages);
+    }
+
+    /**
+     * 변경 순번 이후의 페이지 변경 조회 (동기화용)
+     * 페이지별로 변경을 합쳐 현재 요약과 함께 반환하고, 사라진 페이지는 삭제로 표시
+     */
+    public PageChangesResponse getChangesSince(Long workspaceId, User currentUser, long since, int limit) {
+        log.debug("페이지 변경 조회: 워크스페이스: {}, 순번: {}, 사용자: {}", workspaceId, since, currentUser.getId());
+
+        Workspace workspace = getAccessibleWorkspace(workspaceId, currentUser);
+        long latest = workspace.getChangeSeq() != null ? workspace.getChangeSeq() : 0L;
+        int size = Math.max(1, Math.min(limit, MAX_CHANGES_LIMIT));
+
+        // 서버보다 앞선 순번이거나 요청 구간의 로그가 이미 정리된 경우 전체 재조회 필요
+        if (since > latest || (since < latest && isChangeLogPruned(workspaceId, since))) {
+            return PageChangesResponse.builder()
+                    .workspaceId(workspaceId)
+                    .nextSince(latest)
+                    .latestSeq(latest)
+                    .hasMore(false)
+                    .resetRequired(true)
+                    .changes(List.of())
+                    .build();
+        }
+
+        // 변경 행 수로 응답 크기를 제한하되, 같은 순번의 변경은 나누지 않음
+        long until = latest;
+        if (since < latest) {
+            List<Long> seqs = pageChangeRepository.findSeqsInRange(workspaceId, since, latest, PageRequest.of(0, size));
+            if (seqs.size() >= size) {
+                until = seqs.get(seqs.size() - 1);
+            }
+        }
+
+        List<PageChange> rows = since < until
+                ? pageChangeRepository.findInRange(workspaceId, since, until)
+                : List.of();
+
+        // 페이지별 병합 (마지막 변경 타입, 변경 필드 합집합)
+        Map<Long, PageChange> lastChanges = new LinkedHashMap<>();
+        Map<Long, Set<PageChange.Field>> fields = new LinkedHashMap<>();
+        for (PageChange row : rows) {
+            lastChanges.remove(row.getPageId()); // 최근 변경 순서로 정렬되도록 다시 추가
+            lastChanges.put(row.getPageId(), row);
+            fields.computeIfAbsent(row.getPageId(), id -> EnumSet.noneOf(PageChange.Field.class))
+                    .addAll(row.getFieldSet());
+        }
+
+        Map<Long, PageSummaryResponse> livePages = lastChanges.isEmpty()
+                ? Map.of()
+                : pageSummaryReader.toResponses(pageRepository.findSummariesByIds(lastChanges.keySet())).stream()
+                        .collect(Collectors.toMap(PageSummaryResponse::getId, Function.identity()));
+
+        List<PageChangeResponse> changes = lastChanges.values().stream()
+                .map(change -> {
+                    PageSummaryResponse page = livePages.get(change.getPageId());
+                    return PageChangeResponse.builder()
+                            .pageId(change.getPageId())
+                            .seq(change.getSeq())
+                            .changeType(change.getChangeType())
+                            .changedFields(fields.get(change.getPageId()))
+                            .deleted(page == null)
+                            .page(page)
+                            .build();
+                })
                 .collect(Collectors.toList());
+
+        return PageChangesResponse.builder()
+                .workspaceId(workspaceId)
+                .nextSince(until)
+                .latestSeq(latest)
+                .hasMore(until < latest)
+                .resetRequired(false)
+                .changes(changes)
+                .build();
     }
 
     /**
@@ -73,11 +185,9 @@ public class PageQueryService {
         log.debug("최상위 페이지 목록 조회: {}, 사용자: {}", workspaceId, currentUser.getId());
 
         Workspace workspace = getAccessibleWorkspace(workspaceId, currentUser);
-        List<Page> rootPages = pageRepository.findRootPagesByWorkspace(workspace);
+        List<PageSummaryProjection> rootPages = pageRepository.findRootPagesByWorkspace(workspace);
 
-        return rootPages.stream()
-                .map(PageSummaryResponse::from)
-                .collect(Collectors.toList());
+        return pageSummaryReader.toResponses(rootPages);
     }
 
     /**
@@ -87,11 +197,9 @@ public class PageQueryService {
         log.debug("자식 페이지 목록 조회: {}, 사용자: {}", pageId, currentUser.getId());
 
         Page page = getAccessiblePage(pageId, currentUser);
-        List<Page> childPages = pageRepository.findByParent(page);
+        List<PageSummaryProjection> childPages = pageRepository.findChildPageSummaries(page);
 
-        return childPages.stream()
-                .map(PageSummaryResponse::from)
-                .collect(Collectors.toList());
+        return pageSummaryReader.toResponses(childPages);
     }
 
     /**
@@ -101,11 +209,9 @@ public class PageQueryService {
         log.debug("페이지 검색: 워크스페이스: {}, 키워드: {}, 사용자: {}", workspaceId, keyword, currentUser.getId());
 
         Workspace workspace = getAccessibleWorkspace(workspaceId, currentUser);
-        List<Page> pages = pageRepository.searchByContentInWorkspace(workspace, keyword);
+        List<PageSummaryProjection> pages = pageRepository.searchSummariesByContentInWorkspace(workspace, keyword);
 
-        return pages.stream()
-                .map(PageSummaryResponse::from)
-                .collect(Collectors.toList());
+        return pageSummaryReader.toResponses(pages);
     }
 
     /**
@@ -118,11 +224,9 @@ public class PageQueryService {
         LocalDateTime since = LocalDateTime.now().minusDays(days);
         Pageable pageable = PageRequest.of(0, limit);
 
-        List<Page> pages = pageRepository.findRecentlyModifiedInWorkspace(workspace, since, pageable);
+        List<PageSummaryProjection> pages = pageRepository.findRecentlyModifiedInWorkspace(workspace, since, pageable);
 
-        return pages.stream()
-                .map(PageSummaryResponse::from)
-                .collect(Collectors.toList());
+        return pageSummaryReader.toResponses(pages);
     }
 
     /**
@@ -132,11 +236,9 @@ public class PageQueryService {
         log.debug("공개된 페이지 목록 조회: 워크스페이스: {}, 사용자: {}", workspaceId, currentUser.getId());
 
         Workspace workspace = getAccessibleWorkspace(workspaceId, currentUser);
-        List<Page> pages = pageRepository.findPublishedPagesByWorkspace(workspace);
+        List<PageSummaryProjection> pages = pageRepository.findPublishedPagesByWorkspace(workspace);
 
-        return pages.stream()
-                .map(PageSummaryResponse::from)
-                .collect(Collectors.toList());
+        return pageSummaryReader.toResponses(pages);
     }
 
     /**
@@ -146,11 +248,9 @@ public class PageQueryService {
         log.debug("템플릿 페이지 목록 조회: 워크스페이스: {}, 사용자: {}", workspaceId, currentUser.getId());
 
         Workspace workspace = getAccessibleWorkspace(workspaceId, currentUser);
-        List<Page> pages = pageRepository.findTemplatesByWorkspace(workspace);
+        List<PageSummaryProjection> pages = pageRepository.findTemplatesByWorkspace(workspace);
 
-        return pages.stream()
-                .map(PageSummaryResponse::from)
-                .collect(Collectors.toList());
+        return pageSummaryReader.toResponses(pages);
     }
 
     /**
@@ -160,11 +260,9 @@ public class PageQueryService {
         log.debug("페이지 타입별 조회: 워크스페이스: {}, 타입: {}, 사용자: {}", workspaceId, pageType, currentUser.getId());
 
         Workspace workspace = getAccessibleWorkspace(workspaceId, currentUser);
-        List<Page> pages = pageRepository.findByWorkspaceAndPageType(workspace, pageType);
+        List<PageSummaryProjection> pages = pageRepository.findByWorkspaceAndPageType(workspace, pageType);
 
-        return pages.stream()
-                .map(PageSummaryResponse::from)
-                .collect(Collectors.toList());
+        return pageSummaryReader.toResponses(pages);
     }
 
     /**
@@ -175,11 +273,9 @@ public class PageQueryService {
 
         Workspace workspace = getAccessibleWorkspace(workspaceId, currentUser);
         Pageable pageable = PageRequest.of(0, limit);
-        List<Page> pages = pageRepository.findPopularPagesByWorkspace(workspace, pageable);
+        List<PageSummaryProjection> pages = pageRepository.findPopularPagesByWorkspace(workspace, pageable);
 
-        return pages.stream()
-                .map(PageSummaryResponse::from)
-                .collect(Collectors.toList());
+        return pageSummaryReader.toResponses(pages);
     }
 
     /**
@@ -189,12 +285,9 @@ public class PageQueryService {
         log.debug("사용자 생성 페이지 목록 조회: {}", user.getId());
 
         Pageable pageable = PageRequest.of(0, limit);
-        List<Page> pages = pageRepository.findByCreatedBy(user);
+        List<PageSummaryProjection> pages = pageRepository.findByCreatedBy(user, pageable);
 
-        return pages.stream()
-                .limit(limit)
-                .map(PageSummaryResponse::from)
-                .collect(Collectors.toList());
+        return pageSummaryReader.toResponses(pages);
     }
 
     /**
@@ -204,11 +297,25 @@ public class PageQueryService {
         log.debug("사용자 최근 수정 페이지 목록 조회: {}", user.getId());
 
         Pageable pageable = PageRequest.of(0, limit);
-        List<Page> pages = pageRepository.findRecentlyModifiedByUser(user, pageable);
+        List<PageSummaryProjection> pages = pageRepository.findRecentlyModifiedByUser(user, pageable);
 
-        return pages.stream()
-                .map(PageSummaryResponse::from)
-                .collect(Collectors.toList());
+        return pageSummaryReader.toResponses(pages);
+    }
+
+    /**
+     * 사용자가 최근 수정한 페이지 목록 조회 (커서 기반)
+     */
+    public CursorResponse<PageSummaryResponse> getUserRecentlyModifiedPages(User user, String cursor, int size) {
+        log.debug("사용자 최근 수정 페이지 목록 조회 (커서): {}", user.getId());
+
+        int limit = CursorResponse.clampSize(size);
+        Cursor position = Cursor.descending(cursor);
+        List<PageSummaryProjection> pages = pageRepository.findRecentlyModifiedByUserAfter(
+                user, position.sortKey(), position.id(), PageRequest.of(0, limit + 1));
+
+        return CursorResponse.ofBatch(pages, limit,
+                page -> new Cursor(page.updatedAt(), page.id()),
+                pageSummaryReader::toResponses);
     }
 
     /**
@@ -247,16 +354,33 @@ public class PageQueryService {
 
         Workspace workspace = getAccessibleWorkspace(workspaceId, currentUser);
 
-        long totalPages = pageRepository.countByWorkspace(workspace);
-        long publishedPages = pageRepository.findPublishedPagesByWorkspace(workspace).size();
-        long templatePages = pageRepository.findTemplatesByWorkspace(workspace).size();
-        long lockedPages = pageRepository.findLockedPagesByWorkspace(workspace).size();
+        long totalPages = 0;
+        long publishedPages = 0;
+        long templatePages = 0;
+        long lockedPages = 0;
+
+        // 상태 조합별 개수를 한 번에 집계
+        for (Object[] row : pageRepository.getPageStatisticsByState(workspace)) {
+            long count = (Long) row[3];
+            totalPages += count;
+            if (Boolean.TRUE.equals(row[0])) publishedPages += count;
+            if (Boolean.TRUE.equals(row[1])) templatePages += count;
+            if (Boolean.TRUE.equals(row[2])) lockedPages += count;
+        }
 
         return new PageStatisticsResponse(totalPages, publishedPages, templatePages, lockedPages);
     }
 
     // ===== 내부 헬퍼 메서드 =====
 
+    /**
+     * since 다음 순번부터의 변경 로그가 보관 기간 정리로 사라졌는지 확인
+     */
+    private boolean isChangeLogPruned(Long workspaceId, long since) {
+        Long minSeq = pageChangeRepository.findMinSeq(workspaceId);
+        return minSeq == null || since + 1 < minSeq;
+    }
+
     private Workspace getAccessibleWorkspace(Long workspaceId, User user) {
         Workspace workspace = workspaceRepository.findActiveWorkspaceById(workspaceId)
                 .orElseThrow(() -> new WorkspaceNotFoundException("워크스페이스를 찾을 수 없습니다."));
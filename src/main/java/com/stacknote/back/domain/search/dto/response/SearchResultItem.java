@@ -17,7 +17,7 @@ public class SearchResultItem {
     @Schema(description = "항목 ID")
     private Long id;
 
-    @Schema(description = "항목 타입", allowableValues = {"PAGE", "WORKSPACE"})
+    @Schema(description = "항목 타입", allowableValues = {"PAGE", "WORKSPACE", "FILE"})
     private String type;
 
     @Schema(description = "제목")
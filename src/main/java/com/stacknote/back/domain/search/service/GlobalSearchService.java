@@ -1,6 +1,10 @@
 package com.stacknote.back.domain.search.service;
 
+import com.stacknote.back.domain.file.entity.File;
+import com.stacknote.back.domain.file.repository.FileRepository;
+import com.stacknote.back.domain.file.repository.FileTextRepository;
 import com.stacknote.back.domain.page.entity.Page;
+import com.stacknote.back.domain.page.repository.PageContentRepository;
 import com.stacknote.back.domain.page.repository.PageRepository;
 import com.stacknote.back.domain.search.dto.request.SearchType;
 import com.stacknote.back.domain.search.dto.response.GlobalSearchResponse;
@@ -20,7 +24,7 @@ import java.util.stream.Collectors;
 
 /**
  * 전역 검색 서비스
- * 워크스페이스와 페이지를 통합하여 검색하는 기능 제공
+ * 워크스페이스, 페이지, 첨부파일 본문을 통합하여 검색하는 기능 제공
  */
 @Slf4j
 @Service
@@ -30,6 +34,9 @@ public class GlobalSearchService {
 
     private final WorkspaceRepository workspaceRepository;
     private final PageRepository pageRepository;
+    private final PageContentRepository pageContentRepository;
+    private final FileRepository fileRepository;
+    private final FileTextRepository fileTextRepository;
 
     /**
      * 전역 검색
@@ -168,13 +175,16 @@ public class GlobalSearchService {
                 pages = pageRepository.searchByContentInWorkspace(workspace, keyword);
             }
 
+            // 제목에 검색어가 없는 페이지의 본문만 한 번에 로딩
+            Map<Long, String> contents = loadContentsForHighlight(pages, keyword);
+
             for (Page page : pages) {
                 SearchResultItem item = SearchResultItem.builder()
                         .id(page.getId())
                         .type("PAGE")
                         .title(page.getTitle())
                         .icon(page.getIcon() != null ? page.getIcon() : "📄")
-                        .highlight(extractHighlight(page, keyword))
+                        .highlight(extractHighlight(page, contents.get(page.getId()), keyword))
                         .path(buildPagePath(page))
                         .build();
 
@@ -182,6 +192,25 @@ public class GlobalSearchService {
             }
         }
 
+        // 첨부파일 추출 텍스트 검색
+        if (type == SearchType.ALL || type == SearchType.CONTENT) {
+            List<File> files = fileRepository.searchByExtractedText(workspace, keyword);
+            Map<Long, String> texts = loadFileTexts(files);
+
+            for (File file : files) {
+                SearchResultItem item = SearchResultItem.builder()
+                        .id(file.getId())
+                        .type("FILE")
+                        .title(file.getOriginalName())
+                        .icon("📎")
+                        .highlight(highlightText(texts.get(file.getId()), keyword))
+                        .path(workspace.getName() + " > " + file.getOriginalName())
+                        .build();
+
+                group.getItems().add(item);
+            }
+        }
+
         return group;
     }
 
@@ -202,18 +231,50 @@ public class GlobalSearchService {
         return text;
     }
 
+    /**
+     * 하이라이트에 필요한 파일 추출 텍스트 일괄 조회
+     */
+    private Map<Long, String> loadFileTexts(List<File> files) {
+        if (files.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, String> texts = new HashMap<>();
+        fileTextRepository.findTextsByFileIds(files.stream().map(File::getId).collect(Collectors.toList()))
+                .forEach(row -> texts.put((Long) row[0], (String) row[1]));
+        return texts;
+    }
+
+    /**
+     * 하이라이트에 필요한 페이지 본문 일괄 조회 (제목에서 하이라이트 가능한 페이지 제외)
+     */
+    private Map<Long, String> loadContentsForHighlight(List<Page> pages, String keyword) {
+        List<Long> pageIds = pages.stream()
+                .filter(page -> !page.getTitle().toLowerCase().contains(keyword.toLowerCase()))
+                .map(Page::getId)
+                .collect(Collectors.toList());
+        if (pageIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, String> contents = new HashMap<>();
+        pageContentRepository.findContentsByPageIds(pageIds)
+                .forEach(row -> contents.put((Long) row[0], (String) row[1]));
+        return contents;
+    }
+
     /**
      * 페이지에서 하이라이트 추출
      */
-    private String extractHighlight(Page page, String keyword) {
+    private String extractHighlight(Page page, String content, String keyword) {
         // 제목에서 찾기
         if (page.getTitle().toLowerCase().contains(keyword.toLowerCase())) {
             return highlightText(page.getTitle(), keyword);
         }
 
         // 내용에서 찾기
-        if (page.getContent() != null && page.getContent().toLowerCase().contains(keyword.toLowerCase())) {
-            return highlightText(page.getContent(), keyword);
+        if (content != null && content.toLowerCase().contains(keyword.toLowerCase())) {
+            return highlightText(content, keyword);
         }
 
         // 요약에서 찾기
@@ -1,18 +1,25 @@
 package com.stacknote.back.domain.tag.controller.query;
 
+import com.stacknote.back.domain.page.dto.response.PageSummaryResponse;
+import com.stacknote.back.domain.tag.dto.response.RelatedTagResponse;
+import com.stacknote.back.domain.tag.dto.response.TagCombinationResponse;
 import com.stacknote.back.domain.tag.dto.response.TagResponse;
 import com.stacknote.back.domain.tag.dto.response.TagStatisticsResponse;
 import com.stacknote.back.domain.tag.dto.response.TagSummaryResponse;
+import com.stacknote.back.domain.tag.dto.response.TagUsageResponse;
 import com.stacknote.back.domain.tag.service.query.TagQueryService;
+import com.stacknote.back.domain.user.entity.User;
 import com.stacknote.back.domain.workspace.entity.Workspace;
 import com.stacknote.back.domain.workspace.repository.WorkspaceRepository;
 import com.stacknote.back.global.dto.ApiResponse;
+import com.stacknote.back.global.dto.PageResponse;
 import com.stacknote.back.global.exception.custom.EntityNotFoundException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -152,6 +159,56 @@ public class TagQueryController {
         return ApiResponse.success("페이지 태그 조회 성공", tags);
     }
 
+    @Operation(summary = "태그 조건으로 페이지 조회",
+            description = "모두 포함(all), 하나 이상 포함(any), 제외(none) 태그 조건에 맞는 페이지를 최신순으로 조회합니다.")
+    @GetMapping("/workspace/{workspaceId}/pages")
+    public ApiResponse<PageResponse<PageSummaryResponse>> getPagesByTagFilter(
+            @Parameter(description = "워크스페이스 ID") @PathVariable Long workspaceId,
+            @Parameter(description = "모두 포함해야 하는 태그 ID 목록") @RequestParam(defaultValue = "") List<Long> all,
+            @Parameter(description = "하나 이상 포함해야 하는 태그 ID 목록") @RequestParam(defaultValue = "") List<Long> any,
+            @Parameter(description = "제외할 태그 ID 목록") @RequestParam(defaultValue = "") List<Long> none,
+            @Parameter(description = "페이지 번호") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal User currentUser) {
+
+        PageResponse<PageSummaryResponse> pages =
+                tagQueryService.getPagesByTagFilter(workspaceId, all, any, none, page, size, currentUser);
+
+        return ApiResponse.success("태그 조건 페이지 조회 성공", pages);
+    }
+
+    @Operation(summary = "관련 태그 조회", description = "특정 태그와 함께 자주 붙은 태그를 조회합니다.")
+    @GetMapping("/{tagId}/related")
+    public ApiResponse<List<RelatedTagResponse>> getRelatedTags(
+            @Parameter(description = "태그 ID") @PathVariable Long tagId,
+            @Parameter(description = "조회할 태그 수") @RequestParam(defaultValue = "10") int size) {
+
+        List<RelatedTagResponse> tags = tagQueryService.getRelatedTags(tagId, size);
+
+        return ApiResponse.success("관련 태그 조회 성공", tags);
+    }
+
+    @Operation(summary = "인기 태그 조합 조회", description = "워크스페이스에서 함께 자주 쓰인 태그 쌍을 조회합니다.")
+    @GetMapping("/workspace/{workspaceId}/combinations")
+    public ApiResponse<List<TagCombinationResponse>> getPopularTagCombinations(
+            @Parameter(description = "워크스페이스 ID") @PathVariable Long workspaceId,
+            @Parameter(description = "조회할 조합 수") @RequestParam(defaultValue = "10") int size) {
+
+        List<TagCombinationResponse> combinations = tagQueryService.getPopularTagCombinations(workspaceId, size);
+
+        return ApiResponse.success("인기 태그 조합 조회 성공", combinations);
+    }
+
+    @Operation(summary = "태그 사용 통계 조회", description = "워크스페이스의 태그별 사용 페이지 수를 조회합니다.")
+    @GetMapping("/workspace/{workspaceId}/usage")
+    public ApiResponse<List<TagUsageResponse>> getTagUsageStatistics(
+            @Parameter(description = "워크스페이스 ID") @PathVariable Long workspaceId) {
+
+        List<TagUsageResponse> usage = tagQueryService.getTagUsageStatistics(workspaceId);
+
+        return ApiResponse.success("태그 사용 통계 조회 성공", usage);
+    }
+
     @Operation(summary = "최근 생성된 태그 조회", description = "워크스페이스의 최근 생성된 태그를 조회합니다.")
     @GetMapping("/workspace/{workspaceId}/recent")
     public ApiResponse<List<TagResponse>> getRecentTags(
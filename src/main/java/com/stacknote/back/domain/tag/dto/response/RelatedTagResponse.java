@@ -0,0 +1,34 @@
+package com.stacknote.back.domain.tag.dto.response;
+
+import com.stacknote.back.domain.tag.entity.Tag;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 관련 태그 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RelatedTagResponse {
+
+    private Long id;
+    private String name;
+    private String color;
+    private Long coOccurrenceCount; // 기준 태그와 함께 붙은 페이지 수
+
+    /**
+     * Tag 엔티티와 동시 사용 페이지 수로부터 생성
+     */
+    public static RelatedTagResponse of(Tag tag, long coOccurrenceCount) {
+        return RelatedTagResponse.builder()
+                .id(tag.getId())
+                .name(tag.getName())
+                .color(tag.getColor())
+                .coOccurrenceCount(coOccurrenceCount)
+                .build();
+    }
+}
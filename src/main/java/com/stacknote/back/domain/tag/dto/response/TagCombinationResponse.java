@@ -0,0 +1,32 @@
+package com.stacknote.back.domain.tag.dto.response;
+
+import com.stacknote.back.domain.tag.entity.Tag;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 태그 조합 응답 DTO (함께 자주 쓰인 태그 쌍)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagCombinationResponse {
+
+    private TagSummaryResponse firstTag;
+    private TagSummaryResponse secondTag;
+    private Long pageCount; // 두 태그가 함께 붙은 페이지 수
+
+    /**
+     * 두 Tag 엔티티와 동시 사용 페이지 수로부터 생성
+     */
+    public static TagCombinationResponse of(Tag firstTag, Tag secondTag, long pageCount) {
+        return TagCombinationResponse.builder()
+                .firstTag(TagSummaryResponse.from(firstTag))
+                .secondTag(TagSummaryResponse.from(secondTag))
+                .pageCount(pageCount)
+                .build();
+    }
+}
@@ -33,6 +33,14 @@ public class TagResponse {
      * Tag 엔티티로부터 TagResponse 생성
      */
     public static TagResponse from(Tag tag) {
+        return from(tag, 0);
+    }
+
+    /**
+     * 일괄 UPDATE로 사용 횟수가 바뀐 태그 응답 생성 (영속 상태의 엔티티에는 반영되지 않은 증감 적용)
+     */
+    public static TagResponse from(Tag tag, int usageDelta) {
+        int usageCount = Math.max(tag.getUsageCount() + usageDelta, 0);
         return TagResponse.builder()
                 .id(tag.getId())
                 .name(tag.getName())
@@ -40,9 +48,9 @@ public class TagResponse {
                 .description(tag.getDescription())
                 .workspaceId(tag.getWorkspace().getId())
                 .workspaceName(tag.getWorkspace().getName())
-                .usageCount(tag.getUsageCount())
+                .usageCount(usageCount)
                 .isSystemTag(tag.getIsSystemTag())
-                .canDelete(tag.canDelete())
+                .canDelete(!tag.getIsSystemTag() && usageCount == 0)
                 .createdAt(tag.getCreatedAt())
                 .updatedAt(tag.getUpdatedAt())
                 .build();
@@ -0,0 +1,34 @@
+package com.stacknote.back.domain.tag.dto.response;
+
+import com.stacknote.back.domain.tag.entity.Tag;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 태그 사용 통계 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagUsageResponse {
+
+    private Long id;
+    private String name;
+    private String color;
+    private Long pageCount; // 태그가 붙은 활성 페이지 수
+
+    /**
+     * Tag 엔티티와 사용 페이지 수로부터 생성
+     */
+    public static TagUsageResponse of(Tag tag, long pageCount) {
+        return TagUsageResponse.builder()
+                .id(tag.getId())
+                .name(tag.getName())
+                .color(tag.getColor())
+                .pageCount(pageCount)
+                .build();
+    }
+}
@@ -45,7 +45,8 @@ public class Tag extends BaseEntity {
     @Builder.Default
     private List<PageTag> pageTags = new ArrayList<>(); // 페이지-태그 연관관계
 
-    @Column(name = "usage_count", nullable = false)
+    // TagRepository.updateUsageCounts 가 SQL로만 변경하므로 엔티티 저장 시 덮어쓰지 않음
+    @Column(name = "usage_count", nullable = false, updatable = false)
     @Builder.Default
     private Integer usageCount = 0; // 사용 횟수
 
@@ -66,22 +67,6 @@ public class Tag extends BaseEntity {
         this.description = description;
     }
 
-    /**
-     * 태그 사용 횟수 증가
-     */
-    public void incrementUsage() {
-        this.usageCount++;
-    }
-
-    /**
-     * 태그 사용 횟수 감소
-     */
-    public void decrementUsage() {
-        if (this.usageCount > 0) {
-            this.usageCount--;
-        }
-    }
-
     /**
      * 시스템 태그로 설정
      */
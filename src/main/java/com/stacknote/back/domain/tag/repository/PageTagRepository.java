@@ -1,6 +1,8 @@
 package com.stacknote.back.domain.tag.repository;
 
+import com.stacknote.back.domain.page.dto.projection.PageSummaryProjection;
 import com.stacknote.back.domain.page.entity.Page;
+import com.stacknote.back.domain.page.repository.PageRepository;
 import com.stacknote.back.domain.tag.entity.PageTag;
 import com.stacknote.back.domain.tag.entity.Tag;
 import com.stacknote.back.domain.user.entity.User;
@@ -13,6 +15,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -63,16 +66,39 @@ public interface PageTagRepository extends JpaRepository<PageTag, Long> {
     List<PageTag> findByCreatedByOrderByCreatedAt(@Param("user") User user, Pageable pageable);
 
     /**
-     * 워크스페이스의 태그 사용 통계 조회
+     * 워크스페이스의 태그별 사용 페이지 수 (태그 분석 전체 재계산용)
+     * @return [태그 ID, 페이지 수] 목록
      */
-    @Query("""
-        SELECT pt.tag.id, pt.tag.name, COUNT(pt) as usageCount
-        FROM PageTag pt 
-        WHERE pt.page.workspace = :workspace 
-        GROUP BY pt.tag.id, pt.tag.name 
-        ORDER BY usageCount DESC
-        """)
-    List<Object[]> getTagUsageStatistics(@Param("workspace") Workspace workspace);
+    @Query(value = """
+        SELECT pt.tag_id, COUNT(*)
+        FROM page_tags pt
+        JOIN pages p ON p.id = pt.page_id
+        JOIN tags t ON t.id = pt.tag_id
+        WHERE p.workspace_id = :workspaceId
+        AND p.deleted_at IS NULL
+        AND t.deleted_at IS NULL
+        GROUP BY pt.tag_id
+        """, nativeQuery = true)
+    List<Object[]> countPagesPerTag(@Param("workspaceId") Long workspaceId);
+
+    /**
+     * 워크스페이스의 태그 쌍별 동시 사용 페이지 수 (태그 분석 전체 재계산용)
+     * @return [작은 태그 ID, 큰 태그 ID, 페이지 수] 목록
+     */
+    @Query(value = """
+        SELECT a.tag_id, b.tag_id, COUNT(*)
+        FROM page_tags a
+        JOIN page_tags b ON b.page_id = a.page_id AND b.tag_id > a.tag_id
+        JOIN pages p ON p.id = a.page_id
+        JOIN tags ta ON ta.id = a.tag_id
+        JOIN tags tb ON tb.id = b.tag_id
+        WHERE p.workspace_id = :workspaceId
+        AND p.deleted_at IS NULL
+        AND ta.deleted_at IS NULL
+        AND tb.deleted_at IS NULL
+        GROUP BY a.tag_id, b.tag_id
+        """, nativeQuery = true)
+    List<Object[]> countTagPairs(@Param("workspaceId") Long workspaceId);
 
     /**
      * 특정 기간 내 추가된 페이지-태그 연관관계 조회
@@ -109,20 +135,40 @@ public interface PageTagRepository extends JpaRepository<PageTag, Long> {
     List<Page> findPagesWithAnyTags(@Param("tags") List<Tag> tags);
 
     /**
-     * 가장 많이 사용되는 태그 조합 조회
+     * 워크스페이스의 [페이지 ID, 태그 ID] 목록 조회 (태그 인덱스 적재용, 페이지 ID 순)
      */
-    @Query(value = """
-        SELECT STRING_AGG(t.name, ', ' ORDER BY t.name) as tag_combination, COUNT(*) as usage_count
-        FROM page_tags pt1 
-        JOIN page_tags pt2 ON pt1.page_id = pt2.page_id 
-        JOIN tags t ON pt2.tag_id = t.id
-        WHERE pt1.page_id IN (
-            SELECT page_id FROM page_tags GROUP BY page_id HAVING COUNT(*) > 1
-        )
-        GROUP BY pt1.page_id
-        HAVING COUNT(*) > 1
-        """, nativeQuery = true)
-    List<Object[]> findPopularTagCombinations();
+    @Query("""
+        SELECT pt.page.id, pt.tag.id FROM PageTag pt
+        WHERE pt.page.workspace.id = :workspaceId
+        AND pt.page.deletedAt IS NULL
+        AND pt.tag.deletedAt IS NULL
+        ORDER BY pt.page.id ASC
+        """)
+    List<Object[]> findPageAndTagIdsByWorkspace(@Param("workspaceId") Long workspaceId);
+
+    /**
+     * 특정 태그들을 하나도 갖지 않은 워크스페이스 페이지 조회 (NOT 조건만 있는 경우, 최신 페이지 순)
+     */
+    @Query(PageRepository.SUMMARY_SELECT + """
+        WHERE p.workspace.id = :workspaceId
+        AND p.deletedAt IS NULL
+        AND NOT EXISTS (SELECT 1 FROM PageTag pt WHERE pt.page = p AND pt.tag.id IN :tagIds)
+        ORDER BY p.id DESC
+        """)
+    List<PageSummaryProjection> findPagesWithoutTags(@Param("workspaceId") Long workspaceId,
+                                                     @Param("tagIds") Collection<Long> tagIds,
+                                                     Pageable pageable);
+
+    /**
+     * 특정 태그들을 하나도 갖지 않은 워크스페이스 페이지 수
+     */
+    @Query("""
+        SELECT COUNT(p) FROM Page p
+        WHERE p.workspace.id = :workspaceId
+        AND p.deletedAt IS NULL
+        AND NOT EXISTS (SELECT 1 FROM PageTag pt WHERE pt.page = p AND pt.tag.id IN :tagIds)
+        """)
+    long countPagesWithoutTags(@Param("workspaceId") Long workspaceId, @Param("tagIds") Collection<Long> tagIds);
 
     /**
      * 페이지의 태그 삭제
@@ -143,7 +189,7 @@ public interface PageTagRepository extends JpaRepository<PageTag, Long> {
      */
     @Modifying
     @Query("DELETE FROM PageTag pt WHERE pt.page = :page AND pt.tag = :tag")
-    void deleteByPageAndTag(@Param("page") Page page, @Param("tag") Tag tag);
+    int deleteByPageAndTag(@Param("page") Page page, @Param("tag") Tag tag);
 
     /**
      * 워크스페이스의 모든 페이지-태그 연관관계 삭제
@@ -183,6 +229,13 @@ public interface PageTagRepository extends JpaRepository<PageTag, Long> {
     @Query("SELECT pt FROM PageTag pt WHERE pt.page = :page AND pt.position = :position")
     Optional<PageTag> findByPageAndPosition(@Param("page") Page page, @Param("position") Integer position);
 
+    /**
+     * 페이지에 붙은 태그 ID와 위치 조회 (일괄 태그 추가 시 중복 확인 및 최대 위치 계산용)
+     * @return [태그 ID, 위치] 목록
+     */
+    @Query("SELECT pt.tag.id, pt.position FROM PageTag pt WHERE pt.page = :page")
+    List<Object[]> findTagIdsAndPositionsByPage(@Param("page") Page page);
+
     /**
      * 페이지의 최대 태그 위치 조회
      */
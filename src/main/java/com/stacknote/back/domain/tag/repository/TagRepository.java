@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -126,6 +127,13 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
     @Query("UPDATE Tag t SET t.usageCount = t.usageCount + :increment WHERE t.id = :tagId")
     void updateUsageCount(@Param("tagId") Long tagId, @Param("increment") int increment);
 
+    /**
+     * 여러 태그의 사용 횟수 일괄 업데이트
+     */
+    @Modifying
+    @Query("UPDATE Tag t SET t.usageCount = t.usageCount + :increment WHERE t.id IN :tagIds")
+    int updateUsageCounts(@Param("tagIds") Collection<Long> tagIds, @Param("increment") int increment);
+
     /**
      * 워크스페이스 삭제 시 모든 태그 소프트 삭제
      */
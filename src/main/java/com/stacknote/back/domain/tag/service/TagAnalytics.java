@@ -0,0 +1,394 @@
+package com.stacknote.back.domain.tag.service;
+
+import com.stacknote.back.domain.tag.repository.PageTagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 워크스페이스별 태그 분석 (사용 수, 동시 사용 행렬)
+ * - 첫 조회 시 워크스페이스 범위 집계 쿼리로 적재하고, 이후 태그 추가/제거 시 증분 갱신 (커밋 이후)
+ * - 증분 갱신의 오차는 주기적인 전체 재계산으로 보정
+ * - 집계 중에 들어온 증분은 집계 스냅샷에 이미 보이는 트랜잭션의 것만 빼고 다시 적용
+ * - 관련 태그, 인기 태그 조합 조회를 DB 셀프 조인 없이 메모리에서 처리
+ */
+@Slf4j
+@Component
+public class TagAnalytics {
+
+    private final PageTagRepository pageTagRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate snapshotTransaction;
+    private final Map<Long, WorkspaceStats> statistics = new ConcurrentHashMap<>();
+
+    private final int maxWorkspaces;
+
+    public TagAnalytics(PageTagRepository pageTagRepository,
+                        JdbcTemplate jdbcTemplate,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${tag.analytics.max-workspaces:200}") int maxWorkspaces) {
+        this.pageTagRepository = pageTagRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTransaction.setReadOnly(true);
+        this.maxWorkspaces = maxWorkspaces;
+    }
+
+    /**
+     * 태그와 함께 자주 쓰이는 태그 (동시 사용 페이지 수 내림차순)
+     */
+    public List<TagCount> findRelatedTags(Long workspaceId, Long tagId, int limit) {
+        WorkspaceStats stats = load(workspaceId);
+
+        synchronized (stats) {
+            Map<Long, Integer> row = stats.coOccurrences.getOrDefault(tagId, Map.of());
+            PriorityQueue<TagCount> top = new PriorityQueue<>(Comparator.comparingLong(TagCount::count));
+            row.forEach((otherTagId, count) -> offer(top, new TagCount(otherTagId, null, count), limit));
+            return sortedDescending(top);
+        }
+    }
+
+    /**
+     * 가장 많이 함께 쓰인 태그 쌍 (동시 사용 페이지 수 내림차순)
+     */
+    public List<TagCount> findPopularPairs(Long workspaceId, int limit) {
+        WorkspaceStats stats = load(workspaceId);
+
+        synchronized (stats) {
+            PriorityQueue<TagCount> top = new PriorityQueue<>(Comparator.comparingLong(TagCount::count));
+            stats.coOccurrences.forEach((tagId, row) -> row.forEach((otherTagId, count) -> {
+                if (tagId < otherTagId) {
+                    offer(top, new TagCount(tagId, otherTagId, count), limit);
+                }
+            }));
+            return sortedDescending(top);
+        }
+    }
+
+    /**
+     * 태그별 사용 페이지 수
+     */
+    public Map<Long, Integer> getUsageCounts(Long workspaceId) {
+        WorkspaceStats stats = load(workspaceId);
+        synchronized (stats) {
+            return Map.copyOf(stats.usage);
+        }
+    }
+
+    /**
+     * 페이지에 태그 추가됨
+     * @param existingTagIds 추가 전 페이지에 붙어 있던 태그
+     */
+    public void onTagsAttached(Long workspaceId, Collection<Long> existingTagIds, Collection<Long> addedTagIds) {
+        List<Long> existing = List.copyOf(existingTagIds);
+        List<Long> added = List.copyOf(addedTagIds);
+        afterCommit(workspaceId, stats -> {
+            for (int i = 0; i < added.size(); i++) {
+                Long tagId = added.get(i);
+                stats.adjustUsage(tagId, 1);
+                existing.forEach(other -> stats.adjustPair(tagId, other, 1));
+                for (int j = i + 1; j < added.size(); j++) {
+                    stats.adjustPair(tagId, added.get(j), 1);
+                }
+            }
+        });
+    }
+
+    /**
+     * 페이지에서 태그 제거됨
+     * @param remainingTagIds 제거 후 페이지에 남은 태그
+     */
+    public void onTagsDetached(Long workspaceId, Collection<Long> removedTagIds, Collection<Long> remainingTagIds) {
+        List<Long> removed = List.copyOf(removedTagIds);
+        List<Long> remaining = List.copyOf(remainingTagIds);
+        afterCommit(workspaceId, stats -> {
+            for (int i = 0; i < removed.size(); i++) {
+                Long tagId = removed.get(i);
+                stats.adjustUsage(tagId, -1);
+                remaining.forEach(other -> stats.adjustPair(tagId, other, -1));
+                for (int j = i + 1; j < removed.size(); j++) {
+                    stats.adjustPair(tagId, removed.get(j), -1);
+                }
+            }
+        });
+    }
+
+    /**
+     * 태그 삭제됨
+     */
+    public void onTagDeleted(Long workspaceId, Long tagId) {
+        afterCommit(workspaceId, stats -> {
+            stats.usage.remove(tagId);
+            Map<Long, Integer> row = stats.coOccurrences.remove(tagId);
+            if (row != null) {
+                row.keySet().forEach(other -> {
+                    Map<Long, Integer> otherRow = stats.coOccurrences.get(other);
+                    if (otherRow != null) {
+                        otherRow.remove(tagId);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * 워크스페이스 통계 폐기 (다음 조회 시 다시 집계)
+     */
+    public void evict(Long workspaceId) {
+        statistics.remove(workspaceId);
+    }
+
+    /**
+     * 메모리에 있는 모든 워크스페이스 통계 전체 재계산
+     * @return 재계산된 워크스페이스 수
+     */
+    public int recomputeAll() {
+        int recomputed = 0;
+        for (Long workspaceId : List.copyOf(statistics.keySet())) {
+            WorkspaceStats stats = statistics.get(workspaceId);
+            if (stats == null) {
+                continue;
+            }
+            try {
+                synchronized (stats.loadLock) {
+                    recompute(workspaceId, stats);
+                }
+                recomputed++;
+            } catch (Exception e) {
+                log.error("태그 분석 재계산 실패 - 워크스페이스: {}, {}", workspaceId, e.getMessage(), e);
+            }
+        }
+        return recomputed;
+    }
+
+    // ===== 내부 헬퍼 메서드 =====
+
+    /**
+     * 통계 조회 (없으면 DB에서 집계)
+     */
+    private WorkspaceStats load(Long workspaceId) {
+        WorkspaceStats stats = statistics.computeIfAbsent(workspaceId, id -> new WorkspaceStats());
+        stats.lastAccessedAt = System.currentTimeMillis();
+
+        if (!stats.loaded) {
+            synchronized (stats.loadLock) {
+                if (!stats.loaded) {
+                    recompute(workspaceId, stats);
+                }
+            }
+        }
+
+        evictIfFull(workspaceId);
+        return stats;
+    }
+
+    /**
+     * 집계 쿼리로 새 행렬을 만든 뒤 교체 (호출자가 loadLock 보유)
+     * 집계 중에 커밋된 증분은 기록해 두었다가 교체 후 다시 적용하되,
+     * 집계와 같은 트랜잭션에서 읽은 스냅샷에 이미 보이는 트랜잭션의 증분은 건너뜀 (중복 반영 방지)
+     */
+    private void recompute(Long workspaceId, WorkspaceStats stats) {
+        synchronized (stats) {
+            stats.journal = new ArrayList<>();
+        }
+
+        Map<Long, Integer> usage = new HashMap<>();
+        Map<Long, Map<Long, Integer>> coOccurrences = new HashMap<>();
+        Snapshot snapshot;
+        try {
+            snapshot = snapshotTransaction.execute(status -> {
+                // REPEATABLE READ 에서는 첫 문장의 스냅샷을 이후 집계 쿼리도 그대로 사용
+                Snapshot current = Snapshot.parse(jdbcTemplate.queryForObject(
+                        "SELECT pg_current_snapshot()::text", String.class));
+                for (Object[] row : pageTagRepository.countPagesPerTag(workspaceId)) {
+                    usage.put(((Number) row[0]).longValue(), ((Number) row[1]).intValue());
+                }
+                for (Object[] row : pageTagRepository.countTagPairs(workspaceId)) {
+                    Long first = ((Number) row[0]).longValue();
+                    Long second = ((Number) row[1]).longValue();
+                    int count = ((Number) row[2]).intValue();
+                    coOccurrences.computeIfAbsent(first, id -> new HashMap<>()).put(second, count);
+                    coOccurrences.computeIfAbsent(second, id -> new HashMap<>()).put(first, count);
+                }
+                return current;
+            });
+        } catch (RuntimeException e) {
+            synchronized (stats) {
+                stats.journal = null;
+            }
+            throw e;
+        }
+
+        synchronized (stats) {
+            stats.usage = usage;
+            stats.coOccurrences = coOccurrences;
+            stats.journal.stream()
+                    .filter(entry -> entry.transactionId() == null || !snapshot.isVisible(entry.transactionId()))
+                    .forEach(entry -> entry.change().accept(stats));
+            stats.journal = null;
+            stats.loaded = true;
+        }
+
+        log.debug("태그 분석 집계 - 워크스페이스: {}, 태그 수: {}", workspaceId, usage.size());
+    }
+
+    /**
+     * 통계 수가 상한을 넘으면 가장 오래 사용하지 않은 워크스페이스 폐기
+     */
+    private void evictIfFull(Long currentWorkspaceId) {
+        while (statistics.size() > maxWorkspaces) {
+            Long oldest = null;
+            long oldestAccess = Long.MAX_VALUE;
+            for (Map.Entry<Long, WorkspaceStats> entry : statistics.entrySet()) {
+                if (!entry.getKey().equals(currentWorkspaceId) && entry.getValue().lastAccessedAt < oldestAccess) {
+                    oldest = entry.getKey();
+                    oldestAccess = entry.getValue().lastAccessedAt;
+                }
+            }
+            if (oldest == null) {
+                return;
+            }
+            statistics.remove(oldest);
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 증분 적용 (집계되지 않은 워크스페이스는 무시)
+     * 집계 중 재적용 여부를 판단할 수 있도록 변경한 트랜잭션의 ID를 함께 기록
+     */
+    private void afterCommit(Long workspaceId, Consumer<WorkspaceStats> change) {
+        boolean inTransaction = TransactionSynchronizationManager.isSynchronizationActive();
+        Long transactionId = inTransaction ? currentTransactionId() : null;
+
+        Runnable apply = () -> {
+            WorkspaceStats stats = statistics.get(workspaceId);
+            if (stats == null) {
+                return;
+            }
+            synchronized (stats) {
+                if (stats.journal != null) {
+                    stats.journal.add(new JournalEntry(transactionId, change));
+                }
+                change.accept(stats);
+            }
+        };
+
+        if (inTransaction) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    private Long currentTransactionId() {
+        return Long.parseLong(jdbcTemplate.queryForObject("SELECT pg_current_xact_id()::text", String.class));
+    }
+
+    private static void offer(PriorityQueue<TagCount> top, TagCount candidate, int limit) {
+        if (top.size() < limit) {
+            top.add(candidate);
+        } else if (!top.isEmpty() && top.peek().count() < candidate.count()) {
+            top.poll();
+            top.add(candidate);
+        }
+    }
+
+    private static List<TagCount> sortedDescending(PriorityQueue<TagCount> top) {
+        List<TagCount> result = new ArrayList<>(top);
+        result.sort(Comparator.comparingLong(TagCount::count).reversed());
+        return result;
+    }
+
+    /**
+     * 태그(또는 태그 쌍)와 페이지 수
+     */
+    public record TagCount(Long tagId, Long otherTagId, long count) {
+    }
+
+    /**
+     * 집계 중 기록된 증분 (transactionId 가 없으면 항상 재적용)
+     */
+    private record JournalEntry(Long transactionId, Consumer<WorkspaceStats> change) {
+    }
+
+    /**
+     * PostgreSQL 스냅샷 (xmin:xmax:진행 중 트랜잭션 목록)
+     * xmin 미만이거나, xmax 미만이면서 진행 중 목록에 없는 트랜잭션은 커밋되어 스냅샷에 보임
+     */
+    private record Snapshot(long xmin, long xmax, Set<Long> inProgress) {
+
+        static Snapshot parse(String text) {
+            String[] parts = text.split(":", -1);
+            Set<Long> inProgress = parts[2].isEmpty() ? Set.of() : Arrays.stream(parts[2].split(","))
+                    .map(Long::parseLong)
+                    .collect(Collectors.toSet());
+            return new Snapshot(Long.parseLong(parts[0]), Long.parseLong(parts[1]), inProgress);
+        }
+
+        boolean isVisible(long transactionId) {
+            return transactionId < xmin || (transactionId < xmax && !inProgress.contains(transactionId));
+        }
+    }
+
+    /**
+     * 워크스페이스 통계 (행렬 접근은 인스턴스 모니터로 동기화, 적재는 별도 잠금)
+     */
+    private static final class WorkspaceStats {
+        private final Object loadLock = new Object();
+        private Map<Long, Integer> usage = new HashMap<>();
+        private Map<Long, Map<Long, Integer>> coOccurrences = new HashMap<>();
+        private List<JournalEntry> journal; // 집계 중에만 사용
+        private volatile boolean loaded = false;
+        private volatile long lastAccessedAt;
+
+        void adjustUsage(Long tagId, int delta) {
+            usage.compute(tagId, (id, current) -> positiveOrNull((current != null ? current : 0) + delta));
+        }
+
+        void adjustPair(Long tagId, Long otherTagId, int delta) {
+            if (tagId.equals(otherTagId)) {
+                return;
+            }
+            adjust(tagId, otherTagId, delta);
+            adjust(otherTagId, tagId, delta);
+        }
+
+        private void adjust(Long tagId, Long otherTagId, int delta) {
+            Map<Long, Integer> row = coOccurrences.computeIfAbsent(tagId, id -> new HashMap<>());
+            row.compute(otherTagId, (id, current) -> positiveOrNull((current != null ? current : 0) + delta));
+            if (row.isEmpty()) {
+                coOccurrences.remove(tagId);
+            }
+        }
+
+        private static Integer positiveOrNull(int value) {
+            return value > 0 ? value : null;
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.stacknote.back.domain.tag.service;
+
+import com.stacknote.back.domain.tag.repository.PageTagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 워크스페이스별 태그-페이지 비트맵 인덱스
+ * - 워크스페이스 안의 페이지마다 순번을 부여하고 태그별로 페이지 순번 비트맵 보관
+ * - AND/OR/NOT 태그 조건은 비트맵 연산으로 계산하고, 결과 페이지 ID 중 요청 구간만 DB에서 조회
+ * - 첫 조회 시 DB에서 적재하고 이후에는 태그 추가/제거 이벤트(커밋 이후)로 갱신
+ * - 페이지 삭제 시와 주기적으로(다른 인스턴스의 변경 반영) 인덱스를 폐기하여 다음 조회 때 다시 적재
+ *   (다시 적재하면 삭제된 페이지의 순번도 회수됨)
+ */
+@Slf4j
+@Component
+public class TagPageIndex {
+
+    private final PageTagRepository pageTagRepository;
+    private final Map<Long, WorkspaceIndex> indexes = new ConcurrentHashMap<>();
+
+    private final int maxWorkspaces;
+
+    public TagPageIndex(PageTagRepository pageTagRepository,
+                        @Value("${tag.index.max-workspaces:200}") int maxWorkspaces) {
+        this.pageTagRepository = pageTagRepository;
+        this.maxWorkspaces = maxWorkspaces;
+    }
+
+    /**
+     * 태그 조건에 맞는 페이지 ID 목록 (페이지 ID 내림차순)
+     * @param allTagIds 모두 포함해야 하는 태그 (AND)
+     * @param anyTagIds 하나 이상 포함해야 하는 태그 (OR)
+     * @param noneTagIds 포함하지 않아야 하는 태그 (NOT)
+     */
+    public long[] findPageIds(Long workspaceId, Collection<Long> allTagIds,
+                              Collection<Long> anyTagIds, Collection<Long> noneTagIds) {
+        WorkspaceIndex index = loadIndex(workspaceId);
+
+        synchronized (index) {
+            BitSet result = null;
+
+            for (Long tagId : allTagIds) {
+                BitSet bitmap = index.bitmap(tagId);
+                if (result == null) {
+                    result = (BitSet) bitmap.clone();
+                } else {
+                    result.and(bitmap);
+                }
+            }
+
+            if (!anyTagIds.isEmpty()) {
+                BitSet union = new BitSet();
+                anyTagIds.forEach(tagId -> union.or(index.bitmap(tagId)));
+                if (result == null) {
+                    result = union;
+                } else {
+                    result.and(union);
+                }
+            }
+
+            if (result == null) {
+                return new long[0];
+            }
+            for (Long tagId : noneTagIds) {
+                result.andNot(index.bitmap(tagId));
+            }
+
+            return index.toPageIds(result);
+        }
+    }
+
+    /**
+     * 페이지에 태그 추가됨
+     */
+    public void onTagsAttached(Long workspaceId, Long pageId, Collection<Long> tagIds) {
+        List<Long> attached = List.copyOf(tagIds);
+        afterCommit(workspaceId, index -> {
+            int ordinal = index.ordinalOf(pageId);
+            attached.forEach(tagId -> index.bitmaps.computeIfAbsent(tagId, id -> new BitSet()).set(ordinal));
+        });
+    }
+
+    /**
+     * 페이지에서 태그 제거됨
+     */
+    public void onTagDetached(Long workspaceId, Long pageId, Long tagId) {
+        afterCommit(workspaceId, index -> {
+            Integer ordinal = index.ordinals.get(pageId);
+            BitSet bitmap = index.bitmaps.get(tagId);
+            if (ordinal != null && bitmap != null) {
+                bitmap.clear(ordinal);
+            }
+        });
+    }
+
+    /**
+     * 페이지의 모든 태그 제거됨 (페이지는 남아 있음)
+     */
+    public void onPagesCleared(Long workspaceId, Collection<Long> pageIds) {
+        List<Long> cleared = List.copyOf(pageIds);
+        afterCommit(workspaceId, index -> cleared.forEach(pageId -> {
+            Integer ordinal = index.ordinals.get(pageId);
+            if (ordinal != null) {
+                index.bitmaps.values().forEach(bitmap -> bitmap.clear(ordinal));
+            }
+        }));
+    }
+
+    /**
+     * 페이지 삭제됨 (커밋 이후 워크스페이스 인덱스를 폐기하여 삭제된 페이지의 순번 회수)
+     */
+    public void onPagesDeleted(Long workspaceId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(workspaceId);
+                }
+            });
+        } else {
+            evict(workspaceId);
+        }
+    }
+
+    /**
+     * 태그 삭제됨
+     */
+    public void onTagDeleted(Long workspaceId, Long tagId) {
+        afterCommit(workspaceId, index -> index.bitmaps.remove(tagId));
+    }
+
+    /**
+     * 워크스페이스 인덱스 폐기 (다음 조회 시 다시 적재)
+     */
+    public void evict(Long workspaceId) {
+        indexes.remove(workspaceId);
+    }
+
+    /**
+     * 모든 워크스페이스 인덱스 폐기 (주기 작업용)
+     * 다른 인스턴스에서 커밋된 변경은 이벤트로 들어오지 않으므로 주기적으로 DB에서 다시 적재
+     * @return 폐기된 인덱스 수
+     */
+    public int evictAll() {
+        int evicted = 0;
+        for (Long workspaceId : List.copyOf(indexes.keySet())) {
+            if (indexes.remove(workspaceId) != null) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    // ===== 내부 헬퍼 메서드 =====
+
+    /**
+     * 인덱스 조회 (없으면 DB에서 적재)
+     */
+    private WorkspaceIndex loadIndex(Long workspaceId) {
+        WorkspaceIndex index = indexes.computeIfAbsent(workspaceId, id -> new WorkspaceIndex());
+        index.lastAccessedAt = System.currentTimeMillis();
+
+        synchronized (index) {
+            if (!index.loaded) {
+                List<Object[]> rows = pageTagRepository.findPageAndTagIdsByWorkspace(workspaceId);
+                for (Object[] row : rows) {
+                    int ordinal = index.ordinalOf((Long) row[0]);
+                    index.bitmaps.computeIfAbsent((Long) row[1], id -> new BitSet()).set(ordinal);
+                }
+                // 적재 중 들어온 변경 재적용 (멱등)
+                index.pending.forEach(change -> change.accept(index));
+                index.pending.clear();
+                index.loaded = true;
+
+                log.debug("태그 인덱스 적재 - 워크스페이스: {}, 연관관계 수: {}", workspaceId, rows.size());
+            }
+        }
+
+        evictIfFull(workspaceId);
+        return index;
+    }
+
+    /**
+     * 인덱스 수가 상한을 넘으면 가장 오래 사용하지 않은 워크스페이스 폐기
+     */
+    private void evictIfFull(Long currentWorkspaceId) {
+        while (indexes.size() > maxWorkspaces) {
+            Long oldest = null;
+            long oldestAccess = Long.MAX_VALUE;
+            for (Map.Entry<Long, WorkspaceIndex> entry : indexes.entrySet()) {
+                if (!entry.getKey().equals(currentWorkspaceId) && entry.getValue().lastAccessedAt < oldestAccess) {
+                    oldest = entry.getKey();
+                    oldestAccess = entry.getValue().lastAccessedAt;
+                }
+            }
+            if (oldest == null) {
+                return;
+            }
+            indexes.remove(oldest);
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 인덱스 변경 (적재되지 않은 워크스페이스는 무시)
+     */
+    private void afterCommit(Long workspaceId, Consumer<WorkspaceIndex> change) {
+        Runnable apply = () -> {
+            WorkspaceIndex index = indexes.get(workspaceId);
+            if (index == null) {
+                return;
+            }
+            synchronized (index) {
+                if (index.loaded) {
+                    change.accept(index);
+                } else {
+                    index.pending.add(change);
+                }
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    /**
+     * 워크스페이스 인덱스 (모든 접근은 인스턴스 모니터로 동기화)
+     */
+    private static final class WorkspaceIndex {
+        private static final BitSet EMPTY = new BitSet();
+
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private final Map<Long, BitSet> bitmaps = new HashMap<>();
+        private final List<Consumer<WorkspaceIndex>> pending = new ArrayList<>();
+        private long[] pageIds = new long[64];
+        private int size = 0;
+        private boolean sorted = true; // 순번 순서와 페이지 ID 순서가 일치하는지
+        private boolean loaded = false;
+        private volatile long lastAccessedAt;
+
+        BitSet bitmap(Long tagId) {
+            return bitmaps.getOrDefault(tagId, EMPTY);
+        }
+
+        /**
+         * 페이지 순번 조회 (없으면 새로 부여)
+         */
+        int ordinalOf(Long pageId) {
+            Integer ordinal = ordinals.get(pageId);
+            if (ordinal != null) {
+                return ordinal;
+            }
+
+            if (size == pageIds.length) {
+                pageIds = Arrays.copyOf(pageIds, size * 2);
+            }
+            if (size > 0 && pageIds[size - 1] > pageId) {
+                sorted = false;
+            }
+            pageIds[size] = pageId;
+            ordinals.put(pageId, size);
+            return size++;
+        }
+
+        /**
+         * 비트맵을 페이지 ID 배열로 변환 (내림차순)
+         */
+        long[] toPageIds(BitSet result) {
+            long[] ids = new long[result.cardinality()];
+            int i = 0;
+            for (int ordinal = result.length() - 1; ordinal >= 0; ordinal = result.previousSetBit(ordinal - 1)) {
+                ids[i++] = pageIds[ordinal];
+            }
+
+            if (!sorted) {
+                Arrays.sort(ids);
+                for (int left = 0, right = ids.length - 1; left < right; left++, right--) {
+                    long temp = ids[left];
+                    ids[left] = ids[right];
+                    ids[right] = temp;
+                }
+            }
+            return ids;
+        }
+    }
+}
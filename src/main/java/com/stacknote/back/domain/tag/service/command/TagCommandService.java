@@ -13,17 +13,29 @@ import com.stacknote.back.domain.tag.exception.TagInUseException;
 import com.stacknote.back.domain.tag.exception.TagNotFoundException;
 import com.stacknote.back.domain.tag.repository.PageTagRepository;
 import com.stacknote.back.domain.tag.repository.TagRepository;
+import com.stacknote.back.domain.tag.service.TagAnalytics;
+import com.stacknote.back.domain.tag.service.TagPageIndex;
 import com.stacknote.back.domain.user.entity.User;
 import com.stacknote.back.domain.workspace.entity.Workspace;
 import com.stacknote.back.domain.workspace.repository.WorkspaceRepository;
 import com.stacknote.back.global.exception.custom.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * 태그 명령 서비스
@@ -34,10 +46,25 @@ import java.util.List;
 @Transactional
 public class TagCommandService {
 
+    private static final String INSERT_TAG_SQL = """
+            INSERT INTO tags (name, color, workspace_id, usage_count, is_system_tag, created_at, updated_at)
+            VALUES (?, ?, ?, 0, false, ?, ?)
+            ON CONFLICT (workspace_id, name) DO NOTHING
+            """;
+
+    private static final String INSERT_PAGE_TAG_SQL = """
+            INSERT INTO page_tags (page_id, tag_id, created_by_id, position, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (page_id, tag_id) DO NOTHING
+            """;
+
     private final TagRepository tagRepository;
     private final PageTagRepository pageTagRepository;
     private final PageRepository pageRepository;
     private final WorkspaceRepository workspaceRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TagPageIndex tagPageIndex;
+    private final TagAnalytics tagAnalytics;
 
     /**
      * 태그 생성
@@ -138,6 +165,8 @@ public class TagCommandService {
 
         // 태그 소프트 삭제
         tag.markAsDeleted();
+        tagPageIndex.onTagDeleted(tag.getWorkspace().getId(), tagId);
+        tagAnalytics.onTagDeleted(tag.getWorkspace().getId(), tagId);
 
         log.info("태그 삭제 완료 - ID: {}, 이름: {}", tagId, tag.getName());
     }
@@ -150,36 +179,61 @@ public class TagCommandService {
         Page page = pageRepository.findById(request.getPageId())
                 .orElseThrow(() -> new EntityNotFoundException("페이지를 찾을 수 없습니다."));
 
-        List<TagResponse> addedTags = new ArrayList<>();
-
-        for (String tagName : request.getTagNames()) {
-            // 태그 찾기 또는 생성
-            Tag tag = findOrCreateTag(page.getWorkspace(), tagName);
-
-            // 이미 페이지에 태그가 있는지 확인
-            if (!pageTagRepository.existsByPageAndTag(page, tag)) {
-                // 페이지-태그 연관관계 생성
-                PageTag pageTag = PageTag.create(page, tag, user);
+        List<String> tagNames = normalizeTagNames(request.getTagNames());
+        if (tagNames.isEmpty()) {
+            return List.of();
+        }
 
-                // 위치 설정
-                Integer maxPosition = pageTagRepository.findMaxPositionByPage(page);
-                pageTag.setPosition(maxPosition != null ? maxPosition + 1 : 1);
+        // 태그 이름 일괄 조회, 없는 태그는 일괄 생성
+        List<Tag> tags = findOrCreateTags(page.getWorkspace(), tagNames);
 
-                pageTagRepository.save(pageTag);
+        // 페이지에 이미 붙은 태그와 최대 위치를 한 번에 조회
+        Set<Long> attachedTagIds = new HashSet<>();
+        int maxPosition = 0;
+        for (Object[] row : pageTagRepository.findTagIdsAndPositionsByPage(page)) {
+            attachedTagIds.add((Long) row[0]);
+            if (row[1] != null) {
+                maxPosition = Math.max(maxPosition, (Integer) row[1]);
+            }
+        }
 
-                // 태그 사용 횟수 증가
-                tag.incrementUsage();
+        List<Long> existingTagIds = List.copyOf(attachedTagIds);
+        List<Tag> tagsToAttach = tags.stream()
+                .filter(tag -> attachedTagIds.add(tag.getId()))
+                .toList();
+        if (tagsToAttach.isEmpty()) {
+            return List.of();
+        }
 
-                addedTags.add(TagResponse.from(tag));
+        // 페이지-태그 연관관계 일괄 INSERT (동시 요청으로 이미 생긴 연관관계는 무시)
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(tagsToAttach.size());
+        for (int i = 0; i < tagsToAttach.size(); i++) {
+            batchArgs.add(new Object[]{page.getId(), tagsToAttach.get(i).getId(), user.getId(), maxPosition + i + 1, now, now});
+        }
+        int[] results = jdbcTemplate.batchUpdate(INSERT_PAGE_TAG_SQL, batchArgs);
 
-                log.debug("페이지에 태그 추가 - 페이지 ID: {}, 태그: {}", page.getId(), tagName);
+        List<Tag> addedTags = new ArrayList<>();
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] > 0 || results[i] == Statement.SUCCESS_NO_INFO) {
+                addedTags.add(tagsToAttach.get(i));
             }
         }
 
+        // 태그 사용 횟수 일괄 증가
+        if (!addedTags.isEmpty()) {
+            List<Long> addedTagIds = addedTags.stream().map(Tag::getId).toList();
+            tagRepository.updateUsageCounts(addedTagIds, 1);
+            tagPageIndex.onTagsAttached(page.getWorkspace().getId(), page.getId(), addedTagIds);
+            tagAnalytics.onTagsAttached(page.getWorkspace().getId(), existingTagIds, addedTagIds);
+        }
+
         log.info("페이지 태그 추가 완료 - 페이지 ID: {}, 추가된 태그 수: {}",
                 request.getPageId(), addedTags.size());
 
-        return addedTags;
+        return addedTags.stream()
+                .map(tag -> TagResponse.from(tag, 1))
+                .toList();
     }
 
     /**
@@ -192,11 +246,20 @@ public class TagCommandService {
         Tag tag = tagRepository.findActiveTagById(tagId)
                 .orElseThrow(() -> new TagNotFoundException(tagId));
 
-        // 페이지-태그 연관관계 삭제
-        pageTagRepository.deleteByPageAndTag(page, tag);
+        // 페이지-태그 연관관계 삭제 (붙어 있지 않았던 경우 변화 없음)
+        if (pageTagRepository.deleteByPageAndTag(page, tag) == 0) {
+            return;
+        }
+
+        // 태그 사용 횟수 감소 (추가와 같은 원자적 UPDATE)
+        tagRepository.updateUsageCounts(List.of(tagId), -1);
 
-        // 태그 사용 횟수 감소
-        tag.decrementUsage();
+        Long workspaceId = page.getWorkspace().getId();
+        List<Long> remainingTagIds = pageTagRepository.findTagIdsAndPositionsByPage(page).stream()
+                .map(row -> (Long) row[0])
+                .toList();
+        tagPageIndex.onTagDetached(workspaceId, pageId, tagId);
+        tagAnalytics.onTagsDetached(workspaceId, List.of(tagId), remainingTagIds);
 
         log.info("페이지에서 태그 제거 완료 - 페이지 ID: {}, 태그 ID: {}", pageId, tagId);
     }
@@ -209,13 +272,17 @@ public class TagCommandService {
                 .orElseThrow(() -> new EntityNotFoundException("페이지를 찾을 수 없습니다."));
 
         // 페이지의 모든 태그 조회하여 사용 횟수 감소
-        List<Tag> tags = tagRepository.findTagsByPageId(pageId);
-        for (Tag tag : tags) {
-            tag.decrementUsage();
+        List<Long> tagIds = tagRepository.findTagsByPageId(pageId).stream()
+                .map(Tag::getId)
+                .toList();
+        if (!tagIds.isEmpty()) {
+            tagRepository.updateUsageCounts(tagIds, -1);
         }
 
         // 모든 페이지-태그 연관관계 삭제
         pageTagRepository.deleteByPage(page);
+        tagPageIndex.onPagesCleared(page.getWorkspace().getId(), List.of(pageId));
+        tagAnalytics.onTagsDetached(page.getWorkspace().getId(), tagIds, List.of());
 
         log.info("페이지의 모든 태그 제거 완료 - 페이지 ID: {}", pageId);
     }
@@ -233,28 +300,61 @@ public class TagCommandService {
      */
     public void deleteTagsByWorkspace(Workspace workspace) {
         int deletedCount = tagRepository.softDeleteTagsByWorkspace(workspace);
+        tagPageIndex.evict(workspace.getId());
+        tagAnalytics.evict(workspace.getId());
         log.info("워크스페이스 태그 삭제 완료 - 워크스페이스 ID: {}, 삭제된 태그 수: {}",
                 workspace.getId(), deletedCount);
     }
 
     /**
-     * 태그 찾기 또는 생성
+     * 태그 이름 정리 (공백 제거, 중복 제거, 요청 순서 유지)
+     */
+    private List<String> normalizeTagNames(List<String> tagNames) {
+        Set<String> names = new LinkedHashSet<>();
+        for (String tagName : tagNames) {
+            if (tagName != null && !tagName.trim().isEmpty()) {
+                names.add(tagName.trim());
+            }
+        }
+        return new ArrayList<>(names);
+    }
+
+    /**
+     * 태그 일괄 조회 또는 생성
+     * 한 번의 IN 조회 후 없는 태그만 일괄 INSERT하고 다시 한 번 조회 (요청 순서 유지)
      */
-    private Tag findOrCreateTag(Workspace workspace, String tagName) {
-        return tagRepository.findByWorkspaceAndName(workspace, tagName)
-                .orElseGet(() -> {
-                    Tag newTag = Tag.builder()
-                            .name(tagName)
-                            .workspace(workspace)
-                            .build();
-
-                    newTag.setDefaultColor();
-
-                    Tag saved = tagRepository.save(newTag);
-                    log.debug("새 태그 자동 생성 - 이름: {}, 워크스페이스: {}",
-                            tagName, workspace.getId());
-
-                    return saved;
-                });
+    private List<Tag> findOrCreateTags(Workspace workspace, List<String> tagNames) {
+        Map<String, Tag> tagsByName = new HashMap<>();
+        tagRepository.findTagsByWorkspaceAndNames(workspace, tagNames)
+                .forEach(tag -> tagsByName.put(tag.getName(), tag));
+
+        List<String> missingNames = tagNames.stream()
+                .filter(name -> !tagsByName.containsKey(name))
+                .toList();
+
+        if (!missingNames.isEmpty()) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> batchArgs = new ArrayList<>(missingNames.size());
+            for (String name : missingNames) {
+                Tag newTag = Tag.builder()
+                        .name(name)
+                        .workspace(workspace)
+                        .build();
+                newTag.setDefaultColor();
+                batchArgs.add(new Object[]{name, newTag.getColor(), workspace.getId(), now, now});
+            }
+            jdbcTemplate.batchUpdate(INSERT_TAG_SQL, batchArgs);
+
+            tagRepository.findTagsByWorkspaceAndNames(workspace, missingNames)
+                    .forEach(tag -> tagsByName.put(tag.getName(), tag));
+
+            log.debug("새 태그 일괄 생성 - 워크스페이스: {}, 태그 수: {}", workspace.getId(), missingNames.size());
+        }
+
+        // 삭제된 태그와 이름이 겹쳐 생성되지 못한 태그는 제외
+        return tagNames.stream()
+                .map(tagsByName::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
-}
\ No newline at end of file
+}
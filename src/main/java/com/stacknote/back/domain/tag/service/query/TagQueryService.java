@@ -1,23 +1,42 @@
 package com.stacknote.back.domain.tag.service.query;
 
-import com.stacknote.back.domain.page.entity.Page;
+import com.stacknote.back.domain.page.dto.projection.PageSummaryProjection;
+import com.stacknote.back.domain.page.dto.response.PageSummaryResponse;
+import com.stacknote.back.domain.page.repository.PageRepository;
+import com.stacknote.back.domain.page.service.PageSummaryReader;
+import com.stacknote.back.domain.tag.dto.response.RelatedTagResponse;
+import com.stacknote.back.domain.tag.dto.response.TagCombinationResponse;
 import com.stacknote.back.domain.tag.dto.response.TagResponse;
 import com.stacknote.back.domain.tag.dto.response.TagStatisticsResponse;
 import com.stacknote.back.domain.tag.dto.response.TagSummaryResponse;
+import com.stacknote.back.domain.tag.dto.response.TagUsageResponse;
 import com.stacknote.back.domain.tag.entity.Tag;
 import com.stacknote.back.domain.tag.exception.TagNotFoundException;
 import com.stacknote.back.domain.tag.repository.PageTagRepository;
 import com.stacknote.back.domain.tag.repository.TagRepository;
+import com.stacknote.back.domain.tag.service.TagAnalytics;
+import com.stacknote.back.domain.tag.service.TagPageIndex;
+import com.stacknote.back.domain.user.entity.User;
 import com.stacknote.back.domain.workspace.entity.Workspace;
+import com.stacknote.back.domain.workspace.exception.WorkspaceAccessDeniedException;
+import com.stacknote.back.domain.workspace.exception.WorkspaceNotFoundException;
+import com.stacknote.back.domain.workspace.repository.WorkspaceRepository;
+import com.stacknote.back.global.dto.PageResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -31,6 +50,11 @@ public class TagQueryService {
 
     private final TagRepository tagRepository;
     private final PageTagRepository pageTagRepository;
+    private final PageRepository pageRepository;
+    private final WorkspaceRepository workspaceRepository;
+    private final PageSummaryReader pageSummaryReader;
+    private final TagPageIndex tagPageIndex;
+    private final TagAnalytics tagAnalytics;
 
     /**
      * 태그 ID로 태그 조회
@@ -207,6 +231,55 @@ public class TagQueryService {
         return new TagStatisticsResponse(0L, 0L, 0L, 0.0);
     }
 
+    /**
+     * 관련 태그 조회 (함께 붙은 페이지 수 기준)
+     */
+    public List<RelatedTagResponse> getRelatedTags(Long tagId, int size) {
+        Tag tag = tagRepository.findActiveTagById(tagId)
+                .orElseThrow(() -> new TagNotFoundException(tagId));
+
+        List<TagAnalytics.TagCount> related = tagAnalytics.findRelatedTags(tag.getWorkspace().getId(), tagId, size);
+        Map<Long, Tag> tagsById = findActiveTagsByIds(related.stream().map(TagAnalytics.TagCount::tagId).toList());
+
+        return related.stream()
+                .filter(count -> tagsById.containsKey(count.tagId()))
+                .map(count -> RelatedTagResponse.of(tagsById.get(count.tagId()), count.count()))
+                .toList();
+    }
+
+    /**
+     * 워크스페이스에서 함께 자주 쓰인 태그 조합 조회
+     */
+    public List<TagCombinationResponse> getPopularTagCombinations(Long workspaceId, int size) {
+        List<TagAnalytics.TagCount> pairs = tagAnalytics.findPopularPairs(workspaceId, size);
+
+        List<Long> tagIds = new ArrayList<>();
+        pairs.forEach(pair -> {
+            tagIds.add(pair.tagId());
+            tagIds.add(pair.otherTagId());
+        });
+        Map<Long, Tag> tagsById = findActiveTagsByIds(tagIds);
+
+        return pairs.stream()
+                .filter(pair -> tagsById.containsKey(pair.tagId()) && tagsById.containsKey(pair.otherTagId()))
+                .map(pair -> TagCombinationResponse.of(tagsById.get(pair.tagId()), tagsById.get(pair.otherTagId()), pair.count()))
+                .toList();
+    }
+
+    /**
+     * 워크스페이스의 태그별 사용 페이지 수 조회 (많이 쓰인 순)
+     */
+    public List<TagUsageResponse> getTagUsageStatistics(Long workspaceId) {
+        Map<Long, Integer> usage = tagAnalytics.getUsageCounts(workspaceId);
+        Map<Long, Tag> tagsById = findActiveTagsByIds(usage.keySet());
+
+        return usage.entrySet().stream()
+                .filter(entry -> tagsById.containsKey(entry.getKey()))
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed())
+                .map(entry -> TagUsageResponse.of(tagsById.get(entry.getKey()), entry.getValue()))
+                .toList();
+    }
+
     /**
      * 태그 이름 존재 여부 확인
      */
@@ -223,4 +296,96 @@ public class TagQueryService {
 
         return tag.canDelete();
     }
-}
\ No newline at end of file
+
+    /**
+     * 태그 조건으로 워크스페이스 페이지 조회 (최신 페이지 순)
+     * AND/OR/NOT 조건은 태그 비트맵 인덱스에서 계산하고 요청 구간의 페이지만 DB에서 조회
+     * 인덱스를 읽기 전에 워크스페이스 존재와 접근 권한 확인
+     */
+    public PageResponse<PageSummaryResponse> getPagesByTagFilter(Long workspaceId, List<Long> allTagIds,
+                                                                 List<Long> anyTagIds, List<Long> noneTagIds,
+                                                                 int page, int size, User currentUser) {
+        if (allTagIds.isEmpty() && anyTagIds.isEmpty() && noneTagIds.isEmpty()) {
+            throw new IllegalArgumentException("태그 조건을 하나 이상 지정해야 합니다.");
+        }
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("페이지 번호 또는 크기가 올바르지 않습니다.");
+        }
+        getAccessibleWorkspace(workspaceId, currentUser);
+
+        // 제외 조건만 있으면 태그가 없는 페이지까지 대상이므로 DB에서 조회
+        if (allTagIds.isEmpty() && anyTagIds.isEmpty()) {
+            List<PageSummaryProjection> pages = pageTagRepository.findPagesWithoutTags(workspaceId, noneTagIds, PageRequest.of(page, size));
+            long total = pageTagRepository.countPagesWithoutTags(workspaceId, noneTagIds);
+            return toPageResponse(pageSummaryReader.toResponses(pages), page, size, total);
+        }
+
+        long[] pageIds = tagPageIndex.findPageIds(workspaceId, allTagIds, anyTagIds, noneTagIds);
+        List<Long> slice = slice(pageIds, page, size);
+        Map<Long, PageSummaryProjection> pagesById = findSummariesByIds(slice);
+
+        if (pagesById.size() < slice.size()) {
+            // 다른 인스턴스에서 삭제된 페이지가 인덱스에 남아 있으면 DB에서 다시 적재하여 한 번 더 계산
+            tagPageIndex.evict(workspaceId);
+            pageIds = tagPageIndex.findPageIds(workspaceId, allTagIds, anyTagIds, noneTagIds);
+            slice = slice(pageIds, page, size);
+            pagesById = findSummariesByIds(slice);
+        }
+
+        List<PageSummaryResponse> content = pageSummaryReader.toResponses(slice.stream()
+                .map(pagesById::get)
+                .filter(Objects::nonNull)
+                .toList());
+
+        return toPageResponse(content, page, size, pageIds.length);
+    }
+
+    private List<Long> slice(long[] pageIds, int page, int size) {
+        int from = (int) Math.min((long) page * size, pageIds.length);
+        int to = Math.min(from + size, pageIds.length);
+        List<Long> slice = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            slice.add(pageIds[i]);
+        }
+        return slice;
+    }
+
+    private Map<Long, PageSummaryProjection> findSummariesByIds(List<Long> pageIds) {
+        Map<Long, PageSummaryProjection> pagesById = new HashMap<>();
+        if (!pageIds.isEmpty()) {
+            pageRepository.findSummariesByIds(pageIds).forEach(p -> pagesById.put(p.id(), p));
+        }
+        return pagesById;
+    }
+
+    private Map<Long, Tag> findActiveTagsByIds(Collection<Long> tagIds) {
+        Map<Long, Tag> tagsById = new HashMap<>();
+        if (!tagIds.isEmpty()) {
+            tagRepository.findAllById(tagIds).stream()
+                    .filter(tag -> !tag.isDeleted())
+                    .forEach(tag -> tagsById.put(tag.getId(), tag));
+        }
+        return tagsById;
+    }
+
+    private <T> PageResponse<T> toPageResponse(List<T> content, int page, int size, long total) {
+        return PageResponse.of(new PageImpl<>(content, PageRequest.of(page, size), total));
+    }
+
+    private Workspace getAccessibleWorkspace(Long workspaceId, User user) {
+        Workspace workspace = workspaceRepository.findActiveWorkspaceById(workspaceId)
+                .orElseThrow(() -> new WorkspaceNotFoundException("워크스페이스를 찾을 수 없습니다."));
+
+        if (!canUserAccessWorkspace(workspace, user)) {
+            throw new WorkspaceAccessDeniedException("워크스페이스에 접근할 권한이 없습니다.");
+        }
+
+        return workspace;
+    }
+
+    private boolean canUserAccessWorkspace(Workspace workspace, User user) {
+        return workspace.isOwner(user) ||
+                workspace.isMember(user) ||
+                workspace.getVisibility() == Workspace.Visibility.PUBLIC;
+    }
+}
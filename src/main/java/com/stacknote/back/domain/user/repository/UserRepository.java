@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +29,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.username = :username AND u.deletedAt IS NULL")
     Optional<User> findByUsername(@Param("username") String username);
 
+    /**
+     * 사용자명 목록으로 사용자 일괄 조회 (삭제되지 않은 사용자만, 멘션 처리용)
+     */
+    @Query("SELECT u FROM User u WHERE u.username IN :usernames AND u.deletedAt IS NULL")
+    List<User> findActiveUsersByUsernames(@Param("usernames") Collection<String> usernames);
+
     /**
      * 이메일 존재 여부 확인 (삭제되지 않은 사용자 중)
      */
@@ -52,6 +59,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.id = :id AND u.isActive = true AND u.deletedAt IS NULL")
     Optional<User> findActiveUserById(@Param("id") Long id);
 
+    /**
+     * 주어진 ID 중 존재하는 활성 사용자 ID만 조회 (일괄 알림 수신자 검증용)
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids AND u.isActive = true AND u.deletedAt IS NULL")
+    List<Long> findActiveUserIdsByIds(@Param("ids") Collection<Long> ids);
+
     /**
      * 이메일로 활성화된 사용자 조회 (삭제되지 않은) - CustomUserDetailsService용
      */
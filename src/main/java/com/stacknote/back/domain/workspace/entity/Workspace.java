@@ -52,6 +52,23 @@ public class Workspace extends BaseEntity {
     @Column(name = "invite_code", unique = true, length = 50)
     private String inviteCode; // 초대 링크용 코드
 
+    // 목록 조회용 카운터 (WorkspaceCounter 가 SQL로만 갱신하므로 엔티티 저장 시 덮어쓰지 않음)
+    @Column(name = "member_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    @Builder.Default
+    private Long memberCount = 0L;
+
+    @Column(name = "page_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    @Builder.Default
+    private Long pageCount = 0L;
+
+    // 페이지 변경 로그 순번 (PageChangeLog 가 SQL로만 증가)
+    @Column(name = "change_seq", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    @Builder.Default
+    private Long changeSeq = 0L;
+
     @OneToMany(mappedBy = "workspace", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<WorkspaceMember> members = new ArrayList<>();
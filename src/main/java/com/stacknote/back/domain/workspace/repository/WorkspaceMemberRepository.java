@@ -11,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -123,6 +124,42 @@ public interface WorkspaceMemberRepository extends JpaRepository<WorkspaceMember
         """)
     long countTotalMembers(@Param("workspaceId") Long workspaceId);
 
+    /**
+     * 워크스페이스 활성 멤버들의 사용자 ID 목록 조회
+     */
+    @Query("""
+        SELECT m.user.id FROM WorkspaceMember m 
+        WHERE m.workspace.id = :workspaceId 
+        AND m.isActive = true
+        """)
+    List<Long> findActiveUserIdsByWorkspaceId(@Param("workspaceId") Long workspaceId);
+
+    /**
+     * 주어진 사용자 중 워크스페이스 소유자이거나 활성 멤버인 사용자 ID 조회
+     */
+    @Query("""
+        SELECT u.id FROM User u 
+        WHERE u.id IN :userIds 
+        AND (u.id = (SELECT w.owner.id FROM Workspace w WHERE w.id = :workspaceId) 
+             OR EXISTS (SELECT 1 FROM WorkspaceMember m 
+                        WHERE m.workspace.id = :workspaceId AND m.user.id = u.id AND m.isActive = true))
+        """)
+    List<Long> findAccessibleUserIds(@Param("workspaceId") Long workspaceId,
+                                     @Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 여러 워크스페이스에서 사용자의 활성 멤버 역할 일괄 조회
+     * @return [워크스페이스 ID, 역할] 목록
+     */
+    @Query("""
+        SELECT m.workspace.id, m.role FROM WorkspaceMember m
+        WHERE m.user = :user
+        AND m.workspace.id IN :workspaceIds
+        AND m.isActive = true
+        """)
+    List<Object[]> findActiveRolesByUserAndWorkspaceIds(@Param("user") User user,
+                                                        @Param("workspaceIds") Collection<Long> workspaceIds);
+
     /**
      * 사용자가 속한 워크스페이스 ID 목록 조회
      */
@@ -0,0 +1,83 @@
+package com.stacknote.back.domain.workspace.service;
+
+import com.stacknote.back.domain.user.entity.User;
+import com.stacknote.back.domain.workspace.entity.Workspace;
+import com.stacknote.back.domain.workspace.entity.WorkspaceMember;
+import com.stacknote.back.domain.workspace.repository.WorkspaceMemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 워크스페이스 목록용 집계 조회
+ * 멤버 수/페이지 수는 workspaces 의 카운터 컬럼(+ 반영 대기 중인 증감)에서 읽고,
+ * 사용자 역할만 워크스페이스 전체를 묶어 한 번에 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkspaceCountReader {
+
+    private final WorkspaceMemberRepository workspaceMemberRepository;
+    private final WorkspaceCounter workspaceCounter;
+
+    /**
+     * 워크스페이스 목록의 활성 멤버 수, 페이지 수, 사용자 역할 일괄 조회 (쿼리 1회)
+     */
+    public WorkspaceCounts read(User user, List<Workspace> workspaces) {
+        if (workspaces.isEmpty()) {
+            return new WorkspaceCounts(user, Map.of(), Map.of(), Map.of());
+        }
+
+        Map<Long, Long> memberCounts = new HashMap<>();
+        Map<Long, Long> pageCounts = new HashMap<>();
+        for (Workspace workspace : workspaces) {
+            memberCounts.put(workspace.getId(), Math.max(0L,
+                    workspace.getMemberCount() + workspaceCounter.getPendingMembers(workspace.getId())));
+            pageCounts.put(workspace.getId(), Math.max(0L,
+                    workspace.getPageCount() + workspaceCounter.getPendingPages(workspace.getId())));
+        }
+
+        List<Long> workspaceIds = workspaces.stream().map(Workspace::getId).toList();
+        Map<Long, WorkspaceMember.Role> roles = new HashMap<>();
+        workspaceMemberRepository.findActiveRolesByUserAndWorkspaceIds(user, workspaceIds)
+                .forEach(row -> roles.put((Long) row[0], (WorkspaceMember.Role) row[1]));
+
+        return new WorkspaceCounts(user, memberCounts, pageCounts, roles);
+    }
+
+    /**
+     * 워크스페이스별 집계 결과
+     */
+    public record WorkspaceCounts(User user,
+                                  Map<Long, Long> memberCounts,
+                                  Map<Long, Long> pageCounts,
+                                  Map<Long, WorkspaceMember.Role> roles) {
+
+        /**
+         * 활성 멤버 수 (workspace_members 의 활성 행 기준, 소유자 행 포함)
+         */
+        public long activeMemberCount(Workspace workspace) {
+            return memberCounts.getOrDefault(workspace.getId(), 0L);
+        }
+
+        /**
+         * 삭제되지 않은 페이지 수
+         */
+        public long pageCount(Workspace workspace) {
+            return pageCounts.getOrDefault(workspace.getId(), 0L);
+        }
+
+        /**
+         * 사용자 역할 (소유자는 OWNER)
+         */
+        public WorkspaceMember.Role role(Workspace workspace) {
+            if (workspace.isOwner(user)) {
+                return WorkspaceMember.Role.OWNER;
+            }
+            return roles.get(workspace.getId());
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.stacknote.back.domain.workspace.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 워크스페이스 멤버 수/페이지 수 집계기
+ * - 멤버 추가/제거, 페이지 생성/삭제 시 workspaces 행을 바로 갱신하지 않고 메모리에 증감을 누적했다가 주기적으로 일괄 반영
+ * - 목록 조회는 COUNT 쿼리 대신 workspaces 의 카운터 컬럼 + 반영 대기 중인 증감을 사용
+ * - 누락/중복 반영으로 생긴 오차는 야간 보정 작업(WorkspaceCounterReconcileScheduler)에서 실제 COUNT로 바로잡음
+ * - 컬럼 추가 직후 기존 워크스페이스 채우기는 수동 마이그레이션(docker/postgre/migrations/V006)으로 실행
+ * (파일 수/용량은 storage_usages 의 워크스페이스 사용량 카운터를 그대로 사용)
+ */
+@Slf4j
+@Component
+public class WorkspaceCounter {
+
+    private static final String FLUSH_SQL = """
+            UPDATE workspaces
+            SET member_count = GREATEST(member_count + ?, 0),
+                page_count = GREATEST(page_count + ?, 0)
+            WHERE id = ?
+            """;
+
+    // 실제 COUNT - 카운터 컬럼 (어긋난 워크스페이스만)
+    private static final String DRIFT_SQL = """
+            SELECT id, member_drift, page_drift
+            FROM (
+                SELECT w.id,
+                       (SELECT COUNT(*) FROM workspace_members m
+                        WHERE m.workspace_id = w.id AND m.is_active = true) - w.member_count AS member_drift,
+                       (SELECT COUNT(*) FROM pages p
+                        WHERE p.workspace_id = w.id AND p.deleted_at IS NULL) - w.page_count AS page_drift
+                FROM workspaces w
+            ) d
+            WHERE member_drift <> 0 OR page_drift <> 0
+            """;
+
+    // 여러 인스턴스가 동시에 보정하지 않도록 트랜잭션 범위 advisory lock 사용
+    private static final String RECONCILE_LOCK_SQL = "SELECT pg_try_advisory_xact_lock(hashtext('workspace_counter_reconcile'))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long settleMillis;
+
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    public WorkspaceCounter(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${workspace.counter.flush-interval-ms:2000}") long flushIntervalMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 다른 인스턴스의 대기 중인 증감이 반영될 만큼 기다린 뒤 다시 비교
+        this.settleMillis = flushIntervalMs * 2;
+    }
+
+    /**
+     * 멤버 수 증감 기록 (커밋 이후 누적)
+     */
+    public void addMembers(Long workspaceId, long delta) {
+        add(workspaceId, delta, 0L);
+    }
+
+    /**
+     * 페이지 수 증감 기록 (커밋 이후 누적)
+     */
+    public void addPages(Long workspaceId, long delta) {
+        add(workspaceId, 0L, delta);
+    }
+
+    /**
+     * 아직 반영되지 않은 멤버 수 증감
+     */
+    public long getPendingMembers(Long workspaceId) {
+        Counter counter = counters.get(workspaceId);
+        return counter == null ? 0L : counter.pendingMembers();
+    }
+
+    /**
+     * 아직 반영되지 않은 페이지 수 증감
+     */
+    public long getPendingPages(Long workspaceId) {
+        Counter counter = counters.get(workspaceId);
+        return counter == null ? 0L : counter.pendingPages();
+    }
+
+    /**
+     * 누적된 증감을 배치 UPDATE로 반영
+     */
+    @Scheduled(fixedDelayString = "${workspace.counter.flush-interval-ms:2000}")
+    public synchronized void flush() {
+        List<Long> workspaceIds = new ArrayList<>();
+        List<long[]> deltas = new ArrayList<>();
+        List<Object[]> batchArgs = new ArrayList<>();
+
+        counters.forEach((workspaceId, counter) -> {
+            long members = counter.pendingMembers();
+            long pages = counter.pendingPages();
+            if (members != 0 || pages != 0) {
+                workspaceIds.add(workspaceId);
+                deltas.add(new long[]{members, pages});
+                batchArgs.add(new Object[]{members, pages, workspaceId});
+            }
+        });
+
+        if (!batchArgs.isEmpty()) {
+            try {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+
+                // 반영 성공한 만큼만 기준값 이동 (실패 시 다음 주기에 재시도)
+                for (int i = 0; i < workspaceIds.size(); i++) {
+                    Counter counter = counters.get(workspaceIds.get(i));
+                    counter.flushedMembers += deltas.get(i)[0];
+                    counter.flushedPages += deltas.get(i)[1];
+                }
+                log.debug("워크스페이스 카운터 일괄 반영: {}개 워크스페이스", workspaceIds.size());
+
+            } catch (Exception e) {
+                log.error("워크스페이스 카운터 반영 실패: {}", e.getMessage(), e);
+            }
+        }
+
+        // 모두 반영된 카운터 정리 (반영할 때마다 실행하여 한 번 쓰인 워크스페이스가 계속 남지 않도록 함)
+        counters.keySet().forEach(workspaceId ->
+                counters.computeIfPresent(workspaceId, (id, counter) -> counter.isSettled() ? null : counter));
+    }
+
+    /**
+     * 카운터 컬럼을 실제 멤버 수/페이지 수로 보정 (다른 인스턴스가 보정 중이면 건너뜀)
+     * 다른 인스턴스에서 아직 반영되지 않은 증감은 실제 COUNT에는 이미 보이므로,
+     * 반영 주기보다 길게 기다린 뒤 두 번 측정해 같은 차이가 남은 워크스페이스만 그 차이만큼 상대 보정
+     * @return 보정된 워크스페이스 수
+     */
+    public int reconcile() {
+        flush();
+
+        Integer reconciled = transactionTemplate.execute(status -> {
+            if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(RECONCILE_LOCK_SQL, Boolean.class))) {
+                log.info("다른 인스턴스에서 워크스페이스 카운터 보정 중 - 건너뜀");
+                return 0;
+            }
+
+            Map<Long, long[]> firstDrifts = findDrifts();
+            if (firstDrifts.isEmpty()) {
+                return 0;
+            }
+            try {
+                Thread.sleep(settleMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return 0;
+            }
+
+            List<Object[]> batchArgs = new ArrayList<>();
+            findDrifts().forEach((workspaceId, drift) -> {
+                long[] first = firstDrifts.get(workspaceId);
+                if (first != null && first[0] == drift[0] && first[1] == drift[1]) {
+                    batchArgs.add(new Object[]{drift[0], drift[1], workspaceId});
+                }
+            });
+            if (!batchArgs.isEmpty()) {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+            }
+            return batchArgs.size();
+        });
+        return Objects.requireNonNullElse(reconciled, 0);
+    }
+
+    /**
+     * 종료 시 남은 증감 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 워크스페이스 카운터 반영");
+        flush();
+    }
+
+    // ===== 내부 헬퍼 메서드 =====
+
+    private Map<Long, long[]> findDrifts() {
+        Map<Long, long[]> drifts = new HashMap<>();
+        jdbcTemplate.query(DRIFT_SQL, rs -> {
+            drifts.put(rs.getLong("id"), new long[]{rs.getLong("member_drift"), rs.getLong("page_drift")});
+        });
+        return drifts;
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 누적 (변경이 롤백되면 반영하지 않음)
+     */
+    private void add(Long workspaceId, long members, long pages) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accumulate(workspaceId, members, pages);
+                }
+            });
+        } else {
+            accumulate(workspaceId, members, pages);
+        }
+    }
+
+    private void accumulate(Long workspaceId, long members, long pages) {
+        // 정리(flush)와 겹쳐도 증감이 유실되지 않도록 맵의 버킷 잠금 안에서 누적
+        counters.compute(workspaceId, (id, counter) -> {
+            Counter target = counter != null ? counter : new Counter();
+            target.members.add(members);
+            target.pages.add(pages);
+            return target;
+        });
+    }
+
+    /**
+     * 워크스페이스별 카운터
+     * 누적값(adder)은 줄이지 않고 반영된 값(flushed)만 이동시켜 동시 증감분 유실 방지
+     */
+    private static final class Counter {
+        private final LongAdder members = new LongAdder();
+        private final LongAdder pages = new LongAdder();
+        private volatile long flushedMembers = 0L;
+        private volatile long flushedPages = 0L;
+
+        long pendingMembers() {
+            return members.sum() - flushedMembers;
+        }
+
+        long pendingPages() {
+            return pages.sum() - flushedPages;
+        }
+
+        boolean isSettled() {
+            return pendingMembers() == 0 && pendingPages() == 0;
+        }
+    }
+}
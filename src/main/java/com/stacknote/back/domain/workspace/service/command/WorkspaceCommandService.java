@@ -15,6 +15,7 @@ import com.stacknote.back.domain.workspace.exception.WorkspaceAccessDeniedExcept
 import com.stacknote.back.domain.workspace.exception.WorkspaceNotFoundException;
 import com.stacknote.back.domain.workspace.repository.WorkspaceMemberRepository;
 import com.stacknote.back.domain.workspace.repository.WorkspaceRepository;
+import com.stacknote.back.domain.workspace.service.WorkspaceCounter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -35,6 +36,7 @@ public class WorkspaceCommandService {
     private final WorkspaceRepository workspaceRepository;
     private final WorkspaceMemberRepository workspaceMemberRepository;
     private final UserRepository userRepository;
+    private final WorkspaceCounter workspaceCounter;
 
     /**
      * 워크스페이스 생성
@@ -60,6 +62,7 @@ public class WorkspaceCommandService {
                 .role(WorkspaceMember.Role.OWNER)
                 .build();
         workspaceMemberRepository.save(ownerMember);
+        workspaceCounter.addMembers(savedWorkspace.getId(), 1);
 
         log.info("워크스페이스 생성 완료: {}", savedWorkspace.getId());
         return WorkspaceResponse.fromWithPermissions(savedWorkspace, WorkspaceMember.Role.OWNER);
@@ -135,6 +138,7 @@ public class WorkspaceCommandService {
                 .build();
 
         WorkspaceMember savedMember = workspaceMemberRepository.save(member);
+        workspaceCounter.addMembers(workspaceId, 1);
 
         log.info("멤버 초대 완료: {}, 멤버: {}", workspaceId, invitee.getId());
         return WorkspaceMemberResponse.from(savedMember);
@@ -184,6 +188,9 @@ public class WorkspaceCommandService {
             throw new IllegalArgumentException("소유자는 제거할 수 없습니다.");
         }
 
+        if (member.isActive()) {
+            workspaceCounter.addMembers(workspaceId, -1);
+        }
         member.deactivate();
         workspaceMemberRepository.save(member);
 
@@ -208,6 +215,7 @@ public class WorkspaceCommandService {
 
         member.deactivate();
         workspaceMemberRepository.save(member);
+        workspaceCounter.addMembers(workspaceId, -1);
 
         log.info("워크스페이스 나가기 완료: {}, 사용자: {}", workspaceId, currentUser.getId());
     }
@@ -263,6 +271,7 @@ public class WorkspaceCommandService {
                 .role(WorkspaceMember.Role.MEMBER)
                 .build();
         workspaceMemberRepository.save(member);
+        workspaceCounter.addMembers(workspace.getId(), 1);
 
         log.info("초대 코드로 워크스페이스 참가 완료: {}, 사용자: {}", workspace.getId(), user.getId());
         return WorkspaceResponse.fromWithPermissions(workspace, WorkspaceMember.Role.MEMBER);
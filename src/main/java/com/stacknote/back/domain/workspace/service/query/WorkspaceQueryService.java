@@ -10,6 +10,7 @@ import com.stacknote.back.domain.workspace.exception.WorkspaceAccessDeniedExcept
 import com.stacknote.back.domain.workspace.exception.WorkspaceNotFoundException;
 import com.stacknote.back.domain.workspace.repository.WorkspaceMemberRepository;
 import com.stacknote.back.domain.workspace.repository.WorkspaceRepository;
+import com.stacknote.back.domain.workspace.service.WorkspaceCountReader;
 import com.stacknote.back.global.dto.PageResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +34,7 @@ public class WorkspaceQueryService {
 
     private final WorkspaceRepository workspaceRepository;
     private final WorkspaceMemberRepository workspaceMemberRepository;
+    private final WorkspaceCountReader workspaceCountReader;
 
     /**
      * 사용자의 워크스페이스 목록 조회
@@ -42,12 +44,14 @@ public class WorkspaceQueryService {
 
         List<Workspace> workspaces = workspaceRepository.findWorkspacesByUser(user);
 
+        // 멤버 수, 페이지 수, 역할을 워크스페이스 전체에 대해 한 번에 조회
+        WorkspaceCountReader.WorkspaceCounts counts = workspaceCountReader.read(user, workspaces);
+
         return workspaces.stream()
                 .map(workspace -> {
-                    WorkspaceMember.Role userRole = workspace.getMemberRole(user);
-                    long memberCount = workspaceRepository.countMembersByWorkspaceId(workspace.getId());
-                    // TODO: 페이지 수 조회는 Page 도메인 구현 후 추가
-                    long pageCount = 0L;
+                    WorkspaceMember.Role userRole = counts.role(workspace);
+                    long memberCount = counts.activeMemberCount(workspace);
+                    long pageCount = counts.pageCount(workspace);
 
                     return WorkspaceSummaryResponse.of(
                             workspace.getId(),
@@ -120,12 +124,13 @@ public class WorkspaceQueryService {
         log.debug("워크스페이스 검색: 사용자: {}, 키워드: {}", user.getId(), keyword);
 
         List<Workspace> workspaces = workspaceRepository.searchWorkspacesByName(user, keyword);
+        WorkspaceCountReader.WorkspaceCounts counts = workspaceCountReader.read(user, workspaces);
 
         return workspaces.stream()
                 .map(workspace -> {
-                    WorkspaceMember.Role userRole = workspace.getMemberRole(user);
-                    long memberCount = workspaceRepository.countMembersByWorkspaceId(workspace.getId());
-                    long pageCount = 0L; // TODO: Page 도메인 구현 후 추가
+                    WorkspaceMember.Role userRole = counts.role(workspace);
+                    long memberCount = counts.activeMemberCount(workspace);
+                    long pageCount = counts.pageCount(workspace);
 
                     return WorkspaceSummaryResponse.of(
                             workspace.getId(),
@@ -1,5 +1,6 @@
 package com.stacknote.back.domain.workspace.service.query;
 
+import com.stacknote.back.domain.page.dto.projection.PageSummaryProjection;
 import com.stacknote.back.domain.page.entity.Page;
 import com.stacknote.back.domain.page.entity.PageFavorite;
 import com.stacknote.back.domain.page.entity.PageVisit;
@@ -12,8 +13,8 @@ import com.stacknote.back.domain.workspace.entity.Workspace;
 import com.stacknote.back.domain.workspace.entity.WorkspaceMember;
 import com.stacknote.back.domain.workspace.exception.WorkspaceAccessDeniedException;
 import com.stacknote.back.domain.workspace.exception.WorkspaceNotFoundException;
-import com.stacknote.back.domain.workspace.repository.WorkspaceMemberRepository;
 import com.stacknote.back.domain.workspace.repository.WorkspaceRepository;
+import com.stacknote.back.domain.workspace.service.WorkspaceCountReader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -21,7 +22,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -35,10 +38,10 @@ import java.util.stream.Collectors;
 public class WorkspaceSidebarService {
 
     private final WorkspaceRepository workspaceRepository;
-    private final WorkspaceMemberRepository workspaceMemberRepository;
     private final PageRepository pageRepository;
     private final PageVisitRepository pageVisitRepository;
     private final PageFavoriteRepository pageFavoriteRepository;
+    private final WorkspaceCountReader workspaceCountReader;
 
     /**
      * 사이드바 전체 트리 구조 조회
@@ -49,6 +52,9 @@ public class WorkspaceSidebarService {
         // 사용자가 속한 모든 워크스페이스 조회
         List<Workspace> userWorkspaces = workspaceRepository.findWorkspacesByUser(currentUser);
 
+        // 멤버 수, 페이지 수, 역할을 워크스페이스 전체에 대해 한 번에 조회
+        WorkspaceCountReader.WorkspaceCounts counts = workspaceCountReader.read(currentUser, userWorkspaces);
+
         // 개인 공간과 팀 공간 분리
         PersonalSpaceResponse personalSpace = null;
         List<TeamSpaceResponse> teamSpaces = new ArrayList<>();
@@ -56,9 +62,9 @@ public class WorkspaceSidebarService {
         for (Workspace workspace : userWorkspaces) {
             // 개인 워크스페이스 판별 (소유자이고 이름이 "사용자명의 워크스페이스" 형태)
             if (workspace.isOwner(currentUser) && isPersonalWorkspace(workspace, currentUser)) {
-                personalSpace = buildPersonalSpace(workspace);
+                personalSpace = buildPersonalSpace(workspace, counts);
             } else {
-                TeamSpaceResponse teamSpace = buildTeamSpace(workspace, currentUser);
+                TeamSpaceResponse teamSpace = buildTeamSpace(workspace, counts);
                 teamSpaces.add(teamSpace);
             }
         }
@@ -91,13 +97,8 @@ public class WorkspaceSidebarService {
             throw new WorkspaceAccessDeniedException("워크스페이스 접근 권한이 없습니다.");
         }
 
-        // 최상위 페이지들 조회
-        List<Page> rootPages = pageRepository.findRootPagesByWorkspace(workspace);
-
         // 페이지 트리 구성
-        return rootPages.stream()
-                .map(this::buildPageTree)
-                .collect(Collectors.toList());
+        return buildPageTree(workspace);
     }
 
     /**
@@ -143,13 +144,10 @@ public class WorkspaceSidebarService {
     /**
      * 개인 공간 응답 생성
      */
-    private PersonalSpaceResponse buildPersonalSpace(Workspace workspace) {
-        List<Page> rootPages = pageRepository.findRootPagesByWorkspace(workspace);
-        List<PageTreeResponse> pageTree = rootPages.stream()
-                .map(this::buildPageTree)
-                .collect(Collectors.toList());
+    private PersonalSpaceResponse buildPersonalSpace(Workspace workspace, WorkspaceCountReader.WorkspaceCounts counts) {
+        List<PageTreeResponse> pageTree = buildPageTree(workspace);
 
-        int totalPageCount = (int) pageRepository.countByWorkspace(workspace);
+        int totalPageCount = (int) counts.pageCount(workspace);
 
         return PersonalSpaceResponse.builder()
                 .workspaceId(workspace.getId())
@@ -163,16 +161,15 @@ public class WorkspaceSidebarService {
     /**
      * 팀 공간 응답 생성
      */
-    private TeamSpaceResponse buildTeamSpace(Workspace workspace, User currentUser) {
-        // 현재 사용자의 역할 조회
-        WorkspaceMember.Role userRole = workspace.getMemberRole(currentUser);
+    private TeamSpaceResponse buildTeamSpace(Workspace workspace, WorkspaceCountReader.WorkspaceCounts counts) {
+        // 현재 사용자의 역할
+        WorkspaceMember.Role userRole = counts.role(workspace);
 
-        // 멤버 수 조회 (멤버 테이블의 활성 멤버 수 + 소유자 1명)
-        long activeMemberCount = workspaceMemberRepository.countActiveMembers(workspace.getId());
-        int memberCount = (int) (activeMemberCount + 1); // 소유자 포함
+        // 멤버 수 (소유자도 생성 시 멤버 행이 추가되므로 활성 멤버 수에 포함됨)
+        int memberCount = (int) counts.activeMemberCount(workspace);
 
-        // 페이지 수 조회
-        int totalPageCount = (int) pageRepository.countByWorkspace(workspace);
+        // 페이지 수
+        int totalPageCount = (int) counts.pageCount(workspace);
 
         return TeamSpaceResponse.builder()
                 .workspaceId(workspace.getId())
@@ -188,31 +185,44 @@ public class WorkspaceSidebarService {
 
     /**
      * 페이지 트리 구성
+     * 워크스페이스의 활성 페이지 요약(본문 제외)을 한 번에 조회한 뒤 부모 ID로 트리를 조립
      */
-    private PageTreeResponse buildPageTree(Page page) {
-        PageTreeResponse response = PageTreeResponse.builder()
-                .id(page.getId())
-                .title(page.getTitle())
-                .icon(page.getIcon())
-                .parentId(page.getParent() != null ? page.getParent().getId() : null)
-                .depth(page.getDepth())
-                .sortOrder(page.getSortOrder())
-                .hasChildren(!page.getChildren().isEmpty())
-                .isPublished(page.getIsPublished())
-                .isLocked(page.getIsLocked())
-                .children(new ArrayList<>())
-                .build();
+    private List<PageTreeResponse> buildPageTree(Workspace workspace) {
+        List<PageSummaryProjection> pages = pageRepository.findByWorkspace(workspace);
+
+        Map<Long, PageTreeResponse> nodes = new HashMap<>();
+        for (PageSummaryProjection page : pages) {
+            nodes.put(page.id(), PageTreeResponse.builder()
+                    .id(page.id())
+                    .title(page.title())
+                    .icon(page.icon())
+                    .parentId(page.parentId())
+                    .sortOrder(page.sortOrder())
+                    .hasChildren(page.hasChildren())
+                    .isPublished(page.isPublished())
+                    .isLocked(page.isLocked())
+                    .children(new ArrayList<>())
+                    .build());
+        }
 
-        // 자식 페이지들 재귀적으로 구성
-        if (!page.getChildren().isEmpty()) {
-            List<PageTreeResponse> children = page.getChildren().stream()
-                    .filter(child -> child.getDeletedAt() == null)
-                    .map(this::buildPageTree)
-                    .collect(Collectors.toList());
-            response.setChildren(children);
+        // 정렬 순서대로 조회했으므로 자식 목록도 정렬 순서 유지 (부모가 삭제된 페이지는 제외)
+        List<PageTreeResponse> roots = new ArrayList<>();
+        for (PageSummaryProjection page : pages) {
+            PageTreeResponse node = nodes.get(page.id());
+            if (page.parentId() == null) {
+                roots.add(node);
+            } else if (nodes.containsKey(page.parentId())) {
+                nodes.get(page.parentId()).getChildren().add(node);
+            }
         }
 
-        return response;
+        roots.forEach(root -> assignDepth(root, 0));
+        return roots;
+    }
+
+    private void assignDepth(PageTreeResponse node, int depth) {
+        node.setDepth(depth);
+        node.getChildren().forEach(child -> assignDepth(child, depth + 1));
     }
 
     /**
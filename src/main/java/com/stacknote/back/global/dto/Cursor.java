@@ -0,0 +1,59 @@
+package com.stacknote.back.global.dto;
+
+import com.stacknote.back.global.exception.ErrorCode;
+import com.stacknote.back.global.exception.custom.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이징 위치 (정렬 키 + ID)
+ * 클라이언트에는 Base64URL로 인코딩한 불투명 문자열로 전달
+ */
+public record Cursor(LocalDateTime sortKey, Long id) {
+
+    // 최신순(내림차순) 조회의 첫 페이지 위치
+    private static final Cursor DESC_START = new Cursor(LocalDateTime.of(9999, 12, 31, 0, 0), Long.MAX_VALUE);
+
+    // 오래된순(오름차순) 조회의 첫 페이지 위치
+    private static final Cursor ASC_START = new Cursor(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    /**
+     * 최신순 조회 커서 해석 (없으면 첫 페이지)
+     */
+    public static Cursor descending(String encoded) {
+        return isBlank(encoded) ? DESC_START : decode(encoded);
+    }
+
+    /**
+     * 오래된순 조회 커서 해석 (없으면 첫 페이지)
+     */
+    public static Cursor ascending(String encoded) {
+        return isBlank(encoded) ? ASC_START : decode(encoded);
+    }
+
+    /**
+     * 불투명 문자열로 인코딩
+     */
+    public String encode() {
+        String raw = sortKey + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // ===== 내부 헬퍼 메서드 =====
+
+    private static Cursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    private static boolean isBlank(String encoded) {
+        return encoded == null || encoded.isBlank();
+    }
+}
@@ -0,0 +1,57 @@
+package com.stacknote.back.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이징 응답 DTO
+ * OFFSET 없이 마지막 항목의 (정렬 키, ID) 이후부터 조회
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorResponse<T> {
+
+    private static final int MAX_SIZE = 100;
+
+    private List<T> content;          // 실제 데이터 목록
+    private int size;                 // 요청한 페이지 크기
+    private boolean hasNext;          // 다음 페이지 존재 여부
+    private String nextCursor;        // 다음 페이지 요청 시 전달할 커서 (없으면 null)
+
+    /**
+     * 요청 크기 보정 (1 ~ 100)
+     */
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * 크기보다 한 건 더 조회한 결과로부터 생성
+     * @param fetched size + 1 건까지 조회한 목록
+     * @param cursorOf 항목의 커서 추출 함수
+     */
+    public static <E, T> CursorResponse<T> of(List<E> fetched, int size,
+                                               Function<E, Cursor> cursorOf, Function<E, T> mapper) {
+        return ofBatch(fetched, size, cursorOf, page -> page.stream().map(mapper).toList());
+    }
+
+    /**
+     * 크기보다 한 건 더 조회한 결과로부터 생성 (항목 목록을 한 번에 변환)
+     * @param batchMapper 잘라낸 목록 전체를 받아 같은 순서의 응답 목록을 반환하는 함수
+     */
+    public static <E, T> CursorResponse<T> ofBatch(List<E> fetched, int size,
+                                                    Function<E, Cursor> cursorOf, Function<List<E>, List<T>> batchMapper) {
+        boolean hasNext = fetched.size() > size;
+        List<E> page = hasNext ? fetched.subList(0, size) : fetched;
+
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        List<T> content = batchMapper.apply(page);
+
+        return new CursorResponse<>(content, size, hasNext, nextCursor);
+    }
+}
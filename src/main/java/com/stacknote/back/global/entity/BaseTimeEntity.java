@@ -24,4 +24,12 @@ public abstract class BaseTimeEntity {
     @LastModifiedDate
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+
+    /**
+     * 수정 표시
+     * 다른 테이블(본문 등)만 바뀌어 엔티티 필드 변경이 없을 때도 수정일시와 버전이 갱신되도록 함
+     */
+    public void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
 }
\ No newline at end of file
@@ -20,6 +20,8 @@ public enum ErrorCode {
     ENTITY_NOT_FOUND(HttpStatus.NOT_FOUND, "COMMON_004", "요청한 리소스를 찾을 수 없습니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "COMMON_005", "서버 내부 오류가 발생했습니다."),
     ACCESS_DENIED(HttpStatus.FORBIDDEN, "COMMON_006", "접근 권한이 없습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "COMMON_007", "유효하지 않은 커서입니다."),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "COMMON_008", "다른 요청이 먼저 수정했습니다. 최신 상태를 다시 불러와 주세요."),
 
     // 인증 관련 에러 (Filter용 확장)
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "AUTH_001", "인증이 필요합니다."),
@@ -55,12 +57,14 @@ public enum ErrorCode {
     // 페이지 관련 에러
     PAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "PAGE_001", "페이지를 찾을 수 없습니다."),
     PAGE_ACCESS_DENIED(HttpStatus.FORBIDDEN, "PAGE_002", "페이지 접근 권한이 없습니다."),
+    PAGE_VERSION_MISMATCH(HttpStatus.PRECONDITION_FAILED, "PAGE_003", "페이지가 다른 곳에서 수정되었습니다. 최신 버전을 다시 불러와 주세요."),
 
     // 파일 관련 에러
     FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "FILE_001", "파일을 찾을 수 없습니다."),
     FILE_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "FILE_002", "파일 업로드에 실패했습니다."),
     FILE_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, "FILE_003", "파일 크기가 제한을 초과했습니다."),
     INVALID_FILE_TYPE(HttpStatus.BAD_REQUEST, "FILE_004", "지원하지 않는 파일 형식입니다."),
+    STORAGE_QUOTA_EXCEEDED(HttpStatus.BAD_REQUEST, "FILE_005", "저장 용량 한도를 초과했습니다."),
 
     // 댓글 관련 에러
     COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "COMMENT_001", "댓글을 찾을 수 없습니다."),
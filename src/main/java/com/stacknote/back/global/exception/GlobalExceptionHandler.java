@@ -19,6 +19,7 @@ import com.stacknote.back.global.exception.custom.EntityNotFoundException;
 import com.stacknote.back.global.exception.custom.TokenProcessingException;
 import com.stacknote.back.global.exception.custom.UnauthorizedException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -386,6 +387,23 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("지원하지 않는 HTTP 메서드입니다.", errorResponse));
     }
 
+    /**
+     * 낙관적 잠금 충돌 처리 (동시에 같은 엔티티를 수정한 경우)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<ErrorResponse>> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        log.warn("Optimistic locking failure: {}", e.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                ErrorCode.CONCURRENT_MODIFICATION.getCode(),
+                ErrorCode.CONCURRENT_MODIFICATION.getMessage()
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error(ErrorCode.CONCURRENT_MODIFICATION.getMessage(), errorResponse));
+    }
+
     /**
      * IllegalArgumentException 처리
      */
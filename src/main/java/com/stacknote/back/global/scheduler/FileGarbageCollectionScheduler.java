@@ -0,0 +1,38 @@
+package com.stacknote.back.global.scheduler;
+
+import com.stacknote.back.domain.file.service.FileGarbageCollectionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 고아 파일 정리 스케줄러
+ * DB에서 참조하지 않는 저장소 파일을 격리 후 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileGarbageCollectionScheduler {
+
+    private final FileGarbageCollectionService fileGarbageCollectionService;
+
+    /**
+     * 매일 새벽 3시에 고아 파일 정리 작업 실행
+     */
+    @Scheduled(cron = "${file.gc.cron:0 0 3 * * ?}")
+    public void collectOrphanedFiles() {
+        log.info("고아 파일 정리 작업 시작");
+
+        try {
+            FileGarbageCollectionService.GarbageCollectionResult result = fileGarbageCollectionService.collect();
+
+            log.info("고아 파일 정리 작업 완료 - 삭제된 소유자의 파일 행: {}, 검사: {}, 격리: {} ({} bytes), 회수: {} bytes, 원본 없는 행: {}",
+                    result.getDeletedOwnerRows(), result.getScannedFiles(), result.getQuarantinedFiles(), result.getQuarantinedBytes(),
+                    result.getReclaimedBytes(), result.getDanglingRows());
+
+        } catch (Exception e) {
+            log.error("고아 파일 정리 작업 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.stacknote.back.global.scheduler;
+
+import com.stacknote.back.domain.notification.service.UnreadNotificationCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 읽지 않은 알림 수 보정 스케줄러
+ * 증분 카운터를 실제 COUNT 값과 주기적으로 맞춤
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationCounterReconcileScheduler {
+
+    private final UnreadNotificationCounter unreadNotificationCounter;
+
+    /**
+     * 매시 정각에 읽지 않은 알림 수 보정
+     */
+    @Scheduled(cron = "${notification.unread-cache.reconcile-cron:0 0 * * * ?}")
+    @Transactional
+    public void reconcileUnreadCounts() {
+        log.info("읽지 않은 알림 수 보정 작업 시작");
+
+        try {
+            int corrected = unreadNotificationCounter.reconcileAll();
+            log.info("읽지 않은 알림 수 보정 작업 완료 - 보정된 사용자 수: {}", corrected);
+        } catch (Exception e) {
+            log.error("읽지 않은 알림 수 보정 작업 중 오류 발생", e);
+        }
+    }
+}
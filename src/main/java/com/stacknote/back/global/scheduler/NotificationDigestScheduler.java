@@ -0,0 +1,32 @@
+package com.stacknote.back.global.scheduler;
+
+import com.stacknote.back.domain.notification.service.command.NotificationCommandService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 요약 발송 스케줄러
+ * 요약 모드(notification.digest.enabled)에서 모아 둔 낮은 우선순위 알림을 주기적으로 발송
+ * 대기 항목은 DB에 저장되므로 종료 시 따로 비우지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDigestScheduler {
+
+    private final NotificationCommandService notificationCommandService;
+
+    /**
+     * 15분마다 알림 요약 발송
+     */
+    @Scheduled(cron = "${notification.digest.cron:0 */15 * * * ?}")
+    public void sendDigests() {
+        try {
+            notificationCommandService.sendDigests();
+        } catch (Exception e) {
+            log.error("알림 요약 발송 작업 중 오류 발생", e);
+        }
+    }
+}
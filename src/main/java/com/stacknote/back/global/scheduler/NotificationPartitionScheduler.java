@@ -0,0 +1,35 @@
+package com.stacknote.back.global.scheduler;
+
+import com.stacknote.back.domain.notification.service.NotificationPartitionManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 파티션 관리 스케줄러
+ * 다음 달 파티션을 미리 만들고, 보관 기간이 지난 파티션을 통째로 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationPartitionScheduler {
+
+    private final NotificationPartitionManager notificationPartitionManager;
+
+    /**
+     * 매일 새벽 4시 30분에 파티션 관리
+     */
+    @Scheduled(cron = "${notification.partition.maintenance-cron:0 30 4 * * ?}")
+    public void maintainPartitions() {
+        log.info("알림 파티션 관리 작업 시작");
+
+        try {
+            int created = notificationPartitionManager.ensureFuturePartitions();
+            int dropped = notificationPartitionManager.dropExpiredPartitions();
+            log.info("알림 파티션 관리 작업 완료 - 생성: {}, 삭제: {}", created, dropped);
+        } catch (Exception e) {
+            log.error("알림 파티션 관리 작업 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.stacknote.back.global.scheduler;
+
+import com.stacknote.back.domain.page.service.PageChangeLog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 페이지 변경 로그 정리 스케줄러
+ * 보관 기간이 지난 변경 기록을 삭제하여 page_changes 테이블 크기를 제한
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PageChangeLogCleanupScheduler {
+
+    private final PageChangeLog pageChangeLog;
+
+    @Value("${page.change-log.retention-days:30}")
+    private int retentionDays;
+
+    /**
+     * 매일 새벽 5시에 변경 로그 정리
+     */
+    @Scheduled(cron = "${page.change-log.cleanup-cron:0 0 5 * * ?}")
+    public void cleanupPageChanges() {
+        log.info("페이지 변경 로그 정리 작업 시작");
+
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+            int deleted = pageChangeLog.purgeOlderThan(cutoff);
+            log.info("페이지 변경 로그 정리 작업 완료 - 삭제된 기록 수: {}", deleted);
+        } catch (Exception e) {
+            log.error("페이지 변경 로그 정리 작업 중 오류 발생", e);
+        }
+    }
+}
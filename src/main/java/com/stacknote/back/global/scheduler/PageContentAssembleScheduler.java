@@ -0,0 +1,46 @@
+package com.stacknote.back.global.scheduler;
+
+import com.stacknote.back.domain.page.service.command.PageBlockCommandService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 페이지 본문 재구성 스케줄러
+ * 블록 부분 수정 후 일정 시간 더 수정되지 않은 페이지의 page_contents 본문을 블록으로부터 재구성
+ * (연속 편집 중에는 본문을 매번 다시 쓰지 않고, 검색/파일 참조 조회는 이 주기만큼 늦게 반영됨)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PageContentAssembleScheduler {
+
+    private final PageBlockCommandService pageBlockCommandService;
+
+    @Value("${page.content.assemble-delay-ms:30000}")
+    private long assembleDelayMs;
+
+    @Value("${page.content.assemble-batch-size:200}")
+    private int batchSize;
+
+    /**
+     * 30초마다 재구성이 필요한 페이지 본문 반영
+     */
+    @Scheduled(cron = "${page.content.assemble-cron:*/30 * * * * ?}")
+    public void assembleStaleContents() {
+        try {
+            LocalDateTime before = LocalDateTime.now().minus(assembleDelayMs, ChronoUnit.MILLIS);
+            int assembled = pageBlockCommandService.assembleStaleContents(before, batchSize);
+            if (assembled > 0) {
+                log.info("페이지 본문 재구성 완료 - 재구성된 페이지 수: {}", assembled);
+            }
+        } catch (Exception e) {
+            log.error("페이지 본문 재구성 작업 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.stacknote.back.global.scheduler;
+
+import com.stacknote.back.domain.file.service.StorageUsageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장 용량 사용량 보정 스케줄러
+ * 증분 카운터가 실제 파일 합계와 어긋난 경우를 주기적으로 바로잡음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StorageUsageReconcileScheduler {
+
+    private final StorageUsageService storageUsageService;
+
+    /**
+     * 매일 새벽 4시에 사용량 보정 (업로드가 적은 시간대)
+     */
+    @Scheduled(cron = "${file.quota.reconcile-cron:0 0 4 * * ?}")
+    public void reconcileStorageUsage() {
+        log.info("저장 용량 사용량 보정 작업 시작");
+
+        try {
+            int reconciled = storageUsageService.reconcile();
+            log.info("저장 용량 사용량 보정 작업 완료 - 보정된 항목 수: {}", reconciled);
+        } catch (Exception e) {
+            log.error("저장 용량 사용량 보정 작업 중 오류 발생", e);
+        }
+    }
+}
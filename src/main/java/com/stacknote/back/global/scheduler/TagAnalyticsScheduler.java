@@ -0,0 +1,34 @@
+package com.stacknote.back.global.scheduler;
+
+import com.stacknote.back.domain.tag.service.TagAnalytics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 태그 분석 재계산 스케줄러
+ * 증분 갱신으로 쌓인 오차(페이지 삭제, 동시 갱신 등)를 전체 집계로 바로잡음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagAnalyticsScheduler {
+
+    private final TagAnalytics tagAnalytics;
+
+    /**
+     * 매시 15분에 메모리에 있는 워크스페이스 태그 통계 재계산
+     */
+    @Scheduled(cron = "${tag.analytics.recompute-cron:0 15 * * * ?}")
+    public void recomputeTagAnalytics() {
+        log.info("태그 분석 재계산 작업 시작");
+
+        try {
+            int recomputed = tagAnalytics.recomputeAll();
+            log.info("태그 분석 재계산 작업 완료 - 워크스페이스 수: {}", recomputed);
+        } catch (Exception e) {
+            log.error("태그 분석 재계산 작업 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.stacknote.back.global.scheduler;
+
+import com.stacknote.back.domain.tag.service.TagPageIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 태그 페이지 인덱스 갱신 스케줄러
+ * 다른 인스턴스에서 일어난 태그/페이지 변경을 반영하도록 메모리 인덱스를 주기적으로 폐기 (다음 조회 시 다시 적재)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagPageIndexRefreshScheduler {
+
+    private final TagPageIndex tagPageIndex;
+
+    /**
+     * 10분마다 태그 페이지 인덱스 폐기
+     */
+    @Scheduled(cron = "${tag.index.refresh-cron:0 */10 * * * ?}")
+    public void refreshTagPageIndex() {
+        try {
+            int evicted = tagPageIndex.evictAll();
+            log.debug("태그 페이지 인덱스 갱신 - 폐기된 워크스페이스 수: {}", evicted);
+        } catch (Exception e) {
+            log.error("태그 페이지 인덱스 갱신 작업 중 오류 발생", e);
+        }
+    }
+}
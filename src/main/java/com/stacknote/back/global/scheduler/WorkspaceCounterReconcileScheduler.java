@@ -0,0 +1,34 @@
+package com.stacknote.back.global.scheduler;
+
+import com.stacknote.back.domain.workspace.service.WorkspaceCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 워크스페이스 카운터 보정 스케줄러
+ * 증분 반영된 멤버 수/페이지 수가 실제 COUNT와 어긋난 경우를 주기적으로 바로잡음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkspaceCounterReconcileScheduler {
+
+    private final WorkspaceCounter workspaceCounter;
+
+    /**
+     * 매일 새벽 4시 30분에 카운터 보정 (저장 용량 보정 이후)
+     */
+    @Scheduled(cron = "${workspace.counter.reconcile-cron:0 30 4 * * ?}")
+    public void reconcileWorkspaceCounters() {
+        log.info("워크스페이스 카운터 보정 작업 시작");
+
+        try {
+            int reconciled = workspaceCounter.reconcile();
+            log.info("워크스페이스 카운터 보정 작업 완료 - 보정된 워크스페이스 수: {}", reconciled);
+        } catch (Exception e) {
+            log.error("워크스페이스 카운터 보정 작업 중 오류 발생", e);
+        }
+    }
+}
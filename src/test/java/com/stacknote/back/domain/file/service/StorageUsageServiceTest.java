@@ -0,0 +1,160 @@
+package com.stacknote.back.domain.file.service;
+
+import com.stacknote.back.domain.file.entity.StorageUsage;
+import com.stacknote.back.domain.file.exception.StorageQuotaExceededException;
+import com.stacknote.back.domain.file.repository.FileRepository;
+import com.stacknote.back.domain.file.repository.StorageUsageRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StorageUsageServiceTest {
+
+    private static final Long WORKSPACE_ID = 1L;
+    private static final Long USER_ID = 2L;
+    private static final long WORKSPACE_QUOTA = 1000L;
+
+    @Mock
+    private StorageUsageRepository storageUsageRepository;
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StorageUsageService storageUsageService;
+
+    @BeforeEach
+    void setUp() {
+        storageUsageService = new StorageUsageService(storageUsageRepository, fileRepository, transactionManager);
+        ReflectionTestUtils.setField(storageUsageService, "workspaceQuota", WORKSPACE_QUOTA);
+        ReflectionTestUtils.setField(storageUsageService, "userQuota", 0L);
+        TransactionSynchronizationManager.initSynchronization(); // 업로드 트랜잭션 역할
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("한도 내 예약은 별도 트랜잭션으로 바로 커밋된다")
+    void reserveCommitsInOwnTransaction() {
+        stubSuccessfulReserve(100L);
+
+        storageUsageService.reserve(WORKSPACE_ID, USER_ID, 100L);
+
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager, times(1)).commit(any());
+        verify(storageUsageRepository).reserve(StorageUsage.OwnerType.USER, USER_ID, 100L, Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("워크스페이스 한도를 넘으면 사용자 예약 없이 롤백된다")
+    void reserveOverWorkspaceQuotaRollsBack() {
+        when(storageUsageRepository.reserve(StorageUsage.OwnerType.WORKSPACE, WORKSPACE_ID, 2000L, WORKSPACE_QUOTA))
+                .thenReturn(0);
+
+        assertThatThrownBy(() -> storageUsageService.reserve(WORKSPACE_ID, USER_ID, 2000L))
+                .isInstanceOf(StorageQuotaExceededException.class);
+
+        verify(storageUsageRepository, never()).reserve(eq(StorageUsage.OwnerType.USER), any(), anyLong(), anyLong());
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("업로드 트랜잭션이 롤백되면 예약한 사용량을 반환한다")
+    void reserveIsReleasedWhenUploadRollsBack() {
+        stubSuccessfulReserve(100L);
+        storageUsageService.reserve(WORKSPACE_ID, USER_ID, 100L);
+
+        completeUpload(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(storageUsageRepository).release(StorageUsage.OwnerType.WORKSPACE, WORKSPACE_ID, 100L);
+        verify(storageUsageRepository).release(StorageUsage.OwnerType.USER, USER_ID, 100L);
+        verify(transactionManager, times(2)).commit(any()); // 예약 + 보상
+    }
+
+    @Test
+    @DisplayName("업로드 트랜잭션이 커밋되면 예약이 유지된다")
+    void reserveIsKeptWhenUploadCommits() {
+        stubSuccessfulReserve(100L);
+        storageUsageService.reserve(WORKSPACE_ID, USER_ID, 100L);
+
+        completeUpload(TransactionSynchronization.STATUS_COMMITTED);
+
+        verify(storageUsageRepository, never()).release(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("보정은 사용량 행과 파일이 있는 소유자를 각각 별도 트랜잭션으로 재계산한다")
+    void reconcileRecalculatesEachOwnerSeparately() {
+        when(storageUsageRepository.findOwnerIds(StorageUsage.OwnerType.WORKSPACE)).thenReturn(List.of(1L, 2L));
+        when(fileRepository.findWorkspaceIdsWithFiles()).thenReturn(List.of(2L, 3L));
+        when(storageUsageRepository.findOwnerIds(StorageUsage.OwnerType.USER)).thenReturn(List.of());
+        when(fileRepository.findUploaderIdsWithFiles()).thenReturn(List.of(USER_ID));
+        when(storageUsageRepository.recalculateWorkspace(any())).thenReturn(1);
+        when(storageUsageRepository.recalculateUser(USER_ID)).thenReturn(1);
+
+        int reconciled = storageUsageService.reconcile();
+
+        assertThat(reconciled).isEqualTo(4);
+        verify(storageUsageRepository).recalculateWorkspace(1L);
+        verify(storageUsageRepository).recalculateWorkspace(2L);
+        verify(storageUsageRepository).recalculateWorkspace(3L);
+        verify(transactionManager, times(4)).getTransaction(any());
+    }
+
+    @Test
+    @DisplayName("한 소유자의 보정이 실패해도 나머지 소유자는 보정한다")
+    void reconcileContinuesAfterFailure() {
+        when(storageUsageRepository.findOwnerIds(StorageUsage.OwnerType.WORKSPACE)).thenReturn(List.of(1L, 2L));
+        when(fileRepository.findWorkspaceIdsWithFiles()).thenReturn(List.of());
+        when(storageUsageRepository.findOwnerIds(StorageUsage.OwnerType.USER)).thenReturn(List.of());
+        when(fileRepository.findUploaderIdsWithFiles()).thenReturn(List.of());
+        when(storageUsageRepository.recalculateWorkspace(1L)).thenThrow(new IllegalStateException("lock timeout"));
+        when(storageUsageRepository.recalculateWorkspace(2L)).thenReturn(1);
+
+        int reconciled = storageUsageService.reconcile();
+
+        assertThat(reconciled).isEqualTo(1);
+        verify(transactionManager).rollback(any());
+    }
+
+    private void stubSuccessfulReserve(long bytes) {
+        when(storageUsageRepository.reserve(StorageUsage.OwnerType.WORKSPACE, WORKSPACE_ID, bytes, WORKSPACE_QUOTA))
+                .thenReturn(1);
+        when(storageUsageRepository.reserve(StorageUsage.OwnerType.USER, USER_ID, bytes, Long.MAX_VALUE))
+                .thenReturn(1);
+    }
+
+    private void completeUpload(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertThat(synchronizations).hasSize(1);
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
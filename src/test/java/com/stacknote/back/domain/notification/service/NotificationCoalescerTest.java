@@ -0,0 +1,146 @@
+package com.stacknote.back.domain.notification.service;
+
+import com.stacknote.back.domain.notification.dto.response.NotificationResponse;
+import com.stacknote.back.domain.notification.entity.Notification;
+import com.stacknote.back.domain.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationCoalescerTest {
+
+    private static final Long RECIPIENT_ID = 1L;
+    private static final Long LEADER_ID = 10L;
+
+    @Mock
+    private NotificationStreamHub notificationStreamHub;
+
+    private NotificationCoalescer notificationCoalescer;
+    private User recipient;
+
+    @BeforeEach
+    void setUp() {
+        notificationCoalescer = new NotificationCoalescer(notificationStreamHub,
+                true, 600_000L, 100, 60_000L, true, 2);
+        recipient = User.builder().email("user@stacknote.com").password("pw").username("user").build();
+        ReflectionTestUtils.setField(recipient, "id", RECIPIENT_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("대표 알림 등록은 커밋 이후에만 반영된다")
+    void registerIsAppliedAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        notificationCoalescer.register(saved(comment(), LEADER_ID));
+        assertThat(notificationCoalescer.findAggregateTarget(comment())).isEmpty();
+
+        commit();
+        assertThat(notificationCoalescer.findAggregateTarget(comment())).contains(LEADER_ID);
+    }
+
+    @Test
+    @DisplayName("롤백된 알림은 대표 알림으로 등록되지 않는다")
+    void rolledBackRegisterIsDiscarded() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        notificationCoalescer.register(saved(comment(), LEADER_ID));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(notificationCoalescer.findAggregateTarget(comment())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("병합 수 증가와 전송은 커밋 이후에 반영되고, 전송 간격 안의 병합은 미뤄진다")
+    void mergeIsAppliedAfterCommit() {
+        notificationCoalescer.register(saved(comment(), LEADER_ID)); // 트랜잭션 밖: 바로 등록
+
+        TransactionSynchronizationManager.initSynchronization();
+        NotificationResponse first = notificationCoalescer.recordMerge(comment(), LEADER_ID);
+        assertThat(first.getAggregateCount()).isEqualTo(2);
+        verify(notificationStreamHub, never()).publish(anyLong(), anyString(), any());
+
+        commit();
+        ArgumentCaptor<NotificationResponse> pushed = ArgumentCaptor.forClass(NotificationResponse.class);
+        verify(notificationStreamHub).publish(eq(RECIPIENT_ID), eq("notification-updated"), pushed.capture());
+        assertThat(pushed.getValue().getId()).isEqualTo(LEADER_ID);
+        assertThat(pushed.getValue().getAggregateCount()).isEqualTo(2);
+
+        TransactionSynchronizationManager.initSynchronization();
+        NotificationResponse second = notificationCoalescer.recordMerge(comment(), LEADER_ID);
+        commit();
+
+        assertThat(second.getAggregateCount()).isEqualTo(3);
+        verify(notificationStreamHub, times(1)).publish(anyLong(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("롤백된 병합은 병합 수에 반영되지 않는다")
+    void rolledBackMergeIsDiscarded() {
+        notificationCoalescer.register(saved(comment(), LEADER_ID));
+
+        TransactionSynchronizationManager.initSynchronization();
+        notificationCoalescer.recordMerge(comment(), LEADER_ID);
+        TransactionSynchronizationManager.clearSynchronization(); // afterCommit 없이 종료
+
+        NotificationResponse next = notificationCoalescer.recordMerge(comment(), LEADER_ID);
+        assertThat(next.getAggregateCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("요약 본문은 최근 항목부터 최대 개수까지 표시한다")
+    void summarizeShowsLatestItems() {
+        String summary = notificationCoalescer.summarize(List.of("a", "b", "c"));
+
+        assertThat(summary).isEqualTo("- c\n- b\n외 1건");
+    }
+
+    private Notification comment() {
+        return Notification.builder()
+                .type(Notification.NotificationType.PAGE_COMMENTED)
+                .title("새 댓글")
+                .content("내용")
+                .recipient(recipient)
+                .referenceType("PAGE")
+                .referenceId(100L)
+                .build();
+    }
+
+    private Notification saved(Notification notification, Long id) {
+        ReflectionTestUtils.setField(notification, "id", id);
+        return notification;
+    }
+
+    private void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
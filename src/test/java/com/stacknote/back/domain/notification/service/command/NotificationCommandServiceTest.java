@@ -0,0 +1,137 @@
+package com.stacknote.back.domain.notification.service.command;
+
+import com.stacknote.back.domain.notification.dto.request.NotificationCreateRequest;
+import com.stacknote.back.domain.notification.dto.response.NotificationResponse;
+import com.stacknote.back.domain.notification.entity.Notification;
+import com.stacknote.back.domain.notification.entity.NotificationDigestItem;
+import com.stacknote.back.domain.notification.repository.NotificationDigestItemRepository;
+import com.stacknote.back.domain.notification.repository.NotificationRepository;
+import com.stacknote.back.domain.notification.service.NotificationCoalescer;
+import com.stacknote.back.domain.notification.service.NotificationStreamHub;
+import com.stacknote.back.domain.notification.service.UnreadNotificationCounter;
+import com.stacknote.back.domain.user.entity.User;
+import com.stacknote.back.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationCommandServiceTest {
+
+    private static final Long RECIPIENT_ID = 1L;
+    private static final Long OTHER_RECIPIENT_ID = 2L;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private NotificationStreamHub notificationStreamHub;
+
+    @Mock
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    @Mock
+    private NotificationDigestItemRepository notificationDigestItemRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NotificationCommandService notificationCommandService;
+
+    @BeforeEach
+    void setUp() {
+        NotificationCoalescer notificationCoalescer = new NotificationCoalescer(notificationStreamHub,
+                true, 600_000L, 100, 5_000L, true, 20);
+        notificationCommandService = new NotificationCommandService(notificationRepository, userRepository,
+                notificationStreamHub, unreadNotificationCounter, notificationCoalescer,
+                notificationDigestItemRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("요약 대상 알림은 대기 항목으로 저장되고 대기 상태 응답을 반환한다")
+    void digestTargetIsQueued() {
+        when(userRepository.findById(RECIPIENT_ID)).thenReturn(Optional.of(user(RECIPIENT_ID)));
+
+        NotificationResponse response = notificationCommandService.createNotification(new NotificationCreateRequest(
+                Notification.NotificationType.PAGE_UPDATED, "페이지 수정", "내용", RECIPIENT_ID,
+                null, null, null, null, null, Notification.Priority.LOW));
+
+        assertThat(response.getQueued()).isTrue();
+        assertThat(response.getId()).isNull();
+        ArgumentCaptor<NotificationDigestItem> item = ArgumentCaptor.forClass(NotificationDigestItem.class);
+        verify(notificationDigestItemRepository).save(item.capture());
+        assertThat(item.getValue().getRecipientId()).isEqualTo(RECIPIENT_ID);
+        assertThat(item.getValue().getTitle()).isEqualTo("페이지 수정");
+        verify(notificationRepository, never()).save(any());
+        verify(unreadNotificationCounter, never()).adjust(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("요약 발송은 사용자별 트랜잭션으로 처리되어 한 사용자의 실패가 다른 사용자를 막지 않는다")
+    void digestFailureIsIsolatedPerRecipient() {
+        when(notificationDigestItemRepository.findRecipientIds()).thenReturn(List.of(RECIPIENT_ID, OTHER_RECIPIENT_ID));
+        when(notificationDigestItemRepository.lockByRecipientId(RECIPIENT_ID))
+                .thenThrow(new IllegalStateException("lock timeout"));
+        when(notificationDigestItemRepository.lockByRecipientId(OTHER_RECIPIENT_ID))
+                .thenReturn(List.of(item(5L, "첫 번째"), item(6L, "두 번째")));
+        when(userRepository.getReferenceById(OTHER_RECIPIENT_ID)).thenReturn(user(OTHER_RECIPIENT_ID));
+        when(notificationRepository.save(any(Notification.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        int sent = notificationCommandService.sendDigests();
+
+        assertThat(sent).isEqualTo(1);
+        ArgumentCaptor<Notification> digest = ArgumentCaptor.forClass(Notification.class);
+        verify(notificationRepository).save(digest.capture());
+        assertThat(digest.getValue().getType()).isEqualTo(Notification.NotificationType.NOTIFICATION_DIGEST);
+        assertThat(digest.getValue().getAggregateCount()).isEqualTo(2);
+        verify(notificationDigestItemRepository).deleteByIds(List.of(5L, 6L));
+        verify(unreadNotificationCounter).adjust(OTHER_RECIPIENT_ID, 1);
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 잠근 대기 항목은 건너뛴다")
+    void lockedDigestItemsAreSkipped() {
+        when(notificationDigestItemRepository.findRecipientIds()).thenReturn(List.of(RECIPIENT_ID));
+        when(notificationDigestItemRepository.lockByRecipientId(RECIPIENT_ID)).thenReturn(List.of());
+
+        int sent = notificationCommandService.sendDigests();
+
+        assertThat(sent).isZero();
+        verify(notificationRepository, never()).save(any());
+        verify(notificationDigestItemRepository, never()).deleteByIds(any());
+    }
+
+    private User user(Long id) {
+        User user = User.builder().email("user" + id + "@stacknote.com").password("pw").username("user" + id).build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+
+    private NotificationDigestItem item(Long id, String title) {
+        NotificationDigestItem item = NotificationDigestItem.builder().recipientId(OTHER_RECIPIENT_ID).title(title).build();
+        ReflectionTestUtils.setField(item, "id", id);
+        return item;
+    }
+}
@@ -0,0 +1,112 @@
+package com.stacknote.back.domain.page.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FractionalIndexTest {
+
+    @Test
+    @DisplayName("앞뒤 키가 없으면 가운데 한 자리 키를 만든다")
+    void betweenWithoutBounds() {
+        assertThat(FractionalIndex.between(null, null)).isEqualTo("V");
+    }
+
+    @Test
+    @DisplayName("생성된 키는 앞 키보다 크고 뒤 키보다 작다")
+    void betweenIsStrictlyInside() {
+        assertBetween(null, "V");
+        assertBetween("V", null);
+        assertBetween("A", "C");
+        assertBetween("A", "B");
+        assertBetween("A", "A1");
+        assertBetween("Az", "B");
+        assertBetween("A0V", "A1");
+    }
+
+    @Test
+    @DisplayName("인접한 두 키 사이에는 한 자리 긴 키를 만든다")
+    void betweenAdjacentKeys() {
+        assertThat(FractionalIndex.between("A", "B")).isEqualTo("AV");
+    }
+
+    @Test
+    @DisplayName("같은 위치에 반복 삽입해도 순서가 유지되고 끝자리는 '0'이 아니다")
+    void repeatedInsertKeepsOrder() {
+        String before = "A";
+        String after = "B";
+        for (int i = 0; i < 200; i++) {
+            String key = FractionalIndex.between(before, after);
+            assertThat(key).isGreaterThan(before).isLessThan(after).doesNotEndWith("0");
+            after = key; // 항상 앞 블록 바로 뒤에 삽입
+        }
+
+        String last = null;
+        for (int i = 0; i < 200; i++) {
+            String key = FractionalIndex.between(last, null);
+            if (last != null) {
+                assertThat(key).isGreaterThan(last);
+            }
+            last = key; // 항상 맨 뒤에 추가
+        }
+    }
+
+    @Test
+    @DisplayName("앞 키가 뒤 키보다 작지 않으면 예외가 발생한다")
+    void betweenRejectsInvalidBounds() {
+        assertThatThrownBy(() -> FractionalIndex.between("B", "A"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FractionalIndex.between("A", "A"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("정렬 키에 없는 문자가 있으면 예외가 발생한다")
+    void betweenRejectsInvalidDigit() {
+        assertThatThrownBy(() -> FractionalIndex.between("A-", null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("균등 간격 키는 개수만큼 중복 없이 오름차순으로 생성된다")
+    void sequenceIsSortedAndDistinct() {
+        assertThat(FractionalIndex.sequence(0)).isEmpty();
+        assertThat(FractionalIndex.sequence(3)).containsExactly("F", "U", "j");
+
+        for (int count : new int[]{1, 61, 62, 100, 5000}) {
+            List<String> keys = FractionalIndex.sequence(count);
+            assertThat(keys).hasSize(count).doesNotHaveDuplicates();
+            List<String> sorted = new ArrayList<>(keys);
+            sorted.sort(null);
+            assertThat(keys).isEqualTo(sorted);
+            assertThat(keys).allSatisfy(key -> assertThat(key).doesNotEndWith("0"));
+        }
+    }
+
+    @Test
+    @DisplayName("균등 간격 키 사이와 앞뒤에 새 키를 만들 수 있다")
+    void sequenceLeavesRoomForInsert() {
+        List<String> keys = FractionalIndex.sequence(100);
+
+        assertBetween(null, keys.get(0));
+        for (int i = 1; i < keys.size(); i++) {
+            assertBetween(keys.get(i - 1), keys.get(i));
+        }
+        assertBetween(keys.get(keys.size() - 1), null);
+    }
+
+    private void assertBetween(String before, String after) {
+        String key = FractionalIndex.between(before, after);
+        if (before != null) {
+            assertThat(key).isGreaterThan(before);
+        }
+        if (after != null) {
+            assertThat(key).isLessThan(after);
+        }
+    }
+}
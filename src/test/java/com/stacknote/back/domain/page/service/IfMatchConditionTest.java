@@ -0,0 +1,56 @@
+package com.stacknote.back.domain.page.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IfMatchConditionTest {
+
+    @Test
+    @DisplayName("헤더가 없거나 * 이면 버전 확인을 생략한다")
+    void absentOrWildcardSkipsCheck() {
+        assertThat(IfMatchCondition.parse(null)).isNull();
+        assertThat(IfMatchCondition.parse(" ")).isNull();
+        assertThat(IfMatchCondition.parse("*")).isNull();
+    }
+
+    @Test
+    @DisplayName("강한 태그는 같은 버전과만 일치한다")
+    void strongTagMatchesSameVersion() {
+        IfMatchCondition condition = IfMatchCondition.parse("\"3\"");
+
+        assertThat(condition.matches(3L)).isTrue();
+        assertThat(condition.matches(4L)).isFalse();
+        assertThat(condition.matches(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("약한 태그는 버전이 같아도 일치하지 않는다")
+    void weakTagNeverMatches() {
+        IfMatchCondition condition = IfMatchCondition.parse("W/\"3\"");
+
+        assertThat(condition).isNotNull();
+        assertThat(condition.matches(3L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("태그 목록은 하나라도 현재 버전과 같으면 일치한다")
+    void tagListMatchesAnyVersion() {
+        IfMatchCondition condition = IfMatchCondition.parse("\"1\", \"2\" ,W/\"5\"");
+
+        assertThat(condition.matches(1L)).isTrue();
+        assertThat(condition.matches(2L)).isTrue();
+        assertThat(condition.matches(5L)).isFalse();
+        assertThat(condition.toString()).isEqualTo("1, 2");
+    }
+
+    @Test
+    @DisplayName("버전 형식이 아닌 태그는 오류 대신 불일치로 취급한다")
+    void nonVersionTagDoesNotMatch() {
+        IfMatchCondition condition = IfMatchCondition.parse("\"abc\", \"7\"");
+
+        assertThat(condition.matches(7L)).isTrue();
+        assertThat(IfMatchCondition.parse("\"abc\"").matches(7L)).isFalse();
+    }
+}
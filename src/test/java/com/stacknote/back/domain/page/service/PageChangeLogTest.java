@@ -0,0 +1,164 @@
+package com.stacknote.back.domain.page.service;
+
+import com.stacknote.back.domain.page.entity.PageChange;
+import com.stacknote.back.domain.page.repository.PageChangeRepository;
+import com.stacknote.back.domain.workspace.exception.WorkspaceNotFoundException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PageChangeLogTest {
+
+    private static final Long WORKSPACE_ID = 100L;
+    private static final Long OTHER_WORKSPACE_ID = 50L;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PageChangeRepository pageChangeRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private PageChangeLog pageChangeLog;
+
+    @BeforeEach
+    void setUp() {
+        pageChangeLog = new PageChangeLog(jdbcTemplate, pageChangeRepository);
+        ReflectionTestUtils.setField(pageChangeLog, "entityManager", entityManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 순번을 발급받아 바로 기록한다")
+    void recordsImmediatelyWithoutTransaction() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(1), eq(WORKSPACE_ID))).thenReturn(List.of(7L));
+
+        pageChangeLog.record(WORKSPACE_ID, 1L, PageChange.ChangeType.UPDATED, Set.of(PageChange.Field.TITLE), null);
+
+        List<Object[]> rows = captureInsertedRows();
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0)[1]).isEqualTo(7L);
+        assertThat(rows.get(0)[5]).isNull();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 직전까지 워크스페이스 순번을 잠그지 않는다")
+    void defersSequenceUntilBeforeCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        pageChangeLog.record(WORKSPACE_ID, 1L, PageChange.ChangeType.UPDATED, Set.of(), null);
+
+        verifyNoInteractions(jdbcTemplate);
+        verify(entityManager, never()).flush();
+    }
+
+    @Test
+    @DisplayName("커밋 직전 남은 엔티티 변경을 먼저 반영한 뒤 한 번의 순번 발급으로 호출 순서대로 순번을 매긴다")
+    void issuesSequencesInCallOrderAtCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(2), eq(WORKSPACE_ID))).thenReturn(List.of(12L));
+
+        pageChangeLog.recordAll(WORKSPACE_ID, List.of(1L, 2L), PageChange.ChangeType.DELETED, Set.of(), null);
+        pageChangeLog.record(WORKSPACE_ID, 3L, PageChange.ChangeType.CREATED, Set.of(), null);
+        beforeCommit();
+
+        InOrder inOrder = inOrder(entityManager, jdbcTemplate);
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(jdbcTemplate).queryForList(anyString(), eq(Long.class), eq(2), eq(WORKSPACE_ID));
+
+        List<Object[]> rows = captureInsertedRows();
+        assertThat(rows).extracting(row -> row[2]).containsExactly(1L, 2L, 3L);
+        assertThat(rows).extracting(row -> row[1]).containsExactly(11L, 11L, 12L);
+    }
+
+    @Test
+    @DisplayName("여러 워크스페이스의 순번은 워크스페이스 ID 순서로 잠근다")
+    void locksWorkspacesInIdOrder() {
+        TransactionSynchronizationManager.initSynchronization();
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(1), eq(WORKSPACE_ID))).thenReturn(List.of(3L));
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(1), eq(OTHER_WORKSPACE_ID))).thenReturn(List.of(9L));
+
+        pageChangeLog.record(WORKSPACE_ID, 1L, PageChange.ChangeType.UPDATED, Set.of(), null);
+        pageChangeLog.record(OTHER_WORKSPACE_ID, 2L, PageChange.ChangeType.UPDATED, Set.of(), null);
+        beforeCommit();
+
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).queryForList(anyString(), eq(Long.class), eq(1), eq(OTHER_WORKSPACE_ID));
+        inOrder.verify(jdbcTemplate).queryForList(anyString(), eq(Long.class), eq(1), eq(WORKSPACE_ID));
+    }
+
+    @Test
+    @DisplayName("워크스페이스가 없으면 커밋 전에 예외가 발생하여 트랜잭션이 롤백된다")
+    void failsCommitWhenWorkspaceMissing() {
+        TransactionSynchronizationManager.initSynchronization();
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(1), eq(WORKSPACE_ID))).thenReturn(List.of());
+
+        pageChangeLog.record(WORKSPACE_ID, 1L, PageChange.ChangeType.UPDATED, Set.of(), null);
+
+        assertThatThrownBy(this::beforeCommit).isInstanceOf(WorkspaceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("커밋 직전 반영에서 낙관적 잠금 충돌이 나면 스프링 예외로 변환하고 순번을 발급하지 않는다")
+    void translatesOptimisticLockFailureAtCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        doThrow(new OptimisticLockException("stale")).when(entityManager).flush();
+
+        pageChangeLog.record(WORKSPACE_ID, 1L, PageChange.ChangeType.UPDATED, Set.of(), null);
+
+        assertThat(TransactionSynchronizationManager.getSynchronizations())
+                .extracting(TransactionSynchronization::getOrder)
+                .containsExactly(PageChangeLog.SYNCHRONIZATION_ORDER);
+        assertThatThrownBy(this::beforeCommit).isInstanceOf(OptimisticLockingFailureException.class);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private void beforeCommit() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.beforeCommit(false);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> captureInsertedRows() {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,202 @@
+package com.stacknote.back.domain.page.service.command;
+
+import com.stacknote.back.domain.page.dto.request.PageBlockPatchRequest;
+import com.stacknote.back.domain.page.dto.request.PageBlockPatchRequest.BlockOperation;
+import com.stacknote.back.domain.page.dto.request.PageBlockPatchRequest.OperationType;
+import com.stacknote.back.domain.page.dto.response.PageBlockPatchResponse;
+import com.stacknote.back.domain.page.entity.Page;
+import com.stacknote.back.domain.page.exception.PageVersionMismatchException;
+import com.stacknote.back.domain.page.repository.PageBlockRepository;
+import com.stacknote.back.domain.page.repository.PageContentRepository;
+import com.stacknote.back.domain.page.repository.PageRepository;
+import com.stacknote.back.domain.page.service.FractionalIndex;
+import com.stacknote.back.domain.page.service.IfMatchCondition;
+import com.stacknote.back.domain.page.service.PageBlockAssembler;
+import com.stacknote.back.domain.page.service.PageChangeLog;
+import com.stacknote.back.domain.user.entity.User;
+import com.stacknote.back.domain.workspace.entity.Workspace;
+import com.stacknote.back.domain.workspace.repository.WorkspaceMemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PageBlockCommandServiceTest {
+
+    private static final Long PAGE_ID = 10L;
+
+    @Mock
+    private PageRepository pageRepository;
+
+    @Mock
+    private PageBlockRepository pageBlockRepository;
+
+    @Mock
+    private PageContentRepository pageContentRepository;
+
+    @Mock
+    private WorkspaceMemberRepository workspaceMemberRepository;
+
+    @Mock
+    private PageChangeLog pageChangeLog;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PageBlockCommandService pageBlockCommandService;
+    private User owner;
+    private Page page;
+
+    @BeforeEach
+    void setUp() {
+        pageBlockCommandService = new PageBlockCommandService(pageRepository, pageBlockRepository,
+                pageContentRepository, workspaceMemberRepository, new PageBlockAssembler(), pageChangeLog,
+                jdbcTemplate, transactionManager);
+
+        owner = User.builder().email("owner@test.com").password("password").username("owner").build();
+        ReflectionTestUtils.setField(owner, "id", 1L);
+        Workspace workspace = Workspace.builder().name("워크스페이스").owner(owner).build();
+        ReflectionTestUtils.setField(workspace, "id", 100L);
+        page = Page.builder().title("페이지").workspace(workspace).createdBy(owner).build();
+        ReflectionTestUtils.setField(page, "id", PAGE_ID);
+    }
+
+    @Test
+    @DisplayName("블록 수정은 블록 행만 기록하고 본문은 재구성 필요 표시만 남긴다")
+    void patchWritesBlocksOnly() {
+        givenBlocks("b1", "b2");
+        when(pageBlockRepository.findContentPrefix(eq(PAGE_ID), anyInt(), anyInt())).thenReturn("수정된 본문");
+
+        PageBlockPatchResponse response = pageBlockCommandService.patchBlocks(PAGE_ID, owner,
+                request(new BlockOperation(OperationType.UPDATE, "b1", null, "수정된 본문")), null);
+
+        assertThat(response.getChangedBlocks()).hasSize(1);
+        assertThat(page.getContentStale()).isTrue();
+        assertThat(page.getSummary()).isEqualTo("수정된 본문");
+        verify(jdbcTemplate).batchUpdate(anyString(), anyList());
+        verifyNoInteractions(pageContentRepository);
+    }
+
+    @Test
+    @DisplayName("If-Match 버전이 현재 버전과 다르면 블록을 읽거나 쓰지 않고 거절한다")
+    void patchRejectsVersionMismatch() {
+        ReflectionTestUtils.setField(page, "version", 5L);
+        when(pageRepository.findActivePageByIdForUpdate(PAGE_ID)).thenReturn(Optional.of(page));
+
+        assertThatThrownBy(() -> pageBlockCommandService.patchBlocks(PAGE_ID, owner,
+                request(new BlockOperation(OperationType.UPDATE, "b1", null, "본문")), IfMatchCondition.parse("\"4\"")))
+                .isInstanceOf(PageVersionMismatchException.class);
+        verifyNoInteractions(pageBlockRepository, jdbcTemplate, pageChangeLog);
+    }
+
+    @Test
+    @DisplayName("다른 페이지에서 사용 중인 블록 ID로 추가하면 잘못된 요청으로 거절한다")
+    void insertRejectsBlockIdUsedByOtherPage() {
+        givenBlocks("b1");
+        when(pageBlockRepository.findExistingIds(List.of("other-page-block"))).thenReturn(List.of("other-page-block"));
+
+        assertThatThrownBy(() -> pageBlockCommandService.patchBlocks(PAGE_ID, owner,
+                request(new BlockOperation(OperationType.INSERT, "other-page-block", "b1", "새 블록")), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("other-page-block");
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("같은 요청에서 삭제한 블록 ID는 다시 추가할 수 있다")
+    void insertAllowsBlockIdDeletedInSameRequest() {
+        givenBlocks("b1", "b2");
+        when(pageBlockRepository.findContentPrefix(eq(PAGE_ID), anyInt(), anyInt())).thenReturn("본문");
+
+        PageBlockPatchResponse response = pageBlockCommandService.patchBlocks(PAGE_ID, owner, request(
+                new BlockOperation(OperationType.DELETE, "b1", null, null),
+                new BlockOperation(OperationType.INSERT, "b1", "b2", "다시 추가")), null);
+
+        assertThat(response.getDeletedBlockIds()).containsExactly("b1");
+        verify(pageBlockRepository, never()).findExistingIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("확인 이후 다른 페이지가 같은 블록 ID를 먼저 추가하면 잘못된 요청으로 거절한다")
+    void insertTranslatesDuplicateKey() {
+        givenBlocks("b1");
+        when(pageBlockRepository.findExistingIds(anyCollection())).thenReturn(List.of());
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new DuplicateKeyException("duplicate"));
+
+        assertThatThrownBy(() -> pageBlockCommandService.patchBlocks(PAGE_ID, owner,
+                request(new BlockOperation(OperationType.INSERT, "racing-block", "b1", "새 블록")), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("재구성 필요 표시를 해제한 페이지만 본문을 재구성한다")
+    void assembleStaleContentsSkipsAlreadyAssembled() {
+        when(pageRepository.findContentStalePageIds(any(LocalDateTime.class), any())).thenReturn(List.of(1L, 2L));
+        when(pageRepository.clearContentStale(1L)).thenReturn(1);
+        when(pageRepository.clearContentStale(2L)).thenReturn(0);
+
+        int assembled = pageBlockCommandService.assembleStaleContents(LocalDateTime.now(), 100);
+
+        assertThat(assembled).isEqualTo(1);
+        verify(pageContentRepository).assembleFromBlocks(1L);
+        verify(pageContentRepository, never()).assembleFromBlocks(2L);
+    }
+
+    @Test
+    @DisplayName("한 페이지의 재구성이 실패해도 나머지 페이지는 계속 재구성한다")
+    void assembleStaleContentsContinuesAfterFailure() {
+        when(pageRepository.findContentStalePageIds(any(LocalDateTime.class), any())).thenReturn(List.of(1L, 2L));
+        when(pageRepository.clearContentStale(anyLong())).thenReturn(1);
+        when(pageContentRepository.assembleFromBlocks(1L)).thenThrow(new IllegalStateException("실패"));
+
+        int assembled = pageBlockCommandService.assembleStaleContents(LocalDateTime.now(), 100);
+
+        assertThat(assembled).isEqualTo(1);
+        verify(pageContentRepository).assembleFromBlocks(2L);
+    }
+
+    private void givenBlocks(String... blockIds) {
+        List<String> positions = FractionalIndex.sequence(blockIds.length);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < blockIds.length; i++) {
+            rows.add(new Object[]{blockIds[i], positions.get(i)});
+        }
+        when(pageRepository.findActivePageByIdForUpdate(PAGE_ID)).thenReturn(Optional.of(page));
+        when(pageBlockRepository.findPositionsByPageId(PAGE_ID)).thenReturn(rows);
+        lenient().when(pageRepository.saveAndFlush(page)).thenReturn(page); // 거절되는 요청에서는 저장하지 않음
+    }
+
+    private PageBlockPatchRequest request(BlockOperation... operations) {
+        return new PageBlockPatchRequest(List.of(operations));
+    }
+}
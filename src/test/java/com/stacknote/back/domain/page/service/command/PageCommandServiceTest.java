@@ -0,0 +1,167 @@
+package com.stacknote.back.domain.page.service.command;
+
+import com.stacknote.back.domain.comment.service.command.CommentCommandService;
+import com.stacknote.back.domain.page.dto.request.PageUpdateRequest;
+import com.stacknote.back.domain.page.dto.response.PageResponse;
+import com.stacknote.back.domain.page.entity.Page;
+import com.stacknote.back.domain.page.exception.PageVersionMismatchException;
+import com.stacknote.back.domain.page.repository.PageBlockRepository;
+import com.stacknote.back.domain.page.repository.PageContentRepository;
+import com.stacknote.back.domain.page.repository.PageHistoryRepository;
+import com.stacknote.back.domain.page.repository.PageRepository;
+import com.stacknote.back.domain.page.service.IfMatchCondition;
+import com.stacknote.back.domain.page.service.PageChangeLog;
+import com.stacknote.back.domain.tag.service.TagPageIndex;
+import com.stacknote.back.domain.user.entity.User;
+import com.stacknote.back.domain.workspace.entity.Workspace;
+import com.stacknote.back.domain.workspace.repository.WorkspaceMemberRepository;
+import com.stacknote.back.domain.workspace.repository.WorkspaceRepository;
+import com.stacknote.back.domain.workspace.service.WorkspaceCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PageCommandServiceTest {
+
+    private static final Long PAGE_ID = 10L;
+    private static final Long CHILD_ID = 11L;
+
+    @Mock
+    private PageRepository pageRepository;
+
+    @Mock
+    private PageContentRepository pageContentRepository;
+
+    @Mock
+    private PageBlockRepository pageBlockRepository;
+
+    @Mock
+    private PageHistoryRepository pageHistoryRepository;
+
+    @Mock
+    private WorkspaceRepository workspaceRepository;
+
+    @Mock
+    private WorkspaceMemberRepository workspaceMemberRepository;
+
+    @Mock
+    private CommentCommandService commentCommandService;
+
+    @Mock
+    private TagPageIndex tagPageIndex;
+
+    @Mock
+    private WorkspaceCounter workspaceCounter;
+
+    @Mock
+    private PageChangeLog pageChangeLog;
+
+    private PageCommandService pageCommandService;
+    private User owner;
+    private Page page;
+
+    @BeforeEach
+    void setUp() {
+        pageCommandService = new PageCommandService(pageRepository, pageContentRepository, pageBlockRepository,
+                pageHistoryRepository, workspaceRepository, workspaceMemberRepository, commentCommandService,
+                tagPageIndex, workspaceCounter, pageChangeLog);
+
+        owner = User.builder().email("owner@test.com").password("password").username("owner").build();
+        ReflectionTestUtils.setField(owner, "id", 1L);
+        Workspace workspace = Workspace.builder().name("워크스페이스").owner(owner).build();
+        ReflectionTestUtils.setField(workspace, "id", 100L);
+        page = Page.builder().title("페이지").workspace(workspace).createdBy(owner).build();
+        ReflectionTestUtils.setField(page, "id", PAGE_ID);
+    }
+
+    @Test
+    @DisplayName("페이지를 삭제하면 하위 트리의 블록을 본문에 반영한 뒤 삭제한다")
+    void deletePageRemovesBlocksOfSubtree() {
+        when(pageRepository.findActivePageById(PAGE_ID)).thenReturn(Optional.of(page));
+        when(pageRepository.findAllDescendantIds(PAGE_ID)).thenReturn(List.of(CHILD_ID));
+        when(pageRepository.softDeletePagesByIds(List.of(CHILD_ID))).thenReturn(1);
+
+        pageCommandService.deletePage(PAGE_ID, owner);
+
+        InOrder inOrder = inOrder(pageContentRepository, pageBlockRepository);
+        inOrder.verify(pageContentRepository).assembleStaleFromBlocks(List.of(CHILD_ID, PAGE_ID));
+        inOrder.verify(pageBlockRepository).deleteByPageIds(List.of(CHILD_ID, PAGE_ID));
+        verify(commentCommandService).deleteCommentsByPageIds(List.of(CHILD_ID, PAGE_ID));
+    }
+
+    @Test
+    @DisplayName("블록 수정 후 재구성되지 않은 페이지는 블록에서 조립한 본문을 반환한다")
+    void staleContentIsAssembledFromBlocks() {
+        page.markContentStale();
+        when(pageRepository.findActivePageById(PAGE_ID)).thenReturn(Optional.of(page));
+        when(pageRepository.saveAndFlush(page)).thenReturn(page);
+        when(pageBlockRepository.assembleContent(PAGE_ID)).thenReturn("블록 본문");
+
+        PageResponse response = pageCommandService.togglePageVisibility(PAGE_ID, owner);
+
+        assertThat(response.getContent()).isEqualTo("블록 본문");
+        verify(pageContentRepository, never()).findContentByPageId(PAGE_ID);
+    }
+
+    @Test
+    @DisplayName("If-Match 버전이 현재 버전과 다르면 수정하지 않고 버전 충돌로 거절한다")
+    void updatePageRejectsVersionMismatch() {
+        ReflectionTestUtils.setField(page, "version", 3L);
+        when(pageRepository.findActivePageByIdForUpdate(PAGE_ID)).thenReturn(Optional.of(page));
+
+        assertThatThrownBy(() -> pageCommandService.updatePage(PAGE_ID, owner, titleUpdate("새 제목"),
+                IfMatchCondition.parse("\"2\"")))
+                .isInstanceOf(PageVersionMismatchException.class);
+        assertThat(page.getTitle()).isEqualTo("페이지");
+        verify(pageRepository, never()).saveAndFlush(any());
+        verify(pageChangeLog, never()).record(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("약한 ETag 는 버전이 같아도 버전 충돌로 거절한다")
+    void updatePageRejectsWeakETag() {
+        ReflectionTestUtils.setField(page, "version", 3L);
+        when(pageRepository.findActivePageByIdForUpdate(PAGE_ID)).thenReturn(Optional.of(page));
+
+        assertThatThrownBy(() -> pageCommandService.updatePage(PAGE_ID, owner, titleUpdate("새 제목"),
+                IfMatchCondition.parse("W/\"3\"")))
+                .isInstanceOf(PageVersionMismatchException.class);
+    }
+
+    @Test
+    @DisplayName("If-Match 목록 중 하나가 현재 버전과 같으면 수정한다")
+    void updatePageAcceptsMatchingETagInList() {
+        ReflectionTestUtils.setField(page, "version", 3L);
+        when(pageRepository.findActivePageByIdForUpdate(PAGE_ID)).thenReturn(Optional.of(page));
+        when(pageRepository.saveAndFlush(page)).thenReturn(page);
+
+        PageResponse response = pageCommandService.updatePage(PAGE_ID, owner, titleUpdate("새 제목"),
+                IfMatchCondition.parse("\"2\", \"3\""));
+
+        assertThat(response.getTitle()).isEqualTo("새 제목");
+        InOrder inOrder = inOrder(pageHistoryRepository, pageChangeLog);
+        inOrder.verify(pageHistoryRepository).save(any());
+        inOrder.verify(pageChangeLog).record(any(), any(), any(), any(), any());
+    }
+
+    private PageUpdateRequest titleUpdate(String title) {
+        return new PageUpdateRequest(title, null, null, null, null, null, null, null, null);
+    }
+}